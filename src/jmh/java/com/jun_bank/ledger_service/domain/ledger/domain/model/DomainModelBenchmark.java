@@ -0,0 +1,94 @@
+package com.jun_bank.ledger_service.domain.ledger.domain.model;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.LedgerEntryId;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 모델 생성 벤치마크 (LedgerEntry, AuditLog)
+ * <p>
+ * 기록 경로의 createBuilder().build() (필수 필드 검증 포함)와
+ * 조회 경로의 restoreBuilder().build() (ID 형식 검증 포함)를 측정합니다.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainModelBenchmark {
+
+    private Money amount;
+    private Money balanceAfter;
+    private String entryIdValue;
+    private LocalDateTime createdAt;
+
+    @Setup
+    public void setUp() {
+        amount = Money.of(150_000L);
+        balanceAfter = Money.of(1_400_000L);
+        entryIdValue = LedgerEntryId.generateId();
+        createdAt = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public LedgerEntry createLedgerEntry() {
+        return LedgerEntry.createBuilder()
+                .transactionId("TRF-0d4c8b1e-2a7f-4e3b-8c9d-1f2e3a4b5c6d")
+                .accountNumber("110-8765-4321")
+                .sequence(42L)
+                .entryType(EntryType.DEBIT)
+                .category(TransactionCategory.TRANSFER_IN)
+                .amount(amount)
+                .balanceAfter(balanceAfter)
+                .description("월세")
+                .referenceType("TRANSFER")
+                .referenceId("TRF-0d4c8b1e-2a7f-4e3b-8c9d-1f2e3a4b5c6d")
+                .build();
+    }
+
+    @Benchmark
+    public LedgerEntry restoreLedgerEntry() {
+        return LedgerEntry.restoreBuilder()
+                .entryId(LedgerEntryId.of(entryIdValue))
+                .transactionId("TRF-0d4c8b1e-2a7f-4e3b-8c9d-1f2e3a4b5c6d")
+                .accountNumber("110-8765-4321")
+                .sequence(42L)
+                .entryType(EntryType.DEBIT)
+                .category(TransactionCategory.TRANSFER_IN)
+                .amount(amount)
+                .balanceAfter(balanceAfter)
+                .description("월세")
+                .referenceType("TRANSFER")
+                .referenceId("TRF-0d4c8b1e-2a7f-4e3b-8c9d-1f2e3a4b5c6d")
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Benchmark
+    public AuditLog createAuditLog() {
+        return AuditLog.createBuilder()
+                .eventType("LOGIN_SUCCESS")
+                .serviceName("auth-server")
+                .userId("USR-1a2b3c4d")
+                .resourceType("USER")
+                .resourceId("USR-1a2b3c4d")
+                .action("LOGIN")
+                .ipAddress("203.0.113.10")
+                .userAgent("Mozilla/5.0 (iPhone; CPU iPhone OS 17_0 like Mac OS X)")
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.jun_bank.ledger_service.domain.ledger.domain.model.vo;
+
+import com.jun_bank.common_lib.util.UuidUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 ID 생성/검증 벤치마크 (LedgerEntryId, AuditLogId)
+ * <p>
+ * 기존 방식(UuidUtils 랜덤 UUID 문자열 생성, 정규식 형식 검증)과
+ * 현재 방식(DomainIds 시간 순 UUID 생성, 정규식 없는 해석)을 같은 실행에서 비교합니다.
+ * 엔트리 복원(restoreBuilder)은 이제 DB의 UUID를 그대로 받으므로 문자열 해석은 API 커서/스필 파일 경로에만 남습니다.
+ * </p>
+ * <p>
+ * DB INSERT 처리량/인덱스 크기 비교는 {@code src/jmh/resources/db/domain-id-insert-benchmark.sql}을 사용합니다.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainIdBenchmark {
+
+    private String entryIdValue;
+    private String auditLogIdValue;
+    private UUID entryUuid;
+
+    @Setup
+    public void setUp() {
+        entryIdValue = LedgerEntryId.generateId();
+        auditLogIdValue = AuditLogId.generateId();
+        entryUuid = LedgerEntryId.of(entryIdValue).uuid();
+    }
+
+    @Benchmark
+    public String legacyGenerateId() {
+        return UuidUtils.generateDomainId(LedgerEntryId.PREFIX);
+    }
+
+    @Benchmark
+    public boolean legacyValidateId() {
+        return UuidUtils.isValidDomainId(entryIdValue, LedgerEntryId.PREFIX);
+    }
+
+    @Benchmark
+    public UUID generateTimeOrderedUuid() {
+        return DomainIds.generate();
+    }
+
+    @Benchmark
+    public String generateLedgerEntryId() {
+        return LedgerEntryId.generateId();
+    }
+
+    @Benchmark
+    public LedgerEntryId validateLedgerEntryId() {
+        return LedgerEntryId.of(entryIdValue);
+    }
+
+    @Benchmark
+    public LedgerEntryId restoreLedgerEntryIdFromUuid() {
+        return LedgerEntryId.of(entryUuid);
+    }
+
+    @Benchmark
+    public String formatLedgerEntryId() {
+        return LedgerEntryId.of(entryUuid).value();
+    }
+
+    @Benchmark
+    public AuditLogId validateAuditLogId() {
+        return AuditLogId.of(auditLogIdValue);
+    }
+}
@@ -0,0 +1,92 @@
+package com.jun_bank.ledger_service.domain.ledger.domain.model.vo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money 연산 벤치마크
+ * <p>
+ * 잔액 계산(add/subtract), 경계 변환(of(BigDecimal)/amount()), 대량 합산(addExact)을 측정합니다.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final int SUM_SIZE = 1_000;
+
+    private Money balance;
+    private Money amount;
+    private BigDecimal decimalAmount;
+    private long[] amounts;
+
+    @Setup
+    public void setUp() {
+        balance = Money.of(1_250_000L);
+        amount = Money.of(150_000L);
+        decimalAmount = new BigDecimal("150000");
+        amounts = ThreadLocalRandom.current().longs(SUM_SIZE, 1, 10_000_000).toArray();
+    }
+
+    @Benchmark
+    public Money add() {
+        return balance.add(amount);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return balance.subtract(amount);
+    }
+
+    @Benchmark
+    public long subtractRawLong() {
+        return balance.subtractRawLong(amount);
+    }
+
+    @Benchmark
+    public Money ofLong() {
+        return Money.of(150_000L);
+    }
+
+    @Benchmark
+    public Money ofBigDecimal() {
+        return Money.of(decimalAmount);
+    }
+
+    @Benchmark
+    public BigDecimal amount() {
+        return balance.amount();
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return balance.compareTo(amount);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SUM_SIZE)
+    public long addExactSum() {
+        long total = 0L;
+        for (long value : amounts) {
+            total = Money.addExact(total, value);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,85 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.common_lib.event.IntegrationEvent;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수신 이벤트 디코딩 벤치마크 (JacksonJsonDeserializer vs LedgerEventDeserializer)
+ * <p>
+ * 레코드 1건당 소요 시간과 할당량(gc 프로파일러의 gc.alloc.rate.norm)을 비교합니다.
+ * 기존 경로는 IntegrationEvent payload(Map) 생성까지가 비용입니다 (커맨드 변환 비용은 두 경로가 동일).
+ * 발행 측 비용은 IntegrationEvent 직렬화 → 역직렬화 왕복으로 측정합니다.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LedgerEventDecodingBenchmark {
+
+    private static final String TOPIC = LedgerTopics.TRANSFER_COMPLETED;
+
+    private static final byte[] TRANSFER_EVENT = """
+            {"eventId":"EVT-7c1f0e52-7f4b-4a36-9d0e-6f3c2b1a9e10","eventType":"TRANSFER_COMPLETED",
+             "occurredAt":"2026-01-01T10:00:00.123","sourceService":"transfer-service","version":1,
+             "metadata":{"traceId":"4bf92f3577b34da6a3ce929d0e0e4736","spanId":"00f067aa0ba902b7",
+                         "tags":["retry-0","region-kr"]},
+             "payload":{"transferId":"TRF-0d4c8b1e-2a7f-4e3b-8c9d-1f2e3a4b5c6d",
+                        "fromAccountNumber":"110-1234-5678","toAccountNumber":"110-8765-4321",
+                        "amount":150000,"fee":0,"currency":"KRW","description":"월세",
+                        "requestedBy":"USR-1a2b3c4d","channel":"MOBILE"}}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private LedgerEventTranslator translator;
+    private LedgerEventDeserializer streaming;
+    private JacksonJsonDeserializer<IntegrationEvent> generic;
+    private JacksonJsonSerializer<IntegrationEvent> serializer;
+    private IntegrationEvent event;
+
+    @Setup
+    public void setUp() {
+        translator = new LedgerEventTranslator();
+        streaming = new LedgerEventDeserializer();
+        generic = new JacksonJsonDeserializer<>(IntegrationEvent.class, false);
+        serializer = new JacksonJsonSerializer<>();
+        event = generic.deserialize(TOPIC, TRANSFER_EVENT);
+    }
+
+    @Benchmark
+    public IntegrationEvent genericDecode() {
+        return generic.deserialize(TOPIC, TRANSFER_EVENT);
+    }
+
+    @Benchmark
+    public LedgerEventMessage streamingDecode() {
+        return streaming.deserialize(TOPIC, TRANSFER_EVENT);
+    }
+
+    @Benchmark
+    public List<RecordLedgerEntryCommand> streamingDecodeAndTranslate() {
+        return translator.translate(TOPIC, streaming.deserialize(TOPIC, TRANSFER_EVENT));
+    }
+
+    @Benchmark
+    public IntegrationEvent eventRoundTrip() {
+        return generic.deserialize(TOPIC, serializer.serialize(TOPIC, event));
+    }
+}
@@ -0,0 +1,69 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.EntryType;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원장 엔트리 JSON 직렬화 벤치마크 (LedgerEntryResponse)
+ * <p>
+ * 조회 API 응답 본문 생성(writeValueAsBytes)과 역직렬화, 왕복 비용을 측정합니다.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LedgerEntryJsonBenchmark {
+
+    private JsonMapper jsonMapper;
+    private LedgerEntryResponse response;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        response = new LedgerEntryResponse(
+                "LDG-a1b2c3d4",
+                "TRF-0d4c8b1e-2a7f-4e3b-8c9d-1f2e3a4b5c6d",
+                "110-8765-4321",
+                EntryType.DEBIT,
+                new BigDecimal("150000"),
+                new BigDecimal("1400000"),
+                "월세",
+                TransactionCategory.TRANSFER_IN,
+                LocalDateTime.of(2026, 1, 1, 10, 0, 0, 123_000_000));
+        json = jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public LedgerEntryResponse deserialize() {
+        return jsonMapper.readValue(json, LedgerEntryResponse.class);
+    }
+
+    @Benchmark
+    public LedgerEntryResponse roundTrip() {
+        return jsonMapper.readValue(jsonMapper.writeValueAsBytes(response), LedgerEntryResponse.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.jun_bank.ledger_service.global.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StopWatch;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출 시간 측정 AOP 벤치마크 (기존 StopWatch + INFO 로그 vs 느린 호출/표본만 기록)
+ * <p>
+ * 대상 메서드는 즉시 반환하므로 측정값은 호출 1회당 측정 로직 자체의 지연/할당(gc.alloc.rate.norm)입니다.
+ * 루트 로거 레벨은 운영과 같은 INFO이고 appender는 제거했으므로, 기존 방식의 비용은 로그 이벤트 생성까지만 포함된
+ * 하한값입니다 (실제로는 포맷/출력 비용이 더해짐).
+ * </p>
+ * <ul>
+ *   <li>legacyController: 기존 logController (StopWatch, 시작/완료 INFO 로그 2회)</li>
+ *   <li>legacyService: 기존 logService (StopWatch, DEBUG 로그는 레벨에서 걸러짐)</li>
+ *   <li>unsampled: 표본 비율 0 (nanoTime 2회)</li>
+ *   <li>sampledOnePercent: 표본 비율 1% (기본값, 표본 호출은 Observation → 타이머)</li>
+ *   <li>sampledAlways: 모든 호출 Observation (표본 호출 1회 비용)</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(LoggingAspect.class);
+    private static final Object RESULT = new Object();
+    private static final LoggingAspect.Invocation TARGET = () -> RESULT;
+
+    private final LoggingAspect.CallSite site =
+            new LoggingAspect.CallSite(LoggingAspect.Layer.CONTROLLER, "LedgerController.getBalance");
+
+    private LoggingAspect unsampled;
+    private LoggingAspect sampledOnePercent;
+    private LoggingAspect sampledAlways;
+
+    @Setup
+    public void setUp() {
+        Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(Level.INFO);
+
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig()
+                .observationHandler(new DefaultMeterObservationHandler(new SimpleMeterRegistry()));
+
+        unsampled = new LoggingAspect(observationRegistry, 500, 0.0);
+        sampledOnePercent = new LoggingAspect(observationRegistry, 500, 0.01);
+        sampledAlways = new LoggingAspect(observationRegistry, 500, 1.0);
+    }
+
+    @Benchmark
+    public Object legacyController() throws Throwable {
+        String className = "LedgerController";
+        String methodName = "getBalance";
+        log.info("[Controller] {}.{} 호출 시작", className, methodName);
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        Object result = TARGET.proceed();
+        stopWatch.stop();
+        log.info("[Controller] {}.{} 완료 - 소요시간: {}ms", className, methodName, stopWatch.getTotalTimeMillis());
+        return result;
+    }
+
+    @Benchmark
+    public Object legacyService() throws Throwable {
+        String className = "AccountBalanceQueryService";
+        String methodName = "getBalance";
+        log.debug("[Service] {}.{} 호출 시작", className, methodName);
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        Object result = TARGET.proceed();
+        stopWatch.stop();
+        log.debug("[Service] {}.{} 완료 - 소요시간: {}ms", className, methodName, stopWatch.getTotalTimeMillis());
+        return result;
+    }
+
+    @Benchmark
+    public Object unsampled() throws Throwable {
+        return unsampled.time(site, TARGET);
+    }
+
+    @Benchmark
+    public Object sampledOnePercent() throws Throwable {
+        return sampledOnePercent.time(site, TARGET);
+    }
+
+    @Benchmark
+    public Object sampledAlways() throws Throwable {
+        return sampledAlways.time(site, TARGET);
+    }
+}
@@ -0,0 +1,90 @@
+package com.jun_bank.ledger_service.global.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행기 모드 벤치마크 (플랫폼 스레드 풀 vs 가상 스레드)
+ * <p>
+ * 동시 호출자 256개가 블로킹 작업(JDBC/Feign 대기 모사, blockMillis)을 실행기에 제출하고 완료를 기다립니다.
+ * Throughput은 초당 처리 요청 수, SampleTime은 요청 1건 지연 분포(p0.99 = p99, 큐 대기 포함)입니다.
+ * </p>
+ * <ul>
+ *   <li>platform: 고정 크기 플랫폼 스레드 풀 (platformThreads, 10 = 기존 taskExecutor 최대, 200 = Tomcat 기본, 가상 스레드 모드에서는 무시)</li>
+ *   <li>virtual: 작업마다 가상 스레드</li>
+ *   <li>virtualPinned: 가상 스레드 + synchronized 안에서 블로킹 (캐리어 고정 시 처리량이 CPU 코어 수로 제한)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(256)
+@Fork(1)
+public class ExecutorModeBenchmark {
+
+    @Param({"platform", "virtual", "virtualPinned"})
+    private String mode;
+
+    @Param({"10", "200"})
+    private int platformThreads;
+
+    @Param({"5"})
+    private long blockMillis;
+
+    private ExecutorService executor;
+    private Runnable request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "platform".equals(mode)
+                ? Executors.newFixedThreadPool(platformThreads)
+                : Executors.newVirtualThreadPerTaskExecutor();
+        request = "virtualPinned".equals(mode) ? this::blockWhilePinned : this::block;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object request() throws InterruptedException, ExecutionException {
+        Future<?> future = executor.submit(request);
+        return future.get();
+    }
+
+    private void block() {
+        try {
+            Thread.sleep(blockMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void blockWhilePinned() {
+        Object monitor = new Object();
+        synchronized (monitor) {
+            block();
+        }
+    }
+}
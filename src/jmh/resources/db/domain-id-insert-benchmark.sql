@@ -0,0 +1,67 @@
+-- ========================================
+-- 도메인 ID 저장 형식별 INSERT 처리량 / PK 인덱스 크기 비교 (PostgreSQL 13+)
+-- ========================================
+-- 실행: psql -d <빈 벤치마크 DB> -v rows=2000000 -f src/jmh/resources/db/domain-id-insert-benchmark.sql
+--
+-- | 테이블               | PK                    | 비고                          |
+-- |----------------------|-----------------------|-------------------------------|
+-- | bench_id_varchar     | VARCHAR 'LDG-<v4>'    | 기존 (40바이트 문자열, 랜덤)  |
+-- | bench_id_uuid_random | UUID v4               | 16바이트, 랜덤                |
+-- | bench_id_uuid_v7     | UUID v7               | 16바이트, 시간 순 (현재)      |
+--
+-- INSERT 시간은 \timing 출력으로, 인덱스 크기와 leaf 밀도는 마지막 쿼리로 비교합니다.
+-- 행은 애플리케이션처럼 100행씩 나눠 넣습니다 (한 문장 = 한 배치).
+-- ========================================
+
+\if :{?rows}
+\else
+\set rows 1000000
+\endif
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+-- UUIDv7: 랜덤 UUID의 앞 48비트를 밀리초 시각으로 덮고 버전 비트를 7로 변경
+CREATE OR REPLACE FUNCTION pg_temp.uuid_v7() RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                    PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                    FROM 1 FOR 6),
+            52, 1), 53, 1), 'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+DROP TABLE IF EXISTS bench_id_varchar, bench_id_uuid_random, bench_id_uuid_v7;
+CREATE TABLE bench_id_varchar (id VARCHAR(40) PRIMARY KEY, payload BIGINT NOT NULL);
+CREATE TABLE bench_id_uuid_random (id UUID PRIMARY KEY, payload BIGINT NOT NULL);
+CREATE TABLE bench_id_uuid_v7 (id UUID PRIMARY KEY, payload BIGINT NOT NULL);
+
+CREATE OR REPLACE PROCEDURE pg_temp.bench_insert(target TEXT, id_expr TEXT, total BIGINT)
+LANGUAGE plpgsql AS $$
+DECLARE
+    started TIMESTAMPTZ := clock_timestamp();
+    elapsed NUMERIC;
+BEGIN
+    FOR batch_start IN 1..total BY 100 LOOP
+        EXECUTE format('INSERT INTO %I SELECT %s, g FROM generate_series($1, $2) g', target, id_expr)
+            USING batch_start, LEAST(batch_start + 99, total);
+        COMMIT;
+    END LOOP;
+    elapsed := extract(epoch FROM clock_timestamp() - started);
+    RAISE NOTICE '% : % rows, % s, % rows/s', target, total, round(elapsed, 2), round(total / elapsed);
+END;
+$$;
+
+CALL pg_temp.bench_insert('bench_id_varchar', '''LDG-'' || gen_random_uuid()', :rows);
+CALL pg_temp.bench_insert('bench_id_uuid_random', 'gen_random_uuid()', :rows);
+CALL pg_temp.bench_insert('bench_id_uuid_v7', 'pg_temp.uuid_v7()', :rows);
+
+SELECT s.relname                                   AS table_name,
+       pg_size_pretty(pg_relation_size(s.indexrelid)) AS pk_size,
+       pg_relation_size(s.indexrelid)              AS pk_bytes,
+       round((pgstatindex(s.indexrelid::regclass::text)).avg_leaf_density::numeric, 1) AS leaf_density_pct
+FROM pg_stat_user_indexes s
+WHERE s.relname LIKE 'bench_id_%'
+ORDER BY s.relname;
+
+DROP TABLE bench_id_varchar, bench_id_uuid_random, bench_id_uuid_v7;
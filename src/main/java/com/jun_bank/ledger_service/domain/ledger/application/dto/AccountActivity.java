@@ -0,0 +1,10 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+/**
+ * 최근 기록이 있는 계좌
+ *
+ * @param accountNumber 계좌번호
+ * @param headSequence  계좌의 최신 엔트리 순번
+ */
+public record AccountActivity(String accountNumber, long headSequence) {
+}
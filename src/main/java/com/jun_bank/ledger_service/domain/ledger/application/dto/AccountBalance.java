@@ -0,0 +1,19 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특정 시점 계좌 잔액
+ *
+ * @param accountNumber 계좌번호
+ * @param balance       잔액 (원)
+ * @param asOf          기준 시각
+ * @param entryCount    기준 시각까지의 엔트리 수
+ */
+public record AccountBalance(
+        String accountNumber,
+        long balance,
+        LocalDateTime asOf,
+        long entryCount
+) {
+}
@@ -0,0 +1,31 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌의 최신 상태 (마지막 엔트리의 잔액, 순번, 다이제스트, 기록 시각)
+ *
+ * @param balance     마지막 엔트리의 balanceAfter
+ * @param sequence    마지막 엔트리의 계좌 내 순번 (엔트리 없으면 0)
+ * @param hash        마지막 엔트리의 해시 체인 다이제스트 (엔트리 없음/해시 도입 전이면 null)
+ * @param lastEntryAt 마지막 엔트리의 기록 시각 (엔트리 없으면 null)
+ */
+public record AccountHead(Money balance, long sequence, String hash, LocalDateTime lastEntryAt) {
+
+    public static final AccountHead EMPTY = new AccountHead(Money.ZERO, 0L, null, null);
+
+    public static AccountHead of(LedgerEntry entry) {
+        return new AccountHead(entry.getBalanceAfter(), entry.getSequence(), entry.getEntryHash(),
+                entry.getCreatedAt());
+    }
+
+    /**
+     * 더 최신(순번이 큰) 상태 선택
+     */
+    public static AccountHead latest(AccountHead left, AccountHead right) {
+        return right.sequence > left.sequence ? right : left;
+    }
+}
@@ -0,0 +1,29 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 요약 (원장에서 파생된 조회 모델)
+ *
+ * @param accountNumber     계좌번호
+ * @param balance           현재 잔액 (마지막 엔트리의 balanceAfter)
+ * @param entryCount        엔트리 수
+ * @param lastSequence      마지막 엔트리 순번 (엔트리 없으면 0)
+ * @param firstEntryAt      첫 엔트리 기록 시각 (엔트리 없으면 null)
+ * @param lastEntryAt       마지막 엔트리 기록 시각 (엔트리 없으면 null)
+ * @param lastTransactionId 마지막 엔트리의 거래 ID (엔트리 없으면 null)
+ */
+public record AccountSummary(
+        String accountNumber,
+        long balance,
+        long entryCount,
+        long lastSequence,
+        LocalDateTime firstEntryAt,
+        LocalDateTime lastEntryAt,
+        String lastTransactionId
+) {
+
+    public static AccountSummary empty(String accountNumber) {
+        return new AccountSummary(accountNumber, 0L, 0L, 0L, null, null, null);
+    }
+}
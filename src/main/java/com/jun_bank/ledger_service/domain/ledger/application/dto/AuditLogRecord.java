@@ -0,0 +1,22 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.AuditLog;
+
+/**
+ * 기록할 감사 로그와 수신 이벤트 ID
+ *
+ * @param eventId  수신 이벤트 ID (멱등 키, 재전달/재적재 시 같은 이벤트는 한 번만 저장)
+ * @param auditLog 감사 로그 (빌더 검증 완료)
+ */
+public record AuditLogRecord(String eventId, AuditLog auditLog) {
+
+    public AuditLogRecord {
+        if (eventId == null || eventId.isBlank()) {
+            throw LedgerException.requiredFieldMissing("eventId");
+        }
+        if (auditLog == null) {
+            throw LedgerException.requiredFieldMissing("auditLog");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 잔액 스냅샷 (체크포인트)
+ * <p>
+ * 특정 엔트리(sequence)까지의 잔액과 엔트리 수를 저장합니다.
+ * 시점 잔액 조회는 가장 가까운 이전 스냅샷에서 시작해 이후 엔트리만 더합니다.
+ * </p>
+ *
+ * @param accountNumber      계좌번호
+ * @param sequence           스냅샷에 포함된 마지막 엔트리의 계좌 내 순번
+ * @param balance            해당 엔트리까지의 잔액 (원)
+ * @param entryCount         해당 엔트리까지의 엔트리 수
+ * @param lastEntryId        마지막 엔트리 ID
+ * @param lastEntryCreatedAt 마지막 엔트리 기록 시각
+ * @param createdAt          스냅샷 생성 시각
+ */
+public record BalanceSnapshot(
+        String accountNumber,
+        long sequence,
+        long balance,
+        long entryCount,
+        String lastEntryId,
+        LocalDateTime lastEntryCreatedAt,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * 스냅샷이 없는 계좌의 시작점
+     */
+    public static BalanceSnapshot initial(String accountNumber) {
+        return new BalanceSnapshot(accountNumber, 0L, 0L, 0L, null, null, null);
+    }
+}
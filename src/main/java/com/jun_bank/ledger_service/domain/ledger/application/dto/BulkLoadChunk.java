@@ -0,0 +1,23 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import java.util.List;
+
+/**
+ * 입력 소스에서 읽은 대량 적재 묶음 (변환/검증 완료)
+ *
+ * @param transactions 원장 거래 (입력 순서)
+ * @param auditLogs    감사 로그 (입력 순서)
+ * @param read         읽은 레코드 수 (거부 포함)
+ * @param rejected     디코딩/변환 실패로 제외한 레코드 수
+ * @param cursor       이 묶음 다음 레코드의 위치 (체크포인트)
+ * @param endOfSource  입력 끝 도달 여부
+ */
+public record BulkLoadChunk(
+        List<BulkLoadTransaction> transactions,
+        List<AuditLogRecord> auditLogs,
+        int read,
+        int rejected,
+        String cursor,
+        boolean endOfSource
+) {
+}
@@ -0,0 +1,39 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 적재 작업 진행 상황 (조회 시점 스냅샷)
+ *
+ * @param jobName            작업 이름
+ * @param status             상태
+ * @param source             입력 소스
+ * @param topic              이벤트 토픽
+ * @param read               읽은 레코드 수 (이번 실행)
+ * @param loadedEntries      적재한 원장 엔트리 수
+ * @param loadedAuditLogs    적재한 감사 로그 수
+ * @param skippedDuplicates  이미 기록되어 건너뛴 거래/이벤트 수
+ * @param rejected           디코딩/변환/검증 실패로 제외한 레코드 수
+ * @param cursor             마지막 체크포인트 위치
+ * @param recordsPerSecond   평균 처리 속도 (읽은 레코드 기준)
+ * @param startedAt          시작 시각
+ * @param finishedAt         종료 시각 (실행 중이면 null)
+ * @param error              실패 원인 (실패 시)
+ */
+public record BulkLoadProgress(
+        String jobName,
+        BulkLoadStatus status,
+        BulkLoadSource source,
+        String topic,
+        long read,
+        long loadedEntries,
+        long loadedAuditLogs,
+        long skippedDuplicates,
+        long rejected,
+        String cursor,
+        long recordsPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+}
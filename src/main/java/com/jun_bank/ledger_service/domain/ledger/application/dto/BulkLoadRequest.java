@@ -0,0 +1,42 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+
+/**
+ * 대량 적재 작업 요청
+ * <p>
+ * 같은 jobName으로 다시 요청하면 마지막 체크포인트부터 이어서 적재합니다.
+ * </p>
+ *
+ * @param jobName   작업 이름 (체크포인트 키)
+ * @param source    입력 소스
+ * @param topic     이벤트 토픽 (원장/감사 로그 변환 규칙 결정, KAFKA는 읽을 토픽)
+ * @param filePath  입력 파일 경로 (FILE)
+ * @param chunkSize 한 트랜잭션(COPY 1회)에 적재할 최대 레코드 수
+ */
+public record BulkLoadRequest(
+        String jobName,
+        BulkLoadSource source,
+        String topic,
+        String filePath,
+        int chunkSize
+) {
+
+    public BulkLoadRequest {
+        if (jobName == null || jobName.isBlank()) {
+            throw LedgerException.requiredFieldMissing("jobName");
+        }
+        if (source == null) {
+            throw LedgerException.requiredFieldMissing("source");
+        }
+        if (topic == null || topic.isBlank()) {
+            throw LedgerException.requiredFieldMissing("topic");
+        }
+        if (source == BulkLoadSource.FILE && (filePath == null || filePath.isBlank())) {
+            throw LedgerException.requiredFieldMissing("filePath");
+        }
+        if (chunkSize <= 0) {
+            throw LedgerException.invalidPageRequest("chunkSize", chunkSize);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+/**
+ * 대량 적재 입력 소스
+ */
+public enum BulkLoadSource {
+
+    /**
+     * 로컬 NDJSON 파일 (한 줄 = Kafka 메시지 값과 같은 이벤트 JSON)
+     */
+    FILE,
+
+    /**
+     * Kafka 토픽 처음부터 (적재 시작 시점의 끝 오프셋까지)
+     */
+    KAFKA
+}
@@ -0,0 +1,10 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+/**
+ * 대량 적재 작업 상태
+ */
+public enum BulkLoadStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
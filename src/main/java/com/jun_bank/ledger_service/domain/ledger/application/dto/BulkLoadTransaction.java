@@ -0,0 +1,18 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대량 적재할 원장 거래 한 건
+ *
+ * @param transactionId 거래 ID (멱등 키)
+ * @param commands      원장 기록 커맨드 (같은 transactionId, 1~2건)
+ * @param occurredAt    원본 거래 시각 (엔트리 기록 시각으로 사용, 없으면 적재 시각)
+ */
+public record BulkLoadTransaction(
+        String transactionId,
+        List<RecordLedgerEntryCommand> commands,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,51 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * 계좌 카테고리별 일 집계 1행 (원장에서 파생된 집계 모델)
+ *
+ * @param accountNumber 계좌번호
+ * @param category      거래 카테고리
+ * @param day           기록 일자 (엔트리 기록 시각 기준)
+ * @param entryCount    엔트리 수
+ * @param totalAmount   금액 합계 (방향은 카테고리가 결정)
+ * @param lastSequence  집계에 포함된 가장 큰 계좌 순번 (원장 재생 교체 시 이후 엔트리 선별)
+ */
+public record CategoryDailyRollup(
+        String accountNumber,
+        TransactionCategory category,
+        LocalDate day,
+        long entryCount,
+        long totalAmount,
+        long lastSequence
+) {
+
+    /**
+     * 행 키 순서 (계좌번호, 카테고리, 일자): 동시 트랜잭션 간 행 잠금 순서를 고정
+     */
+    public static final Comparator<CategoryDailyRollup> KEY_ORDER = Comparator
+            .comparing(CategoryDailyRollup::accountNumber)
+            .thenComparing(CategoryDailyRollup::category)
+            .thenComparing(CategoryDailyRollup::day);
+
+    public static CategoryDailyRollup of(LedgerEntry entry) {
+        return new CategoryDailyRollup(entry.getAccountNumber(), entry.getCategory(),
+                entry.getCreatedAt().toLocalDate(), 1L, entry.getAmount().toLong(), entry.getSequence());
+    }
+
+    /**
+     * 같은 키의 집계 합치기
+     */
+    public CategoryDailyRollup plus(CategoryDailyRollup other) {
+        return new CategoryDailyRollup(accountNumber, category, day,
+                entryCount + other.entryCount,
+                Money.addExact(totalAmount, other.totalAmount),
+                Math.max(lastSequence, other.lastSequence));
+    }
+}
@@ -0,0 +1,27 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+
+import java.time.LocalDate;
+
+/**
+ * 카테고리별 기간 집계 (집계 조회 결과 1행)
+ *
+ * @param period      기간 시작일 (DAY: 일자, MONTH: 월 1일, TOTAL: 조회 시작일)
+ * @param category    거래 카테고리
+ * @param entryCount  엔트리 수
+ * @param totalAmount 금액 합계 (방향은 카테고리가 결정)
+ */
+public record CategoryRollup(
+        LocalDate period,
+        TransactionCategory category,
+        long entryCount,
+        long totalAmount
+) {
+
+    public CategoryRollup plus(CategoryRollup other) {
+        return new CategoryRollup(period, category,
+                entryCount + other.entryCount, Money.addExact(totalAmount, other.totalAmount));
+    }
+}
@@ -0,0 +1,26 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 해시 체인 검증 위치
+ * <p>
+ * 다음 검증은 이 순번 다음 엔트리부터, 이 다이제스트를 직전 다이제스트로 삼아 이어갑니다.
+ * </p>
+ *
+ * @param accountNumber 계좌번호
+ * @param sequence      마지막으로 검증한 엔트리 순번 (없으면 0)
+ * @param hash          마지막으로 검증한 엔트리의 다이제스트 (해시 도입 전 엔트리까지만 확인했으면 null)
+ * @param verifiedAt    검증 시각
+ */
+public record ChainCheckpoint(
+        String accountNumber,
+        long sequence,
+        String hash,
+        LocalDateTime verifiedAt
+) {
+
+    public static ChainCheckpoint initial(String accountNumber) {
+        return new ChainCheckpoint(accountNumber, 0L, null, null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+/**
+ * 해시 체인 검증 실행 결과
+ *
+ * @param accounts   검증한 계좌 수
+ * @param entries    새로 검증한 엔트리 수
+ * @param violations 체인이 끊긴 계좌 수
+ */
+public record ChainVerificationResult(long accounts, long entries, long violations) {
+
+    public static final ChainVerificationResult EMPTY = new ChainVerificationResult(0, 0, 0);
+
+    public ChainVerificationResult plus(ChainVerificationResult other) {
+        return new ChainVerificationResult(
+                accounts + other.accounts, entries + other.entries, violations + other.violations);
+    }
+}
@@ -0,0 +1,48 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.LedgerEntryId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 계좌 엔트리 keyset 페이지 커서
+ * <p>
+ * 이전 페이지 마지막 엔트리의 (기록 시각, 엔트리 ID). 다음 페이지는 이 위치보다 앞선(과거) 엔트리부터 읽습니다.
+ * 외부에는 URL-safe Base64 토큰으로만 노출합니다 (형식은 보장하지 않음).
+ * </p>
+ *
+ * @param createdAt 마지막 엔트리 기록 시각
+ * @param entryId   마지막 엔트리 ID (같은 시각 엔트리 정렬용)
+ */
+public record EntryCursor(LocalDateTime createdAt, LedgerEntryId entryId) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + entryId.value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 해석
+     *
+     * @throws LedgerException 형식이 올바르지 않은 경우 (INVALID_PAGE_CURSOR)
+     */
+    public static EntryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw LedgerException.invalidPageCursor(token);
+            }
+            return new EntryCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    LedgerEntryId.of(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | LedgerException e) {
+            throw LedgerException.invalidPageCursor(token);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+/**
+ * 계좌 엔트리 구간 합계
+ *
+ * @param entryCount 구간 엔트리 수
+ * @param netAmount  구간 잔액 변화 (입금 - 출금, 원)
+ */
+public record EntryRangeSummary(long entryCount, long netAmount) {
+}
@@ -0,0 +1,42 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 진행 체크포인트
+ * <p>
+ * 재시작 시 처음부터 다시 하지 않고 마지막 위치부터 이어서 처리하기 위해 저장합니다.
+ * </p>
+ *
+ * @param jobName      작업 이름
+ * @param watermark    마지막으로 완료된 실행의 기준 시각 (이 시각 이후 변경분만 처리)
+ * @param cursor       진행 중인 실행의 마지막 처리 위치 (완료 시 null)
+ * @param runStartedAt 진행 중인 실행의 시작 시각 (완료 시 다음 watermark)
+ */
+public record JobCheckpoint(
+        String jobName,
+        LocalDateTime watermark,
+        String cursor,
+        LocalDateTime runStartedAt
+) {
+
+    public boolean isRunning() {
+        return runStartedAt != null;
+    }
+
+    public static JobCheckpoint initial(String jobName) {
+        return new JobCheckpoint(jobName, null, null, null);
+    }
+
+    public JobCheckpoint start(LocalDateTime startedAt) {
+        return new JobCheckpoint(jobName, watermark, null, startedAt);
+    }
+
+    public JobCheckpoint advance(String newCursor) {
+        return new JobCheckpoint(jobName, watermark, newCursor, runStartedAt);
+    }
+
+    public JobCheckpoint complete(LocalDateTime newWatermark) {
+        return new JobCheckpoint(jobName, newWatermark, null, null);
+    }
+}
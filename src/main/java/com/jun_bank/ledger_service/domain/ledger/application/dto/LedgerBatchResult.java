@@ -0,0 +1,29 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 원장 일괄 기록 결과
+ * <p>
+ * 배치 내 거래별 처리 결과를 분리해서 돌려줍니다.
+ * 호출자(배치 리스너)는 실패한 거래만 DLT로 보내고 배치 전체를 ACK 합니다.
+ * </p>
+ *
+ * @param recorded                기록된 엔트리 (입력 순서)
+ * @param duplicateTransactionIds 이미 기록되어 건너뛴 거래 ID
+ * @param failures                기록 실패한 거래 ID → 원인
+ */
+public record LedgerBatchResult(
+        List<LedgerEntry> recorded,
+        Set<String> duplicateTransactionIds,
+        Map<String, RuntimeException> failures
+) {
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
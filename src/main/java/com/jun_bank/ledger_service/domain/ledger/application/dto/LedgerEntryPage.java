@@ -0,0 +1,25 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+
+import java.util.List;
+
+/**
+ * 계좌 엔트리 페이지 (최신순)
+ *
+ * @param accountNumber 계좌번호
+ * @param entries       엔트리 (기록 시각, 엔트리 ID 내림차순)
+ * @param page          페이지 번호 (offset 모드만, cursor 모드는 null)
+ * @param size          요청 페이지 크기
+ * @param totalElements 전체 엔트리 수 (요청하지 않으면 null)
+ * @param nextCursor    다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record LedgerEntryPage(
+        String accountNumber,
+        List<LedgerEntry> entries,
+        Integer page,
+        int size,
+        Long totalElements,
+        EntryCursor nextCursor
+) {
+}
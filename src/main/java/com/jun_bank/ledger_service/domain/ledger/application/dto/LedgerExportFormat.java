@@ -0,0 +1,33 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+/**
+ * 원장 내보내기 형식
+ */
+public enum LedgerExportFormat {
+
+    /**
+     * 줄 단위 JSON (엔트리 1건 = 1줄)
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * CSV (RFC 4180, 첫 줄 헤더)
+     */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    LedgerExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
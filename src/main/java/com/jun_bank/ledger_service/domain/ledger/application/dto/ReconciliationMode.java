@@ -0,0 +1,17 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+/**
+ * 잔액 검증 범위
+ */
+public enum ReconciliationMode {
+
+    /**
+     * 원장에 기록이 있는 모든 계좌
+     */
+    FULL,
+
+    /**
+     * 마지막 성공 실행 이후 새 엔트리가 기록된 계좌만
+     */
+    INCREMENTAL
+}
@@ -0,0 +1,18 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+/**
+ * 잔액 검증 실행 결과
+ *
+ * @param accounts   검증한 계좌 수
+ * @param mismatches 불일치 계좌 수 (재확인 후)
+ * @param missing    Account Service에 없는 계좌 수
+ */
+public record ReconciliationResult(long accounts, long mismatches, long missing) {
+
+    public static final ReconciliationResult EMPTY = new ReconciliationResult(0, 0, 0);
+
+    public ReconciliationResult plus(ReconciliationResult other) {
+        return new ReconciliationResult(
+                accounts + other.accounts, mismatches + other.mismatches, missing + other.missing);
+    }
+}
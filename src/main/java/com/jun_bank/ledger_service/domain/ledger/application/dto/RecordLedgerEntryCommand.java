@@ -0,0 +1,46 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.EntryType;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+
+/**
+ * 원장 엔트리 기록 커맨드
+ * <p>
+ * Kafka 이벤트, 내부 API 등 수신 경로와 무관하게 한 건의 원장 엔트리 기록 요청을 표현합니다.
+ * 거래 후 잔액(balanceAfter)과 계좌 내 순번은 기록 시점에 원장이 직접 계산합니다.
+ * </p>
+ *
+ * <h3>복식부기:</h3>
+ * <p>
+ * 이체처럼 양쪽 계좌에 기록되는 거래는 동일한 transactionId를 가진 커맨드 2건으로 표현되며,
+ * 같은 transactionId의 커맨드는 항상 함께(원자적으로) 기록됩니다.
+ * </p>
+ *
+ * @param transactionId 원본 거래 ID (중복 판단 기준)
+ * @param accountNumber 계좌번호
+ * @param category      거래 카테고리 (EntryType은 카테고리 기본값 사용)
+ * @param amount        거래 금액 (양수)
+ * @param description   거래 설명
+ * @param referenceType 참조 서비스 타입
+ * @param referenceId   참조 ID
+ */
+public record RecordLedgerEntryCommand(
+        String transactionId,
+        String accountNumber,
+        TransactionCategory category,
+        Money amount,
+        String description,
+        String referenceType,
+        String referenceId
+) {
+
+    /**
+     * 엔트리 유형 (카테고리 기본 유형)
+     *
+     * @return DEBIT 또는 CREDIT
+     */
+    public EntryType entryType() {
+        return category.getDefaultEntryType();
+    }
+}
@@ -0,0 +1,36 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 원장 재생 작업 진행 상황 (조회 시점 스냅샷)
+ *
+ * @param jobName          작업 이름
+ * @param status           상태
+ * @param projections      재구축 중인 프로젝션
+ * @param parallelism      Worker 스레드 수
+ * @param accounts         재생을 마친 계좌 수 (이번 실행)
+ * @param entries          재생한 엔트리 수 (이번 실행)
+ * @param balanceBreaks    직전 엔트리 잔액 + 금액이 저장된 balanceAfter와 다른 엔트리 수 (잔액 사슬 끊김)
+ * @param cursor           마지막 체크포인트 위치 (이 계좌번호까지 완료)
+ * @param entriesPerSecond 평균 처리 속도
+ * @param startedAt        시작 시각
+ * @param finishedAt       종료 시각 (실행 중이면 null)
+ * @param error            실패 원인 (실패 시)
+ */
+public record ReplayProgress(
+        String jobName,
+        ReplayStatus status,
+        Set<ReplayProjection> projections,
+        int parallelism,
+        long accounts,
+        long entries,
+        long balanceBreaks,
+        String cursor,
+        long entriesPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+}
@@ -0,0 +1,30 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+/**
+ * 원장 재생(replay)으로 다시 만들 수 있는 파생 상태 (프로젝션)
+ * <p>
+ * 모두 원장 엔트리만으로 계산되므로, 로직 변경/데이터 손상 시 원장을 처음부터 재생하여 재구축합니다.
+ * </p>
+ */
+public enum ReplayProjection {
+
+    /**
+     * 계좌 잔액 스냅샷 (ledger_balance_snapshots)
+     */
+    BALANCE_SNAPSHOTS,
+
+    /**
+     * 계좌 최근 기록 시각 (ledger_dirty_accounts, 증분 잔액 검증 기준)
+     */
+    DIRTY_ACCOUNTS,
+
+    /**
+     * 계좌 요약 (ledger_account_summaries, 현재 잔액/엔트리 수/최근 활동)
+     */
+    ACCOUNT_SUMMARIES,
+
+    /**
+     * 카테고리 집계 (ledger_category_daily_rollups, ledger_category_monthly_rollups는 교체 시 일 집계에서 다시 만듦)
+     */
+    CATEGORY_ROLLUPS
+}
@@ -0,0 +1,47 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 원장 재생 작업 요청
+ * <p>
+ * 작업 이름은 재구축할 프로젝션 조합으로 정해지므로, 같은 조합으로 다시 요청하면 마지막 체크포인트부터 이어서 재생합니다.
+ * </p>
+ *
+ * @param projections 재구축할 프로젝션
+ * @param parallelism 재생 Worker 스레드 수 (계좌번호 구간 단위로 분배)
+ * @param chunkSize   Worker 하나가 한 번에 맡는 계좌 수
+ */
+public record ReplayRequest(
+        Set<ReplayProjection> projections,
+        int parallelism,
+        int chunkSize
+) {
+
+    public ReplayRequest {
+        if (projections == null || projections.isEmpty()) {
+            throw LedgerException.requiredFieldMissing("projections");
+        }
+        if (parallelism <= 0) {
+            throw LedgerException.invalidPageRequest("parallelism", parallelism);
+        }
+        if (chunkSize <= 0) {
+            throw LedgerException.invalidPageRequest("chunkSize", chunkSize);
+        }
+        projections = Collections.unmodifiableSet(EnumSet.copyOf(projections));
+    }
+
+    /**
+     * 작업 이름 (체크포인트 키, 예: {@code replay:BALANCE_SNAPSHOTS,DIRTY_ACCOUNTS})
+     */
+    public String jobName() {
+        return projections.stream()
+                .map(Enum::name)
+                .collect(Collectors.joining(",", "replay:", ""));
+    }
+}
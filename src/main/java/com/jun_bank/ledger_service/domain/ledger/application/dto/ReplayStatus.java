@@ -0,0 +1,11 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+/**
+ * 원장 재생 작업 상태
+ */
+public enum ReplayStatus {
+    RUNNING,
+    SWAPPING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,22 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+/**
+ * 카테고리 집계 조회 단위
+ */
+public enum RollupGranularity {
+
+    /**
+     * 일별
+     */
+    DAY,
+
+    /**
+     * 월별 (조회 기간에 걸친 달은 기간 안의 일자만 합산)
+     */
+    MONTH,
+
+    /**
+     * 조회 기간 전체 합계
+     */
+    TOTAL
+}
@@ -0,0 +1,34 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 카테고리 집계 조회 기간 (시작일, 종료일 모두 포함)
+ * <p>
+ * 기간을 [from, firstWholeMonth) + [firstWholeMonth, endOfWholeMonths) + [endOfWholeMonths, to]로 나눕니다.
+ * 가운데 온전한 달은 월 집계에서, 앞뒤 걸친 달은 일 집계에서 읽습니다.
+ * </p>
+ */
+public record RollupRange(LocalDate from, LocalDate to) {
+
+    /**
+     * 첫 온전한 달의 1일 (시작일이 1일이면 시작일)
+     */
+    public LocalDate firstWholeMonth() {
+        return from.getDayOfMonth() == 1 ? from : from.withDayOfMonth(1).plusMonths(1);
+    }
+
+    /**
+     * 마지막 온전한 달의 다음 달 1일 (종료일이 말일이면 종료일 다음 날)
+     */
+    public LocalDate endOfWholeMonths() {
+        return to.plusDays(1).withDayOfMonth(1);
+    }
+
+    /**
+     * 기간 안에 온전한 달이 하나 이상 있는지
+     */
+    public boolean hasWholeMonths() {
+        return firstWholeMonth().isBefore(endOfWholeMonths());
+    }
+}
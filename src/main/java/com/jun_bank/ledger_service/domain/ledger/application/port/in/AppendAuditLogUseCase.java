@@ -0,0 +1,69 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.in;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AuditLogRecord;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 감사 로그 비동기 일괄 기록 유스케이스 (Input Port)
+ * <p>
+ * 기록 요청을 버퍼에 모아 원장 기록과 분리된 커넥션으로 일괄 저장합니다.
+ * </p>
+ */
+public interface AppendAuditLogUseCase {
+
+    /**
+     * {@link #appendAndWait(List)} 기본 대기 시간
+     */
+    Duration DEFAULT_WAIT_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * 감사 로그 기록 요청
+     *
+     * @param records 기록할 감사 로그
+     * @return 모든 감사 로그가 영구 저장(DB 커밋 또는 로컬 spill 파일 fsync)되면 완료되는 Future
+     */
+    CompletableFuture<Void> append(List<AuditLogRecord> records);
+
+    /**
+     * 감사 로그 기록 요청 후 영구 저장까지 대기 (기본 대기 시간)
+     *
+     * @throws RuntimeException 저장 실패 원인 또는 대기 시간 초과
+     * @see #appendAndWait(List, Duration)
+     */
+    default void appendAndWait(List<AuditLogRecord> records) {
+        appendAndWait(records, DEFAULT_WAIT_TIMEOUT);
+    }
+
+    /**
+     * 감사 로그 기록 요청 후 영구 저장까지 대기
+     * <p>
+     * 대기 시간이 지나도 요청은 취소되지 않으므로 이후 저장될 수 있습니다.
+     * </p>
+     *
+     * @param records 기록할 감사 로그
+     * @param timeout 최대 대기 시간
+     * @throws RuntimeException 저장 실패 원인 (ExecutionException을 벗겨서 전달),
+     *                          대기 시간 초과/인터럽트 시 IllegalStateException
+     */
+    default void appendAndWait(List<AuditLogRecord> records, Duration timeout) {
+        try {
+            append(records).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("감사 로그 저장 대기 시간 초과 - " + timeout.toMillis() + "ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("감사 로그 저장 대기 중 인터럽트", e);
+        }
+    }
+}
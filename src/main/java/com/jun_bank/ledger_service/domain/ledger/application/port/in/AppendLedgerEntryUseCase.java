@@ -0,0 +1,74 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.in;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 원장 엔트리 그룹 커밋 유스케이스 (Input Port)
+ * <p>
+ * 여러 수신 경로(Kafka, 내부 API)의 기록 요청을 모아 한 트랜잭션으로 커밋합니다.
+ * </p>
+ */
+public interface AppendLedgerEntryUseCase {
+
+    /**
+     * {@link #appendAndWait(List)} 기본 대기 시간
+     */
+    Duration DEFAULT_WAIT_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * 거래 기록 요청
+     *
+     * @param commands 거래를 구성하는 엔트리 커맨드 (같은 transactionId, 1~2건)
+     * @return 커밋(영구 저장) 완료 시 기록된 엔트리로 완료되는 Future.
+     *         중복 거래이면 DUPLICATE_TRANSACTION LedgerException으로 완료
+     */
+    CompletableFuture<List<LedgerEntry>> append(List<RecordLedgerEntryCommand> commands);
+
+    /**
+     * 거래 기록 요청 후 커밋까지 대기 (기본 대기 시간)
+     *
+     * @param commands 거래를 구성하는 엔트리 커맨드
+     * @return 기록된 엔트리
+     * @throws RuntimeException 기록 실패 원인 또는 대기 시간 초과
+     * @see #appendAndWait(List, Duration)
+     */
+    default List<LedgerEntry> appendAndWait(List<RecordLedgerEntryCommand> commands) {
+        return appendAndWait(commands, DEFAULT_WAIT_TIMEOUT);
+    }
+
+    /**
+     * 거래 기록 요청 후 커밋까지 대기
+     * <p>
+     * 대기 시간이 지나도 요청은 취소되지 않으므로 이후 커밋될 수 있습니다 (재시도 시 중복 거래로 판정).
+     * </p>
+     *
+     * @param commands 거래를 구성하는 엔트리 커맨드
+     * @param timeout  최대 대기 시간
+     * @return 기록된 엔트리
+     * @throws RuntimeException 기록 실패 원인 (ExecutionException을 벗겨서 전달),
+     *                          대기 시간 초과/인터럽트 시 IllegalStateException
+     */
+    default List<LedgerEntry> appendAndWait(List<RecordLedgerEntryCommand> commands, Duration timeout) {
+        try {
+            return append(commands).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("원장 기록 대기 시간 초과 - " + timeout.toMillis() + "ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("원장 기록 대기 중 인터럽트", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.in;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadProgress;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 과거 원장/감사 로그 대량 적재 유스케이스 (Input Port)
+ */
+public interface BulkLoadUseCase {
+
+    /**
+     * 대량 적재 시작 (백그라운드 실행)
+     * <p>
+     * 같은 이름의 작업이 이미 실행 중이면 새로 시작하지 않고 그 진행 상황을 반환합니다.
+     * </p>
+     *
+     * @param request 작업 요청
+     * @return 시작 시점의 진행 상황
+     */
+    BulkLoadProgress start(BulkLoadRequest request);
+
+    /**
+     * 작업 진행 상황 (이 인스턴스에서 실행한 작업)
+     */
+    Optional<BulkLoadProgress> getProgress(String jobName);
+
+    List<BulkLoadProgress> getAllProgress();
+}
@@ -0,0 +1,26 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.in;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 계좌 원장 전체 내보내기 유스케이스 (Input Port)
+ */
+public interface ExportAccountLedgerUseCase {
+
+    /**
+     * 계좌의 모든 엔트리를 순번 순으로 출력 스트림에 기록
+     * <p>
+     * 행을 읽는 즉시 기록하므로 사용 메모리는 이력 길이와 무관합니다.
+     * 출력이 막히면(느린 클라이언트) 읽기도 멈춥니다.
+     * </p>
+     *
+     * @param accountNumber 계좌번호
+     * @param format        출력 형식
+     * @param out           출력 스트림 (닫지 않음)
+     * @return 기록한 엔트리 수
+     */
+    long export(String accountNumber, LedgerExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,34 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.in;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountBalance;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 잔액 조회 유스케이스 (Input Port)
+ */
+public interface GetAccountBalanceUseCase {
+
+    /**
+     * 특정 시점 잔액 조회
+     * <p>
+     * 기준 시각 이전의 가장 가까운 스냅샷에서 시작해 이후 엔트리만 합산합니다.
+     * </p>
+     *
+     * @param accountNumber 계좌번호
+     * @param asOf          기준 시각 (포함)
+     * @return 잔액과 엔트리 수 (기록이 없으면 0)
+     */
+    AccountBalance getBalanceAsOf(String accountNumber, LocalDateTime asOf);
+
+    /**
+     * 현재 잔액 조회
+     * <p>
+     * 계좌 요약(기록 시 함께 갱신) 1행을 읽습니다. 요약 조회를 사용하지 않으면 현재 시각 기준 시점 잔액으로 계산합니다.
+     * </p>
+     *
+     * @param accountNumber 계좌번호
+     * @return 잔액과 엔트리 수 (기록이 없으면 0)
+     */
+    AccountBalance getCurrentBalance(String accountNumber);
+}
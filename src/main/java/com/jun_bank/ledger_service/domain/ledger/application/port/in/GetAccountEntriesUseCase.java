@@ -0,0 +1,33 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.in;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryCursor;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerEntryPage;
+
+/**
+ * 계좌 원장 엔트리 조회 유스케이스 (Input Port)
+ */
+public interface GetAccountEntriesUseCase {
+
+    /**
+     * offset 페이지 조회 (기존 API 호환)
+     * <p>
+     * 뒤 페이지일수록 건너뛰는 행만큼 느려지므로 깊은 페이지는 {@link #getEntriesAfter}를 사용합니다.
+     * </p>
+     *
+     * @param accountNumber 계좌번호
+     * @param page          페이지 번호 (0부터)
+     * @param size          페이지 크기
+     * @param includeTotal  전체 건수 계산 여부 (계좌 인덱스 전체 스캔)
+     */
+    LedgerEntryPage getEntries(String accountNumber, int page, int size, boolean includeTotal);
+
+    /**
+     * keyset 페이지 조회: (기록 시각, 엔트리 ID) 위치에서 바로 인덱스 탐색하므로 페이지 깊이와 무관하게 비용 일정
+     *
+     * @param accountNumber 계좌번호
+     * @param after         이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size          페이지 크기
+     * @param includeTotal  전체 건수 계산 여부
+     */
+    LedgerEntryPage getEntriesAfter(String accountNumber, EntryCursor after, int size, boolean includeTotal);
+}
@@ -0,0 +1,17 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.in;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountSummary;
+
+/**
+ * 계좌 요약 조회 유스케이스 (Input Port)
+ */
+public interface GetAccountSummaryUseCase {
+
+    /**
+     * 계좌 요약 조회 (현재 잔액, 엔트리 수, 첫/마지막 기록 시각, 마지막 거래 ID)
+     *
+     * @param accountNumber 계좌번호
+     * @return 요약 (기록이 없으면 잔액/엔트리 수 0, 시각/거래 ID null)
+     */
+    AccountSummary getSummary(String accountNumber);
+}
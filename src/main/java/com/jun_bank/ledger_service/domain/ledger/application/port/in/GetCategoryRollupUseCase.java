@@ -0,0 +1,25 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.in;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RollupGranularity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 카테고리별 기간 집계 조회 유스케이스 (Input Port)
+ */
+public interface GetCategoryRollupUseCase {
+
+    /**
+     * 카테고리별 입금/출금/결제/수수료/이자 등 합계 조회
+     *
+     * @param accountNumber 계좌번호 (null이면 전체 계좌)
+     * @param from          시작일 (포함)
+     * @param to            종료일 (포함)
+     * @param granularity   집계 단위
+     * @return (기간, 카테고리) 순 집계 (기록이 없는 기간/카테고리는 제외)
+     */
+    List<CategoryRollup> getRollups(String accountNumber, LocalDate from, LocalDate to,
+                                    RollupGranularity granularity);
+}
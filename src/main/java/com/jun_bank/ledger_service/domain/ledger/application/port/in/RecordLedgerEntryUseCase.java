@@ -0,0 +1,39 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.in;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerBatchResult;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+
+import java.util.List;
+
+/**
+ * 원장 엔트리 기록 유스케이스 (Input Port)
+ */
+public interface RecordLedgerEntryUseCase {
+
+    /**
+     * 단일 거래 기록
+     * <p>
+     * 커맨드는 모두 같은 transactionId를 가져야 하며 하나의 트랜잭션으로 기록됩니다.
+     * </p>
+     *
+     * @param commands 거래를 구성하는 엔트리 커맨드 (1~2건)
+     * @return 기록된 엔트리
+     * @throws com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException
+     *         이미 기록된 거래이면 DUPLICATE_TRANSACTION
+     */
+    List<LedgerEntry> record(List<RecordLedgerEntryCommand> commands);
+
+    /**
+     * 여러 거래 일괄 기록
+     * <p>
+     * 배치 전체를 하나의 트랜잭션, 다중 행 INSERT로 기록합니다.
+     * 일부 거래가 실패하면 해당 거래만 결과의 failures로 분리되고 나머지는 기록됩니다.
+     * </p>
+     *
+     * @param commands 여러 거래의 엔트리 커맨드 (입력 순서 = 적용 순서)
+     * @return 거래별 처리 결과 (failures: 검증 실패, 유일 제약 위반)
+     * @throws org.springframework.dao.DataAccessException DB 연결 실패 등 거래와 무관한 오류 (호출자가 배치 전체를 재시도)
+     */
+    LedgerBatchResult recordBatch(List<RecordLedgerEntryCommand> commands);
+}
@@ -0,0 +1,31 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.in;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayProgress;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 원장 재생으로 파생 상태를 재구축하는 유스케이스 (Input Port)
+ */
+public interface ReplayUseCase {
+
+    /**
+     * 재생 시작 (백그라운드 실행)
+     * <p>
+     * 같은 작업이 이미 실행 중이면 새로 시작하지 않고 그 진행 상황을 반환합니다.
+     * </p>
+     *
+     * @param request 작업 요청
+     * @return 시작 시점의 진행 상황
+     */
+    ReplayProgress start(ReplayRequest request);
+
+    /**
+     * 작업 진행 상황 (이 인스턴스에서 실행한 작업)
+     */
+    Optional<ReplayProgress> getProgress(String jobName);
+
+    List<ReplayProgress> getAllProgress();
+}
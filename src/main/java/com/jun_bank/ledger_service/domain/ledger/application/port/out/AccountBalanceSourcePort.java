@@ -0,0 +1,18 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 계좌 잔액 원천 조회 포트 (Output Port, Account Service)
+ */
+public interface AccountBalanceSourcePort {
+
+    /**
+     * 여러 계좌의 현재 잔액 일괄 조회
+     *
+     * @param accountNumbers 계좌번호 목록
+     * @return 계좌번호 → 잔액 (원, Account Service에 없는 계좌는 포함되지 않음)
+     */
+    Map<String, Long> findBalances(Collection<String> accountNumbers);
+}
@@ -0,0 +1,32 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountSummary;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 계좌 요약 포트 (Output Port, 현재 잔액/엔트리 수/최근 활동 조회 모델)
+ */
+public interface AccountSummaryPort {
+
+    /**
+     * 기록된 엔트리를 계좌 요약에 반영 (기록과 같은 트랜잭션에서 호출)
+     *
+     * @param entries 저장된 엔트리
+     */
+    void apply(Collection<LedgerEntry> entries);
+
+    /**
+     * 계좌 요약 조회
+     *
+     * @return 요약 (요약 조회가 꺼져 있거나 기록이 없는 계좌면 empty → 원장 조회로 대체)
+     */
+    Optional<AccountSummary> find(String accountNumber);
+
+    /**
+     * 원장 엔트리를 집계하여 계좌 요약 계산 (요약 테이블을 사용하지 않는 경로, 계좌 엔트리 수에 비례)
+     */
+    AccountSummary summarizeFromLedger(String accountNumber);
+}
@@ -0,0 +1,33 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AuditLogRecord;
+
+import java.util.List;
+
+/**
+ * 감사 로그 저장 포트 (Output Port)
+ */
+public interface AuditLogPort {
+
+    /**
+     * 감사 로그 일괄 저장 (반환 시점에 커밋 완료)
+     * <p>
+     * 이미 저장된 이벤트 ID는 건너뜁니다.
+     * </p>
+     *
+     * @param records 저장할 감사 로그
+     * @return 새로 저장된 건수
+     */
+    int insertAll(List<AuditLogRecord> records);
+
+    /**
+     * 감사 로그 대량 적재 (COPY, 반환 시점에 커밋 완료)
+     * <p>
+     * 이미 저장된 이벤트 ID는 건너뜁니다.
+     * </p>
+     *
+     * @param records 적재할 감사 로그
+     * @return 새로 저장된 건수
+     */
+    int copyAll(List<AuditLogRecord> records);
+}
@@ -0,0 +1,40 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AuditLogRecord;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 감사 로그 로컬 임시 저장 포트 (Output Port)
+ * <p>
+ * 버퍼가 가득 찼거나 DB에 저장할 수 없을 때 감사 로그를 버리지 않고 로컬 파일에 보관했다가,
+ * 나중에 DB로 다시 적재합니다.
+ * </p>
+ */
+public interface AuditLogSpillPort {
+
+    /**
+     * 로컬 파일에 추가 (반환 시점에 디스크 동기화 완료)
+     *
+     * @param records 보관할 감사 로그
+     */
+    void spill(List<AuditLogRecord> records);
+
+    /**
+     * 보관된 감사 로그 재적재 (오래된 파일부터)
+     * <p>
+     * 파일의 모든 묶음이 sink에서 성공해야 파일을 삭제합니다. sink가 예외를 던지면 그 파일부터 다음 호출에서 다시 읽습니다.
+     * </p>
+     *
+     * @param batchSize sink에 넘길 최대 묶음 크기
+     * @param sink      묶음 저장 (DB 저장)
+     * @return 재적재한 건수
+     */
+    int replay(int batchSize, Consumer<List<AuditLogRecord>> sink);
+
+    /**
+     * 재적재할 감사 로그 존재 여부
+     */
+    boolean hasPending();
+}
@@ -0,0 +1,34 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BalanceSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 잔액 스냅샷 영속성 포트 (Output Port)
+ */
+public interface BalanceSnapshotPort {
+
+    /**
+     * 스냅샷 저장 (같은 계좌/순번이 이미 있으면 무시)
+     *
+     * @param snapshot 스냅샷
+     */
+    void save(BalanceSnapshot snapshot);
+
+    /**
+     * 계좌의 최신 스냅샷
+     */
+    Optional<BalanceSnapshot> findLatest(String accountNumber);
+
+    /**
+     * 기준 시각 이전(포함)에 끝나는 가장 최근 스냅샷
+     */
+    Optional<BalanceSnapshot> findLatestAtOrBefore(String accountNumber, LocalDateTime asOf);
+
+    /**
+     * 기준 시각 이후에 끝나는 가장 이른 스냅샷 (구간 합산의 상한)
+     */
+    Optional<BalanceSnapshot> findEarliestAfter(String accountNumber, LocalDateTime asOf);
+}
@@ -0,0 +1,37 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadChunk;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadRequest;
+
+/**
+ * 대량 적재 입력 소스 포트 (Output Port)
+ * <p>
+ * 파일/Kafka에서 이벤트를 읽어 원장 거래와 감사 로그로 변환한 묶음을 순서대로 제공합니다.
+ * </p>
+ */
+public interface BulkLoadSourcePort {
+
+    /**
+     * 입력 열기
+     *
+     * @param request 작업 요청
+     * @param cursor  이어서 읽을 위치 (처음부터면 null)
+     */
+    Reader open(BulkLoadRequest request, String cursor);
+
+    /**
+     * 열린 입력 (한 스레드에서만 사용)
+     */
+    interface Reader extends AutoCloseable {
+
+        /**
+         * 다음 묶음 읽기
+         *
+         * @param maxRecords 최대 레코드 수
+         */
+        BulkLoadChunk read(int maxRecords);
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,55 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RollupGranularity;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 카테고리 집계 포트 (Output Port, (계좌, 카테고리, 일) / (카테고리, 월) 집계 모델)
+ * <p>
+ * 합계 조회의 granularity는 DAY 또는 MONTH이며, 결과는 (기간, 카테고리) 순입니다.
+ * </p>
+ */
+public interface CategoryRollupPort {
+
+    /**
+     * 기록된 엔트리를 일/월 집계에 반영 (기록과 같은 트랜잭션에서 호출)
+     *
+     * @param entries 저장된 엔트리
+     */
+    void apply(Collection<LedgerEntry> entries);
+
+    /**
+     * 집계 조회 사용 여부 (false면 원장 집계로 대체, 재구축 전)
+     */
+    boolean isReadEnabled();
+
+    /**
+     * 일 집계 합계
+     *
+     * @param accountNumber 계좌번호 (null이면 전체 계좌)
+     * @param from          시작일 (포함)
+     * @param to            종료일 (포함)
+     */
+    List<CategoryRollup> sumDaily(String accountNumber, LocalDate from, LocalDate to, RollupGranularity granularity);
+
+    /**
+     * 전체 계좌 월 집계 합계 (MONTH 단위)
+     *
+     * @param fromMonth    시작 월 1일 (포함)
+     * @param toMonthUntil 끝 월 1일 (제외)
+     */
+    List<CategoryRollup> sumMonthly(LocalDate fromMonth, LocalDate toMonthUntil);
+
+    /**
+     * 원장 엔트리를 직접 집계 (집계 테이블을 사용하지 않는 경로, 기간 엔트리 수에 비례)
+     *
+     * @param accountNumber 계좌번호 (null이면 전체 계좌)
+     */
+    List<CategoryRollup> sumFromLedger(String accountNumber, LocalDate from, LocalDate to,
+                                       RollupGranularity granularity);
+}
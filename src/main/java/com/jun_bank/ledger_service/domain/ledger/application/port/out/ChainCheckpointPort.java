@@ -0,0 +1,25 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ChainCheckpoint;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 계좌별 해시 체인 검증 위치 포트 (Output Port)
+ */
+public interface ChainCheckpointPort {
+
+    /**
+     * 계좌별 검증 위치 일괄 조회
+     *
+     * @param accountNumbers 계좌번호 목록
+     * @return 계좌번호 → 검증 위치 (검증한 적 없는 계좌는 포함하지 않음)
+     */
+    Map<String, ChainCheckpoint> findAll(Collection<String> accountNumbers);
+
+    /**
+     * 검증 위치 일괄 저장 (계좌당 1행 UPSERT)
+     */
+    void saveAll(Collection<ChainCheckpoint> checkpoints);
+}
@@ -0,0 +1,40 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 최근 기록 계좌 추적 포트 (Output Port, 증분 잔액 검증용)
+ */
+public interface DirtyAccountPort {
+
+    /**
+     * 기록된 엔트리의 계좌를 갱신 대상으로 표시 (기록과 같은 트랜잭션에서 호출)
+     *
+     * @param entries 저장된 엔트리
+     */
+    void markDirty(Collection<LedgerEntry> entries);
+
+    /**
+     * 엔트리의 계좌를 지정 시각으로 갱신 대상 표시 (과거 시각으로 기록하는 대량 적재용)
+     * <p>
+     * 기록 시각이 과거이면 그 시각으로 표시할 경우 이미 지난 증분 검증 기준 시각보다 앞서 누락되므로, 적재 시각을 사용합니다.
+     * </p>
+     *
+     * @param entries  저장된 엔트리
+     * @param markedAt 표시 시각
+     */
+    void markDirty(Collection<LedgerEntry> entries, LocalDateTime markedAt);
+
+    /**
+     * 기준 시각 이후 기록된 계좌 조회 (계좌번호 순 keyset 페이지)
+     *
+     * @param since              기준 시각 (제외)
+     * @param afterAccountNumber 이전 페이지의 마지막 계좌번호 (첫 페이지는 null)
+     * @param limit              최대 개수
+     */
+    List<String> findDirtySince(LocalDateTime since, String afterAccountNumber, int limit);
+}
@@ -0,0 +1,19 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.JobCheckpoint;
+
+/**
+ * 배치 작업 체크포인트 영속성 포트 (Output Port)
+ */
+public interface JobCheckpointPort {
+
+    /**
+     * 체크포인트 조회
+     *
+     * @param jobName 작업 이름
+     * @return 저장된 체크포인트 (없으면 {@link JobCheckpoint#initial})
+     */
+    JobCheckpoint load(String jobName);
+
+    void save(JobCheckpoint checkpoint);
+}
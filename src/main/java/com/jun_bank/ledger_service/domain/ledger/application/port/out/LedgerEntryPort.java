@@ -0,0 +1,177 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountActivity;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryCursor;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryRangeSummary;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 원장 엔트리 영속성 포트 (Output Port)
+ * <p>
+ * Append-only: 저장(INSERT)과 조회만 제공합니다.
+ * </p>
+ */
+public interface LedgerEntryPort {
+
+    /**
+     * 신규 엔트리 일괄 저장 (다중 행 INSERT)
+     *
+     * @param entries 신규 엔트리 (entryId 미할당)
+     * @return entryId가 할당된 엔트리 (입력 순서)
+     */
+    List<LedgerEntry> saveAll(List<LedgerEntry> entries);
+
+    /**
+     * 신규 엔트리 대량 적재 (PostgreSQL COPY, 호출자의 트랜잭션에 참여)
+     * <p>
+     * 이미 기록된 (거래 ID, 계좌) 엔트리는 건너뜁니다.
+     * </p>
+     *
+     * @param entries 신규 엔트리 (entryId 미할당, 기록 시각 지정)
+     * @return 새로 저장된 엔트리 수
+     */
+    int copyAll(List<LedgerEntry> entries);
+
+    /**
+     * 이미 기록된 거래 ID 조회
+     *
+     * @param transactionIds 확인할 거래 ID
+     * @return 그중 원장에 존재하는 거래 ID
+     */
+    Set<String> findExistingTransactionIds(Collection<String> transactionIds);
+
+    /**
+     * 계좌별 최신 엔트리 조회 (잔액/순번 계산용)
+     *
+     * @param accountNumber 계좌번호
+     * @return 가장 큰 순번의 엔트리
+     */
+    Optional<LedgerEntry> findLatestByAccountNumber(String accountNumber);
+
+    /**
+     * 여러 계좌의 최신 엔트리 일괄 조회
+     *
+     * @param accountNumbers 계좌번호 목록
+     * @return 계좌번호 → 최신 엔트리 (기록이 없는 계좌는 포함되지 않음)
+     */
+    Map<String, LedgerEntry> findLatestByAccountNumbers(Collection<String> accountNumbers);
+
+    /**
+     * 특정 시점 이후 기록된 거래 ID 순회 (서버 측 커서, 중복 필터 워밍업용)
+     *
+     * @param since  기준 시각 (포함)
+     * @param action 거래 ID 처리 (엔트리 단위로 호출되므로 같은 ID가 반복될 수 있음)
+     */
+    void forEachTransactionIdSince(LocalDateTime since, Consumer<String> action);
+
+    /**
+     * 계좌 전체 엔트리 순회 (순번 오름차순, 서버 측 커서로 일정한 메모리 사용)
+     *
+     * @param accountNumber 계좌번호
+     * @param action        엔트리 처리 (호출 스레드에서 행마다 호출)
+     */
+    void forEachEntryOfAccount(String accountNumber, Consumer<LedgerEntry> action);
+
+    /**
+     * 계좌 순번 구간의 엔트리 순회 (순번 오름차순, 서버 측 커서로 일정한 메모리 사용)
+     *
+     * @param accountNumber 계좌번호
+     * @param afterSequence 시작 순번 (제외)
+     * @param toSequence    끝 순번 (포함)
+     * @param action        엔트리 처리 (호출 스레드에서 행마다 호출)
+     */
+    void forEachEntryOfAccountInRange(String accountNumber, long afterSequence, long toSequence,
+                                      Consumer<LedgerEntry> action);
+
+    /**
+     * 계좌번호 구간의 전체 엔트리 순회 (계좌번호, 순번 오름차순, 서버 측 커서로 일정한 메모리 사용)
+     *
+     * @param fromAccountNumber 시작 계좌번호 (포함)
+     * @param toAccountNumber   끝 계좌번호 (포함)
+     * @param action            엔트리 처리 (호출 스레드에서 행마다 호출)
+     */
+    void forEachEntryInAccountRange(String fromAccountNumber, String toAccountNumber, Consumer<LedgerEntry> action);
+
+    /**
+     * 최근 기록된 거래 ID 조회 (최신순)
+     *
+     * @param limit 최대 개수
+     * @return 거래 ID (최신순)
+     */
+    List<String> findRecentTransactionIds(int limit);
+
+    /**
+     * 계좌 내 순번으로 엔트리 조회
+     */
+    Optional<LedgerEntry> findByAccountNumberAndSequence(String accountNumber, long sequence);
+
+    /**
+     * 계좌 엔트리 구간 합계 (순번 범위, 선택적으로 기록 시각 상한)
+     *
+     * @param accountNumber  계좌번호
+     * @param afterSequence  시작 순번 (제외)
+     * @param toSequence     끝 순번 (포함)
+     * @param createdAtUpTo  기록 시각 상한 (포함, null이면 제한 없음)
+     * @return 엔트리 수와 잔액 변화
+     */
+    EntryRangeSummary summarizeRange(String accountNumber, long afterSequence, long toSequence,
+                                     LocalDateTime createdAtUpTo);
+
+    /**
+     * 특정 시점 이후 기록이 있는 계좌 조회 (계좌번호 순 keyset 페이지)
+     *
+     * @param since              기준 시각 (제외, null이면 전체 계좌)
+     * @param afterAccountNumber 이전 페이지의 마지막 계좌번호 (첫 페이지는 null)
+     * @param limit              최대 개수
+     * @return 계좌번호 순 계좌와 최신 순번
+     */
+    List<AccountActivity> findActiveAccounts(LocalDateTime since, String afterAccountNumber, int limit);
+
+    /**
+     * 계좌 엔트리 offset 페이지 (기록 시각, 엔트리 ID 내림차순)
+     *
+     * @param accountNumber 계좌번호
+     * @param offset        건너뛸 엔트리 수
+     * @param limit         최대 개수
+     */
+    List<LedgerEntry> findPage(String accountNumber, long offset, int limit);
+
+    /**
+     * 계좌 엔트리 keyset 페이지 (기록 시각, 엔트리 ID 내림차순)
+     *
+     * @param accountNumber 계좌번호
+     * @param after         이 위치보다 앞선 엔트리부터 (null이면 최신 엔트리부터)
+     * @param limit         최대 개수
+     */
+    List<LedgerEntry> findPageAfter(String accountNumber, EntryCursor after, int limit);
+
+    /**
+     * 계좌 엔트리 수
+     */
+    long countByAccountNumber(String accountNumber);
+
+    /**
+     * 계좌번호 구간의 계좌별 원장 잔액 (전체 엔트리 합산, 집계 쿼리 1회)
+     *
+     * @param fromAccountNumber 시작 계좌번호 (포함)
+     * @param toAccountNumber   끝 계좌번호 (포함)
+     * @return 계좌번호 → 잔액 (입금 합 - 출금 합, 원)
+     */
+    Map<String, Long> sumBalancesByAccountRange(String fromAccountNumber, String toAccountNumber);
+
+    /**
+     * 지정한 계좌들의 원장 잔액 (전체 엔트리 합산, 집계 쿼리 1회)
+     *
+     * @param accountNumbers 계좌번호 목록
+     * @return 계좌번호 → 잔액 (기록이 없는 계좌는 포함되지 않음)
+     */
+    Map<String, Long> sumBalancesByAccounts(Collection<String> accountNumbers);
+}
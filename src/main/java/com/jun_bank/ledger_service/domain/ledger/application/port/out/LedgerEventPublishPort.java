@@ -0,0 +1,25 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+/**
+ * 원장 이벤트 발행 포트 (Output Port)
+ */
+public interface LedgerEventPublishPort {
+
+    /**
+     * 잔액 불일치 이벤트 발행 (ledger.balance.mismatch)
+     *
+     * @param accountNumber  계좌번호
+     * @param accountBalance Account Service 잔액 (원)
+     * @param ledgerBalance  원장 계산 잔액 (원)
+     */
+    void publishBalanceMismatch(String accountNumber, long accountBalance, long ledgerBalance);
+
+    /**
+     * 원장 무결성 위반 이벤트 발행 (ledger.integrity.violation)
+     *
+     * @param accountNumber 계좌번호
+     * @param sequence      체인이 끊긴 엔트리의 계좌 내 순번
+     * @param reason        위반 내용
+     */
+    void publishIntegrityViolation(String accountNumber, long sequence, String reason);
+}
@@ -0,0 +1,24 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+/**
+ * 원장 기록 경로 메트릭 포트 (Output Port)
+ * <p>
+ * 태그는 결과 구분처럼 값 종류가 고정된 것만 사용합니다 (계좌번호/거래 ID 태그 금지).
+ * </p>
+ */
+public interface LedgerMetricsPort {
+
+    /**
+     * 기록 트랜잭션 1회
+     *
+     * @param durationNanos 트랜잭션 시작 ~ 커밋/롤백 소요 시간
+     * @param entries       커밋된 엔트리 수 (롤백 시 0)
+     * @param committed     커밋 여부
+     */
+    void recordAppendTransaction(long durationNanos, int entries, boolean committed);
+
+    /**
+     * 그룹 커밋 1회에 합쳐진 기록 요청 수
+     */
+    void recordGroupCommit(int requests);
+}
@@ -0,0 +1,17 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import java.time.YearMonth;
+
+/**
+ * 원장 엔트리 월별 파티션 관리 포트 (Output Port)
+ */
+public interface LedgerPartitionPort {
+
+    /**
+     * 월 파티션 생성 (이미 있으면 무시)
+     *
+     * @param month 대상 월
+     * @return 새로 생성했으면 true
+     */
+    boolean createMonthlyPartitionIfAbsent(YearMonth month);
+}
@@ -0,0 +1,17 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import java.util.function.Supplier;
+
+/**
+ * 조회 DB 선택 포트 (Output Port, 읽기 전용 트랜잭션의 Replica 분리용)
+ */
+public interface ReadRoutingPort {
+
+    /**
+     * 계좌 조회 실행 (최근 기록된 계좌면 Primary, 아니면 읽기 전용 트랜잭션 설정에 따라 Replica)
+     *
+     * @param accountNumber 조회 계좌번호
+     * @param query         조회 (첫 SQL 시점에 DB가 정해지므로 트랜잭션 안에서 호출해도 적용)
+     */
+    <T> T readAccount(String accountNumber, Supplier<T> query);
+}
@@ -0,0 +1,66 @@
+package com.jun_bank.ledger_service.domain.ledger.application.port.out;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountSummary;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BalanceSnapshot;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryDailyRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayProjection;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 프로젝션 섀도 테이블 포트 (Output Port, 원장 재생용)
+ * <p>
+ * 재생 결과는 운영 테이블과 같은 구조의 섀도 테이블에 쓰고, 완료 후 한 트랜잭션으로 교체합니다.
+ * 재생 중에는 운영 테이블이 그대로 사용됩니다.
+ * </p>
+ */
+public interface ReplayShadowPort {
+
+    /**
+     * 섀도 테이블 준비
+     *
+     * @param projection 프로젝션
+     * @param resume     true면 이전 실행의 섀도 테이블을 유지 (없으면 생성), false면 비우고 새로 생성
+     */
+    void prepare(ReplayProjection projection, boolean resume);
+
+    /**
+     * 잔액 스냅샷 기록 (같은 계좌/순번이 이미 있으면 무시)
+     */
+    void writeBalanceSnapshots(List<BalanceSnapshot> snapshots);
+
+    /**
+     * 계좌 최근 기록 시각 기록 (이미 있으면 더 늦은 시각 유지)
+     *
+     * @param lastEntryAts 계좌번호 순으로 정렬된 계좌 → 마지막 기록 시각
+     */
+    void writeAccountLastEntries(Map<String, LocalDateTime> lastEntryAts);
+
+    /**
+     * 계좌 요약 기록 (이미 있으면 전체 값 교체)
+     *
+     * @param summaries 계좌번호 순으로 정렬된 계좌 요약
+     */
+    void writeAccountSummaries(List<AccountSummary> summaries);
+
+    /**
+     * 계좌 카테고리별 일 집계 기록 (이미 있으면 전체 값 교체)
+     *
+     * @param rollups 키 순으로 정렬된 일 집계 ({@link CategoryDailyRollup#KEY_ORDER})
+     */
+    void writeCategoryDailyRollups(List<CategoryDailyRollup> rollups);
+
+    /**
+     * 섀도 테이블을 운영 테이블로 교체 (여러 프로젝션을 한 트랜잭션으로, 호출자의 트랜잭션에 참여)
+     * <p>
+     * 교체 직전 운영 테이블을 잠그고, 재생 중 운영 테이블에 기록된 행(since 이후)을 섀도 테이블에 합친 뒤 교체합니다.
+     * </p>
+     *
+     * @param projections 프로젝션
+     * @param since       이 시각 이후 운영 테이블에 기록된 행을 합침
+     */
+    void swap(Set<ReplayProjection> projections, LocalDateTime since);
+}
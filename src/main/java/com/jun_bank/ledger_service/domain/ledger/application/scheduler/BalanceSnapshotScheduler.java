@@ -0,0 +1,35 @@
+package com.jun_bank.ledger_service.domain.ledger.application.scheduler;
+
+import com.jun_bank.ledger_service.domain.ledger.application.service.BalanceSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 스냅샷 스케줄러
+ * <p>
+ * 이전 실행이 끝난 뒤 fixed-delay-ms마다 증분 스냅샷을 생성합니다.
+ * {@code ledger.snapshot.enabled=false}이면 비활성화됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class BalanceSnapshotScheduler {
+
+    private final BalanceSnapshotService balanceSnapshotService;
+
+    @Scheduled(fixedDelayString = "${ledger.snapshot.fixed-delay-ms:600000}",
+            initialDelayString = "${ledger.snapshot.initial-delay-ms:60000}")
+    public void createSnapshots() {
+        try {
+            balanceSnapshotService.run();
+        } catch (RuntimeException e) {
+            // 체크포인트가 저장되어 있으므로 다음 실행에서 이어서 처리
+            log.error("잔액 스냅샷 실행 실패", e);
+        }
+    }
+}
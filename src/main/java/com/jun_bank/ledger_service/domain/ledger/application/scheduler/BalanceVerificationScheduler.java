@@ -0,0 +1,35 @@
+package com.jun_bank.ledger_service.domain.ledger.application.scheduler;
+
+import com.jun_bank.ledger_service.domain.ledger.application.service.BalanceReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 검증 스케줄러
+ * <p>
+ * 매일 cron 시각에 Account Service 잔액과 원장 잔액을 비교합니다.
+ * 평소에는 마지막 실행 이후 변경된 계좌만, full-sweep-interval마다 전체 계좌를 비교합니다.
+ * Account Service의 일괄 잔액 API가 필요하므로 {@code ledger.reconciliation.enabled=true}일 때만 활성화됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.reconciliation.enabled", havingValue = "true")
+public class BalanceVerificationScheduler {
+
+    private final BalanceReconciliationService balanceReconciliationService;
+
+    @Scheduled(cron = "${ledger.reconciliation.cron:0 0 2 * * *}")
+    public void verifyBalances() {
+        try {
+            balanceReconciliationService.run();
+        } catch (RuntimeException e) {
+            // 완료된 청크까지 체크포인트가 저장되어 있으므로 다음 실행에서 이어서 처리
+            log.error("잔액 검증 실행 실패", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.jun_bank.ledger_service.domain.ledger.application.scheduler;
+
+import com.jun_bank.ledger_service.domain.ledger.application.service.HashChainVerificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원장 해시 체인 검증 스케줄러
+ * <p>
+ * 이전 실행이 끝난 뒤 fixed-delay-ms마다 새로 기록된 엔트리의 해시 체인을 검증합니다.
+ * {@code ledger.integrity.enabled=false}이면 비활성화됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.integrity.enabled", havingValue = "true", matchIfMissing = true)
+public class HashChainVerificationScheduler {
+
+    private final HashChainVerificationService hashChainVerificationService;
+
+    @Scheduled(fixedDelayString = "${ledger.integrity.fixed-delay-ms:900000}",
+            initialDelayString = "${ledger.integrity.initial-delay-ms:120000}")
+    public void verifyChains() {
+        try {
+            hashChainVerificationService.run();
+        } catch (RuntimeException e) {
+            // 완료된 청크까지 체크포인트가 저장되어 있으므로 다음 실행에서 이어서 처리
+            log.error("해시 체인 검증 실행 실패", e);
+        }
+    }
+}
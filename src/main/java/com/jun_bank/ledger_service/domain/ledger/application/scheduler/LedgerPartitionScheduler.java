@@ -0,0 +1,40 @@
+package com.jun_bank.ledger_service.domain.ledger.application.scheduler;
+
+import com.jun_bank.ledger_service.domain.ledger.application.service.LedgerPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원장 월별 파티션 스케줄러
+ * <p>
+ * 기동 시(Kafka 리스너 시작 전) 한 번, 이후 cron마다 앞으로 쓸 월 파티션을 미리 생성합니다.
+ * {@code ledger.partition.enabled=true}일 때만 활성화됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.partition.enabled", havingValue = "true")
+public class LedgerPartitionScheduler implements SmartInitializingSingleton {
+
+    private final LedgerPartitionService ledgerPartitionService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        createPartitions();
+    }
+
+    @Scheduled(cron = "${ledger.partition.cron:0 0 3 * * *}")
+    public void createPartitions() {
+        try {
+            ledgerPartitionService.ensurePartitions();
+        } catch (RuntimeException e) {
+            // months-ahead만큼 여유가 있으므로 다음 실행에서 다시 시도
+            log.error("원장 파티션 생성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountBalance;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BalanceSnapshot;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryRangeSummary;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.GetAccountBalanceUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AccountSummaryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.BalanceSnapshotPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.ReadRoutingPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 잔액 조회 서비스
+ * <p>
+ * 원장 이력에서 잔액을 계산하되, 전체 이력을 읽지 않도록 스냅샷을 시작점으로 사용합니다.
+ *
+ * <h3>계산 절차:</h3>
+ * <ol>
+ *   <li>기준 시각 이전에 끝나는 가장 가까운 스냅샷 (없으면 잔액 0, 순번 0)</li>
+ *   <li>기준 시각 이후에 끝나는 다음 스냅샷의 순번을 구간 상한으로 사용</li>
+ *   <li>두 순번 사이에서 기준 시각 이전 엔트리만 합산 (계좌 순번 인덱스 범위 스캔)</li>
+ * </ol>
+ * <p>
+ * 스냅샷 간격이 N건이면 조회 비용은 이력 길이와 무관하게 최대 N건입니다.
+ * 현재 잔액은 계좌 요약 1행으로 답합니다 (요약 조회를 사용하지 않으면 현재 시각 기준 계산).
+ * 읽기 전용 트랜잭션이므로 Replica 분리 시 Replica에서 읽고, 방금 기록된 계좌는 Primary에서 읽습니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AccountBalanceQueryService implements GetAccountBalanceUseCase {
+
+    private final BalanceSnapshotPort balanceSnapshotPort;
+    private final LedgerEntryPort ledgerEntryPort;
+    private final AccountSummaryPort accountSummaryPort;
+    private final ReadRoutingPort readRoutingPort;
+
+    @Override
+    public AccountBalance getCurrentBalance(String accountNumber) {
+        if (accountNumber == null || accountNumber.isBlank()) {
+            throw LedgerException.requiredFieldMissing("accountNumber");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return readRoutingPort.readAccount(accountNumber, () -> accountSummaryPort.find(accountNumber)
+                .map(summary -> new AccountBalance(accountNumber, summary.balance(), now, summary.entryCount()))
+                .orElseGet(() -> calculate(accountNumber, now)));
+    }
+
+    @Override
+    public AccountBalance getBalanceAsOf(String accountNumber, LocalDateTime asOf) {
+        if (accountNumber == null || accountNumber.isBlank()) {
+            throw LedgerException.requiredFieldMissing("accountNumber");
+        }
+        if (asOf == null) {
+            throw LedgerException.requiredFieldMissing("asOf");
+        }
+
+        return readRoutingPort.readAccount(accountNumber, () -> calculate(accountNumber, asOf));
+    }
+
+    private AccountBalance calculate(String accountNumber, LocalDateTime asOf) {
+        BalanceSnapshot base = balanceSnapshotPort.findLatestAtOrBefore(accountNumber, asOf)
+                .orElseGet(() -> BalanceSnapshot.initial(accountNumber));
+        long upperSequence = balanceSnapshotPort.findEarliestAfter(accountNumber, asOf)
+                .map(BalanceSnapshot::sequence)
+                .orElse(Long.MAX_VALUE);
+
+        EntryRangeSummary delta = ledgerEntryPort.summarizeRange(
+                accountNumber, base.sequence(), upperSequence, asOf);
+
+        return new AccountBalance(
+                accountNumber,
+                Money.addExact(base.balance(), delta.netAmount()),
+                asOf,
+                base.entryCount() + delta.entryCount());
+    }
+}
@@ -0,0 +1,90 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountSummary;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryCursor;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerEntryPage;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.GetAccountEntriesUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AccountSummaryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.ReadRoutingPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 계좌 원장 엔트리 조회 서비스
+ * <p>
+ * 두 모드 모두 size + 1건을 읽어 다음 페이지 존재 여부를 판단하므로 별도 건수 조회 없이 nextCursor를 만듭니다.
+ * 전체 건수(totalElements)는 요청한 경우에만 계좌 요약의 엔트리 수로 채웁니다 (요약 조회를 사용하지 않으면 COUNT 조회).
+ * </p>
+ * <p>
+ * 읽기 전용 트랜잭션이므로 Replica 분리 시 Replica에서 읽고, 방금 기록된 계좌는 Primary에서 읽습니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AccountEntryQueryService implements GetAccountEntriesUseCase {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final LedgerEntryPort ledgerEntryPort;
+    private final AccountSummaryPort accountSummaryPort;
+    private final ReadRoutingPort readRoutingPort;
+
+    @Override
+    public LedgerEntryPage getEntries(String accountNumber, int page, int size, boolean includeTotal) {
+        validate(accountNumber, size);
+        if (page < 0) {
+            throw LedgerException.invalidPageRequest("page", page);
+        }
+
+        return readRoutingPort.readAccount(accountNumber, () -> {
+            List<LedgerEntry> rows = ledgerEntryPort.findPage(accountNumber, (long) page * size, size + 1);
+            return toPage(accountNumber, rows, page, size, includeTotal);
+        });
+    }
+
+    @Override
+    public LedgerEntryPage getEntriesAfter(String accountNumber, EntryCursor after, int size, boolean includeTotal) {
+        validate(accountNumber, size);
+
+        return readRoutingPort.readAccount(accountNumber, () -> {
+            List<LedgerEntry> rows = ledgerEntryPort.findPageAfter(accountNumber, after, size + 1);
+            return toPage(accountNumber, rows, null, size, includeTotal);
+        });
+    }
+
+    private LedgerEntryPage toPage(String accountNumber, List<LedgerEntry> rows, Integer page, int size,
+                                   boolean includeTotal) {
+        boolean hasNext = rows.size() > size;
+        List<LedgerEntry> entries = hasNext ? rows.subList(0, size) : rows;
+
+        EntryCursor nextCursor = null;
+        if (hasNext) {
+            LedgerEntry last = entries.get(entries.size() - 1);
+            nextCursor = new EntryCursor(last.getCreatedAt(), last.getEntryId());
+        }
+        Long total = includeTotal ? countEntries(accountNumber) : null;
+        return new LedgerEntryPage(accountNumber, entries, page, size, total, nextCursor);
+    }
+
+    private long countEntries(String accountNumber) {
+        return accountSummaryPort.find(accountNumber)
+                .map(AccountSummary::entryCount)
+                .orElseGet(() -> ledgerEntryPort.countByAccountNumber(accountNumber));
+    }
+
+    private void validate(String accountNumber, int size) {
+        if (accountNumber == null || accountNumber.isBlank()) {
+            throw LedgerException.requiredFieldMissing("accountNumber");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw LedgerException.invalidPageRequest("size", size);
+        }
+    }
+}
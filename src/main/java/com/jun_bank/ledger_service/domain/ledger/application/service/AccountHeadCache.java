@@ -0,0 +1,146 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountHead;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.global.util.BoundedLruMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 계좌 최신 상태(잔액/순번) 캐시
+ * <p>
+ * balanceAfter 계산에 필요한 계좌별 최신 엔트리 조회를 기록마다 하지 않도록 메모리에 보관합니다.
+ * 캐시에 없는 계좌만 한 번의 쿼리로 읽어 채웁니다 (lazy loading).
+ *
+ * <h3>정합성:</h3>
+ * <ul>
+ *   <li>커밋된 기록만 반영 (afterCommit) → 롤백된 잔액이 캐시에 남지 않음</li>
+ *   <li>롤백 시 관련 계좌를 제거 → 다음 기록은 DB에서 다시 읽음
+ *       (다른 인스턴스가 먼저 기록해 캐시가 뒤처진 경우 순번 유일 제약 위반으로 롤백되고, 재시도는 최신 값을 사용)</li>
+ *   <li>순번이 큰 값만 반영 → 늦게 도착한 조회 결과가 더 최신 상태를 덮어쓰지 않음</li>
+ * </ul>
+ *
+ * <h3>메모리:</h3>
+ * <p>
+ * 최대 max-accounts개 계좌를 LRU로 보관하며, 넘으면 가장 오래 사용되지 않은 계좌부터 제거합니다.
+ * </p>
+ */
+@Component
+public class AccountHeadCache {
+
+    private final LedgerEntryPort ledgerEntryPort;
+    private final BoundedLruMap<String, AccountHead> heads;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public AccountHeadCache(LedgerEntryPort ledgerEntryPort,
+                            @Value("${ledger.head-cache.max-accounts:100000}") int maxAccounts) {
+        this.ledgerEntryPort = ledgerEntryPort;
+        this.heads = new BoundedLruMap<>(maxAccounts);
+    }
+
+    /**
+     * 계좌별 최신 상태 조회
+     * <p>
+     * 캐시에 없는 계좌는 한 번의 쿼리로 읽고 캐시에 채웁니다. 엔트리가 없는 계좌는 {@link AccountHead#EMPTY}.
+     * </p>
+     *
+     * @param accountNumbers 계좌번호
+     * @return 계좌번호 → 최신 상태 (변경 가능한 새 Map)
+     */
+    public Map<String, AccountHead> getAll(Collection<String> accountNumbers) {
+        Map<String, AccountHead> result = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String accountNumber : accountNumbers) {
+            AccountHead head = heads.get(accountNumber);
+            if (head != null) {
+                result.put(accountNumber, head);
+            } else {
+                missing.add(accountNumber);
+            }
+        }
+        hits.add(result.size());
+        misses.add(missing.size());
+
+        if (!missing.isEmpty()) {
+            Map<String, LedgerEntry> latest = ledgerEntryPort.findLatestByAccountNumbers(missing);
+            for (String accountNumber : missing) {
+                LedgerEntry entry = latest.get(accountNumber);
+                AccountHead head = entry != null ? AccountHead.of(entry) : AccountHead.EMPTY;
+                heads.merge(accountNumber, head, AccountHead::latest);
+                result.put(accountNumber, head);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 기록할 엔트리 반영 예약 (저장 전에 호출)
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋 후 반영하고, 롤백되면(순번 충돌 포함) 해당 계좌를 캐시에서 제거합니다.
+     * </p>
+     *
+     * @param entries 저장할 엔트리 (balanceAfter, sequence 계산 완료)
+     */
+    public void applyOnCommit(List<LedgerEntry> entries) {
+        Map<String, AccountHead> updated = new HashMap<>();
+        for (LedgerEntry entry : entries) {
+            updated.merge(entry.getAccountNumber(), AccountHead.of(entry), AccountHead::latest);
+        }
+        if (updated.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(updated);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(updated);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    evict(updated.keySet());
+                }
+            }
+        });
+    }
+
+    /**
+     * 계좌 상태 제거 (다음 조회 시 DB에서 다시 읽음)
+     */
+    public void evict(Collection<String> accountNumbers) {
+        accountNumbers.forEach(heads::remove);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return heads.size();
+    }
+
+    private void apply(Map<String, AccountHead> updated) {
+        updated.forEach((accountNumber, head) -> heads.merge(accountNumber, head, AccountHead::latest));
+    }
+}
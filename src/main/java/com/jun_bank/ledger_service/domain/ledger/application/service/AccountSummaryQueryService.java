@@ -0,0 +1,37 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountSummary;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.GetAccountSummaryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AccountSummaryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.ReadRoutingPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 계좌 요약 조회 서비스
+ * <p>
+ * 원장 기록과 같은 트랜잭션에서 갱신되는 계좌 요약 1행을 읽습니다 (이력 길이와 무관한 비용).
+ * 요약 조회를 사용하지 않는 동안(재구축 전)은 원장 엔트리를 집계하여 같은 결과를 만듭니다.
+ * 읽기 전용 트랜잭션이므로 Replica 분리 시 Replica에서 읽고, 방금 기록된 계좌는 Primary에서 읽습니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AccountSummaryQueryService implements GetAccountSummaryUseCase {
+
+    private final AccountSummaryPort accountSummaryPort;
+    private final ReadRoutingPort readRoutingPort;
+
+    @Override
+    public AccountSummary getSummary(String accountNumber) {
+        if (accountNumber == null || accountNumber.isBlank()) {
+            throw LedgerException.requiredFieldMissing("accountNumber");
+        }
+
+        return readRoutingPort.readAccount(accountNumber, () -> accountSummaryPort.find(accountNumber)
+                .orElseGet(() -> accountSummaryPort.summarizeFromLedger(accountNumber)));
+    }
+}
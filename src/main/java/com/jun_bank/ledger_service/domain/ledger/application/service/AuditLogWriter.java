@@ -0,0 +1,344 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AuditLogRecord;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.AppendAuditLogUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AuditLogPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AuditLogSpillPort;
+import com.jun_bank.ledger_service.global.util.MpscRingBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 로그 비동기 일괄 Writer (단일 Writer)
+ * <p>
+ * 감사 로그 기록 요청을 lock-free 링 버퍼에 모으고, 전용 스레드 하나가
+ * batch-size건 또는 flush-interval-ms 중 먼저 도달한 시점에 한 번의 multi-row INSERT로 저장합니다.
+ * 감사 로그는 원장 기록과 다른 커넥션 풀을 사용하므로 감사 트래픽이 원장 커밋을 지연시키지 않습니다.
+ * </p>
+ *
+ * <h3>유실 방지:</h3>
+ * <ul>
+ *   <li>요청 Future는 DB 커밋 또는 로컬 spill 파일 fsync 후에만 완료 (호출자는 그 뒤에 Kafka 오프셋 커밋)</li>
+ *   <li>DB 저장이 max-attempts회 실패하면 묶음을 spill 파일로 옮기고, 한가할 때 DB로 재적재</li>
+ *   <li>종료 시 버퍼에 남은 요청은 모두 저장한 뒤 스레드를 멈추고, 그 뒤에 들어온 요청은 즉시 실패로 완료
+ *       (어떤 요청의 Future도 미완료로 남지 않음)</li>
+ * </ul>
+ *
+ * <h3>버퍼가 가득 찼을 때 ({@link OverflowPolicy}):</h3>
+ * <ul>
+ *   <li>BLOCK: 공간이 생길 때까지 호출 스레드가 대기 (Kafka 소비 속도가 자연히 줄어듦)</li>
+ *   <li>SPILL: 남은 요청을 호출 스레드에서 바로 spill 파일에 기록 (소비 지연 없음, 디스크 사용)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AuditLogWriter implements AppendAuditLogUseCase, SmartLifecycle {
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long RETRY_BACKOFF_MS = 200L;
+
+    private final AuditLogPort auditLogPort;
+    private final AuditLogSpillPort auditLogSpillPort;
+    private final MpscRingBuffer<PendingAudit> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxAttempts;
+    private final OverflowPolicy overflowPolicy;
+    private final long replayIntervalNanos;
+    private final Duration waitTimeout;
+
+    private volatile boolean running;
+    private volatile boolean writerStopped;
+    private volatile Thread writerThread;
+    private long lastReplayAt;
+
+    public AuditLogWriter(AuditLogPort auditLogPort,
+                          AuditLogSpillPort auditLogSpillPort,
+                          @Value("${ledger.audit.writer.capacity:65536}") int capacity,
+                          @Value("${ledger.audit.writer.batch-size:1000}") int batchSize,
+                          @Value("${ledger.audit.writer.flush-interval-ms:50}") long flushIntervalMs,
+                          @Value("${ledger.audit.writer.max-attempts:3}") int maxAttempts,
+                          @Value("${ledger.audit.writer.overflow:BLOCK}") OverflowPolicy overflowPolicy,
+                          @Value("${ledger.audit.writer.replay-interval-ms:10000}") long replayIntervalMs,
+                          @Value("${ledger.audit.writer.wait-timeout-ms:30000}") long waitTimeoutMs) {
+        this.auditLogPort = auditLogPort;
+        this.auditLogSpillPort = auditLogSpillPort;
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.overflowPolicy = overflowPolicy;
+        this.replayIntervalNanos = TimeUnit.MILLISECONDS.toNanos(replayIntervalMs);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+    }
+
+    @Override
+    public CompletableFuture<Void> append(List<AuditLogRecord> records) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (records.isEmpty()) {
+            future.complete(null);
+            return future;
+        }
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("AuditLogWriter is not running"));
+            return future;
+        }
+
+        Completion completion = new Completion(records.size(), future);
+        for (int i = 0; i < records.size(); i++) {
+            PendingAudit pending = new PendingAudit(records.get(i), completion);
+            if (buffer.offer(pending)) {
+                continue;
+            }
+            if (overflowPolicy == OverflowPolicy.SPILL) {
+                spillOverflow(records.subList(i, records.size()), completion);
+                break;
+            }
+            if (!offerBlocking(pending)) {
+                completion.fail(stoppedException());
+                break;
+            }
+        }
+
+        // running 확인 이후 Writer가 남은 요청 정리까지 마쳤다면 방금 넣은 요청은 아무도 꺼내지 않으므로 직접 실패 처리
+        if (writerStopped) {
+            failBuffered();
+        } else if (buffer.size() >= batchSize) {
+            LockSupport.unpark(writerThread);
+        }
+        return future;
+    }
+
+    /**
+     * 감사 로그 기록 요청 후 영구 저장까지 대기 (설정된 대기 시간, ledger.audit.writer.wait-timeout-ms)
+     */
+    @Override
+    public void appendAndWait(List<AuditLogRecord> records) {
+        appendAndWait(records, waitTimeout);
+    }
+
+    /**
+     * 공간이 생길 때까지 대기 (BLOCK)
+     *
+     * @return 추가되면 true, 대기 중 Writer가 멈추면 false
+     */
+    private boolean offerBlocking(PendingAudit pending) {
+        while (!buffer.offer(pending)) {
+            // 종료 중이어도 Writer가 남은 요청을 비우는 동안은 계속 대기
+            if (writerStopped) {
+                return false;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * 버퍼에 넣지 못한 나머지를 호출 스레드에서 바로 spill (SPILL)
+     */
+    private void spillOverflow(List<AuditLogRecord> overflow, Completion completion) {
+        try {
+            auditLogSpillPort.spill(overflow);
+            completion.done(overflow.size());
+            log.warn("감사 로그 버퍼 가득 참 - spill 파일로 기록: {}건", overflow.size());
+        } catch (RuntimeException e) {
+            log.error("감사 로그 spill 실패 - {}건, 원인: {}", overflow.size(), e.getMessage());
+            completion.fail(e);
+        }
+    }
+
+    // ========================================
+    // Writer 스레드
+    // ========================================
+
+    private void runLoop() {
+        List<PendingAudit> batch = new ArrayList<>(batchSize);
+        long batchStartedAt = 0L;
+        lastReplayAt = System.nanoTime();
+
+        while (running || !buffer.isEmpty() || !batch.isEmpty()) {
+            buffer.drain(batch::add, batchSize - batch.size());
+            long now = System.nanoTime();
+
+            if (batch.isEmpty()) {
+                replayIfIdle(now);
+                LockSupport.parkNanos(flushIntervalNanos);
+                continue;
+            }
+            if (batchStartedAt == 0L) {
+                batchStartedAt = now;
+            }
+
+            long waited = now - batchStartedAt;
+            if (batch.size() >= batchSize || waited >= flushIntervalNanos || !running) {
+                try {
+                    flush(batch);
+                } catch (RuntimeException e) {
+                    log.error("감사 로그 저장 처리 중 예외", e);
+                    batch.forEach(pending -> pending.completion().fail(e));
+                } finally {
+                    batch.clear();
+                    batchStartedAt = 0L;
+                }
+            } else {
+                LockSupport.parkNanos(flushIntervalNanos - waited);
+            }
+        }
+
+        // 정리 전에 표시: 이후 버퍼에 들어온 요청은 append 호출자가 직접 실패 처리
+        writerStopped = true;
+        failBuffered();
+    }
+
+    /**
+     * Writer 종료 후 버퍼에 남은 요청 실패 처리 (버퍼 소비자가 하나뿐이도록 직렬화)
+     */
+    private synchronized void failBuffered() {
+        buffer.drain(pending -> pending.completion().fail(stoppedException()), Integer.MAX_VALUE);
+    }
+
+    private static IllegalStateException stoppedException() {
+        return new IllegalStateException("AuditLogWriter is stopped");
+    }
+
+    private void flush(List<PendingAudit> batch) {
+        List<AuditLogRecord> records = new ArrayList<>(batch.size());
+        batch.forEach(pending -> records.add(pending.record()));
+
+        RuntimeException lastFailure = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                auditLogPort.insertAll(records);
+                batch.forEach(pending -> pending.completion().done(1));
+                return;
+            } catch (RuntimeException e) {
+                lastFailure = e;
+                log.warn("감사 로그 저장 실패 - 시도: {}/{}, 건수: {}, 원인: {}",
+                        attempt, maxAttempts, records.size(), e.getMessage());
+                if (attempt < maxAttempts) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(RETRY_BACKOFF_MS * attempt));
+                }
+            }
+        }
+
+        try {
+            auditLogSpillPort.spill(records);
+            batch.forEach(pending -> pending.completion().done(1));
+            log.warn("감사 로그 DB 저장 불가 - spill 파일로 기록: {}건", records.size());
+        } catch (RuntimeException e) {
+            e.addSuppressed(lastFailure);
+            log.error("감사 로그 spill 실패 - {}건, 원인: {}", records.size(), e.getMessage());
+            batch.forEach(pending -> pending.completion().fail(e));
+        }
+    }
+
+    /**
+     * 버퍼가 비어 있을 때 spill 파일을 DB로 재적재 (replay-interval-ms마다)
+     */
+    private void replayIfIdle(long now) {
+        if (!running || now - lastReplayAt < replayIntervalNanos) {
+            return;
+        }
+        lastReplayAt = now;
+        if (!auditLogSpillPort.hasPending()) {
+            return;
+        }
+        try {
+            int replayed = auditLogSpillPort.replay(batchSize, auditLogPort::insertAll);
+            log.info("감사 로그 spill 파일 재적재 완료: {}건", replayed);
+        } catch (RuntimeException e) {
+            log.warn("감사 로그 spill 파일 재적재 실패 - 다음 주기에 재시도, 원인: {}", e.getMessage());
+        }
+    }
+
+    // ========================================
+    // SmartLifecycle
+    // ========================================
+
+    @Override
+    public void start() {
+        writerStopped = false;
+        running = true;
+        writerThread = new Thread(this::runLoop, "ledger-audit-writer");
+        writerThread.start();
+        log.info("감사 로그 Writer 시작 - capacity: {}, batchSize: {}, flushIntervalMs: {}, overflow: {}",
+                buffer.capacity(), batchSize, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos), overflowPolicy);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("감사 로그 Writer 종료 - 미처리 요청: {}", buffer.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Kafka 리스너 컨테이너보다 먼저 시작하고 나중에 종료
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 방식
+     */
+    public enum OverflowPolicy {
+        BLOCK,
+        SPILL
+    }
+
+    /**
+     * 버퍼에 대기 중인 감사 로그
+     */
+    private record PendingAudit(AuditLogRecord record, Completion completion) {
+    }
+
+    /**
+     * append 호출 하나의 완료 추적 (모든 건이 저장되면 Future 완료)
+     */
+    private static final class Completion {
+
+        private final AtomicInteger remaining;
+        private final CompletableFuture<Void> future;
+
+        private Completion(int count, CompletableFuture<Void> future) {
+            this.remaining = new AtomicInteger(count);
+            this.future = future;
+        }
+
+        void done(int count) {
+            if (remaining.addAndGet(-count) == 0) {
+                future.complete(null);
+            }
+        }
+
+        void fail(Throwable cause) {
+            future.completeExceptionally(cause);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountActivity;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.JobCheckpoint;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReconciliationMode;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReconciliationResult;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AccountBalanceSourcePort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.DirtyAccountPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.JobCheckpointPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEventPublishPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 잔액 검증 (Reconciliation) 서비스
+ * <p>
+ * Account Service 잔액과 원장 합산 잔액을 청크 단위로 비교합니다.
+ *
+ * <h3>청크 처리:</h3>
+ * <ol>
+ *   <li>원장에 기록이 있는 계좌를 계좌번호 순 chunk-size개씩 나눔 (keyset)</li>
+ *   <li>청크의 원장 잔액: 계좌번호 구간 집계 쿼리 1회</li>
+ *   <li>청크의 Account Service 잔액: 일괄 조회 1회</li>
+ *   <li>불일치 계좌는 recheck-delay-ms 뒤 한 번 더 조회 (기록 중인 거래로 인한 일시적 차이 제외)</li>
+ * </ol>
+ * <p>
+ * 청크는 parallelism개 스레드에서 병렬로 비교하며, 진행 중인 청크는 최대 parallelism × 2개입니다.
+ * </p>
+ *
+ * <h3>검증 범위 ({@link ReconciliationMode}):</h3>
+ * <ul>
+ *   <li>FULL: 원장에 기록이 있는 모든 계좌 (계좌번호 구간 집계)</li>
+ *   <li>INCREMENTAL: 마지막 성공 실행 이후 기록된 계좌만 ({@link DirtyAccountPort}, 계좌 목록 집계)</li>
+ * </ul>
+ * <p>
+ * 자동 선택 시 마지막 전체 검증 완료 후 full-sweep-interval이 지났거나 전체 검증이 진행 중이면 FULL,
+ * 아니면 INCREMENTAL로 실행합니다. 비용은 하루 동안 실제로 거래가 있었던 계좌 수에 비례합니다.
+ * </p>
+ *
+ * <h3>재시작 (resumable):</h3>
+ * <p>
+ * 앞선 청크가 모두 끝난 지점까지만 체크포인트(마지막 계좌번호)를 저장하므로,
+ * 중단 후 다음 실행은 끝나지 않은 첫 청크부터 이어갑니다.
+ * 실행이 끝나면 시작 시각(기록 지연 여유 watermark-lag 차감)을 다음 증분 실행의 기준 시각으로 저장합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class BalanceReconciliationService {
+
+    static final String FULL_JOB_NAME = "balance-reconciliation";
+    static final String INCREMENTAL_JOB_NAME = "balance-reconciliation-incremental";
+
+    private final LedgerEntryPort ledgerEntryPort;
+    private final AccountBalanceSourcePort accountBalanceSourcePort;
+    private final LedgerEventPublishPort ledgerEventPublishPort;
+    private final JobCheckpointPort jobCheckpointPort;
+    private final DirtyAccountPort dirtyAccountPort;
+    private final int chunkSize;
+    private final int parallelism;
+    private final long recheckDelayMs;
+    private final Duration fullSweepInterval;
+    private final long watermarkLagSeconds;
+
+    public BalanceReconciliationService(LedgerEntryPort ledgerEntryPort,
+                                        AccountBalanceSourcePort accountBalanceSourcePort,
+                                        LedgerEventPublishPort ledgerEventPublishPort,
+                                        JobCheckpointPort jobCheckpointPort,
+                                        DirtyAccountPort dirtyAccountPort,
+                                        @Value("${ledger.reconciliation.chunk-size:1000}") int chunkSize,
+                                        @Value("${ledger.reconciliation.parallelism:4}") int parallelism,
+                                        @Value("${ledger.reconciliation.recheck-delay-ms:5000}") long recheckDelayMs,
+                                        @Value("${ledger.reconciliation.full-sweep-interval-days:7}") long fullSweepIntervalDays,
+                                        @Value("${ledger.reconciliation.watermark-lag-seconds:300}") long watermarkLagSeconds) {
+        this.ledgerEntryPort = ledgerEntryPort;
+        this.accountBalanceSourcePort = accountBalanceSourcePort;
+        this.ledgerEventPublishPort = ledgerEventPublishPort;
+        this.jobCheckpointPort = jobCheckpointPort;
+        this.dirtyAccountPort = dirtyAccountPort;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.recheckDelayMs = recheckDelayMs;
+        this.fullSweepInterval = Duration.ofDays(fullSweepIntervalDays);
+        this.watermarkLagSeconds = watermarkLagSeconds;
+    }
+
+    /**
+     * 검증 1회 실행 (범위 자동 선택)
+     */
+    public ReconciliationResult run() {
+        return run(selectMode(LocalDateTime.now()));
+    }
+
+    /**
+     * 검증 1회 실행 (중단된 실행이 있으면 이어서 처리)
+     */
+    public ReconciliationResult run(ReconciliationMode mode) {
+        JobCheckpoint full = jobCheckpointPort.load(FULL_JOB_NAME);
+        JobCheckpoint incremental = jobCheckpointPort.load(INCREMENTAL_JOB_NAME);
+        if (mode == ReconciliationMode.INCREMENTAL && incremental.watermark() == null && full.watermark() == null) {
+            log.info("증분 잔액 검증 기준 시각 없음, 전체 검증으로 실행");
+            mode = ReconciliationMode.FULL;
+        }
+
+        JobCheckpoint checkpoint = mode == ReconciliationMode.FULL ? full : incremental;
+        if (!checkpoint.isRunning()) {
+            checkpoint = checkpoint.start(LocalDateTime.now());
+            jobCheckpointPort.save(checkpoint);
+        } else {
+            log.info("잔액 검증 이어서 실행 - mode: {}, cursor: {}, 시작 시각: {}",
+                    mode, checkpoint.cursor(), checkpoint.runStartedAt());
+        }
+
+        LocalDateTime since = incremental.watermark() != null ? incremental.watermark() : full.watermark();
+        ChunkSource source = mode == ReconciliationMode.FULL
+                ? cursor -> fullChunk(ledgerEntryPort.findActiveAccounts(null, cursor, chunkSize))
+                : cursor -> new Chunk(dirtyAccountPort.findDirtySince(since, cursor, chunkSize), false);
+
+        ReconciliationResult total = runChunks(checkpoint, source);
+        if (!Thread.currentThread().isInterrupted()) {
+            // 실행 중 기록된 엔트리의 dirty 표시가 늦게 커밋될 수 있으므로 기준 시각을 watermark-lag만큼 당김
+            LocalDateTime nextSince = checkpoint.runStartedAt().minusSeconds(watermarkLagSeconds);
+            if (mode == ReconciliationMode.FULL) {
+                jobCheckpointPort.save(checkpoint.complete(checkpoint.runStartedAt()));
+                // 전체 검증은 증분 대상도 모두 포함하므로 증분 기준 시각도 함께 전진
+                if (!incremental.isRunning()) {
+                    jobCheckpointPort.save(incremental.complete(nextSince));
+                }
+            } else {
+                jobCheckpointPort.save(checkpoint.complete(nextSince));
+            }
+        }
+        log.info("잔액 검증 실행 종료 - mode: {}, 계좌: {}, 불일치: {}, Account Service 미존재: {}",
+                mode, total.accounts(), total.mismatches(), total.missing());
+        return total;
+    }
+
+    /**
+     * 마지막 전체 검증이 오래되었거나 진행 중이면 FULL
+     */
+    ReconciliationMode selectMode(LocalDateTime now) {
+        JobCheckpoint full = jobCheckpointPort.load(FULL_JOB_NAME);
+        if (full.isRunning() || full.watermark() == null || full.watermark().plus(fullSweepInterval).isBefore(now)) {
+            return ReconciliationMode.FULL;
+        }
+        return ReconciliationMode.INCREMENTAL;
+    }
+
+    private ReconciliationResult runChunks(JobCheckpoint checkpoint, ChunkSource source) {
+        ReconciliationResult total = ReconciliationResult.EMPTY;
+        Deque<ChunkTask> inFlight = new ArrayDeque<>();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, workerThreadFactory());
+        try {
+            String cursor = checkpoint.cursor();
+            while (!Thread.currentThread().isInterrupted()) {
+                Chunk chunk = source.next(cursor);
+                if (chunk.accountNumbers().isEmpty()) {
+                    break;
+                }
+                String last = chunk.last();
+                inFlight.addLast(new ChunkTask(last, executor.submit(() -> reconcileChunk(chunk))));
+                cursor = last;
+
+                // 앞선 청크부터 완료된 만큼 체크포인트 전진, 진행 중 청크가 상한이면 가장 오래된 청크를 기다림
+                while (!inFlight.isEmpty()
+                        && (inFlight.peekFirst().future().isDone() || inFlight.size() >= parallelism * 2)) {
+                    ChunkTask done = inFlight.pollFirst();
+                    total = total.plus(await(done));
+                    checkpoint = checkpoint.advance(done.lastAccountNumber());
+                    jobCheckpointPort.save(checkpoint);
+                }
+                if (chunk.accountNumbers().size() < chunkSize) {
+                    break;
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                ChunkTask done = inFlight.pollFirst();
+                total = total.plus(await(done));
+                checkpoint = checkpoint.advance(done.lastAccountNumber());
+                jobCheckpointPort.save(checkpoint);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return total;
+    }
+
+    /**
+     * 청크 1개 검증: 원장 집계 1회 + Account Service 일괄 조회 1회 (불일치 시 재조회)
+     */
+    ReconciliationResult reconcileChunk(Chunk chunk) {
+        Map<String, Long> ledgerBalances = chunk.contiguous()
+                ? ledgerEntryPort.sumBalancesByAccountRange(chunk.accountNumbers().get(0), chunk.last())
+                : ledgerEntryPort.sumBalancesByAccounts(chunk.accountNumbers());
+        Map<String, Long> accountBalances = accountBalanceSourcePort.findBalances(ledgerBalances.keySet());
+
+        List<String> suspects = new ArrayList<>();
+        long missing = 0;
+        for (Map.Entry<String, Long> ledger : ledgerBalances.entrySet()) {
+            Long accountBalance = accountBalances.get(ledger.getKey());
+            if (accountBalance == null) {
+                log.warn("잔액 검증 대상 계좌가 Account Service에 없음 - accountNumber: {}", ledger.getKey());
+                missing++;
+            } else if (accountBalance.longValue() != ledger.getValue()) {
+                suspects.add(ledger.getKey());
+            }
+        }
+
+        long mismatches = suspects.isEmpty() ? 0 : recheck(suspects);
+        return new ReconciliationResult(ledgerBalances.size(), mismatches, missing);
+    }
+
+    /**
+     * 불일치 후보 재확인: 원장/Account Service 양쪽을 다시 읽어 여전히 다르면 불일치로 확정
+     *
+     * @return 확정된 불일치 수
+     */
+    private long recheck(List<String> suspects) {
+        if (recheckDelayMs > 0) {
+            try {
+                Thread.sleep(recheckDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+        }
+
+        Map<String, Long> accountBalances = accountBalanceSourcePort.findBalances(suspects);
+        Map<String, Long> ledgerBalances = ledgerEntryPort.sumBalancesByAccounts(suspects);
+        long mismatches = 0;
+        for (String accountNumber : suspects) {
+            Long accountBalance = accountBalances.get(accountNumber);
+            long ledgerBalance = ledgerBalances.getOrDefault(accountNumber, 0L);
+            if (accountBalance != null && accountBalance != ledgerBalance) {
+                reportMismatch(accountNumber, accountBalance, ledgerBalance);
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    private void reportMismatch(String accountNumber, long accountBalance, long ledgerBalance) {
+        LedgerException mismatch = LedgerException.balanceMismatch(
+                accountNumber, BigDecimal.valueOf(accountBalance), BigDecimal.valueOf(ledgerBalance));
+        // 한 계좌의 불일치로 전체 검증을 멈추지 않도록 예외는 기록/발행만 하고 계속 진행
+        log.error("잔액 불일치 감지", mismatch);
+        ledgerEventPublishPort.publishBalanceMismatch(accountNumber, accountBalance, ledgerBalance);
+    }
+
+    private static ReconciliationResult await(ChunkTask task) {
+        try {
+            return task.future().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("잔액 검증 중단 - 청크 끝 계좌: " + task.lastAccountNumber(), e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("잔액 검증 청크 실패 - 청크 끝 계좌: " + task.lastAccountNumber(),
+                    e.getCause());
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "ledger-reconcile-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Chunk fullChunk(List<AccountActivity> page) {
+        List<String> accountNumbers = new ArrayList<>(page.size());
+        page.forEach(activity -> accountNumbers.add(activity.accountNumber()));
+        return new Chunk(accountNumbers, true);
+    }
+
+    /**
+     * 다음 청크 조회 (cursor: 이전 청크의 마지막 계좌번호)
+     */
+    @FunctionalInterface
+    private interface ChunkSource {
+        Chunk next(String cursor);
+    }
+
+    /**
+     * @param accountNumbers 계좌번호 순 계좌 목록
+     * @param contiguous     첫~마지막 계좌번호 구간의 모든 원장 계좌인지 (구간 집계 사용 가능)
+     */
+    record Chunk(List<String> accountNumbers, boolean contiguous) {
+
+        String last() {
+            return accountNumbers.get(accountNumbers.size() - 1);
+        }
+    }
+
+    private record ChunkTask(String lastAccountNumber, Future<ReconciliationResult> future) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountActivity;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BalanceSnapshot;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryRangeSummary;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.JobCheckpoint;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.BalanceSnapshotPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.JobCheckpointPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 잔액 스냅샷 생성 서비스
+ * <p>
+ * 마지막 실행 이후 기록이 있는 계좌만 골라, 마지막 스냅샷 이후 엔트리가 min-entries건 이상 쌓인 계좌에
+ * 새 스냅샷을 추가합니다 (증분 생성).
+ *
+ * <h3>부하 제한 (throttling):</h3>
+ * <ul>
+ *   <li>계좌를 page-size개씩 처리하고 페이지 사이에 page-pause-ms만큼 쉼</li>
+ *   <li>스냅샷 한 개가 합산하는 엔트리는 최대 max-entries-per-step건 (오래된 계좌는 여러 스냅샷으로 나눔)</li>
+ * </ul>
+ *
+ * <h3>재시작 (resumable):</h3>
+ * <p>
+ * 페이지마다 마지막 계좌번호를 체크포인트로 저장하므로 중단 후 다음 실행은 그 다음 계좌부터 이어갑니다.
+ * 실행이 끝나면 시작 시각(기록 지연 여유 watermark-lag 차감)을 다음 실행의 기준 시각으로 저장합니다.
+ * 스냅샷 저장은 (계좌, 순번) 기준으로 멱등하므로 중복 실행되어도 안전합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class BalanceSnapshotService {
+
+    static final String JOB_NAME = "balance-snapshot";
+
+    private final LedgerEntryPort ledgerEntryPort;
+    private final BalanceSnapshotPort balanceSnapshotPort;
+    private final JobCheckpointPort jobCheckpointPort;
+    private final int pageSize;
+    private final long pagePauseMs;
+    private final long minEntries;
+    private final long maxEntriesPerStep;
+    private final long watermarkLagSeconds;
+
+    public BalanceSnapshotService(LedgerEntryPort ledgerEntryPort,
+                                  BalanceSnapshotPort balanceSnapshotPort,
+                                  JobCheckpointPort jobCheckpointPort,
+                                  @Value("${ledger.snapshot.page-size:500}") int pageSize,
+                                  @Value("${ledger.snapshot.page-pause-ms:50}") long pagePauseMs,
+                                  @Value("${ledger.snapshot.min-entries:1000}") long minEntries,
+                                  @Value("${ledger.snapshot.max-entries-per-step:100000}") long maxEntriesPerStep,
+                                  @Value("${ledger.snapshot.watermark-lag-seconds:300}") long watermarkLagSeconds) {
+        this.ledgerEntryPort = ledgerEntryPort;
+        this.balanceSnapshotPort = balanceSnapshotPort;
+        this.jobCheckpointPort = jobCheckpointPort;
+        this.pageSize = pageSize;
+        this.pagePauseMs = pagePauseMs;
+        this.minEntries = minEntries;
+        this.maxEntriesPerStep = maxEntriesPerStep;
+        this.watermarkLagSeconds = watermarkLagSeconds;
+    }
+
+    /**
+     * 스냅샷 생성 1회 실행 (중단된 실행이 있으면 이어서 처리)
+     *
+     * @return 생성한 스냅샷 수
+     */
+    public int run() {
+        JobCheckpoint checkpoint = jobCheckpointPort.load(JOB_NAME);
+        if (!checkpoint.isRunning()) {
+            checkpoint = checkpoint.start(LocalDateTime.now());
+            jobCheckpointPort.save(checkpoint);
+        } else {
+            log.info("잔액 스냅샷 이어서 실행 - cursor: {}, 시작 시각: {}",
+                    checkpoint.cursor(), checkpoint.runStartedAt());
+        }
+
+        LocalDateTime since = checkpoint.watermark();
+        int created = 0;
+        int accounts = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            List<AccountActivity> page = ledgerEntryPort.findActiveAccounts(since, checkpoint.cursor(), pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            for (AccountActivity activity : page) {
+                created += snapshotAccount(activity);
+            }
+            accounts += page.size();
+
+            checkpoint = checkpoint.advance(page.get(page.size() - 1).accountNumber());
+            jobCheckpointPort.save(checkpoint);
+
+            if (page.size() < pageSize || !pause()) {
+                break;
+            }
+        }
+
+        if (!Thread.currentThread().isInterrupted()) {
+            jobCheckpointPort.save(checkpoint.complete(checkpoint.runStartedAt().minusSeconds(watermarkLagSeconds)));
+        }
+        log.info("잔액 스냅샷 실행 종료 - 대상 계좌: {}, 생성: {}", accounts, created);
+        return created;
+    }
+
+    /**
+     * 계좌 1개 증분 스냅샷
+     *
+     * @return 생성한 스냅샷 수
+     */
+    int snapshotAccount(AccountActivity activity) {
+        String accountNumber = activity.accountNumber();
+        BalanceSnapshot last = balanceSnapshotPort.findLatest(accountNumber)
+                .orElseGet(() -> BalanceSnapshot.initial(accountNumber));
+
+        int created = 0;
+        while (activity.headSequence() - last.sequence() >= minEntries) {
+            long toSequence = Math.min(activity.headSequence(), last.sequence() + maxEntriesPerStep);
+            EntryRangeSummary summary = ledgerEntryPort.summarizeRange(
+                    accountNumber, last.sequence(), toSequence, null);
+            LedgerEntry lastEntry = ledgerEntryPort.findByAccountNumberAndSequence(accountNumber, toSequence)
+                    .orElse(null);
+            if (lastEntry == null) {
+                // 순번 공백: 발생하면 안 되는 상황이므로 스냅샷을 만들지 않음
+                log.warn("잔액 스냅샷 건너뜀, 엔트리 없음 - accountNumber: {}, sequence: {}", accountNumber, toSequence);
+                break;
+            }
+
+            BalanceSnapshot snapshot = new BalanceSnapshot(
+                    accountNumber,
+                    toSequence,
+                    Money.addExact(last.balance(), summary.netAmount()),
+                    last.entryCount() + summary.entryCount(),
+                    lastEntry.getEntryId().value(),
+                    lastEntry.getCreatedAt(),
+                    LocalDateTime.now());
+            balanceSnapshotPort.save(snapshot);
+            last = snapshot;
+            created++;
+        }
+        return created;
+    }
+
+    private boolean pause() {
+        if (pagePauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pagePauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RollupGranularity;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RollupRange;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.GetCategoryRollupUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.CategoryRollupPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.ReadRoutingPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리별 기간 집계 조회 서비스
+ * <p>
+ * 원장 기록과 같은 트랜잭션에서 갱신되는 집계 테이블을 조합하여 임의 기간의 합계를 만듭니다 (원장 엔트리를 읽지 않음).
+ * </p>
+ *
+ * <h3>기간 조합:</h3>
+ * <ul>
+ *   <li>계좌 지정 또는 DAY 단위: (계좌, 카테고리, 일) 집계를 기간으로 합산</li>
+ *   <li>전체 계좌 MONTH/TOTAL: 온전한 달은 (카테고리, 월) 집계, 앞뒤 걸친 달은 일 집계 ({@link RollupRange})</li>
+ * </ul>
+ * <p>
+ * 집계 조회를 사용하지 않는 동안(재구축 전)은 원장 엔트리를 집계하여 같은 결과를 만듭니다.
+ * 읽기 전용 트랜잭션이므로 Replica 분리 시 Replica에서 읽고, 계좌 지정 조회는 방금 기록된 계좌면 Primary에서 읽습니다.
+ * </p>
+ */
+@Service
+@Transactional(readOnly = true)
+public class CategoryRollupQueryService implements GetCategoryRollupUseCase {
+
+    private final CategoryRollupPort categoryRollupPort;
+    private final ReadRoutingPort readRoutingPort;
+    private final long maxRangeDays;
+
+    public CategoryRollupQueryService(CategoryRollupPort categoryRollupPort,
+                                      ReadRoutingPort readRoutingPort,
+                                      @Value("${ledger.rollup.max-range-days:1096}") long maxRangeDays) {
+        this.categoryRollupPort = categoryRollupPort;
+        this.readRoutingPort = readRoutingPort;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    @Override
+    public List<CategoryRollup> getRollups(String accountNumber, LocalDate from, LocalDate to,
+                                           RollupGranularity granularity) {
+        if (from == null) {
+            throw LedgerException.requiredFieldMissing("from");
+        }
+        if (to == null) {
+            throw LedgerException.requiredFieldMissing("to");
+        }
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw LedgerException.invalidDateRange(from, to);
+        }
+        RollupGranularity resolved = granularity != null ? granularity : RollupGranularity.TOTAL;
+
+        if (accountNumber == null || accountNumber.isBlank()) {
+            return collect(null, from, to, resolved);
+        }
+        return readRoutingPort.readAccount(accountNumber, () -> collect(accountNumber, from, to, resolved));
+    }
+
+    private List<CategoryRollup> collect(String accountNumber, LocalDate from, LocalDate to,
+                                         RollupGranularity granularity) {
+        // TOTAL은 월 단위로 읽어 카테고리별로 다시 합침
+        RollupGranularity bucket = granularity == RollupGranularity.DAY
+                ? RollupGranularity.DAY : RollupGranularity.MONTH;
+
+        List<CategoryRollup> rows;
+        if (!categoryRollupPort.isReadEnabled()) {
+            rows = categoryRollupPort.sumFromLedger(accountNumber, from, to, bucket);
+        } else if (accountNumber != null || bucket == RollupGranularity.DAY) {
+            rows = categoryRollupPort.sumDaily(accountNumber, from, to, bucket);
+        } else {
+            rows = combineMonths(new RollupRange(from, to));
+        }
+        return granularity == RollupGranularity.TOTAL ? totals(rows, from) : rows;
+    }
+
+    /**
+     * 전체 계좌 월 단위: 앞 걸친 달(일 집계) + 온전한 달(월 집계) + 뒤 걸친 달(일 집계), 기간이 겹치지 않으므로 이어 붙이면 월 순
+     */
+    private List<CategoryRollup> combineMonths(RollupRange range) {
+        if (!range.hasWholeMonths()) {
+            return categoryRollupPort.sumDaily(null, range.from(), range.to(), RollupGranularity.MONTH);
+        }
+        List<CategoryRollup> rows = new ArrayList<>();
+        if (range.from().isBefore(range.firstWholeMonth())) {
+            rows.addAll(categoryRollupPort.sumDaily(null, range.from(), range.firstWholeMonth().minusDays(1),
+                    RollupGranularity.MONTH));
+        }
+        rows.addAll(categoryRollupPort.sumMonthly(range.firstWholeMonth(), range.endOfWholeMonths()));
+        if (!range.to().isBefore(range.endOfWholeMonths())) {
+            rows.addAll(categoryRollupPort.sumDaily(null, range.endOfWholeMonths(), range.to(),
+                    RollupGranularity.MONTH));
+        }
+        return rows;
+    }
+
+    private static List<CategoryRollup> totals(List<CategoryRollup> rows, LocalDate from) {
+        Map<TransactionCategory, CategoryRollup> totals = new EnumMap<>(TransactionCategory.class);
+        for (CategoryRollup row : rows) {
+            totals.merge(row.category(), new CategoryRollup(from, row.category(), row.entryCount(), row.totalAmount()),
+                    CategoryRollup::plus);
+        }
+        return List.copyOf(totals.values());
+    }
+}
@@ -0,0 +1,237 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.global.util.BloomFilter;
+import com.jun_bank.ledger_service.global.util.BoundedLruSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 중복 거래 필터 (DUPLICATE_TRANSACTION 판정 앞단 캐시)
+ * <p>
+ * 기록마다 transactionId 인덱스를 조회하지 않도록 메모리에서 먼저 판정합니다.
+ *
+ * <h3>판정 순서:</h3>
+ * <ol>
+ *   <li>Bloom Filter가 "없음" → 신규 거래 (DB 조회 없음)</li>
+ *   <li>확인된 거래 ID LRU에 있음 → 중복 (DB 조회 없음)</li>
+ *   <li>그 외 (Bloom 오탐 또는 LRU에서 밀려난 거래) → DB 조회 후 LRU에 반영</li>
+ * </ol>
+ *
+ * <h3>정합성:</h3>
+ * <ul>
+ *   <li>커밋된 거래만 등록 (afterCommit) → 롤백된 거래를 중복으로 오판하지 않음</li>
+ *   <li>워밍업 완료 전에는 항상 DB 조회</li>
+ *   <li>워밍업 구간 밖의 오래된 거래는 Bloom이 "없음"으로 판정할 수 있으나,
+ *       (transaction_id, account_number) 유일 제약이 INSERT 시점에 막고 중복으로 재분류됨</li>
+ * </ul>
+ *
+ * <h3>Bloom 세대 교체:</h3>
+ * <p>
+ * 현재 세대가 예상 삽입 수에 도달하면 이전 세대로 밀어내고 새 세대를 만듭니다.
+ * 조회는 두 세대를 모두 확인하므로 오탐률이 목표 이하로 유지됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class DuplicateTransactionFilter {
+
+    private final LedgerEntryPort ledgerEntryPort;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long warmupWindowHours;
+    private final int confirmedCacheSize;
+    private final BoundedLruSet<String> confirmed;
+    private final LongAdder bloomNegatives = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder dbHits = new LongAdder();
+    private final LongAdder dbMisses = new LongAdder();
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile boolean ready;
+
+    public DuplicateTransactionFilter(LedgerEntryPort ledgerEntryPort,
+                                      @Value("${ledger.dedup.expected-insertions:5000000}") long expectedInsertions,
+                                      @Value("${ledger.dedup.false-positive-rate:0.001}") double falsePositiveRate,
+                                      @Value("${ledger.dedup.confirmed-cache-size:100000}") int confirmedCacheSize,
+                                      @Value("${ledger.dedup.warmup-window-hours:168}") long warmupWindowHours) {
+        this.ledgerEntryPort = ledgerEntryPort;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.warmupWindowHours = warmupWindowHours;
+        this.confirmedCacheSize = confirmedCacheSize;
+        this.confirmed = new BoundedLruSet<>(confirmedCacheSize);
+        this.current = BloomFilter.create(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 이미 기록된 거래 ID 판정
+     *
+     * @param transactionIds 확인할 거래 ID
+     * @return 그중 이미 기록된 거래 ID
+     */
+    public Set<String> findDuplicates(Collection<String> transactionIds) {
+        if (!ready) {
+            return lookUp(transactionIds);
+        }
+
+        Set<String> duplicates = new HashSet<>();
+        List<String> uncertain = new ArrayList<>();
+        for (String transactionId : transactionIds) {
+            if (!mightContain(transactionId)) {
+                bloomNegatives.increment();
+                continue;
+            }
+            if (confirmed.contains(transactionId)) {
+                cacheHits.increment();
+                duplicates.add(transactionId);
+            } else {
+                uncertain.add(transactionId);
+            }
+        }
+
+        if (!uncertain.isEmpty()) {
+            Set<String> existing = lookUp(uncertain);
+            existing.forEach(confirmed::add);
+            duplicates.addAll(existing);
+        }
+        return duplicates;
+    }
+
+    /**
+     * 기록 완료된 거래 등록
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 등록합니다.
+     * </p>
+     *
+     * @param transactionIds 기록된 거래 ID
+     */
+    public void markRecorded(Collection<String> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<String> committed = List.copyOf(transactionIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    register(committed);
+                }
+            });
+            return;
+        }
+        register(transactionIds);
+    }
+
+    /**
+     * 시작 시 워밍업 (비동기)
+     * <p>
+     * Bloom: 최근 warmup-window-hours 동안의 거래 ID (Kafka 보관 기간 이상 권장)<br>
+     * LRU: 가장 최근 거래 ID confirmed-cache-size개
+     * </p>
+     */
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            LocalDateTime since = LocalDateTime.now().minusHours(warmupWindowHours);
+            ledgerEntryPort.forEachTransactionIdSince(since, this::putBloom);
+
+            List<String> recent = ledgerEntryPort.findRecentTransactionIds(confirmedCacheSize);
+            for (int i = recent.size() - 1; i >= 0; i--) {
+                confirmed.add(recent.get(i));
+            }
+
+            ready = true;
+            log.info("중복 거래 필터 워밍업 완료 - bloom: {}건, lru: {}건, 소요시간: {}ms",
+                    current.approximateInsertions(), confirmed.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            // 워밍업 실패 시 항상 DB 조회 (정합성 유지, 성능만 저하)
+            log.error("중복 거래 필터 워밍업 실패 - DB 조회로 동작합니다", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Bloom Filter가 "없음"으로 판정한 거래 수 (DB 조회 없음)
+     */
+    public long bloomNegativeCount() {
+        return bloomNegatives.sum();
+    }
+
+    /**
+     * 확인된 거래 ID LRU에서 중복으로 판정한 거래 수 (DB 조회 없음)
+     */
+    public long cacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * DB 조회 결과 중복이었던 거래 수
+     */
+    public long dbHitCount() {
+        return dbHits.sum();
+    }
+
+    /**
+     * DB 조회 결과 신규였던 거래 수 (워밍업 전 조회 또는 Bloom 오탐)
+     */
+    public long dbMissCount() {
+        return dbMisses.sum();
+    }
+
+    private Set<String> lookUp(Collection<String> transactionIds) {
+        Set<String> existing = ledgerEntryPort.findExistingTransactionIds(transactionIds);
+        dbHits.add(existing.size());
+        dbMisses.add(transactionIds.size() - existing.size());
+        return existing;
+    }
+
+    private void register(Collection<String> transactionIds) {
+        for (String transactionId : transactionIds) {
+            putBloom(transactionId);
+            confirmed.add(transactionId);
+        }
+    }
+
+    private boolean mightContain(String transactionId) {
+        BloomFilter older = previous;
+        return current.mightContain(transactionId) || (older != null && older.mightContain(transactionId));
+    }
+
+    private void putBloom(String transactionId) {
+        BloomFilter bloom = current;
+        if (bloom.isSaturated()) {
+            bloom = rotate(bloom);
+        }
+        bloom.put(transactionId);
+    }
+
+    private synchronized BloomFilter rotate(BloomFilter saturated) {
+        if (current == saturated) {
+            previous = saturated;
+            current = BloomFilter.create(expectedInsertions, falsePositiveRate);
+            log.info("중복 거래 Bloom Filter 세대 교체 - 이전 세대 삽입 수: {}", saturated.approximateInsertions());
+        }
+        return current;
+    }
+}
@@ -0,0 +1,292 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountActivity;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ChainCheckpoint;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ChainVerificationResult;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.JobCheckpoint;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.ChainCheckpointPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.DirtyAccountPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.JobCheckpointPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEventPublishPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntryDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 원장 해시 체인 검증 서비스
+ * <p>
+ * 계좌별로 마지막 검증 위치({@link ChainCheckpoint}) 다음 엔트리부터 다이제스트를 다시 계산해 저장된 값과 비교합니다.
+ * 검증한 엔트리의 다이제스트가 이전 이력 전체를 대표하므로, 실행 비용은 전체 원장이 아닌 새 엔트리 수에 비례합니다.
+ * </p>
+ *
+ * <h3>청크 처리:</h3>
+ * <ol>
+ *   <li>마지막 실행 이후 기록이 있는 계좌를 최근 기록 계좌 테이블에서 계좌번호 순 page-size개씩 읽음 (keyset, 첫 실행은 전체 계좌)</li>
+ *   <li>청크 계좌의 최신 순번과 검증 위치를 일괄 조회</li>
+ *   <li>계좌마다 (검증 위치, 최신 순번] 구간 엔트리를 순번 순으로 스트리밍하며 체인 확인</li>
+ *   <li>청크의 새 검증 위치를 일괄 저장</li>
+ * </ol>
+ * <p>
+ * 청크는 parallelism개 스레드에서 병렬로 검증하며, 진행 중인 청크는 최대 parallelism × 2개입니다.
+ * </p>
+ *
+ * <h3>판정:</h3>
+ * <ul>
+ *   <li>해시 도입 전 엔트리(다이제스트 없음)는 계좌의 첫 다이제스트 엔트리 전까지 건너뜀</li>
+ *   <li>다이제스트 엔트리 뒤에 다이제스트 없는 엔트리가 오거나, 재계산 결과가 다르면 체인 끊김</li>
+ * </ul>
+ * <p>
+ * 체인이 끊긴 계좌는 그 엔트리에서 검증을 멈추고 {@code HASH_CHAIN_BROKEN}을 기록/발행합니다.
+ * 검증 위치는 마지막 정상 엔트리에 머무르므로 그 계좌에 새 기록이 생기면 다음 실행에서 다시 감지되지만,
+ * 새 기록이 없으면 다시 보고하지 않습니다 (발행된 이벤트로 복구를 추적).
+ * </p>
+ *
+ * <h3>재시작 (resumable):</h3>
+ * <p>
+ * 앞선 청크가 모두 끝난 지점까지만 작업 체크포인트(마지막 계좌번호)를 저장합니다.
+ * 실행이 끝나면 시작 시각(기록 지연 여유 watermark-lag 차감)을 다음 실행의 기준 시각으로 저장합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class HashChainVerificationService {
+
+    static final String JOB_NAME = "hash-chain-verification";
+
+    private final LedgerEntryPort ledgerEntryPort;
+    private final ChainCheckpointPort chainCheckpointPort;
+    private final DirtyAccountPort dirtyAccountPort;
+    private final JobCheckpointPort jobCheckpointPort;
+    private final LedgerEventPublishPort ledgerEventPublishPort;
+    private final int pageSize;
+    private final int parallelism;
+    private final long watermarkLagSeconds;
+
+    public HashChainVerificationService(LedgerEntryPort ledgerEntryPort,
+                                        ChainCheckpointPort chainCheckpointPort,
+                                        DirtyAccountPort dirtyAccountPort,
+                                        JobCheckpointPort jobCheckpointPort,
+                                        LedgerEventPublishPort ledgerEventPublishPort,
+                                        @Value("${ledger.integrity.page-size:500}") int pageSize,
+                                        @Value("${ledger.integrity.parallelism:4}") int parallelism,
+                                        @Value("${ledger.integrity.watermark-lag-seconds:300}") long watermarkLagSeconds) {
+        this.ledgerEntryPort = ledgerEntryPort;
+        this.chainCheckpointPort = chainCheckpointPort;
+        this.dirtyAccountPort = dirtyAccountPort;
+        this.jobCheckpointPort = jobCheckpointPort;
+        this.ledgerEventPublishPort = ledgerEventPublishPort;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.watermarkLagSeconds = watermarkLagSeconds;
+    }
+
+    /**
+     * 검증 1회 실행 (중단된 실행이 있으면 이어서 처리)
+     */
+    public ChainVerificationResult run() {
+        JobCheckpoint checkpoint = jobCheckpointPort.load(JOB_NAME);
+        if (!checkpoint.isRunning()) {
+            checkpoint = checkpoint.start(LocalDateTime.now());
+            jobCheckpointPort.save(checkpoint);
+        } else {
+            log.info("해시 체인 검증 이어서 실행 - cursor: {}, 시작 시각: {}",
+                    checkpoint.cursor(), checkpoint.runStartedAt());
+        }
+
+        ChainVerificationResult total = ChainVerificationResult.EMPTY;
+        LocalDateTime since = checkpoint.watermark();
+        Deque<ChunkTask> inFlight = new ArrayDeque<>();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, workerThreadFactory());
+        try {
+            String cursor = checkpoint.cursor();
+            while (!Thread.currentThread().isInterrupted()) {
+                List<AccountActivity> page = findActiveAccounts(since, cursor);
+                if (page.isEmpty()) {
+                    break;
+                }
+                String last = page.get(page.size() - 1).accountNumber();
+                inFlight.addLast(new ChunkTask(last, executor.submit(() -> verifyChunk(page))));
+                cursor = last;
+
+                // 앞선 청크부터 완료된 만큼 체크포인트 전진, 진행 중 청크가 상한이면 가장 오래된 청크를 기다림
+                while (!inFlight.isEmpty()
+                        && (inFlight.peekFirst().future().isDone() || inFlight.size() >= parallelism * 2)) {
+                    ChunkTask done = inFlight.pollFirst();
+                    total = total.plus(await(done));
+                    checkpoint = checkpoint.advance(done.lastAccountNumber());
+                    jobCheckpointPort.save(checkpoint);
+                }
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                ChunkTask done = inFlight.pollFirst();
+                total = total.plus(await(done));
+                checkpoint = checkpoint.advance(done.lastAccountNumber());
+                jobCheckpointPort.save(checkpoint);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!Thread.currentThread().isInterrupted()) {
+            // 실행 중 기록된 엔트리가 늦게 커밋될 수 있으므로 기준 시각을 watermark-lag만큼 당김
+            jobCheckpointPort.save(checkpoint.complete(checkpoint.runStartedAt().minusSeconds(watermarkLagSeconds)));
+        }
+        log.info("해시 체인 검증 실행 종료 - 계좌: {}, 엔트리: {}, 체인 끊김: {}",
+                total.accounts(), total.entries(), total.violations());
+        return total;
+    }
+
+    /**
+     * 기준 시각 이후 기록된 계좌와 최신 순번 (비용은 원장 이력이 아닌 기록된 계좌 수에 비례, 첫 실행은 전체 계좌)
+     */
+    private List<AccountActivity> findActiveAccounts(LocalDateTime since, String cursor) {
+        if (since == null) {
+            return ledgerEntryPort.findActiveAccounts(null, cursor, pageSize);
+        }
+        List<String> accountNumbers = dirtyAccountPort.findDirtySince(since, cursor, pageSize);
+        if (accountNumbers.isEmpty()) {
+            return List.of();
+        }
+        Map<String, LedgerEntry> heads = ledgerEntryPort.findLatestByAccountNumbers(accountNumbers);
+        List<AccountActivity> page = new ArrayList<>(accountNumbers.size());
+        for (String accountNumber : accountNumbers) {
+            LedgerEntry head = heads.get(accountNumber);
+            page.add(new AccountActivity(accountNumber, head != null ? head.getSequence() : 0L));
+        }
+        return page;
+    }
+
+    /**
+     * 청크 1개 검증: 검증 위치 일괄 조회 → 계좌별 구간 스트리밍 → 검증 위치 일괄 저장
+     */
+    ChainVerificationResult verifyChunk(List<AccountActivity> page) {
+        List<String> accountNumbers = new ArrayList<>(page.size());
+        page.forEach(activity -> accountNumbers.add(activity.accountNumber()));
+        Map<String, ChainCheckpoint> checkpoints = chainCheckpointPort.findAll(accountNumbers);
+
+        LocalDateTime verifiedAt = LocalDateTime.now();
+        List<ChainCheckpoint> advanced = new ArrayList<>();
+        long entries = 0;
+        long violations = 0;
+        for (AccountActivity activity : page) {
+            ChainCheckpoint from = checkpoints.getOrDefault(
+                    activity.accountNumber(), ChainCheckpoint.initial(activity.accountNumber()));
+            if (from.sequence() >= activity.headSequence()) {
+                continue;
+            }
+            AccountChain chain = new AccountChain(from);
+            ledgerEntryPort.forEachEntryOfAccountInRange(
+                    activity.accountNumber(), from.sequence(), activity.headSequence(), chain);
+
+            entries += chain.verified;
+            if (chain.violation != null) {
+                reportViolation(activity.accountNumber(), chain.violationSequence, chain.violation);
+                violations++;
+            }
+            if (chain.sequence > from.sequence()) {
+                advanced.add(new ChainCheckpoint(activity.accountNumber(), chain.sequence, chain.hash, verifiedAt));
+            }
+        }
+        chainCheckpointPort.saveAll(advanced);
+        return new ChainVerificationResult(page.size(), entries, violations);
+    }
+
+    private void reportViolation(String accountNumber, long sequence, String reason) {
+        LedgerException broken = LedgerException.hashChainBroken(accountNumber, sequence, reason);
+        // 한 계좌의 체인 끊김으로 전체 검증을 멈추지 않도록 예외는 기록/발행만 하고 계속 진행
+        log.error("원장 해시 체인 끊김 감지", broken);
+        ledgerEventPublishPort.publishIntegrityViolation(accountNumber, sequence, reason);
+    }
+
+    private static ChainVerificationResult await(ChunkTask task) {
+        try {
+            return task.future().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("해시 체인 검증 중단 - 청크 끝 계좌: " + task.lastAccountNumber(), e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("해시 체인 검증 청크 실패 - 청크 끝 계좌: " + task.lastAccountNumber(),
+                    e.getCause());
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "ledger-chain-verify-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 계좌 1개의 체인 상태 (순번 순으로 엔트리를 받아 검증 위치를 전진, 끊기면 이후 엔트리 무시)
+     */
+    static final class AccountChain implements Consumer<LedgerEntry> {
+
+        long sequence;
+        String hash;
+        long verified;
+        long violationSequence;
+        String violation;
+
+        AccountChain(ChainCheckpoint from) {
+            this.sequence = from.sequence();
+            this.hash = from.hash();
+        }
+
+        @Override
+        public void accept(LedgerEntry entry) {
+            if (violation != null) {
+                return;
+            }
+            long entrySequence = entry.getSequence();
+            if (entry.getEntryHash() == null) {
+                if (hash != null) {
+                    fail(entrySequence, "다이제스트 없음");
+                    return;
+                }
+                // 해시 도입 전 엔트리
+                sequence = entrySequence;
+                verified++;
+                return;
+            }
+            if (!LedgerEntryDigest.matches(entry, hash)) {
+                fail(entrySequence, "다이제스트 불일치");
+                return;
+            }
+            sequence = entrySequence;
+            hash = entry.getEntryHash();
+            verified++;
+        }
+
+        private void fail(long entrySequence, String reason) {
+            violationSequence = entrySequence;
+            violation = reason;
+        }
+    }
+
+    private record ChunkTask(String lastAccountNumber, Future<ChainVerificationResult> future) {
+    }
+}
@@ -0,0 +1,341 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountHead;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AuditLogRecord;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadChunk;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadProgress;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadRequest;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadStatus;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadTransaction;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.JobCheckpoint;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.BulkLoadUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AccountSummaryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.CategoryRollupPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AuditLogPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.BulkLoadSourcePort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.DirtyAccountPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.JobCheckpointPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerPartitionPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 과거 원장/감사 로그 대량 적재 서비스
+ * <p>
+ * 파일 또는 되감은 Kafka 토픽에서 이벤트를 묶음 단위로 읽어 PostgreSQL COPY로 적재합니다.
+ * 실시간 기록 경로(그룹 커밋, 다중 행 INSERT)를 거치지 않으므로 수천만 건을 시간 단위로 적재할 수 있습니다.
+ * </p>
+ *
+ * <h3>묶음 처리 (한 트랜잭션):</h3>
+ * <ol>
+ *   <li>이미 기록된 거래 제외 (transactionId 기준 멱등, 같은 묶음 안의 재전달은 처음 것만)</li>
+ *   <li>계좌별 최신 잔액/순번/다이제스트에서 balanceAfter, sequence, 해시 체인 계산 후 도메인 빌더로 검증 (실시간 기록과 같은 규칙)</li>
+ *   <li>기록 시각을 원본 거래 시각(occurredAt)으로 지정하여 COPY</li>
+ *   <li>적재한 계좌를 적재 시각 기준으로 증분 잔액 검증 대상으로 표시하고 계좌 요약/카테고리 집계에 반영</li>
+ * </ol>
+ * <p>
+ * 감사 로그는 전용 커넥션 풀에서 event_id 기준 멱등으로 COPY 합니다.
+ * 묶음이 커밋될 때마다 입력 위치를 체크포인트로 저장하므로, 실패/재시작 시 같은 작업 이름으로 다시 요청하면
+ * 마지막 체크포인트부터 이어서 적재합니다 (커밋 후 체크포인트 저장 전에 중단된 묶음은 멱등 처리로 건너뜀).
+ * </p>
+ *
+ * <h3>주의:</h3>
+ * <p>
+ * 순번은 계좌의 현재 최신 엔트리 뒤에 이어 붙습니다. 순번과 기록 시각의 순서가 어긋나지 않도록
+ * 계좌의 마지막 기록 시각보다 이른 거래는 제외(rejected)하므로, 과거 이력은 시각 순으로, 해당 계좌의 실시간 수신 전에
+ * 적재해야 합니다. 적재 중 같은 계좌에 실시간 기록이 일어나면 순번 충돌로 묶음이 실패하며,
+ * 재요청 시 그 묶음부터 다시 계산합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class LedgerBulkLoadService implements BulkLoadUseCase {
+
+    static final String JOB_NAME_PREFIX = "bulk-load:";
+
+    private static final int MAX_LOGGED_REJECTS = 100;
+
+    private final BulkLoadSourcePort bulkLoadSourcePort;
+    private final LedgerEntryPort ledgerEntryPort;
+    private final AuditLogPort auditLogPort;
+    private final AccountHeadCache accountHeadCache;
+    private final DirtyAccountPort dirtyAccountPort;
+    private final AccountSummaryPort accountSummaryPort;
+    private final CategoryRollupPort categoryRollupPort;
+    private final JobCheckpointPort jobCheckpointPort;
+    private final LedgerPartitionPort ledgerPartitionPort;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor taskExecutor;
+    private final boolean partitioned;
+
+    private final ConcurrentMap<String, JobState> jobs = new ConcurrentHashMap<>();
+
+    public LedgerBulkLoadService(BulkLoadSourcePort bulkLoadSourcePort,
+                                 LedgerEntryPort ledgerEntryPort,
+                                 AuditLogPort auditLogPort,
+                                 AccountHeadCache accountHeadCache,
+                                 DirtyAccountPort dirtyAccountPort,
+                                 AccountSummaryPort accountSummaryPort,
+                                 CategoryRollupPort categoryRollupPort,
+                                 JobCheckpointPort jobCheckpointPort,
+                                 LedgerPartitionPort ledgerPartitionPort,
+                                 PlatformTransactionManager transactionManager,
+                                 @Qualifier("taskExecutor") Executor taskExecutor,
+                                 @Value("${ledger.partition.enabled:false}") boolean partitioned) {
+        this.bulkLoadSourcePort = bulkLoadSourcePort;
+        this.ledgerEntryPort = ledgerEntryPort;
+        this.auditLogPort = auditLogPort;
+        this.accountHeadCache = accountHeadCache;
+        this.dirtyAccountPort = dirtyAccountPort;
+        this.accountSummaryPort = accountSummaryPort;
+        this.categoryRollupPort = categoryRollupPort;
+        this.jobCheckpointPort = jobCheckpointPort;
+        this.ledgerPartitionPort = ledgerPartitionPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.partitioned = partitioned;
+    }
+
+    @Override
+    public BulkLoadProgress start(BulkLoadRequest request) {
+        JobState created = new JobState(request);
+        JobState state = jobs.compute(request.jobName(),
+                (jobName, current) -> current != null && current.status == BulkLoadStatus.RUNNING ? current : created);
+        if (state != created) {
+            return state.snapshot();
+        }
+
+        try {
+            taskExecutor.execute(() -> run(state));
+        } catch (RejectedExecutionException e) {
+            state.fail(e);
+        }
+        return state.snapshot();
+    }
+
+    @Override
+    public Optional<BulkLoadProgress> getProgress(String jobName) {
+        return Optional.ofNullable(jobs.get(jobName)).map(JobState::snapshot);
+    }
+
+    @Override
+    public List<BulkLoadProgress> getAllProgress() {
+        return jobs.values().stream().map(JobState::snapshot).toList();
+    }
+
+    // ========================================
+    // 작업 실행
+    // ========================================
+
+    private void run(JobState state) {
+        BulkLoadRequest request = state.request;
+        JobCheckpoint checkpoint = jobCheckpointPort.load(JOB_NAME_PREFIX + request.jobName());
+        if (checkpoint.isRunning()) {
+            log.info("대량 적재 재개 - job: {}, cursor: {}", request.jobName(), checkpoint.cursor());
+        } else {
+            checkpoint = checkpoint.start(LocalDateTime.now());
+            jobCheckpointPort.save(checkpoint);
+            log.info("대량 적재 시작 - job: {}, source: {}, topic: {}",
+                    request.jobName(), request.source(), request.topic());
+        }
+        state.cursor = checkpoint.cursor();
+
+        try (BulkLoadSourcePort.Reader reader = bulkLoadSourcePort.open(request, checkpoint.cursor())) {
+            BulkLoadChunk chunk;
+            do {
+                chunk = reader.read(request.chunkSize());
+                loadTransactions(chunk.transactions(), state);
+                loadAuditLogs(chunk.auditLogs(), state);
+                state.read += chunk.read();
+                state.rejected += chunk.rejected();
+
+                checkpoint = checkpoint.advance(chunk.cursor());
+                jobCheckpointPort.save(checkpoint);
+                state.cursor = chunk.cursor();
+                log.info("대량 적재 진행 - job: {}, read: {}, entries: {}, auditLogs: {}, duplicates: {}, "
+                                + "rejected: {}, records/s: {}, cursor: {}",
+                        request.jobName(), state.read, state.loadedEntries, state.loadedAuditLogs,
+                        state.skippedDuplicates, state.rejected, state.recordsPerSecond(), state.cursor);
+            } while (!chunk.endOfSource());
+
+            jobCheckpointPort.save(checkpoint.complete(checkpoint.runStartedAt()));
+            state.complete();
+            log.info("대량 적재 완료 - job: {}, read: {}, entries: {}, auditLogs: {}, duplicates: {}, rejected: {}",
+                    request.jobName(), state.read, state.loadedEntries, state.loadedAuditLogs,
+                    state.skippedDuplicates, state.rejected);
+        } catch (RuntimeException e) {
+            state.fail(e);
+            log.error("대량 적재 실패 - job: {}, 마지막 체크포인트: {}, 원인: {}",
+                    request.jobName(), state.cursor, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 원장 거래 묶음 적재 (한 트랜잭션)
+     */
+    private void loadTransactions(List<BulkLoadTransaction> transactions, JobState state) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        Map<String, BulkLoadTransaction> unique = new LinkedHashMap<>();
+        for (BulkLoadTransaction transaction : transactions) {
+            if (unique.putIfAbsent(transaction.transactionId(), transaction) != null) {
+                state.skippedDuplicates++;
+            }
+        }
+        createPartitions(unique.values());
+
+        LoadResult result = transactionTemplate.execute(status -> {
+            Set<String> existing = ledgerEntryPort.findExistingTransactionIds(unique.keySet());
+            existing.forEach(unique::remove);
+
+            Set<String> accountNumbers = new LinkedHashSet<>();
+            unique.values().forEach(transaction ->
+                    transaction.commands().forEach(command -> accountNumbers.add(command.accountNumber())));
+            Map<String, AccountHead> heads = accountNumbers.isEmpty()
+                    ? new HashMap<>()
+                    : accountHeadCache.getAll(accountNumbers);
+
+            List<LedgerEntry> entries = new ArrayList<>();
+            int rejected = 0;
+            for (BulkLoadTransaction transaction : unique.values()) {
+                try {
+                    Map<String, AccountHead> staged = new HashMap<>();
+                    entries.addAll(LedgerEntryAssembler.assemble(transaction.transactionId(),
+                            transaction.commands(), heads, staged, transaction.occurredAt()));
+                    heads.putAll(staged);
+                } catch (LedgerException e) {
+                    rejected++;
+                    if (state.rejected + rejected <= MAX_LOGGED_REJECTS) {
+                        log.warn("대량 적재 거래 제외 - transactionId: {}, 원인: {}",
+                                transaction.transactionId(), e.getMessage());
+                    }
+                }
+            }
+            if (entries.isEmpty()) {
+                return new LoadResult(0, existing.size(), rejected);
+            }
+
+            accountHeadCache.applyOnCommit(entries);
+            int copied = ledgerEntryPort.copyAll(entries);
+            if (copied != entries.size()) {
+                // 존재 확인 후 다른 Writer가 같은 거래를 기록함: 계산한 순번이 어긋나므로 묶음 전체를 다시 처리
+                throw new IllegalStateException("대량 적재 중 동시 기록 감지 - 적재 대상: "
+                        + entries.size() + ", 저장: " + copied);
+            }
+            dirtyAccountPort.markDirty(entries, LocalDateTime.now());
+            accountSummaryPort.apply(entries);
+            categoryRollupPort.apply(entries);
+            return new LoadResult(copied, existing.size(), rejected);
+        });
+
+        state.loadedEntries += result.loaded();
+        state.skippedDuplicates += result.skipped();
+        state.rejected += result.rejected();
+    }
+
+    private void loadAuditLogs(List<AuditLogRecord> auditLogs, JobState state) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+        int copied = auditLogPort.copyAll(auditLogs);
+        state.loadedAuditLogs += copied;
+        state.skippedDuplicates += auditLogs.size() - copied;
+    }
+
+    /**
+     * 월별 파티션 모드: 적재할 기록 시각의 월 파티션 미리 생성
+     */
+    private void createPartitions(Iterable<BulkLoadTransaction> transactions) {
+        if (!partitioned) {
+            return;
+        }
+        Set<YearMonth> months = new TreeSet<>();
+        for (BulkLoadTransaction transaction : transactions) {
+            LocalDateTime occurredAt = transaction.occurredAt();
+            months.add(occurredAt != null ? YearMonth.from(occurredAt) : YearMonth.now());
+        }
+        for (YearMonth month : months) {
+            if (ledgerPartitionPort.createMonthlyPartitionIfAbsent(month)) {
+                log.info("대량 적재 월 파티션 생성: {}", month);
+            }
+        }
+    }
+
+    /**
+     * 묶음 적재 결과
+     */
+    private record LoadResult(int loaded, int skipped, int rejected) {
+    }
+
+    /**
+     * 작업 진행 상태 (실행 스레드만 갱신, 조회는 스냅샷)
+     */
+    private static final class JobState {
+
+        private final BulkLoadRequest request;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+
+        private volatile BulkLoadStatus status = BulkLoadStatus.RUNNING;
+        private volatile long read;
+        private volatile long loadedEntries;
+        private volatile long loadedAuditLogs;
+        private volatile long skippedDuplicates;
+        private volatile long rejected;
+        private volatile String cursor;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private JobState(BulkLoadRequest request) {
+            this.request = request;
+        }
+
+        void complete() {
+            finishedAt = LocalDateTime.now();
+            status = BulkLoadStatus.COMPLETED;
+        }
+
+        void fail(Exception cause) {
+            finishedAt = LocalDateTime.now();
+            error = cause.getMessage();
+            status = BulkLoadStatus.FAILED;
+        }
+
+        long recordsPerSecond() {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+            return elapsedMillis > 0 ? read * 1000 / elapsedMillis : 0;
+        }
+
+        BulkLoadProgress snapshot() {
+            return new BulkLoadProgress(request.jobName(), status, request.source(), request.topic(),
+                    read, loadedEntries, loadedAuditLogs, skippedDuplicates, rejected, cursor,
+                    recordsPerSecond(), startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountHead;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 커맨드 → 원장 엔트리 조립 (실시간 기록과 대량 적재 공용)
+ * <p>
+ * 계좌별 최신 상태에서 balanceAfter, sequence, 해시 체인을 이어 계산하고 도메인 빌더로 검증합니다.
+ * </p>
+ */
+final class LedgerEntryAssembler {
+
+    private LedgerEntryAssembler() {
+    }
+
+    /**
+     * 거래 하나의 엔트리 생성
+     * <p>
+     * 계산된 계좌 상태는 staged에만 반영하고, 거래 전체가 성공했을 때 호출자가 확정합니다.
+     * </p>
+     *
+     * @throws LedgerException 빌더 검증 실패 또는 복식부기 불균형
+     */
+    static List<LedgerEntry> assemble(String transactionId,
+                                      List<RecordLedgerEntryCommand> commands,
+                                      Map<String, AccountHead> heads,
+                                      Map<String, AccountHead> staged) {
+        return assemble(transactionId, commands, heads, staged, null);
+    }
+
+    /**
+     * 거래 하나의 엔트리 생성 (기록 시각 지정, 과거 이력 적재용)
+     * <p>
+     * 순번과 기록 시각의 순서가 어긋나지 않도록 계좌의 마지막 기록보다 이른 시각은 거부합니다.
+     * </p>
+     *
+     * @param createdAt 기록 시각 (null이면 현재 시각)
+     * @throws LedgerException 빌더 검증 실패, 복식부기 불균형 또는 계좌의 마지막 기록보다 이른 시각
+     */
+    static List<LedgerEntry> assemble(String transactionId,
+                                      List<RecordLedgerEntryCommand> commands,
+                                      Map<String, AccountHead> heads,
+                                      Map<String, AccountHead> staged,
+                                      LocalDateTime createdAt) {
+        List<LedgerEntry> entries = new ArrayList<>(commands.size());
+        long debitTotal = 0L;
+        long creditTotal = 0L;
+
+        for (RecordLedgerEntryCommand command : commands) {
+            AccountHead head = staged.getOrDefault(command.accountNumber(),
+                    heads.getOrDefault(command.accountNumber(), AccountHead.EMPTY));
+            if (createdAt != null && head.lastEntryAt() != null && createdAt.isBefore(head.lastEntryAt())) {
+                throw LedgerException.entryTimeOutOfOrder(command.accountNumber(), createdAt, head.lastEntryAt());
+            }
+
+            Money balanceAfter = command.entryType().increasesBalance()
+                    ? head.balance().add(command.amount())
+                    : head.balance().subtract(command.amount());
+            long sequence = head.sequence() + 1;
+
+            LedgerEntry entry = LedgerEntry.createBuilder()
+                    .transactionId(transactionId)
+                    .accountNumber(command.accountNumber())
+                    .sequence(sequence)
+                    .entryType(command.entryType())
+                    .category(command.category())
+                    .amount(command.amount())
+                    .balanceAfter(balanceAfter)
+                    .description(command.description())
+                    .referenceType(command.referenceType())
+                    .referenceId(command.referenceId())
+                    .createdAt(createdAt)
+                    .previousHash(head.hash())
+                    .build();
+            entries.add(entry);
+            staged.put(command.accountNumber(), AccountHead.of(entry));
+
+            if (command.entryType().isDebit()) {
+                debitTotal = Money.addExact(debitTotal, command.amount().toLong());
+            } else {
+                creditTotal = Money.addExact(creditTotal, command.amount().toLong());
+            }
+        }
+
+        // 양쪽 계좌에 기록되는 거래(이체)는 차변 합계 = 대변 합계
+        if (commands.size() > 1 && debitTotal != creditTotal) {
+            throw LedgerException.doubleEntryImbalance(transactionId,
+                    BigDecimal.valueOf(debitTotal), BigDecimal.valueOf(creditTotal));
+        }
+        return entries;
+    }
+}
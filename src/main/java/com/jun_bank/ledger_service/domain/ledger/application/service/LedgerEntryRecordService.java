@@ -0,0 +1,250 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountHead;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerBatchResult;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.RecordLedgerEntryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AccountSummaryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.CategoryRollupPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.DirtyAccountPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerMetricsPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 원장 엔트리 기록 서비스
+ * <p>
+ * 거래(transactionId) 단위로 엔트리를 만들어 Append-only로 기록합니다.
+ *
+ * <h3>기록 절차:</h3>
+ * <ol>
+ *   <li>이미 기록된 거래 제외 (DUPLICATE_TRANSACTION, {@link DuplicateTransactionFilter})</li>
+ *   <li>계좌별 최신 잔액/순번 조회 ({@link AccountHeadCache}, 없는 계좌만 DB 조회)</li>
+ *   <li>입력 순서대로 balanceAfter, sequence 계산 후 도메인 빌더로 검증</li>
+ *   <li>다중 행 INSERT로 한 번에 저장</li>
+ *   <li>같은 트랜잭션에서 기록된 계좌의 최근 기록 시각 갱신 (증분 잔액 검증 대상)</li>
+ *   <li>같은 트랜잭션에서 계좌 요약(현재 잔액, 엔트리 수, 최근 활동)과 카테고리 일/월 집계 갱신</li>
+ * </ol>
+ *
+ * <h3>배치 실패 격리:</h3>
+ * <p>
+ * 검증 실패는 해당 거래만 failures로 분리합니다.
+ * 유일 제약 위반으로 배치 트랜잭션 전체가 실패하면 거래 단위의 개별 트랜잭션으로 다시 시도하여
+ * 문제 거래만 실패 처리합니다. 개별 기록 중 유일 제약 위반은 DB에서 다시 확인하여
+ * 중복 거래(필터가 놓친 오래된 거래)이면 중복으로, 동시 기록에 의한 순번 충돌이면 한 번 더 시도합니다.
+ * DB 연결 실패 같은 일시적 오류는 거래 실패로 분리하지 않고 호출자에게 던집니다 (Consumer가 ACK 없이 재시도).
+ * </p>
+ */
+@Slf4j
+@Service
+public class LedgerEntryRecordService implements RecordLedgerEntryUseCase {
+
+    private static final int MAX_INDIVIDUAL_ATTEMPTS = 2;
+
+    private final LedgerEntryPort ledgerEntryPort;
+    private final DuplicateTransactionFilter duplicateTransactionFilter;
+    private final AccountHeadCache accountHeadCache;
+    private final DirtyAccountPort dirtyAccountPort;
+    private final AccountSummaryPort accountSummaryPort;
+    private final CategoryRollupPort categoryRollupPort;
+    private final LedgerMetricsPort ledgerMetricsPort;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public LedgerEntryRecordService(LedgerEntryPort ledgerEntryPort,
+                                    DuplicateTransactionFilter duplicateTransactionFilter,
+                                    AccountHeadCache accountHeadCache,
+                                    DirtyAccountPort dirtyAccountPort,
+                                    AccountSummaryPort accountSummaryPort,
+                                    CategoryRollupPort categoryRollupPort,
+                                    LedgerMetricsPort ledgerMetricsPort,
+                                    PlatformTransactionManager transactionManager) {
+        this.ledgerEntryPort = ledgerEntryPort;
+        this.duplicateTransactionFilter = duplicateTransactionFilter;
+        this.accountHeadCache = accountHeadCache;
+        this.dirtyAccountPort = dirtyAccountPort;
+        this.accountSummaryPort = accountSummaryPort;
+        this.categoryRollupPort = categoryRollupPort;
+        this.ledgerMetricsPort = ledgerMetricsPort;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional
+    public List<LedgerEntry> record(List<RecordLedgerEntryCommand> commands) {
+        Map<String, List<RecordLedgerEntryCommand>> groups = groupByTransaction(commands);
+        if (groups.size() != 1) {
+            throw LedgerException.requiredFieldMissing("transactionId");
+        }
+
+        LedgerBatchResult result = recordGroups(groups);
+        if (!result.duplicateTransactionIds().isEmpty()) {
+            throw LedgerException.duplicateTransaction(groups.keySet().iterator().next());
+        }
+        if (result.hasFailures()) {
+            throw result.failures().values().iterator().next();
+        }
+        return result.recorded();
+    }
+
+    @Override
+    public LedgerBatchResult recordBatch(List<RecordLedgerEntryCommand> commands) {
+        Map<String, List<RecordLedgerEntryCommand>> groups = groupByTransaction(commands);
+        if (groups.isEmpty()) {
+            return new LedgerBatchResult(List.of(), Set.of(), Map.of());
+        }
+
+        try {
+            return recordInNewTransaction(groups);
+        } catch (DataIntegrityViolationException e) {
+            // 순번 충돌/중복 등 특정 거래 때문일 수 있는 실패만 거래 단위로 격리, DB 장애 등 나머지는 호출자가 배치 전체를 재시도
+            log.warn("원장 일괄 기록 실패, 거래 단위로 재시도 - 거래 수: {}, 원인: {}",
+                    groups.size(), e.getMessage());
+            return recordGroupsIndividually(groups);
+        }
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    /**
+     * 거래 그룹 기록 (새 트랜잭션, 트랜잭션 소요 시간/커밋 엔트리 수 메트릭 기록)
+     */
+    private LedgerBatchResult recordInNewTransaction(Map<String, List<RecordLedgerEntryCommand>> groups) {
+        long startedAt = System.nanoTime();
+        LedgerBatchResult result = null;
+        try {
+            result = requiresNewTransaction.execute(status -> recordGroups(groups));
+            return result;
+        } finally {
+            ledgerMetricsPort.recordAppendTransaction(System.nanoTime() - startedAt,
+                    result != null ? result.recorded().size() : 0, result != null);
+        }
+    }
+
+    /**
+     * 거래 그룹 기록 (현재 트랜잭션 내)
+     */
+    private LedgerBatchResult recordGroups(Map<String, List<RecordLedgerEntryCommand>> groups) {
+        Set<String> duplicates = new LinkedHashSet<>(duplicateTransactionFilter.findDuplicates(groups.keySet()));
+
+        Map<String, AccountHead> heads = loadHeads(groups, duplicates);
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        List<LedgerEntry> pending = new ArrayList<>();
+
+        for (Map.Entry<String, List<RecordLedgerEntryCommand>> group : groups.entrySet()) {
+            if (duplicates.contains(group.getKey())) {
+                continue;
+            }
+            try {
+                Map<String, AccountHead> staged = new HashMap<>();
+                pending.addAll(LedgerEntryAssembler.assemble(group.getKey(), group.getValue(), heads, staged));
+                heads.putAll(staged);
+            } catch (LedgerException e) {
+                failures.put(group.getKey(), e);
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return new LedgerBatchResult(List.of(), duplicates, failures);
+        }
+
+        accountHeadCache.applyOnCommit(pending);
+        List<LedgerEntry> recorded = ledgerEntryPort.saveAll(pending);
+        dirtyAccountPort.markDirty(recorded);
+        accountSummaryPort.apply(recorded);
+        categoryRollupPort.apply(recorded);
+        Set<String> recordedTransactionIds = new LinkedHashSet<>();
+        recorded.forEach(entry -> recordedTransactionIds.add(entry.getTransactionId()));
+        duplicateTransactionFilter.markRecorded(recordedTransactionIds);
+        return new LedgerBatchResult(recorded, duplicates, failures);
+    }
+
+    /**
+     * 거래 단위 개별 트랜잭션 기록 (배치 실패 시 폴백)
+     * <p>
+     * 거래 자체의 오류(LedgerException, 무결성 위반)만 failures로 분리하고,
+     * 그 밖의 예외(DB 연결 실패 등)는 그대로 던져 배치 전체를 재시도하게 합니다 (이미 기록된 거래는 재시도 시 중복으로 건너뜀).
+     * </p>
+     */
+    private LedgerBatchResult recordGroupsIndividually(Map<String, List<RecordLedgerEntryCommand>> groups) {
+        List<LedgerEntry> recorded = new ArrayList<>();
+        Set<String> duplicates = new LinkedHashSet<>();
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+
+        for (Map.Entry<String, List<RecordLedgerEntryCommand>> group : groups.entrySet()) {
+            String transactionId = group.getKey();
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    LedgerBatchResult result = recordInNewTransaction(Map.of(transactionId, group.getValue()));
+                    recorded.addAll(result.recorded());
+                    duplicates.addAll(result.duplicateTransactionIds());
+                    failures.putAll(result.failures());
+                    break;
+                } catch (DataIntegrityViolationException e) {
+                    if (isAlreadyRecorded(transactionId)) {
+                        duplicates.add(transactionId);
+                        break;
+                    }
+                    if (attempt >= MAX_INDIVIDUAL_ATTEMPTS) {
+                        log.error("원장 기록 실패 - transactionId: {}, 원인: {}", transactionId, e.getMessage());
+                        failures.put(transactionId, e);
+                        break;
+                    }
+                    // 다른 Writer와 같은 계좌 순번 충돌: 최신 잔액을 다시 읽어 재시도
+                } catch (LedgerException e) {
+                    log.error("원장 기록 실패 - transactionId: {}, 원인: {}", transactionId, e.getMessage());
+                    failures.put(transactionId, e);
+                    break;
+                }
+            }
+        }
+        return new LedgerBatchResult(recorded, duplicates, failures);
+    }
+
+    private boolean isAlreadyRecorded(String transactionId) {
+        Set<String> existing = ledgerEntryPort.findExistingTransactionIds(Set.of(transactionId));
+        duplicateTransactionFilter.markRecorded(existing);
+        return !existing.isEmpty();
+    }
+
+    private Map<String, AccountHead> loadHeads(Map<String, List<RecordLedgerEntryCommand>> groups,
+                                               Set<String> excludedTransactionIds) {
+        Set<String> accountNumbers = new LinkedHashSet<>();
+        groups.forEach((transactionId, commands) -> {
+            if (!excludedTransactionIds.contains(transactionId)) {
+                commands.forEach(command -> accountNumbers.add(command.accountNumber()));
+            }
+        });
+
+        if (accountNumbers.isEmpty()) {
+            return new HashMap<>();
+        }
+        return accountHeadCache.getAll(accountNumbers);
+    }
+
+    private Map<String, List<RecordLedgerEntryCommand>> groupByTransaction(List<RecordLedgerEntryCommand> commands) {
+        Map<String, List<RecordLedgerEntryCommand>> groups = new LinkedHashMap<>();
+        for (RecordLedgerEntryCommand command : commands) {
+            groups.computeIfAbsent(command.transactionId(), key -> new ArrayList<>(2)).add(command);
+        }
+        return groups;
+    }
+}
@@ -0,0 +1,71 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerExportFormat;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.ExportAccountLedgerUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.ReadRoutingPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 계좌 원장 내보내기 서비스
+ * <p>
+ * 서버 측 커서(고정 fetch size)로 읽은 행을 바로 {@link LedgerExportWriter}에 씁니다.
+ * 출력은 블로킹 쓰기이므로 클라이언트가 느리면 소켓 버퍼가 찬 시점부터 읽기도 함께 멈춥니다 (backpressure).
+ * FLUSH_INTERVAL건마다 버퍼를 내보내 클라이언트가 진행 중인 데이터를 바로 받습니다.
+ * </p>
+ * <p>
+ * 긴 커서 조회이므로 Replica 분리 시 Replica에서 읽습니다 (방금 기록된 계좌는 Primary).
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerExportService implements ExportAccountLedgerUseCase {
+
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    private final LedgerEntryPort ledgerEntryPort;
+    private final ReadRoutingPort readRoutingPort;
+
+    @Override
+    public long export(String accountNumber, LedgerExportFormat format, OutputStream out) throws IOException {
+        if (accountNumber == null || accountNumber.isBlank()) {
+            throw LedgerException.requiredFieldMissing("accountNumber");
+        }
+
+        LedgerExportWriter writer = LedgerExportWriter.of(format, out);
+        writer.writeHeader();
+
+        long[] count = {0};
+        try {
+            readRoutingPort.readAccount(accountNumber, () -> {
+                ledgerEntryPort.forEachEntryOfAccount(accountNumber, entry -> {
+                    try {
+                        writer.write(entry);
+                        if (++count[0] % FLUSH_INTERVAL == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        // 클라이언트 연결 끊김: 커서 순회를 중단시키기 위해 비검사 예외로 전달
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            log.info("원장 내보내기 중단 - accountNumber: {}, 기록: {}", accountNumber, count[0]);
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.info("원장 내보내기 완료 - accountNumber: {}, format: {}, 기록: {}", accountNumber, format, count[0]);
+        return count[0];
+    }
+}
@@ -0,0 +1,181 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerExportFormat;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 원장 엔트리 행 단위 출력기
+ * <p>
+ * 고정 크기 버퍼에만 쓰고 버퍼가 차면 바로 내보냅니다. 엔트리 객체나 문자열 전체를 모아두지 않습니다.
+ * </p>
+ */
+abstract class LedgerExportWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    protected final Writer writer;
+
+    private LedgerExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    static LedgerExportWriter of(LedgerExportFormat format, OutputStream out) {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(out);
+            case CSV -> new CsvWriter(out);
+        };
+    }
+
+    void writeHeader() throws IOException {
+    }
+
+    abstract void write(LedgerEntry entry) throws IOException;
+
+    /**
+     * 버퍼 내용을 응답으로 내보냄 (스트림은 닫지 않음)
+     */
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    // ========================================
+    // NDJSON
+    // ========================================
+
+    private static final class NdjsonWriter extends LedgerExportWriter {
+
+        private NdjsonWriter(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        void write(LedgerEntry entry) throws IOException {
+            writer.write("{\"entryId\":");
+            string(entry.getEntryId().value());
+            writer.write(",\"transactionId\":");
+            string(entry.getTransactionId());
+            writer.write(",\"accountNumber\":");
+            string(entry.getAccountNumber());
+            writer.write(",\"sequence\":");
+            writer.write(Long.toString(entry.getSequence()));
+            writer.write(",\"entryType\":\"");
+            writer.write(entry.getEntryType().name());
+            writer.write("\",\"amount\":");
+            writer.write(Long.toString(entry.getAmount().toLong()));
+            writer.write(",\"balanceAfter\":");
+            writer.write(Long.toString(entry.getBalanceAfter().toLong()));
+            writer.write(",\"description\":");
+            string(entry.getDescription());
+            writer.write(",\"category\":\"");
+            writer.write(entry.getCategory().name());
+            writer.write("\",\"referenceType\":");
+            string(entry.getReferenceType());
+            writer.write(",\"referenceId\":");
+            string(entry.getReferenceId());
+            writer.write(",\"createdAt\":\"");
+            writer.write(entry.getCreatedAt().toString());
+            writer.write("\"}\n");
+        }
+
+        private void string(String value) throws IOException {
+            if (value == null) {
+                writer.write("null");
+                return;
+            }
+            writer.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> writer.write("\\\"");
+                    case '\\' -> writer.write("\\\\");
+                    case '\n' -> writer.write("\\n");
+                    case '\r' -> writer.write("\\r");
+                    case '\t' -> writer.write("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            writer.write(String.format("\\u%04x", (int) c));
+                        } else {
+                            writer.write(c);
+                        }
+                    }
+                }
+            }
+            writer.write('"');
+        }
+    }
+
+    // ========================================
+    // CSV
+    // ========================================
+
+    private static final class CsvWriter extends LedgerExportWriter {
+
+        private static final String HEADER = "entryId,transactionId,accountNumber,sequence,entryType,amount,"
+                + "balanceAfter,description,category,referenceType,referenceId,createdAt\r\n";
+
+        private CsvWriter(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        void writeHeader() throws IOException {
+            writer.write(HEADER);
+        }
+
+        @Override
+        void write(LedgerEntry entry) throws IOException {
+            field(entry.getEntryId().value());
+            writer.write(',');
+            field(entry.getTransactionId());
+            writer.write(',');
+            field(entry.getAccountNumber());
+            writer.write(',');
+            writer.write(Long.toString(entry.getSequence()));
+            writer.write(',');
+            writer.write(entry.getEntryType().name());
+            writer.write(',');
+            writer.write(Long.toString(entry.getAmount().toLong()));
+            writer.write(',');
+            writer.write(Long.toString(entry.getBalanceAfter().toLong()));
+            writer.write(',');
+            field(entry.getDescription());
+            writer.write(',');
+            writer.write(entry.getCategory().name());
+            writer.write(',');
+            field(entry.getReferenceType());
+            writer.write(',');
+            field(entry.getReferenceId());
+            writer.write(',');
+            writer.write(entry.getCreatedAt().toString());
+            writer.write("\r\n");
+        }
+
+        /**
+         * 쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감싸고 내부 따옴표는 두 번 씀
+         */
+        private void field(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
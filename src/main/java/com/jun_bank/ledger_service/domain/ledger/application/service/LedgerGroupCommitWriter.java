@@ -0,0 +1,287 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerBatchResult;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.AppendLedgerEntryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.RecordLedgerEntryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerMetricsPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원장 그룹 커밋 Writer (단일 Writer)
+ * <p>
+ * 모든 수신 경로의 기록 요청을 큐에 모으고, 전용 스레드 하나가
+ * N건 또는 M밀리초 중 먼저 도달한 시점에 한 트랜잭션으로 커밋합니다.
+ * PostgreSQL의 WAL flush(fsync)가 요청마다가 아닌 그룹마다 한 번만 발생합니다.
+ * </p>
+ *
+ * <h3>동작:</h3>
+ * <ol>
+ *   <li>첫 요청을 받은 시점부터 max-delay-ms 동안, 또는 max-entries건이 찰 때까지 수집</li>
+ *   <li>{@link RecordLedgerEntryUseCase#recordBatch}로 일괄 기록 (커밋 = 영구 저장)</li>
+ *   <li>요청별 Future를 결과(기록/중복/실패)로 완료</li>
+ * </ol>
+ *
+ * <h3>백프레셔:</h3>
+ * <p>
+ * 큐가 가득 차면 {@link #append}가 블로킹됩니다.
+ * 종료 시 큐에 남은 요청은 모두 커밋한 뒤 스레드를 멈추고, 그 뒤에 들어온 요청은 즉시 실패로 완료합니다
+ * (어떤 요청의 Future도 미완료로 남지 않음).
+ * </p>
+ */
+@Slf4j
+@Component
+public class LedgerGroupCommitWriter implements AppendLedgerEntryUseCase, SmartLifecycle {
+
+    private static final long IDLE_POLL_MS = 100L;
+
+    private final RecordLedgerEntryUseCase recordLedgerEntryUseCase;
+    private final LedgerMetricsPort ledgerMetricsPort;
+    private final BlockingQueue<PendingAppend> queue;
+    private final int maxEntries;
+    private final long maxDelayNanos;
+    private final Duration waitTimeout;
+
+    private volatile boolean running;
+    private volatile boolean writerStopped;
+    private Thread writerThread;
+
+    public LedgerGroupCommitWriter(RecordLedgerEntryUseCase recordLedgerEntryUseCase,
+                                   LedgerMetricsPort ledgerMetricsPort,
+                                   @Value("${ledger.append.group-commit.max-entries:256}") int maxEntries,
+                                   @Value("${ledger.append.group-commit.max-delay-ms:5}") long maxDelayMs,
+                                   @Value("${ledger.append.group-commit.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${ledger.append.group-commit.wait-timeout-ms:30000}") long waitTimeoutMs) {
+        this.recordLedgerEntryUseCase = recordLedgerEntryUseCase;
+        this.ledgerMetricsPort = ledgerMetricsPort;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxEntries = maxEntries;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+    }
+
+    @Override
+    public CompletableFuture<List<LedgerEntry>> append(List<RecordLedgerEntryCommand> commands) {
+        CompletableFuture<List<LedgerEntry>> future = new CompletableFuture<>();
+        if (commands.isEmpty()) {
+            future.completeExceptionally(LedgerException.requiredFieldMissing("transactionId"));
+            return future;
+        }
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("LedgerGroupCommitWriter is not running"));
+            return future;
+        }
+
+        PendingAppend pending = new PendingAppend(commands, future);
+        try {
+            // 큐가 가득 찬 채로 Writer가 멈추면 영원히 막히지 않도록 주기적으로 종료 여부 확인
+            while (!queue.offer(pending, IDLE_POLL_MS, TimeUnit.MILLISECONDS)) {
+                if (writerStopped) {
+                    future.completeExceptionally(stoppedException());
+                    return future;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        // running 확인 이후 Writer가 남은 요청 정리까지 마쳤다면 방금 넣은 요청은 아무도 꺼내지 않으므로 직접 실패 처리
+        if (writerStopped) {
+            failQueued();
+        }
+        return future;
+    }
+
+    /**
+     * 거래 기록 요청 후 커밋까지 대기 (설정된 대기 시간, ledger.append.group-commit.wait-timeout-ms)
+     */
+    @Override
+    public List<LedgerEntry> appendAndWait(List<RecordLedgerEntryCommand> commands) {
+        return appendAndWait(commands, waitTimeout);
+    }
+
+    // ========================================
+    // Writer 스레드
+    // ========================================
+
+    private void runLoop() {
+        List<PendingAppend> group = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            PendingAppend first;
+            try {
+                first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // stop()의 인터럽트: running=false 이므로 남은 요청을 비운 뒤 종료
+                continue;
+            }
+            if (first == null) {
+                continue;
+            }
+
+            try {
+                collectGroup(first, group);
+                flush(group);
+            } catch (RuntimeException e) {
+                log.error("그룹 커밋 처리 중 예외", e);
+                group.forEach(pending -> pending.future().completeExceptionally(e));
+            } finally {
+                group.clear();
+            }
+        }
+
+        // 정리 전에 표시: 이후 큐에 들어온 요청은 append 호출자가 직접 실패 처리
+        writerStopped = true;
+        failQueued();
+    }
+
+    private void failQueued() {
+        PendingAppend rejected;
+        while ((rejected = queue.poll()) != null) {
+            rejected.future().completeExceptionally(stoppedException());
+        }
+    }
+
+    private static IllegalStateException stoppedException() {
+        return new IllegalStateException("LedgerGroupCommitWriter is stopped");
+    }
+
+    private void collectGroup(PendingAppend first, List<PendingAppend> group) {
+        group.add(first);
+        int entries = first.commands().size();
+        long deadline = System.nanoTime() + maxDelayNanos;
+
+        while (entries < maxEntries) {
+            PendingAppend next = queue.poll();
+            if (next == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    break;
+                }
+                try {
+                    next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                if (next == null) {
+                    break;
+                }
+            }
+            group.add(next);
+            entries += next.commands().size();
+        }
+    }
+
+    private void flush(List<PendingAppend> group) {
+        List<RecordLedgerEntryCommand> commands = new ArrayList<>();
+        List<PendingAppend> submitted = new ArrayList<>(group.size());
+        Set<String> transactionIds = new HashSet<>();
+
+        for (PendingAppend pending : group) {
+            // 같은 그룹 안의 동일 거래 재요청은 먼저 온 요청만 기록
+            if (!transactionIds.add(pending.transactionId())) {
+                pending.future().completeExceptionally(LedgerException.duplicateTransaction(pending.transactionId()));
+                continue;
+            }
+            commands.addAll(pending.commands());
+            submitted.add(pending);
+        }
+
+        ledgerMetricsPort.recordGroupCommit(submitted.size());
+        LedgerBatchResult result;
+        try {
+            result = recordLedgerEntryUseCase.recordBatch(commands);
+        } catch (RuntimeException e) {
+            log.error("그룹 커밋 실패 - 요청 수: {}, 원인: {}", submitted.size(), e.getMessage());
+            submitted.forEach(pending -> pending.future().completeExceptionally(e));
+            return;
+        }
+
+        Map<String, List<LedgerEntry>> recordedByTransactionId = new HashMap<>();
+        for (LedgerEntry entry : result.recorded()) {
+            recordedByTransactionId.computeIfAbsent(entry.getTransactionId(), key -> new ArrayList<>(2)).add(entry);
+        }
+
+        for (PendingAppend pending : submitted) {
+            String transactionId = pending.transactionId();
+            RuntimeException failure = result.failures().get(transactionId);
+            if (failure != null) {
+                pending.future().completeExceptionally(failure);
+            } else if (result.duplicateTransactionIds().contains(transactionId)) {
+                pending.future().completeExceptionally(LedgerException.duplicateTransaction(transactionId));
+            } else {
+                pending.future().complete(recordedByTransactionId.getOrDefault(transactionId, List.of()));
+            }
+        }
+    }
+
+    // ========================================
+    // SmartLifecycle
+    // ========================================
+
+    @Override
+    public void start() {
+        writerStopped = false;
+        running = true;
+        writerThread = new Thread(this::runLoop, "ledger-group-commit");
+        writerThread.start();
+        log.info("원장 그룹 커밋 Writer 시작 - maxEntries: {}, maxDelayMs: {}",
+                maxEntries, TimeUnit.NANOSECONDS.toMillis(maxDelayNanos));
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("원장 그룹 커밋 Writer 종료 - 미처리 요청: {}", queue.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Kafka 리스너 컨테이너, 웹 서버보다 먼저 시작하고 나중에 종료
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * 대기 중인 기록 요청
+     */
+    private record PendingAppend(List<RecordLedgerEntryCommand> commands,
+                                 CompletableFuture<List<LedgerEntry>> future) {
+
+        String transactionId() {
+            return commands.get(0).transactionId();
+        }
+    }
+}
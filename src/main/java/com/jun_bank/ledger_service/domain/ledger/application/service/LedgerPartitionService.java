@@ -0,0 +1,52 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerPartitionPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+
+/**
+ * 원장 엔트리 월별 파티션 관리 서비스
+ * <p>
+ * 이번 달부터 months-ahead개월 뒤까지의 파티션을 미리 생성합니다.
+ * 파티션이 없는 달의 엔트리는 INSERT가 실패하므로, 스케줄러가 여러 번 실행될 여유를 두고 앞서 만듭니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "ledger.partition.enabled", havingValue = "true")
+public class LedgerPartitionService {
+
+    private final LedgerPartitionPort ledgerPartitionPort;
+    private final int monthsAhead;
+
+    public LedgerPartitionService(LedgerPartitionPort ledgerPartitionPort,
+                                  @Value("${ledger.partition.months-ahead:3}") int monthsAhead) {
+        this.ledgerPartitionPort = ledgerPartitionPort;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * 이번 달 ~ months-ahead개월 뒤 파티션 생성
+     *
+     * @return 새로 생성한 파티션 수
+     */
+    public int ensurePartitions() {
+        return ensurePartitions(YearMonth.now());
+    }
+
+    int ensurePartitions(YearMonth current) {
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (ledgerPartitionPort.createMonthlyPartitionIfAbsent(month)) {
+                log.info("원장 파티션 생성 - month: {}", month);
+                created++;
+            }
+        }
+        return created;
+    }
+}
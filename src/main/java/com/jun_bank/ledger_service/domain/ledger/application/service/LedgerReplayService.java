@@ -0,0 +1,422 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountActivity;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountSummary;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BalanceSnapshot;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryDailyRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.JobCheckpoint;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayProgress;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayProjection;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayRequest;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayStatus;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.ReplayUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.JobCheckpointPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.ReplayShadowPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 원장 재생(replay) 서비스
+ * <p>
+ * 원장 엔트리를 처음부터 다시 읽어 파생 상태({@link ReplayProjection})를 섀도 테이블에 재구축하고,
+ * 끝나면 운영 테이블과 한 트랜잭션으로 교체합니다. 재생 중에도 운영 테이블은 그대로 사용됩니다.
+ * </p>
+ *
+ * <h3>병렬 처리 (계좌번호 기준 분할):</h3>
+ * <ol>
+ *   <li>원장에 기록이 있는 계좌를 계좌번호 순 chunkSize개씩 나눔 (keyset)</li>
+ *   <li>청크마다 Worker 하나가 계좌번호 구간의 엔트리를 (계좌번호, 순번) 순으로 스트리밍하며 계좌별로 누적</li>
+ *   <li>청크가 끝나면 결과를 섀도 테이블에 기록 (멱등: 같은 청크를 다시 재생해도 결과가 같음)</li>
+ * </ol>
+ * <p>
+ * 한 계좌의 엔트리는 항상 한 Worker가 순서대로 처리하므로 Worker 간 조정이 필요 없습니다.
+ * 청크는 parallelism개 스레드에서 병렬로 재생하며, 진행 중인 청크는 최대 parallelism × 2개입니다.
+ * </p>
+ *
+ * <h3>재시작 (resumable):</h3>
+ * <p>
+ * 앞선 청크가 모두 끝난 지점까지만 체크포인트(마지막 계좌번호)를 저장합니다. 같은 프로젝션 조합으로 다시 요청하면
+ * 이전 섀도 테이블을 유지한 채 끝나지 않은 첫 청크부터 이어갑니다.
+ * 교체와 체크포인트 완료는 한 트랜잭션이므로, 교체 후 재요청하면 새 재생으로 시작합니다.
+ * </p>
+ *
+ * <h3>재생 중 기록:</h3>
+ * <p>
+ * 재생 시작(기록 지연 여유 catch-up-lag 차감) 이후 운영 테이블에 기록된 행은 교체 직전 섀도 테이블에 합칩니다.
+ * 재생이 이미 지나간 계좌에 새로 기록된 엔트리는 재생 결과에 없지만, 스냅샷은 다음 증분 실행이 이어서 만들고
+ * 최근 기록 시각은 합치기로 반영됩니다.
+ * 계좌 요약과 카테고리 일 집계는 합치기 때 재생 결과의 마지막 순번 이후 엔트리를 원장에서 다시 집계해 더합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class LedgerReplayService implements ReplayUseCase {
+
+    private static final int MAX_LOGGED_BREAKS = 100;
+
+    private final LedgerEntryPort ledgerEntryPort;
+    private final ReplayShadowPort replayShadowPort;
+    private final JobCheckpointPort jobCheckpointPort;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor taskExecutor;
+    private final long snapshotInterval;
+    private final long catchUpLagSeconds;
+
+    private final ConcurrentMap<String, JobState> jobs = new ConcurrentHashMap<>();
+
+    public LedgerReplayService(LedgerEntryPort ledgerEntryPort,
+                               ReplayShadowPort replayShadowPort,
+                               JobCheckpointPort jobCheckpointPort,
+                               PlatformTransactionManager transactionManager,
+                               @Qualifier("taskExecutor") Executor taskExecutor,
+                               @Value("${ledger.snapshot.min-entries:1000}") long snapshotInterval,
+                               @Value("${ledger.replay.catch-up-lag-seconds:300}") long catchUpLagSeconds) {
+        this.ledgerEntryPort = ledgerEntryPort;
+        this.replayShadowPort = replayShadowPort;
+        this.jobCheckpointPort = jobCheckpointPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.snapshotInterval = snapshotInterval;
+        this.catchUpLagSeconds = catchUpLagSeconds;
+    }
+
+    @Override
+    public ReplayProgress start(ReplayRequest request) {
+        JobState created = new JobState(request);
+        JobState state = jobs.compute(request.jobName(), (jobName, current) ->
+                current != null && (current.status == ReplayStatus.RUNNING || current.status == ReplayStatus.SWAPPING)
+                        ? current : created);
+        if (state != created) {
+            return state.snapshot();
+        }
+
+        try {
+            taskExecutor.execute(() -> run(state));
+        } catch (RejectedExecutionException e) {
+            state.fail(e);
+        }
+        return state.snapshot();
+    }
+
+    @Override
+    public Optional<ReplayProgress> getProgress(String jobName) {
+        return Optional.ofNullable(jobs.get(jobName)).map(JobState::snapshot);
+    }
+
+    @Override
+    public List<ReplayProgress> getAllProgress() {
+        return jobs.values().stream().map(JobState::snapshot).toList();
+    }
+
+    // ========================================
+    // 작업 실행
+    // ========================================
+
+    private void run(JobState state) {
+        ReplayRequest request = state.request;
+        String jobName = request.jobName();
+        try {
+            JobCheckpoint checkpoint = jobCheckpointPort.load(jobName);
+            boolean resume = checkpoint.isRunning();
+            if (resume) {
+                log.info("원장 재생 재개 - job: {}, cursor: {}, 시작 시각: {}",
+                        jobName, checkpoint.cursor(), checkpoint.runStartedAt());
+            } else {
+                checkpoint = checkpoint.start(LocalDateTime.now());
+                jobCheckpointPort.save(checkpoint);
+                log.info("원장 재생 시작 - job: {}, parallelism: {}, chunkSize: {}",
+                        jobName, request.parallelism(), request.chunkSize());
+            }
+            for (ReplayProjection projection : request.projections()) {
+                replayShadowPort.prepare(projection, resume);
+            }
+            state.cursor = checkpoint.cursor();
+
+            checkpoint = replayChunks(state, checkpoint);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("원장 재생 중단 - 마지막 체크포인트: " + checkpoint.cursor());
+            }
+
+            state.status = ReplayStatus.SWAPPING;
+            JobCheckpoint completed = checkpoint.complete(checkpoint.runStartedAt());
+            LocalDateTime since = checkpoint.runStartedAt().minusSeconds(catchUpLagSeconds);
+            transactionTemplate.executeWithoutResult(status -> {
+                replayShadowPort.swap(request.projections(), since);
+                jobCheckpointPort.save(completed);
+            });
+            state.complete();
+            log.info("원장 재생 완료 - job: {}, 계좌: {}, 엔트리: {}, 잔액 사슬 끊김: {}, entries/s: {}",
+                    jobName, state.accounts.get(), state.entries.get(), state.balanceBreaks.get(),
+                    state.entriesPerSecond());
+        } catch (RuntimeException e) {
+            state.fail(e);
+            log.error("원장 재생 실패 - job: {}, 마지막 체크포인트: {}, 원인: {}",
+                    jobName, state.cursor, e.getMessage(), e);
+        }
+    }
+
+    private JobCheckpoint replayChunks(JobState state, JobCheckpoint checkpoint) {
+        ReplayRequest request = state.request;
+        Deque<ChunkTask> inFlight = new ArrayDeque<>();
+        ExecutorService executor = Executors.newFixedThreadPool(request.parallelism(), workerThreadFactory());
+        try {
+            String cursor = checkpoint.cursor();
+            while (!Thread.currentThread().isInterrupted()) {
+                List<AccountActivity> page = ledgerEntryPort.findActiveAccounts(null, cursor, request.chunkSize());
+                if (page.isEmpty()) {
+                    break;
+                }
+                String first = page.get(0).accountNumber();
+                String last = page.get(page.size() - 1).accountNumber();
+                inFlight.addLast(new ChunkTask(last,
+                        executor.submit(() -> replayChunk(first, last, request, state))));
+                cursor = last;
+
+                // 앞선 청크부터 완료된 만큼 체크포인트 전진, 진행 중 청크가 상한이면 가장 오래된 청크를 기다림
+                while (!inFlight.isEmpty()
+                        && (inFlight.peekFirst().future().isDone() || inFlight.size() >= request.parallelism() * 2)) {
+                    checkpoint = advance(state, checkpoint, inFlight.pollFirst());
+                }
+                if (page.size() < request.chunkSize()) {
+                    break;
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                checkpoint = advance(state, checkpoint, inFlight.pollFirst());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return checkpoint;
+    }
+
+    private JobCheckpoint advance(JobState state, JobCheckpoint checkpoint, ChunkTask done) {
+        await(done);
+        JobCheckpoint advanced = checkpoint.advance(done.lastAccountNumber());
+        jobCheckpointPort.save(advanced);
+        state.cursor = done.lastAccountNumber();
+        log.debug("원장 재생 진행 - job: {}, 계좌: {}, 엔트리: {}, entries/s: {}, cursor: {}",
+                state.request.jobName(), state.accounts.get(), state.entries.get(),
+                state.entriesPerSecond(), state.cursor);
+        return advanced;
+    }
+
+    /**
+     * 청크 1개 재생: 계좌번호 구간 스트리밍 1회 + 섀도 테이블 기록
+     * <p>
+     * 스트리밍은 읽기 전용 트랜잭션(서버 측 커서)에서 진행되므로 결과는 모아 두었다가 스트리밍이 끝난 뒤 기록합니다.
+     * </p>
+     */
+    void replayChunk(String fromAccountNumber, String toAccountNumber, ReplayRequest request, JobState state) {
+        ChunkFold fold = new ChunkFold(request, state, LocalDateTime.now());
+        ledgerEntryPort.forEachEntryInAccountRange(fromAccountNumber, toAccountNumber, fold::accept);
+        fold.finishAccount();
+
+        if (request.projections().contains(ReplayProjection.BALANCE_SNAPSHOTS)) {
+            replayShadowPort.writeBalanceSnapshots(fold.snapshots);
+        }
+        if (request.projections().contains(ReplayProjection.DIRTY_ACCOUNTS)) {
+            replayShadowPort.writeAccountLastEntries(fold.lastEntryAts);
+        }
+        if (request.projections().contains(ReplayProjection.ACCOUNT_SUMMARIES)) {
+            replayShadowPort.writeAccountSummaries(fold.summaries);
+        }
+        if (request.projections().contains(ReplayProjection.CATEGORY_ROLLUPS)) {
+            replayShadowPort.writeCategoryDailyRollups(fold.dailyRollups);
+        }
+        state.accounts.addAndGet(fold.accounts);
+        state.entries.addAndGet(fold.entries);
+    }
+
+    private static void await(ChunkTask task) {
+        try {
+            task.future().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("원장 재생 중단 - 청크 끝 계좌: " + task.lastAccountNumber(), e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("원장 재생 청크 실패 - 청크 끝 계좌: " + task.lastAccountNumber(),
+                    e.getCause());
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "ledger-replay-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 청크 재생 누적기 (Worker 스레드 1개 전용)
+     * <p>
+     * 엔트리는 (계좌번호, 순번) 순으로 들어오므로 계좌번호가 바뀌면 이전 계좌가 끝난 것입니다.
+     * </p>
+     */
+    private final class ChunkFold {
+
+        private final JobState state;
+        private final boolean snapshotsEnabled;
+        private final boolean rollupsEnabled;
+        private final LocalDateTime createdAt;
+        private final List<BalanceSnapshot> snapshots = new ArrayList<>();
+        private final TreeMap<String, LocalDateTime> lastEntryAts = new TreeMap<>();
+        private final List<AccountSummary> summaries = new ArrayList<>();
+        private final List<CategoryDailyRollup> dailyRollups = new ArrayList<>();
+        private final TreeMap<CategoryDailyRollup, CategoryDailyRollup> accountRollups =
+                new TreeMap<>(CategoryDailyRollup.KEY_ORDER);
+
+        private String accountNumber;
+        private long balance;
+        private long storedBalance;
+        private long entryCount;
+        private long lastSequence;
+        private String lastTransactionId;
+        private LocalDateTime firstEntryAt;
+        private LocalDateTime lastEntryAt;
+        private long accounts;
+        private long entries;
+
+        private ChunkFold(ReplayRequest request, JobState state, LocalDateTime createdAt) {
+            this.state = state;
+            this.snapshotsEnabled = request.projections().contains(ReplayProjection.BALANCE_SNAPSHOTS);
+            this.rollupsEnabled = request.projections().contains(ReplayProjection.CATEGORY_ROLLUPS);
+            this.createdAt = createdAt;
+        }
+
+        void accept(LedgerEntry entry) {
+            if (!entry.getAccountNumber().equals(accountNumber)) {
+                finishAccount();
+                accountNumber = entry.getAccountNumber();
+                balance = 0L;
+                storedBalance = 0L;
+                entryCount = 0L;
+                lastSequence = 0L;
+                lastTransactionId = null;
+                firstEntryAt = null;
+                lastEntryAt = null;
+            }
+
+            long amount = entry.getAmount().toLong();
+            long delta = entry.getEntryType().increasesBalance() ? amount : -amount;
+            balance = Money.addExact(balance, delta);
+            entryCount++;
+            entries++;
+            if (lastEntryAt == null || entry.getCreatedAt().isAfter(lastEntryAt)) {
+                lastEntryAt = entry.getCreatedAt();
+            }
+            if (firstEntryAt == null || entry.getCreatedAt().isBefore(firstEntryAt)) {
+                firstEntryAt = entry.getCreatedAt();
+            }
+            lastSequence = entry.getSequence();
+            lastTransactionId = entry.getTransactionId();
+            if (rollupsEnabled) {
+                CategoryDailyRollup rollup = CategoryDailyRollup.of(entry);
+                accountRollups.merge(rollup, rollup, CategoryDailyRollup::plus);
+            }
+
+            // 잔액 사슬 확인: 직전 엔트리의 balanceAfter + 금액 = 이 엔트리의 balanceAfter (끊긴 지점만 집계)
+            long expected = Money.addExact(storedBalance, delta);
+            storedBalance = entry.getBalanceAfter().toLong();
+            if (storedBalance != expected && state.balanceBreaks.incrementAndGet() <= MAX_LOGGED_BREAKS) {
+                log.warn("원장 재생 잔액 사슬 끊김 - accountNumber: {}, sequence: {}, 저장: {}, 기대: {}",
+                        accountNumber, entry.getSequence(), storedBalance, expected);
+            }
+            if (snapshotsEnabled && entryCount % snapshotInterval == 0) {
+                snapshots.add(new BalanceSnapshot(accountNumber, entry.getSequence(), balance, entryCount,
+                        entry.getEntryId().value(), entry.getCreatedAt(), createdAt));
+            }
+        }
+
+        void finishAccount() {
+            if (accountNumber == null) {
+                return;
+            }
+            lastEntryAts.put(accountNumber, lastEntryAt);
+            // 현재 잔액은 실시간 기록과 같이 마지막 엔트리의 balanceAfter
+            summaries.add(new AccountSummary(accountNumber, storedBalance, entryCount, lastSequence,
+                    firstEntryAt, lastEntryAt, lastTransactionId));
+            // 계좌별로 (카테고리, 일) 순 정렬 후 추가하므로 청크 전체가 키 순
+            dailyRollups.addAll(accountRollups.values());
+            accountRollups.clear();
+            accounts++;
+            accountNumber = null;
+        }
+    }
+
+    private record ChunkTask(String lastAccountNumber, Future<?> future) {
+    }
+
+    /**
+     * 작업 진행 상태 (Worker 스레드가 함께 갱신, 조회는 스냅샷)
+     */
+    static final class JobState {
+
+        private final ReplayRequest request;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong accounts = new AtomicLong();
+        private final AtomicLong entries = new AtomicLong();
+        private final AtomicLong balanceBreaks = new AtomicLong();
+
+        private volatile ReplayStatus status = ReplayStatus.RUNNING;
+        private volatile String cursor;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private JobState(ReplayRequest request) {
+            this.request = request;
+        }
+
+        void complete() {
+            finishedAt = LocalDateTime.now();
+            status = ReplayStatus.COMPLETED;
+        }
+
+        void fail(Exception cause) {
+            finishedAt = LocalDateTime.now();
+            error = cause.getMessage();
+            status = ReplayStatus.FAILED;
+        }
+
+        long entriesPerSecond() {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+            return elapsedMillis > 0 ? entries.get() * 1000 / elapsedMillis : 0;
+        }
+
+        ReplayProgress snapshot() {
+            return new ReplayProgress(request.jobName(), status, request.projections(), request.parallelism(),
+                    accounts.get(), entries.get(), balanceBreaks.get(), cursor, entriesPerSecond(),
+                    startedAt, finishedAt, error);
+        }
+    }
+}
@@ -49,6 +49,21 @@ public enum LedgerErrorCode implements ErrorCode {
      */
     INVALID_ACCOUNT_NUMBER("LDG_005", "유효하지 않은 계좌번호입니다", 400),
 
+    /**
+     * 유효하지 않은 페이지 요청 (페이지 번호/크기/커서)
+     */
+    INVALID_PAGE_REQUEST("LDG_006", "유효하지 않은 페이지 요청입니다", 400),
+
+    /**
+     * 유효하지 않은 조회 기간 (시작일 > 종료일, 최대 기간 초과)
+     */
+    INVALID_DATE_RANGE("LDG_007", "유효하지 않은 조회 기간입니다", 400),
+
+    /**
+     * 계좌의 마지막 기록보다 이른 시각의 거래 (과거 이력 적재)
+     */
+    ENTRY_TIME_OUT_OF_ORDER("LDG_008", "계좌의 마지막 기록보다 이른 시각의 거래입니다", 400),
+
     // ========================================
     // 조회 오류 (404 Not Found)
     // ========================================
@@ -104,7 +119,12 @@ public enum LedgerErrorCode implements ErrorCode {
     /**
      * 중복 거래 감지
      */
-    DUPLICATE_TRANSACTION("LDG_032", "중복된 거래가 감지되었습니다", 500);
+    DUPLICATE_TRANSACTION("LDG_032", "중복된 거래가 감지되었습니다", 500),
+
+    /**
+     * 해시 체인 불일치 (원장 변조 의심)
+     */
+    HASH_CHAIN_BROKEN("LDG_033", "원장 해시 체인이 일치하지 않습니다", 500);
 
     private final String code;
     private final String message;
@@ -3,6 +3,8 @@ package com.jun_bank.ledger_service.domain.ledger.domain.exception;
 import com.jun_bank.common_lib.exception.BusinessException;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * 원장 도메인 예외
@@ -48,6 +50,26 @@ public class LedgerException extends BusinessException {
                 "accountNumber=" + accountNumber);
     }
 
+    public static LedgerException invalidPageCursor(String cursor) {
+        return new LedgerException(LedgerErrorCode.INVALID_PAGE_REQUEST, "cursor=" + cursor);
+    }
+
+    public static LedgerException invalidPageRequest(String fieldName, int value) {
+        return new LedgerException(LedgerErrorCode.INVALID_PAGE_REQUEST, fieldName + "=" + value);
+    }
+
+    public static LedgerException invalidDateRange(LocalDate from, LocalDate to) {
+        return new LedgerException(LedgerErrorCode.INVALID_DATE_RANGE, "from=" + from + ", to=" + to);
+    }
+
+    public static LedgerException entryTimeOutOfOrder(String accountNumber,
+                                                      LocalDateTime occurredAt,
+                                                      LocalDateTime lastEntryAt) {
+        return new LedgerException(LedgerErrorCode.ENTRY_TIME_OUT_OF_ORDER,
+                String.format("accountNumber=%s, occurredAt=%s, lastEntryAt=%s",
+                        accountNumber, occurredAt, lastEntryAt));
+    }
+
     // ========================================
     // 조회 관련 팩토리 메서드
     // ========================================
@@ -108,4 +130,9 @@ public class LedgerException extends BusinessException {
         return new LedgerException(LedgerErrorCode.DUPLICATE_TRANSACTION,
                 "transactionId=" + transactionId);
     }
+
+    public static LedgerException hashChainBroken(String accountNumber, long sequence, String reason) {
+        return new LedgerException(LedgerErrorCode.HASH_CHAIN_BROKEN,
+                String.format("accountNumber=%s, sequence=%d, reason=%s", accountNumber, sequence, reason));
+    }
 }
\ No newline at end of file
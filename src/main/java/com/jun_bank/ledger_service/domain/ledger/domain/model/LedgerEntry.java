@@ -6,6 +6,7 @@ import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * 원장 엔트리 도메인 모델 (Immutable)
@@ -26,6 +27,12 @@ import java.time.LocalDateTime;
  * transactionId로 그룹화하여 차변 합계 = 대변 합계 검증 가능.
  * </p>
  *
+ * <h3>해시 체인:</h3>
+ * <p>
+ * 신규 엔트리는 필드와 같은 계좌 직전 엔트리의 다이제스트로 entryHash를 계산합니다 ({@link LedgerEntryDigest}).
+ * 과거 엔트리가 수정되면 이후 체인이 모두 어긋나므로 변조를 감지할 수 있습니다.
+ * </p>
+ *
  * <h3>사용 예:</h3>
  * <pre>{@code
  * // A → B 50,000원 이체
@@ -75,6 +82,14 @@ public class LedgerEntry {
      */
     private String accountNumber;
 
+    /**
+     * 계좌 내 순번 (1부터 증가, 계좌별 기록 순서)
+     * <p>
+     * (accountNumber, sequence)는 유일하며, 동시 기록 시 잔액 분기를 막는 기준이 됩니다.
+     * </p>
+     */
+    private Long sequence;
+
     /**
      * 엔트리 유형 (DEBIT/CREDIT)
      */
@@ -111,10 +126,17 @@ public class LedgerEntry {
     private String referenceId;
 
     /**
-     * 생성 시간 (불변)
+     * 생성 시간 (불변, 마이크로초 단위)
      */
     private LocalDateTime createdAt;
 
+    /**
+     * 해시 체인 다이제스트 (필드 + 같은 계좌 직전 엔트리 다이제스트, 해시 도입 전 엔트리는 null)
+     *
+     * @see LedgerEntryDigest
+     */
+    private String entryHash;
+
     private LedgerEntry() {}
 
     // ========================================
@@ -193,6 +215,7 @@ public class LedgerEntry {
     public static class LedgerEntryCreateBuilder {
         private String transactionId;
         private String accountNumber;
+        private Long sequence;
         private EntryType entryType;
         private Money amount;
         private Money balanceAfter;
@@ -200,6 +223,8 @@ public class LedgerEntry {
         private TransactionCategory category;
         private String referenceType;
         private String referenceId;
+        private LocalDateTime createdAt;
+        private String previousHash;
 
         public LedgerEntryCreateBuilder transactionId(String transactionId) {
             this.transactionId = transactionId;
@@ -211,6 +236,11 @@ public class LedgerEntry {
             return this;
         }
 
+        public LedgerEntryCreateBuilder sequence(Long sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
         public LedgerEntryCreateBuilder entryType(EntryType entryType) {
             this.entryType = entryType;
             return this;
@@ -246,6 +276,22 @@ public class LedgerEntry {
             return this;
         }
 
+        /**
+         * 기록 시각 지정 (과거 이력 적재용, 생략하면 현재 시각)
+         */
+        public LedgerEntryCreateBuilder createdAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        /**
+         * 같은 계좌 직전 엔트리의 다이제스트 (첫 엔트리는 생략)
+         */
+        public LedgerEntryCreateBuilder previousHash(String previousHash) {
+            this.previousHash = previousHash;
+            return this;
+        }
+
         public LedgerEntry build() {
             // 필수 필드 검증
             if (transactionId == null || transactionId.isBlank()) {
@@ -270,6 +316,7 @@ public class LedgerEntry {
             LedgerEntry entry = new LedgerEntry();
             entry.transactionId = this.transactionId;
             entry.accountNumber = this.accountNumber;
+            entry.sequence = this.sequence;
             entry.entryType = this.entryType;
             entry.amount = this.amount;
             entry.balanceAfter = this.balanceAfter;
@@ -277,7 +324,10 @@ public class LedgerEntry {
             entry.category = this.category;
             entry.referenceType = this.referenceType;
             entry.referenceId = this.referenceId;
-            entry.createdAt = LocalDateTime.now();
+            // DB TIMESTAMP 정밀도에 맞춰 다이제스트와 저장값을 일치시킴
+            entry.createdAt = (this.createdAt != null ? this.createdAt : LocalDateTime.now())
+                    .truncatedTo(ChronoUnit.MICROS);
+            entry.entryHash = LedgerEntryDigest.compute(entry, previousHash);
 
             return entry;
         }
@@ -287,6 +337,7 @@ public class LedgerEntry {
         private LedgerEntryId entryId;
         private String transactionId;
         private String accountNumber;
+        private Long sequence;
         private EntryType entryType;
         private Money amount;
         private Money balanceAfter;
@@ -295,10 +346,12 @@ public class LedgerEntry {
         private String referenceType;
         private String referenceId;
         private LocalDateTime createdAt;
+        private String entryHash;
 
         public LedgerEntryRestoreBuilder entryId(LedgerEntryId entryId) { this.entryId = entryId; return this; }
         public LedgerEntryRestoreBuilder transactionId(String transactionId) { this.transactionId = transactionId; return this; }
         public LedgerEntryRestoreBuilder accountNumber(String accountNumber) { this.accountNumber = accountNumber; return this; }
+        public LedgerEntryRestoreBuilder sequence(Long sequence) { this.sequence = sequence; return this; }
         public LedgerEntryRestoreBuilder entryType(EntryType entryType) { this.entryType = entryType; return this; }
         public LedgerEntryRestoreBuilder amount(Money amount) { this.amount = amount; return this; }
         public LedgerEntryRestoreBuilder balanceAfter(Money balanceAfter) { this.balanceAfter = balanceAfter; return this; }
@@ -307,12 +360,14 @@ public class LedgerEntry {
         public LedgerEntryRestoreBuilder referenceType(String referenceType) { this.referenceType = referenceType; return this; }
         public LedgerEntryRestoreBuilder referenceId(String referenceId) { this.referenceId = referenceId; return this; }
         public LedgerEntryRestoreBuilder createdAt(LocalDateTime createdAt) { this.createdAt = createdAt; return this; }
+        public LedgerEntryRestoreBuilder entryHash(String entryHash) { this.entryHash = entryHash; return this; }
 
         public LedgerEntry build() {
             LedgerEntry entry = new LedgerEntry();
             entry.entryId = this.entryId;
             entry.transactionId = this.transactionId;
             entry.accountNumber = this.accountNumber;
+            entry.sequence = this.sequence;
             entry.entryType = this.entryType;
             entry.amount = this.amount;
             entry.balanceAfter = this.balanceAfter;
@@ -321,6 +376,7 @@ public class LedgerEntry {
             entry.referenceType = this.referenceType;
             entry.referenceId = this.referenceId;
             entry.createdAt = this.createdAt;
+            entry.entryHash = this.entryHash;
             return entry;
         }
     }
@@ -0,0 +1,115 @@
+package com.jun_bank.ledger_service.domain.ledger.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 원장 엔트리 해시 체인 다이제스트 (SHA-256)
+ * <p>
+ * 계좌별로 각 엔트리의 다이제스트에 직전 엔트리의 다이제스트를 포함합니다.
+ * 과거 엔트리 하나를 고치면 그 엔트리와 이후 모든 엔트리의 다이제스트가 달라지므로,
+ * 마지막으로 검증한 엔트리의 다이제스트만 기억하면 이후 엔트리만 확인해도 이력 전체의 무결성을 알 수 있습니다.
+ * </p>
+ *
+ * <h3>입력 (순서 고정, 필드마다 길이 접두):</h3>
+ * <p>
+ * 직전 다이제스트, 거래 ID, 계좌번호, 순번, 유형, 금액, 거래 후 잔액, 카테고리, 설명, 참조 타입, 참조 ID, 기록 시각(마이크로초).
+ * 엔트리 ID는 저장 시 할당되므로 제외합니다.
+ * </p>
+ */
+public final class LedgerEntryDigest {
+
+    /**
+     * 계좌 첫 엔트리(또는 해시 도입 전 엔트리 다음)의 직전 다이제스트
+     */
+    public static final String GENESIS = "";
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final MessageDigest PROTOTYPE = newDigest();
+
+    private LedgerEntryDigest() {
+    }
+
+    /**
+     * 엔트리 다이제스트 계산
+     *
+     * @param entry        엔트리 (기록 시각 확정 후)
+     * @param previousHash 같은 계좌 직전 엔트리의 다이제스트 (없으면 null 또는 {@link #GENESIS})
+     * @return 16진수 64자
+     */
+    public static String compute(LedgerEntry entry, String previousHash) {
+        MessageDigest digest = copy();
+        update(digest, previousHash != null ? previousHash : GENESIS);
+        update(digest, entry.getTransactionId());
+        update(digest, entry.getAccountNumber());
+        update(digest, entry.getSequence() != null ? entry.getSequence() : 0L);
+        update(digest, entry.getEntryType().name());
+        update(digest, entry.getAmount().toLong());
+        update(digest, entry.getBalanceAfter().toLong());
+        update(digest, entry.getCategory().name());
+        update(digest, entry.getDescription());
+        update(digest, entry.getReferenceType());
+        update(digest, entry.getReferenceId());
+        update(digest, entry.getCreatedAt());
+        return HEX.formatHex(digest.digest());
+    }
+
+    /**
+     * 저장된 다이제스트가 재계산 결과와 같은지 확인
+     */
+    public static boolean matches(LedgerEntry entry, String previousHash) {
+        return entry.getEntryHash() != null && entry.getEntryHash().equals(compute(entry, previousHash));
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            updateInt(digest, -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        updateInt(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void update(MessageDigest digest, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            digest.update((byte) (value >>> shift));
+        }
+    }
+
+    /**
+     * 기록 시각: 일 수 + 하루 중 마이크로초 (DB TIMESTAMP 정밀도)
+     */
+    private static void update(MessageDigest digest, LocalDateTime value) {
+        update(digest, value.toLocalDate().toEpochDay());
+        update(digest, value.toLocalTime().toNanoOfDay() / 1_000L);
+    }
+
+    private static void updateInt(MessageDigest digest, int value) {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            digest.update((byte) (value >>> shift));
+        }
+    }
+
+    /**
+     * 초기화된 인스턴스 복제 (getInstance의 공급자 조회 비용 절감, 스레드마다 새 인스턴스)
+     */
+    private static MessageDigest copy() {
+        try {
+            return (MessageDigest) PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            return newDigest();
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
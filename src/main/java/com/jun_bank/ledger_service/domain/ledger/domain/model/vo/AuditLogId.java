@@ -1,33 +1,62 @@
 package com.jun_bank.ledger_service.domain.ledger.domain.model.vo;
 
-import com.jun_bank.common_lib.util.UuidUtils;
 import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
 
+import java.util.UUID;
+
 /**
  * 감사 로그 식별자 VO (Value Object)
  * <p>
- * 감사 로그의 고유 식별자입니다.
+ * 감사 로그의 고유 식별자입니다. 내부 값은 시간 순 UUID(v7, {@link DomainIds#generate()})이며,
+ * DB에는 16바이트 UUID 컬럼으로 저장합니다.
  *
- * <h3>ID 형식:</h3>
- * <pre>AUD-xxxxxxxx (예: AUD-a1b2c3d4)</pre>
+ * <h3>ID 형식 (외부):</h3>
+ * <pre>AUD-xxxxxxxx-xxxx-7xxx-xxxx-xxxxxxxxxxxx</pre>
  *
- * @param value 감사 로그 ID 문자열 (AUD-xxxxxxxx 형식)
+ * @param uuid 감사 로그 UUID
  */
-public record AuditLogId(String value) {
+public record AuditLogId(UUID uuid) {
 
     public static final String PREFIX = "AUD";
 
     public AuditLogId {
-        if (!UuidUtils.isValidDomainId(value, PREFIX)) {
-            throw LedgerException.invalidAuditLogIdFormat(value);
+        if (uuid == null) {
+            throw LedgerException.invalidAuditLogIdFormat(null);
         }
     }
 
+    /**
+     * 외부 문자열(AUD-uuid) 해석
+     *
+     * @throws LedgerException 형식이 올바르지 않은 경우
+     */
     public static AuditLogId of(String value) {
-        return new AuditLogId(value);
+        UUID uuid = DomainIds.parse(PREFIX, value);
+        if (uuid == null) {
+            throw LedgerException.invalidAuditLogIdFormat(value);
+        }
+        return new AuditLogId(uuid);
+    }
+
+    public static AuditLogId of(UUID uuid) {
+        return new AuditLogId(uuid);
+    }
+
+    public static AuditLogId generate() {
+        return new AuditLogId(DomainIds.generate());
     }
 
+    /**
+     * 새 ID의 외부 문자열
+     */
     public static String generateId() {
-        return UuidUtils.generateDomainId(PREFIX);
+        return generate().value();
+    }
+
+    /**
+     * 외부 문자열 (AUD-uuid)
+     */
+    public String value() {
+        return DomainIds.format(PREFIX, uuid);
     }
-}
\ No newline at end of file
+}
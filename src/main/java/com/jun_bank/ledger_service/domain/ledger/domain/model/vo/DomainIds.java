@@ -0,0 +1,119 @@
+package com.jun_bank.ledger_service.domain.ledger.domain.model.vo;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 도메인 ID 생성/변환 (시간 순 UUID, {@code PREFIX-uuid} 문자열)
+ *
+ * <h3>생성 (UUIDv7, RFC 9562):</h3>
+ * <pre>
+ * | unix_ts_ms (48) | ver=7 (4) | seq (12) | var=10 (2) | random (62) |
+ * </pre>
+ * <p>
+ * 앞 48비트가 밀리초 시각이므로 새 ID는 항상 인덱스 오른쪽 끝에 추가됩니다 (랜덤 UUID처럼 페이지 중간 분할이 생기지 않음).
+ * 같은 밀리초 안에서는 12비트 순번을 올리고, 순번이 넘치면 다음 밀리초로 넘어가므로 한 JVM 안에서 단조 증가합니다.
+ * 추측 불가능성이 필요한 값이 아니므로 난수는 {@link ThreadLocalRandom}을 사용합니다.
+ * </p>
+ *
+ * <h3>문자열 형식:</h3>
+ * <p>
+ * 외부 형식은 기존과 같은 {@code PREFIX-xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx}이며,
+ * 정규식 없이 길이/구분자/소문자 16진수만 확인해 두 개의 long으로 바로 변환합니다 ({@link UUID#toString()}과 같은 표기만 허용).
+ * 버전은 확인하지 않으므로 기존 랜덤(v4) ID도 그대로 해석됩니다.
+ * </p>
+ */
+public final class DomainIds {
+
+    private static final int UUID_LENGTH = 36;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /**
+     * (밀리초 << 12) | 순번
+     */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private DomainIds() {
+    }
+
+    /**
+     * 시간 순 UUID (v7) 생성
+     */
+    public static UUID generate() {
+        long now = System.currentTimeMillis();
+        long next;
+        long last;
+        do {
+            last = LAST.get();
+            // 새 밀리초는 순번을 하위 절반 난수에서 시작 (다른 인스턴스와의 충돌 완화, 같은 밀리초 증가 여유 확보)
+            next = (last >>> SEQUENCE_BITS) < now
+                    ? (now << SEQUENCE_BITS) | ThreadLocalRandom.current().nextLong(SEQUENCE_MASK >>> 1)
+                    : last + 1;
+        } while (!LAST.compareAndSet(last, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long msb = (millis << 16) | 0x7000L | (next & SEQUENCE_MASK);
+        long lsb = (ThreadLocalRandom.current().nextLong() >>> 2) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * UUID → {@code PREFIX-uuid}
+     */
+    public static String format(String prefix, UUID uuid) {
+        return prefix + '-' + uuid;
+    }
+
+    /**
+     * {@code PREFIX-uuid} → UUID
+     *
+     * @return 형식이 올바르지 않으면 null
+     */
+    public static UUID parse(String prefix, String value) {
+        int start = prefix.length() + 1;
+        if (value == null || value.length() != start + UUID_LENGTH
+                || !value.startsWith(prefix) || value.charAt(prefix.length()) != '-') {
+            return null;
+        }
+        // xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx
+        if (value.charAt(start + 8) != '-' || value.charAt(start + 13) != '-'
+                || value.charAt(start + 18) != '-' || value.charAt(start + 23) != '-') {
+            return null;
+        }
+        long msb = hex(value, start, start + 8);
+        long mid = hex(value, start + 9, start + 13);
+        long high = hex(value, start + 14, start + 18);
+        long seq = hex(value, start + 19, start + 23);
+        long node = hex(value, start + 24, start + 36);
+        if ((msb | mid | high | seq | node) < 0) {
+            return null;
+        }
+        return new UUID((msb << 32) | (mid << 16) | high, (seq << 48) | node);
+    }
+
+    /**
+     * 소문자 16진수 구간 → long (ASCII 0-9a-f 외의 문자가 있으면 -1)
+     * <p>
+     * {@link Character#digit}은 대문자와 유니코드 숫자(전각, 아랍 숫자 등)도 받아들여
+     * 같은 UUID에 여러 외부 문자열이 대응하므로 사용하지 않습니다.
+     * </p>
+     */
+    private static long hex(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else {
+                return -1;
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+}
@@ -1,33 +1,62 @@
 package com.jun_bank.ledger_service.domain.ledger.domain.model.vo;
 
-import com.jun_bank.common_lib.util.UuidUtils;
 import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
 
+import java.util.UUID;
+
 /**
  * 원장 엔트리 식별자 VO (Value Object)
  * <p>
- * 원장 엔트리의 고유 식별자입니다.
+ * 원장 엔트리의 고유 식별자입니다. 내부 값은 시간 순 UUID(v7, {@link DomainIds#generate()})이며,
+ * DB에는 16바이트 UUID 컬럼으로 저장합니다.
  *
- * <h3>ID 형식:</h3>
- * <pre>LDG-xxxxxxxx (예: LDG-a1b2c3d4)</pre>
+ * <h3>ID 형식 (외부):</h3>
+ * <pre>LDG-xxxxxxxx-xxxx-7xxx-xxxx-xxxxxxxxxxxx</pre>
  *
- * @param value 원장 엔트리 ID 문자열 (LDG-xxxxxxxx 형식)
+ * @param uuid 원장 엔트리 UUID
  */
-public record LedgerEntryId(String value) {
+public record LedgerEntryId(UUID uuid) {
 
     public static final String PREFIX = "LDG";
 
     public LedgerEntryId {
-        if (!UuidUtils.isValidDomainId(value, PREFIX)) {
-            throw LedgerException.invalidEntryIdFormat(value);
+        if (uuid == null) {
+            throw LedgerException.invalidEntryIdFormat(null);
         }
     }
 
+    /**
+     * 외부 문자열(LDG-uuid) 해석
+     *
+     * @throws LedgerException 형식이 올바르지 않은 경우
+     */
     public static LedgerEntryId of(String value) {
-        return new LedgerEntryId(value);
+        UUID uuid = DomainIds.parse(PREFIX, value);
+        if (uuid == null) {
+            throw LedgerException.invalidEntryIdFormat(value);
+        }
+        return new LedgerEntryId(uuid);
+    }
+
+    public static LedgerEntryId of(UUID uuid) {
+        return new LedgerEntryId(uuid);
+    }
+
+    public static LedgerEntryId generate() {
+        return new LedgerEntryId(DomainIds.generate());
     }
 
+    /**
+     * 새 ID의 외부 문자열
+     */
     public static String generateId() {
-        return UuidUtils.generateDomainId(PREFIX);
+        return generate().value();
+    }
+
+    /**
+     * 외부 문자열 (LDG-uuid)
+     */
+    public String value() {
+        return DomainIds.format(PREFIX, uuid);
     }
-}
\ No newline at end of file
+}
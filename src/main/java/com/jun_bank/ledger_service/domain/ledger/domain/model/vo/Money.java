@@ -6,44 +6,57 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.NumberFormat;
 import java.util.Locale;
-import java.util.Objects;
 
 /**
  * 금액 VO (Value Object) - Ledger Service
  * <p>
  * 원장 금액을 안전하게 다루기 위한 불변 객체입니다.
  *
- * @param amount 금액 (BigDecimal, 0 이상)
+ * <h3>내부 표현:</h3>
+ * <p>
+ * 원 단위 정수(소수점 없음)이므로 long으로 보관합니다.
+ * 덧셈/뺄셈/비교/해시가 BigDecimal 객체를 만들지 않으며, 범위를 넘으면 INVALID_AMOUNT 예외가 발생합니다.
+ * {@link #amount()}는 호환성을 위해 BigDecimal을 반환합니다 (DB/API 경계에서만 사용 권장).
+ * </p>
  */
-public record Money(BigDecimal amount) implements Comparable<Money> {
+public final class Money implements Comparable<Money> {
 
     private static final int SCALE = 0;
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    public static final Money ZERO = new Money(0L);
 
-    public Money {
-        if (amount == null) {
-            throw LedgerException.invalidAmount(null);
-        }
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
-            throw LedgerException.invalidAmount(amount);
-        }
-        amount = amount.setScale(SCALE, ROUNDING_MODE);
+    /**
+     * 금액 (원, 0 이상)
+     */
+    private final long won;
+
+    private Money(long won) {
+        this.won = won;
+    }
+
+    /**
+     * @param amount 금액 (BigDecimal, 0 이상, 소수점 이하 반올림)
+     */
+    public Money(BigDecimal amount) {
+        this(toWon(amount));
     }
 
     public static Money of(long amount) {
         if (amount == 0) {
             return ZERO;
         }
-        return new Money(BigDecimal.valueOf(amount));
+        if (amount < 0) {
+            throw LedgerException.invalidAmount(BigDecimal.valueOf(amount));
+        }
+        return new Money(amount);
     }
 
     public static Money of(BigDecimal amount) {
-        if (amount.compareTo(BigDecimal.ZERO) == 0) {
+        if (amount.signum() == 0) {
             return ZERO;
         }
-        return new Money(amount);
+        return new Money(toWon(amount));
     }
 
     public static Money of(String amount) {
@@ -51,25 +64,25 @@ public record Money(BigDecimal amount) implements Comparable<Money> {
     }
 
     public boolean isZero() {
-        return amount.compareTo(BigDecimal.ZERO) == 0;
+        return won == 0;
     }
 
     public boolean isPositive() {
-        return amount.compareTo(BigDecimal.ZERO) > 0;
+        return won > 0;
     }
 
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        return of(addExact(this.won, other.won));
     }
 
     public Money subtract(Money other) {
-        BigDecimal result = this.amount.subtract(other.amount);
-        if (result.compareTo(BigDecimal.ZERO) < 0) {
+        long result = this.won - other.won;
+        if (result < 0) {
             // 원장에서는 음수 결과도 기록 가능 (잔액 불일치 감지 등)
             // 다만 Money는 0 이상만 허용하므로 예외
-            throw LedgerException.invalidAmount(result);
+            throw LedgerException.invalidAmount(BigDecimal.valueOf(result));
         }
-        return new Money(result);
+        return of(result);
     }
 
     /**
@@ -83,21 +96,58 @@ public record Money(BigDecimal amount) implements Comparable<Money> {
      * @return 결과 BigDecimal (음수 가능)
      */
     public BigDecimal subtractRaw(Money other) {
-        return this.amount.subtract(other.amount);
+        return BigDecimal.valueOf(subtractRawLong(other));
+    }
+
+    /**
+     * 음수 허용 빼기 (할당 없는 버전)
+     *
+     * @param other 뺄 금액
+     * @return 결과 (음수 가능, 두 값 모두 0 이상이므로 오버플로 없음)
+     */
+    public long subtractRawLong(Money other) {
+        return this.won - other.won;
+    }
+
+    /**
+     * 금액 (BigDecimal, scale 0)
+     * <p>
+     * 호출마다 BigDecimal을 만들므로 반복 계산에는 {@link #toLong()}을 사용합니다.
+     * </p>
+     */
+    public BigDecimal amount() {
+        return BigDecimal.valueOf(won);
+    }
+
+    /**
+     * 원 단위 합산 (오버플로 검사, 할당 없음)
+     * <p>
+     * 잔액 재생/복식부기 검증/대사 합계처럼 대량 합산은 Money 대신 long 누적에 사용합니다.
+     * </p>
+     *
+     * @throws LedgerException long 범위 초과 (INVALID_AMOUNT)
+     */
+    public static long addExact(long left, long right) {
+        long result = left + right;
+        // 부호가 같은 두 수의 합의 부호가 바뀌면 오버플로
+        if (((left ^ result) & (right ^ result)) < 0) {
+            throw LedgerException.invalidAmount(BigDecimal.valueOf(left).add(BigDecimal.valueOf(right)));
+        }
+        return result;
     }
 
     public String formatted() {
         NumberFormat format = NumberFormat.getNumberInstance(Locale.KOREA);
-        return format.format(amount) + "원";
+        return format.format(won) + "원";
     }
 
     public long toLong() {
-        return amount.longValue();
+        return won;
     }
 
     @Override
     public int compareTo(Money other) {
-        return this.amount.compareTo(other.amount);
+        return Long.compare(this.won, other.won);
     }
 
     @Override
@@ -105,16 +155,34 @@ public record Money(BigDecimal amount) implements Comparable<Money> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return amount.compareTo(money.amount) == 0;
+        return won == money.won;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount.stripTrailingZeros());
+        return Long.hashCode(won);
     }
 
     @Override
     public String toString() {
-        return amount.toPlainString();
+        return Long.toString(won);
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    private static long toWon(BigDecimal amount) {
+        if (amount == null) {
+            throw LedgerException.invalidAmount(null);
+        }
+        if (amount.signum() < 0) {
+            throw LedgerException.invalidAmount(amount);
+        }
+        try {
+            return amount.setScale(SCALE, ROUNDING_MODE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw LedgerException.invalidAmount(amount);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.feign;
+
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AccountBalanceSourcePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Account Service 잔액 조회 어댑터
+ * <p>
+ * {@link AccountBalanceSourcePort} 구현체. 청크 단위로 한 번에 조회합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountBalanceFeignAdapter implements AccountBalanceSourcePort {
+
+    private final AccountServiceClient accountServiceClient;
+
+    @Override
+    public Map<String, Long> findBalances(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return Map.of();
+        }
+        List<AccountServiceClient.AccountBalanceItem> items = accountServiceClient.getBalances(
+                new AccountServiceClient.AccountBalancesRequest(List.copyOf(accountNumbers)));
+
+        Map<String, Long> balances = new HashMap<>(items.size() * 2);
+        for (AccountServiceClient.AccountBalanceItem item : items) {
+            balances.put(item.accountNumber(), item.balance());
+        }
+        return balances;
+    }
+}
@@ -0,0 +1,26 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.feign;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+/**
+ * Account Service 내부 API 클라이언트 (잔액 검증용)
+ */
+@FeignClient(name = "account-service", path = "/internal/v1/accounts")
+public interface AccountServiceClient {
+
+    /**
+     * 여러 계좌 잔액 일괄 조회 (없는 계좌는 응답에서 제외)
+     */
+    @PostMapping("/balances")
+    List<AccountBalanceItem> getBalances(@RequestBody AccountBalancesRequest request);
+
+    record AccountBalancesRequest(List<String> accountNumbers) {
+    }
+
+    record AccountBalanceItem(String accountNumber, long balance) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AuditLogRecord;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.AuditLog;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수신 이벤트 → 감사 로그 변환기
+ * <p>
+ * 토픽으로 리소스/액션을 결정하고, 디코더가 미리 꺼내 둔 필드로 감사 로그를 만듭니다.
+ * 이벤트 ID가 없으면 토픽-파티션-오프셋으로 대체하여 재전달 시에도 같은 멱등 키를 갖게 합니다.
+ *
+ * <h3>토픽별 매핑:</h3>
+ * <table border="1">
+ *   <tr><th>토픽</th><th>리소스</th><th>액션</th></tr>
+ *   <tr><td>auth.login.success / auth.login.failed</td><td>User (userId)</td><td>LOGIN</td></tr>
+ *   <tr><td>account.balance.changed</td><td>Account (accountNumber)</td><td>UPDATE</td></tr>
+ *   <tr><td>transfer.failed</td><td>Transfer (transferId)</td><td>FAIL</td></tr>
+ * </table>
+ */
+@Component
+public class AuditEventTranslator {
+
+    static final String FIELD_USER_ID = "userId";
+    static final String FIELD_ACCOUNT_NUMBER = "accountNumber";
+    static final String FIELD_TRANSFER_ID = "transferId";
+
+    static final String RESOURCE_USER = "User";
+    static final String RESOURCE_ACCOUNT = "Account";
+    static final String RESOURCE_TRANSFER = "Transfer";
+
+    static final String ACTION_LOGIN = "LOGIN";
+    static final String ACTION_UPDATE = "UPDATE";
+    static final String ACTION_FAIL = "FAIL";
+
+    /**
+     * 이벤트 변환
+     *
+     * @param record 수신 레코드 ({@link LedgerEventDeserializer} 디코딩 결과)
+     * @return 감사 로그 기록 요청
+     * @throws LedgerException 필수 필드 누락 또는 지원하지 않는 토픽
+     */
+    public AuditLogRecord translate(ConsumerRecord<String, LedgerEventMessage> record) {
+        LedgerEventMessage message = record.value();
+        if (message == null) {
+            throw LedgerException.requiredFieldMissing("payload");
+        }
+
+        String topic = record.topic();
+        AuditLog.AuditLogCreateBuilder builder = AuditLog.createBuilder()
+                .eventType(orDefault(message.eventType(), eventTypeOf(topic)))
+                .serviceName(orDefault(message.sourceService(), serviceNameOf(topic)))
+                .userId(message.userId())
+                .ipAddress(message.ipAddress())
+                .userAgent(message.userAgent())
+                .metadata(message.description());
+
+        switch (topic) {
+            case LedgerTopics.LOGIN_SUCCESS, LedgerTopics.LOGIN_FAILED -> builder
+                    .resourceType(RESOURCE_USER)
+                    .resourceId(require(message.userId(), FIELD_USER_ID))
+                    .action(ACTION_LOGIN);
+            case LedgerTopics.BALANCE_CHANGED -> builder
+                    .resourceType(RESOURCE_ACCOUNT)
+                    .resourceId(require(message.accountNumber(), FIELD_ACCOUNT_NUMBER))
+                    .action(ACTION_UPDATE)
+                    .newValue(message.amount() != null ? "{\"amount\":" + message.amount().toPlainString() + "}" : null);
+            case LedgerTopics.TRANSFER_FAILED -> builder
+                    .resourceType(RESOURCE_TRANSFER)
+                    .resourceId(require(message.transferId(), FIELD_TRANSFER_ID))
+                    .action(ACTION_FAIL);
+            default -> throw LedgerException.requiredFieldMissing("topic=" + topic);
+        }
+
+        String eventId = orDefault(message.eventId(),
+                topic + "-" + record.partition() + "@" + record.offset());
+        return new AuditLogRecord(eventId, builder.build());
+    }
+
+    private String eventTypeOf(String topic) {
+        return switch (topic) {
+            case LedgerTopics.LOGIN_SUCCESS -> "LOGIN_SUCCESS";
+            case LedgerTopics.LOGIN_FAILED -> "LOGIN_FAILED";
+            case LedgerTopics.BALANCE_CHANGED -> "BALANCE_CHANGED";
+            case LedgerTopics.TRANSFER_FAILED -> "TRANSFER_FAILED";
+            default -> throw LedgerException.requiredFieldMissing("topic=" + topic);
+        };
+    }
+
+    private String serviceNameOf(String topic) {
+        return switch (topic) {
+            case LedgerTopics.LOGIN_SUCCESS, LedgerTopics.LOGIN_FAILED -> "auth-server";
+            case LedgerTopics.BALANCE_CHANGED -> "account-service";
+            case LedgerTopics.TRANSFER_FAILED -> "transfer-service";
+            default -> throw LedgerException.requiredFieldMissing("topic=" + topic);
+        };
+    }
+
+    private String require(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw LedgerException.requiredFieldMissing(field);
+        }
+        return value;
+    }
+
+    private String orDefault(String value, String defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
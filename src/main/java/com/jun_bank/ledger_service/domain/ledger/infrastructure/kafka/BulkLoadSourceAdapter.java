@@ -0,0 +1,372 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AuditLogRecord;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadChunk;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadRequest;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadTransaction;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.BulkLoadSourcePort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * 대량 적재 입력 소스 어댑터 (NDJSON 파일 / Kafka 토픽 되감기)
+ * <p>
+ * {@link BulkLoadSourcePort} 구현체. 실시간 수신과 같은 디코더({@link LedgerEventDeserializer})와
+ * 변환기({@link LedgerEventTranslator}, {@link AuditEventTranslator})를 사용하므로 검증 규칙이 동일합니다.
+ * 디코딩/변환에 실패한 레코드는 묶음의 rejected로 세고 건너뜁니다 (처음 일부만 위치와 함께 로그).
+ * </p>
+ *
+ * <h3>입력별 위치(cursor):</h3>
+ * <ul>
+ *   <li>FILE: 다음 줄의 바이트 오프셋 (재시작 시 그 위치로 바로 이동)</li>
+ *   <li>KAFKA: 파티션별 다음 오프셋 ({@code 0=1200,1=980}). 컨슈머 그룹 없이 파티션을 직접 할당하고,
+ *       열 때의 끝 오프셋(read_committed)까지만 읽으므로 실시간 리스너의 오프셋에 영향이 없습니다.</li>
+ * </ul>
+ * <p>
+ * 원장/감사 로그의 기록 시각은 이벤트의 occurredAt을 사용합니다 (ISO-8601, 오프셋이 있으면 서버 시간대로 변환).
+ * </p>
+ */
+@Slf4j
+@Component
+public class BulkLoadSourceAdapter implements BulkLoadSourcePort {
+
+    private static final int MAX_LOGGED_REJECTS = 100;
+    private static final int READ_BUFFER_BYTES = 1 << 20;
+
+    private final LedgerEventTranslator ledgerEventTranslator;
+    private final AuditEventTranslator auditEventTranslator;
+    private final LedgerEventDeserializer deserializer = new LedgerEventDeserializer();
+    private final String bootstrapServers;
+    private final Duration pollTimeout;
+
+    public BulkLoadSourceAdapter(LedgerEventTranslator ledgerEventTranslator,
+                                 AuditEventTranslator auditEventTranslator,
+                                 @Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+                                 @Value("${ledger.bulk-load.kafka.poll-timeout-ms:1000}") long pollTimeoutMs) {
+        this.ledgerEventTranslator = ledgerEventTranslator;
+        this.auditEventTranslator = auditEventTranslator;
+        this.bootstrapServers = bootstrapServers;
+        this.pollTimeout = Duration.ofMillis(pollTimeoutMs);
+    }
+
+    @Override
+    public Reader open(BulkLoadRequest request, String cursor) {
+        if (!LedgerTopics.LEDGER_TOPICS.contains(request.topic()) && !LedgerTopics.AUDIT_TOPICS.contains(request.topic())) {
+            throw LedgerException.requiredFieldMissing("topic=" + request.topic());
+        }
+        return switch (request.source()) {
+            case FILE -> new FileReader(request, cursor);
+            case KAFKA -> new TopicReader(request, cursor);
+        };
+    }
+
+    // ========================================
+    // 변환
+    // ========================================
+
+    /**
+     * 레코드 디코딩/변환 공통 처리
+     */
+    private abstract class TranslatingReader implements Reader {
+
+        protected final String topic;
+        private final boolean audit;
+        private int loggedRejects;
+
+        protected TranslatingReader(String topic) {
+            this.topic = topic;
+            this.audit = LedgerTopics.AUDIT_TOPICS.contains(topic);
+        }
+
+        protected void translate(ChunkBuilder chunk, int partition, long offset, byte[] value, String position) {
+            chunk.read++;
+            try {
+                LedgerEventMessage message = deserializer.deserialize(topic, value);
+                if (audit) {
+                    AuditLogRecord record = auditEventTranslator.translate(
+                            new ConsumerRecord<>(topic, partition, offset, null, message));
+                    chunk.auditLogs.add(withTimestamp(record, occurredAt(message)));
+                } else {
+                    List<RecordLedgerEntryCommand> commands = ledgerEventTranslator.translate(topic, message);
+                    chunk.transactions.add(new BulkLoadTransaction(
+                            commands.get(0).transactionId(), commands, occurredAt(message)));
+                }
+            } catch (RuntimeException e) {
+                chunk.rejected++;
+                if (loggedRejects < MAX_LOGGED_REJECTS) {
+                    loggedRejects++;
+                    log.warn("대량 적재 레코드 제외 - 위치: {}, 원인: {}", position, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static LocalDateTime occurredAt(LedgerEventMessage message) {
+        String occurredAt = message.occurredAt();
+        if (occurredAt == null || occurredAt.isBlank()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(occurredAt).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.parse(occurredAt);
+        }
+    }
+
+    private static AuditLogRecord withTimestamp(AuditLogRecord record, LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return record;
+        }
+        AuditLog auditLog = record.auditLog();
+        return new AuditLogRecord(record.eventId(), AuditLog.restoreBuilder()
+                .auditLogId(auditLog.getAuditLogId())
+                .eventType(auditLog.getEventType())
+                .serviceName(auditLog.getServiceName())
+                .userId(auditLog.getUserId())
+                .resourceType(auditLog.getResourceType())
+                .resourceId(auditLog.getResourceId())
+                .action(auditLog.getAction())
+                .previousValue(auditLog.getPreviousValue())
+                .newValue(auditLog.getNewValue())
+                .ipAddress(auditLog.getIpAddress())
+                .userAgent(auditLog.getUserAgent())
+                .metadata(auditLog.getMetadata())
+                .timestamp(timestamp)
+                .build());
+    }
+
+    /**
+     * 묶음 누적
+     */
+    private static final class ChunkBuilder {
+
+        private final List<BulkLoadTransaction> transactions = new ArrayList<>();
+        private final List<AuditLogRecord> auditLogs = new ArrayList<>();
+        private int read;
+        private int rejected;
+
+        BulkLoadChunk build(String cursor, boolean endOfSource) {
+            return new BulkLoadChunk(transactions, auditLogs, read, rejected, cursor, endOfSource);
+        }
+    }
+
+    // ========================================
+    // NDJSON 파일
+    // ========================================
+
+    private final class FileReader extends TranslatingReader {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final InputStream in;
+        private byte[] line = new byte[8192];
+        private long position;
+
+        private FileReader(BulkLoadRequest request, String cursor) {
+            super(request.topic());
+            this.path = Path.of(request.filePath());
+            try {
+                this.channel = FileChannel.open(path, StandardOpenOption.READ);
+                this.position = cursor != null ? Long.parseLong(cursor) : 0L;
+                channel.position(position);
+            } catch (IOException e) {
+                throw new UncheckedIOException("대량 적재 파일 열기 실패: " + path, e);
+            }
+            this.in = new BufferedInputStream(Channels.newInputStream(channel), READ_BUFFER_BYTES);
+        }
+
+        @Override
+        public BulkLoadChunk read(int maxRecords) {
+            ChunkBuilder chunk = new ChunkBuilder();
+            try {
+                while (chunk.read < maxRecords) {
+                    long lineStart = position;
+                    int length = nextLine();
+                    if (length < 0) {
+                        return chunk.build(String.valueOf(position), true);
+                    }
+                    if (length == 0) {
+                        continue;
+                    }
+                    translate(chunk, 0, lineStart, Arrays.copyOf(line, length), path + "@" + lineStart);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("대량 적재 파일 읽기 실패: " + path, e);
+            }
+            return chunk.build(String.valueOf(position), false);
+        }
+
+        /**
+         * 다음 줄을 line 버퍼에 읽음 (줄바꿈/CR 제외)
+         *
+         * @return 줄 길이, 파일 끝이면 -1
+         */
+        private int nextLine() throws IOException {
+            int length = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b == '\n') {
+                    return trimCarriageReturn(length);
+                }
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = (byte) b;
+            }
+            return length == 0 ? -1 : trimCarriageReturn(length);
+        }
+
+        private int trimCarriageReturn(int length) {
+            return length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+        }
+
+        @Override
+        public void close() {
+            try {
+                in.close();
+            } catch (IOException e) {
+                log.warn("대량 적재 파일 닫기 실패: {}", path, e);
+            }
+        }
+    }
+
+    // ========================================
+    // Kafka 토픽 되감기
+    // ========================================
+
+    private final class TopicReader extends TranslatingReader {
+
+        private final KafkaConsumer<String, byte[]> consumer;
+        private final Map<TopicPartition, Long> endOffsets;
+        private final Set<TopicPartition> remaining = new LinkedHashSet<>();
+
+        private TopicReader(BulkLoadRequest request, String cursor) {
+            super(request.topic());
+            Map<String, Object> configProps = new HashMap<>();
+            configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+            configProps.put(ConsumerConfig.CLIENT_ID_CONFIG, "ledger-bulk-load-" + request.jobName());
+            configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+            configProps.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+            configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, request.chunkSize());
+            this.consumer = new KafkaConsumer<>(configProps, new StringDeserializer(), new ByteArrayDeserializer());
+
+            try {
+                List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+                        .map(info -> new TopicPartition(topic, info.partition()))
+                        .toList();
+                consumer.assign(partitions);
+                this.endOffsets = consumer.endOffsets(partitions);
+
+                Map<Integer, Long> resume = parseCursor(cursor);
+                for (TopicPartition partition : partitions) {
+                    Long offset = resume.get(partition.partition());
+                    if (offset != null) {
+                        consumer.seek(partition, offset);
+                    } else {
+                        consumer.seekToBeginning(List.of(partition));
+                    }
+                    if (consumer.position(partition) < endOffsets.get(partition)) {
+                        remaining.add(partition);
+                    }
+                }
+            } catch (RuntimeException e) {
+                consumer.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public BulkLoadChunk read(int maxRecords) {
+            ChunkBuilder chunk = new ChunkBuilder();
+            while (chunk.read < maxRecords && !remaining.isEmpty()) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(pollTimeout);
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (record.offset() >= endOffsets.get(partition)) {
+                        continue;
+                    }
+                    translate(chunk, record.partition(), record.offset(), record.value(),
+                            record.topic() + "-" + record.partition() + "@" + record.offset());
+                }
+                markFinishedPartitions();
+            }
+            return chunk.build(cursor(), remaining.isEmpty());
+        }
+
+        /**
+         * 끝 오프셋에 도달한 파티션은 더 읽지 않음 (적재 중 새로 들어온 이벤트는 실시간 리스너 몫)
+         */
+        private void markFinishedPartitions() {
+            List<TopicPartition> finished = new ArrayList<>();
+            for (TopicPartition partition : remaining) {
+                if (consumer.position(partition) >= endOffsets.get(partition)) {
+                    finished.add(partition);
+                }
+            }
+            if (!finished.isEmpty()) {
+                consumer.pause(finished);
+                finished.forEach(remaining::remove);
+            }
+        }
+
+        private String cursor() {
+            StringJoiner cursor = new StringJoiner(",");
+            for (TopicPartition partition : consumer.assignment()) {
+                long position = Math.min(consumer.position(partition), endOffsets.get(partition));
+                cursor.add(partition.partition() + "=" + position);
+            }
+            return cursor.toString();
+        }
+
+        private Map<Integer, Long> parseCursor(String cursor) {
+            Map<Integer, Long> offsets = new HashMap<>();
+            if (cursor == null || cursor.isBlank()) {
+                return offsets;
+            }
+            for (String part : cursor.split(",")) {
+                String[] pair = part.split("=", 2);
+                offsets.put(Integer.parseInt(pair[0].strip()), Long.parseLong(pair[1].strip()));
+            }
+            return offsets;
+        }
+
+        @Override
+        public void close() {
+            consumer.close();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키 단위 순서 보장 병렬 실행기
+ * <p>
+ * 같은 키(계좌번호)를 가진 작업은 제출 순서대로 하나씩 실행하고,
+ * 서로 다른 키의 작업은 워커 스레드에서 병렬로 실행합니다.
+ *
+ * <h3>여러 키를 가진 작업 (이체):</h3>
+ * <p>
+ * 작업은 자신의 모든 키에 대해 직전 작업이 끝난 뒤 실행됩니다.
+ * 선행 작업 등록은 항상 제출 순서(과거 방향)로만 연결되므로 교착 상태가 생기지 않습니다.
+ * </p>
+ *
+ * <h3>백프레셔:</h3>
+ * <p>
+ * 실행 대기/실행 중인 작업이 maxInFlight에 도달하면 {@link #submit}이 블로킹되어
+ * 리스너 스레드가 더 이상 레코드를 받지 않습니다.
+ * </p>
+ */
+public class KeyOrderedTaskExecutor implements AutoCloseable {
+
+    /**
+     * 키 → 해당 키의 마지막 작업 완료 신호 (작업 실패와 무관하게 항상 정상 완료)
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private final Semaphore inFlight;
+
+    public KeyOrderedTaskExecutor(String threadNamePrefix, int workerCount, int maxInFlight) {
+        this.workers = Executors.newFixedThreadPool(workerCount, namedThreadFactory(threadNamePrefix));
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * 작업 제출
+     *
+     * @param keys 작업이 순서를 지켜야 하는 키 (중복 없음)
+     * @param task 실행할 작업
+     * @return 작업 결과 (작업 예외 시 exceptionally 완료)
+     * @throws InterruptedException 백프레셔 대기 중 인터럽트
+     */
+    public CompletableFuture<Void> submit(Collection<String> keys, Runnable task) throws InterruptedException {
+        inFlight.acquire();
+
+        CompletableFuture<Void> tail = new CompletableFuture<>();
+        List<CompletableFuture<Void>> predecessors = new ArrayList<>(keys.size());
+        // 여러 키의 선행 작업 조회와 tail 등록을 원자적으로 수행 (교착 방지)
+        synchronized (tails) {
+            for (String key : keys) {
+                CompletableFuture<Void> previous = tails.put(key, tail);
+                if (previous != null) {
+                    predecessors.add(previous);
+                }
+            }
+        }
+
+        CompletableFuture<Void> result = CompletableFuture
+                .allOf(predecessors.toArray(CompletableFuture[]::new))
+                .thenRunAsync(task, workers);
+
+        result.whenComplete((ignored, failure) -> {
+            for (String key : keys) {
+                tails.remove(key, tail);
+            }
+            inFlight.release();
+            tail.complete(null);
+        });
+        return result;
+    }
+
+    /**
+     * 실행 대기/실행 중인 작업이 있는 키 수
+     */
+    public int activeKeyCount() {
+        return tails.size();
+    }
+
+    @Override
+    public void close() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(false);
+            return thread;
+        };
+    }
+}
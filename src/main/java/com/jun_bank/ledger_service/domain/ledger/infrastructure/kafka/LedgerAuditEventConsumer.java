@@ -0,0 +1,68 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AuditLogRecord;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.AppendAuditLogUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사 로그 이벤트 Consumer (배치 모드)
+ * <p>
+ * poll 1회 분량의 감사 이벤트를 {@link AppendAuditLogUseCase}(비동기 일괄 Writer)에 넘기고,
+ * 모두 영구 저장(DB 커밋 또는 spill 파일 fsync)된 뒤 배치 전체를 한 번에 ACK 합니다.
+ * 원장 기록 리스너와 별도 컨테이너/커넥션 풀을 사용하므로 감사 트래픽이 원장 기록을 지연시키지 않습니다.
+ * </p>
+ *
+ * <h3>실패 처리:</h3>
+ * <ul>
+ *   <li>변환 실패(필수 필드 누락 등): 해당 레코드만 DLT로 전송</li>
+ *   <li>저장 실패(DB와 spill 파일 모두 실패): ACK 없이 예외를 던져 컨테이너 에러 핸들러가 재시도</li>
+ * </ul>
+ *
+ * @see com.jun_bank.ledger_service.domain.ledger.application.service.AuditLogWriter
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.audit.enabled", havingValue = "true", matchIfMissing = true)
+public class LedgerAuditEventConsumer {
+
+    private final AuditEventTranslator auditEventTranslator;
+    private final AppendAuditLogUseCase appendAuditLogUseCase;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+
+    @KafkaListener(
+            topics = {
+                    LedgerTopics.LOGIN_SUCCESS,
+                    LedgerTopics.LOGIN_FAILED,
+                    LedgerTopics.BALANCE_CHANGED,
+                    LedgerTopics.TRANSFER_FAILED
+            },
+            containerFactory = "auditKafkaListenerContainerFactory")
+    public void consume(List<ConsumerRecord<String, LedgerEventMessage>> records, Acknowledgment acknowledgment) {
+        List<AuditLogRecord> auditLogs = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, LedgerEventMessage> record : records) {
+            try {
+                auditLogs.add(auditEventTranslator.translate(record));
+            } catch (RuntimeException e) {
+                log.error("감사 로그 변환 실패, DLT 전송 - topic: {}, partition: {}, offset: {}, 원인: {}",
+                        record.topic(), record.partition(), record.offset(), e.getMessage());
+                deadLetterPublishingRecoverer.accept(record, e);
+            }
+        }
+
+        appendAuditLogUseCase.appendAndWait(auditLogs);
+        log.debug("감사 로그 배치 기록 완료 - records: {}, auditLogs: {}", records.size(), auditLogs.size());
+
+        acknowledgment.acknowledge();
+    }
+}
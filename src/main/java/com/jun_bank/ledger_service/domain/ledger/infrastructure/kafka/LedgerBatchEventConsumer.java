@@ -0,0 +1,112 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerBatchResult;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.RecordLedgerEntryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.metrics.LedgerMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 원장 기록 이벤트 Consumer (배치 모드)
+ * <p>
+ * poll 1회 분량의 레코드를 한 트랜잭션, 다중 행 INSERT로 기록하고 배치 전체를 한 번에 ACK 합니다.
+ * {@code ledger.kafka.listener.mode=batch}일 때 활성화됩니다.
+ * </p>
+ *
+ * <h3>레코드 단위 실패 격리:</h3>
+ * <ul>
+ *   <li>변환 실패(필수 필드 누락 등): 해당 레코드만 DLT로 전송</li>
+ *   <li>기록 실패(잔액 부족, 복식부기 불균형 등): 해당 거래의 레코드만 DLT로 전송</li>
+ *   <li>중복 거래: 건너뜀 (재전달). 같은 poll 안에 같은 거래 ID가 여러 번 오면 첫 레코드만 기록</li>
+ * </ul>
+ * <p>
+ * DLT 전송까지 끝난 뒤 ACK 하므로 실패 레코드도 유실되지 않습니다.
+ * DB 장애처럼 배치 전체가 실패하면 DLT 전송/ACK 없이 예외를 던져 컨테이너 에러 핸들러가 성공할 때까지 재시도합니다
+ * (변환 실패 레코드의 DLT 전송도 기록 성공 후로 미뤄 재시도 때 중복 전송하지 않음).
+ * </p>
+ *
+ * @see LedgerEventConsumer
+ * @see com.jun_bank.ledger_service.global.config.KafkaConsumerConfig
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.kafka.listener.mode", havingValue = "batch")
+public class LedgerBatchEventConsumer {
+
+    private final LedgerEventTranslator ledgerEventTranslator;
+    private final RecordLedgerEntryUseCase recordLedgerEntryUseCase;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final LedgerMetrics ledgerMetrics;
+
+    @KafkaListener(
+            topics = {
+                    LedgerTopics.DEPOSIT_COMPLETED,
+                    LedgerTopics.WITHDRAWAL_COMPLETED,
+                    LedgerTopics.TRANSFER_COMPLETED,
+                    LedgerTopics.PAYMENT_COMPLETED,
+                    LedgerTopics.PAYMENT_CANCELLED
+            },
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void consume(List<ConsumerRecord<String, LedgerEventMessage>> records, Acknowledgment acknowledgment) {
+        ledgerMetrics.recordPoll(records.size());
+        List<RecordLedgerEntryCommand> commands = new ArrayList<>(records.size());
+        Map<String, ConsumerRecord<String, LedgerEventMessage>> recordByTransactionId = new LinkedHashMap<>();
+        Map<ConsumerRecord<String, LedgerEventMessage>, RuntimeException> untranslatable = new LinkedHashMap<>();
+        int skipped = 0;
+
+        for (ConsumerRecord<String, LedgerEventMessage> record : records) {
+            List<RecordLedgerEntryCommand> translated;
+            try {
+                translated = ledgerEventTranslator.translate(record.topic(), record.value());
+            } catch (RuntimeException e) {
+                untranslatable.put(record, e);
+                continue;
+            }
+            // 재전달/Producer 재시도로 같은 거래가 한 poll에 여러 번 오면 첫 레코드만 기록 (한 거래 그룹으로 합쳐지지 않도록)
+            if (recordByTransactionId.putIfAbsent(translated.get(0).transactionId(), record) != null) {
+                skipped++;
+                continue;
+            }
+            commands.addAll(translated);
+        }
+
+        // DB 장애 등은 예외 전파 → DLT 전송/ACK 없이 컨테이너 에러 핸들러가 같은 poll을 성공할 때까지 재시도
+        LedgerBatchResult result = recordLedgerEntryUseCase.recordBatch(commands);
+
+        untranslatable.forEach(this::deadLetter);
+        result.failures().forEach((transactionId, cause) ->
+                deadLetter(recordByTransactionId.get(transactionId), cause));
+
+        long committedAt = System.currentTimeMillis();
+        recordByTransactionId.forEach((transactionId, record) -> {
+            if (!result.failures().containsKey(transactionId)) {
+                ledgerMetrics.recordCommitted(record, committedAt);
+            }
+        });
+
+        log.debug("원장 배치 기록 완료 - records: {}, entries: {}, duplicates: {}, poll 내 중복: {}, failures: {}",
+                records.size(), result.recorded().size(),
+                result.duplicateTransactionIds().size(), skipped, result.failures().size());
+
+        acknowledgment.acknowledge();
+    }
+
+    private void deadLetter(ConsumerRecord<String, LedgerEventMessage> record, RuntimeException cause) {
+        log.error("원장 기록 실패, DLT 전송 - topic: {}, partition: {}, offset: {}, 원인: {}",
+                record.topic(), record.partition(), record.offset(), cause.getMessage());
+        deadLetterPublishingRecoverer.accept(record, cause);
+    }
+}
@@ -0,0 +1,31 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * DLT 전송용 Serializer
+ * <p>
+ * 실패한 레코드를 수신한 원문 그대로 DLT에 재발행합니다.
+ * </p>
+ * <ul>
+ *   <li>{@link LedgerEventMessage}: 디코딩 전 원본 바이트</li>
+ *   <li>byte[]: 디코딩 실패 레코드 (ErrorHandlingDeserializer가 보존한 원본)</li>
+ * </ul>
+ */
+public class LedgerDeadLetterSerializer implements Serializer<Object> {
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof LedgerEventMessage message) {
+            return message.source();
+        }
+        if (data instanceof byte[] bytes) {
+            return bytes;
+        }
+        throw new SerializationException("DLT 전송을 지원하지 않는 타입: " + data.getClass().getName());
+    }
+}
@@ -0,0 +1,64 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.AppendLedgerEntryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerErrorCode;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.metrics.LedgerMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 원장 기록 이벤트 Consumer (단건 모드)
+ * <p>
+ * 레코드 1건 = 오프셋 커밋 1회. 기록은 그룹 커밋 Writer를 거쳐 다른 요청과 함께 커밋됩니다.
+ * {@code ledger.kafka.listener.mode=record}(기본값)일 때 활성화됩니다.
+ * 처리 실패 시 예외를 던져 컨테이너 에러 핸들러에 맡깁니다
+ * (DB 장애 등 일시적 실패는 DLT 없이 계속 재시도, 검증 실패는 재시도 후 DLT).
+ * </p>
+ *
+ * @see LedgerBatchEventConsumer
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.kafka.listener.mode", havingValue = "record", matchIfMissing = true)
+public class LedgerEventConsumer {
+
+    private final LedgerEventTranslator ledgerEventTranslator;
+    private final AppendLedgerEntryUseCase appendLedgerEntryUseCase;
+    private final LedgerMetrics ledgerMetrics;
+
+    @KafkaListener(
+            topics = {
+                    LedgerTopics.DEPOSIT_COMPLETED,
+                    LedgerTopics.WITHDRAWAL_COMPLETED,
+                    LedgerTopics.TRANSFER_COMPLETED,
+                    LedgerTopics.PAYMENT_COMPLETED,
+                    LedgerTopics.PAYMENT_CANCELLED
+            },
+            containerFactory = "kafkaListenerContainerFactory")
+    public void consume(ConsumerRecord<String, LedgerEventMessage> record, Acknowledgment acknowledgment) {
+        List<RecordLedgerEntryCommand> commands = ledgerEventTranslator.translate(record.topic(), record.value());
+
+        try {
+            appendLedgerEntryUseCase.appendAndWait(commands);
+            ledgerMetrics.recordCommitted(record);
+        } catch (LedgerException e) {
+            if (e.getErrorCode() != LedgerErrorCode.DUPLICATE_TRANSACTION) {
+                throw e;
+            }
+            // 재전달된 이벤트: 이미 기록되었으므로 ACK만 수행
+            log.debug("중복 거래 건너뜀 - topic: {}, offset: {}", record.topic(), record.offset());
+        }
+
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,158 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.json.JsonFactory;
+
+import java.math.BigDecimal;
+
+/**
+ * 원장 수신 이벤트 스트리밍 디코더
+ * <p>
+ * IntegrationEvent JSON을 토큰 단위로 읽어 {@link LedgerEventMessage}를 바로 채웁니다.
+ * JacksonJsonDeserializer와 달리 payload를 Map/트리로 만들지 않으며,
+ * 모르는 필드는 값을 만들지 않고 건너뜁니다(skipChildren).
+ *
+ * <h3>입력 형식:</h3>
+ * <pre>
+ * {
+ *   "eventId": "...", "eventType": "...", "occurredAt": "...", "sourceService": "...",
+ *   "payload": { "transactionId": "...", "accountNumber": "...", "amount": 10000, ... },
+ *   ... (그 외 필드 무시)
+ * }
+ * </pre>
+ *
+ * <h3>값 변환:</h3>
+ * <ul>
+ *   <li>문자열 필드: 숫자/불리언 스칼라도 문자열로 허용</li>
+ *   <li>amount: 숫자 또는 숫자 문자열 (정수는 long 경로로 읽음)</li>
+ *   <li>null: 필드 누락과 동일 (필수 여부는 {@link LedgerEventTranslator}가 판단)</li>
+ * </ul>
+ * <p>
+ * 잘못된 JSON은 {@link SerializationException}을 던지며,
+ * 컨테이너의 ErrorHandlingDeserializer가 받아 DLT로 보냅니다.
+ * </p>
+ */
+public class LedgerEventDeserializer implements Deserializer<LedgerEventMessage> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Override
+    public LedgerEventMessage deserialize(String topic, byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(ObjectReadContext.empty(), data)) {
+            return decode(parser, data);
+        } catch (JacksonException | NumberFormatException e) {
+            throw new SerializationException("원장 이벤트 디코딩 실패 - topic: " + topic, e);
+        }
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    private LedgerEventMessage decode(JsonParser parser, byte[] data) {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new SerializationException("원장 이벤트는 JSON 객체여야 합니다");
+        }
+
+        Fields fields = new Fields();
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "eventId" -> fields.eventId = text(parser, value);
+                case "eventType" -> fields.eventType = text(parser, value);
+                case "occurredAt" -> fields.occurredAt = text(parser, value);
+                case "sourceService" -> fields.sourceService = text(parser, value);
+                case "payload" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        decodePayload(parser, fields);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return fields.toMessage(data);
+    }
+
+    private void decodePayload(JsonParser parser, Fields fields) {
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case LedgerEventTranslator.FIELD_TRANSACTION_ID -> fields.transactionId = text(parser, value);
+                case LedgerEventTranslator.FIELD_TRANSFER_ID -> fields.transferId = text(parser, value);
+                case LedgerEventTranslator.FIELD_PAYMENT_ID -> fields.paymentId = text(parser, value);
+                case LedgerEventTranslator.FIELD_ACCOUNT_NUMBER -> fields.accountNumber = text(parser, value);
+                case LedgerEventTranslator.FIELD_FROM_ACCOUNT_NUMBER -> fields.fromAccountNumber = text(parser, value);
+                case LedgerEventTranslator.FIELD_TO_ACCOUNT_NUMBER -> fields.toAccountNumber = text(parser, value);
+                case LedgerEventTranslator.FIELD_AMOUNT -> fields.amount = decimal(parser, value);
+                case LedgerEventTranslator.FIELD_DESCRIPTION -> fields.description = text(parser, value);
+                case "userId" -> fields.userId = text(parser, value);
+                case "ipAddress" -> fields.ipAddress = text(parser, value);
+                case "userAgent" -> fields.userAgent = text(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private String text(JsonParser parser, JsonToken token) {
+        if (token.isScalarValue()) {
+            return token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private BigDecimal decimal(JsonParser parser, JsonToken token) {
+        return switch (token) {
+            case VALUE_NUMBER_INT -> parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER
+                    ? parser.getDecimalValue()
+                    : BigDecimal.valueOf(parser.getLongValue());
+            case VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+            case VALUE_STRING -> new BigDecimal(parser.getValueAsString().trim());
+            case START_OBJECT, START_ARRAY -> {
+                parser.skipChildren();
+                yield null;
+            }
+            default -> null;
+        };
+    }
+
+    /**
+     * 디코딩 중간 상태 (레코드당 1개)
+     */
+    private static final class Fields {
+        private String eventId;
+        private String eventType;
+        private String occurredAt;
+        private String sourceService;
+        private String transactionId;
+        private String transferId;
+        private String paymentId;
+        private String accountNumber;
+        private String fromAccountNumber;
+        private String toAccountNumber;
+        private BigDecimal amount;
+        private String description;
+        private String userId;
+        private String ipAddress;
+        private String userAgent;
+
+        private LedgerEventMessage toMessage(byte[] source) {
+            return new LedgerEventMessage(eventId, eventType, occurredAt, sourceService,
+                    transactionId, transferId, paymentId,
+                    accountNumber, fromAccountNumber, toAccountNumber,
+                    amount, description, userId, ipAddress, userAgent, source);
+        }
+    }
+}
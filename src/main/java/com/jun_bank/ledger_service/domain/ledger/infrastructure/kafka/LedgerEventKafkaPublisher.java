@@ -0,0 +1,80 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEventPublishPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 원장 이벤트 Kafka 발행 어댑터
+ * <p>
+ * {@link LedgerEventPublishPort} 구현체. IntegrationEvent와 같은 JSON 형태
+ * (eventId, eventType, occurredAt, sourceService, payload)로 발행하며, 키는 계좌번호입니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LedgerEventKafkaPublisher implements LedgerEventPublishPort {
+
+    static final String EVENT_TYPE_BALANCE_MISMATCH = "BALANCE_MISMATCH";
+    static final String EVENT_TYPE_INTEGRITY_VIOLATION = "INTEGRITY_VIOLATION";
+
+    private final KafkaTemplate<String, Object> ledgerEventKafkaTemplate;
+    private final String sourceService;
+
+    public LedgerEventKafkaPublisher(@Qualifier("ledgerEventKafkaTemplate") KafkaTemplate<String, Object> ledgerEventKafkaTemplate,
+                                     @Value("${spring.application.name:ledger-service}") String sourceService) {
+        this.ledgerEventKafkaTemplate = ledgerEventKafkaTemplate;
+        this.sourceService = sourceService;
+    }
+
+    @Override
+    public void publishBalanceMismatch(String accountNumber, long accountBalance, long ledgerBalance) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("accountNumber", accountNumber);
+        payload.put("accountBalance", accountBalance);
+        payload.put("ledgerBalance", ledgerBalance);
+        payload.put("difference", accountBalance - ledgerBalance);
+
+        ledgerEventKafkaTemplate.send(LedgerTopics.BALANCE_MISMATCH, accountNumber,
+                        event(EVENT_TYPE_BALANCE_MISMATCH, payload))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("잔액 불일치 이벤트 발행 실패 - accountNumber: {}", accountNumber, e);
+                    }
+                });
+    }
+
+    @Override
+    public void publishIntegrityViolation(String accountNumber, long sequence, String reason) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("accountNumber", accountNumber);
+        payload.put("sequence", sequence);
+        payload.put("reason", reason);
+
+        ledgerEventKafkaTemplate.send(LedgerTopics.INTEGRITY_VIOLATION, accountNumber,
+                        event(EVENT_TYPE_INTEGRITY_VIOLATION, payload))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("원장 무결성 위반 이벤트 발행 실패 - accountNumber: {}", accountNumber, e);
+                    }
+                });
+    }
+
+    private Map<String, Object> event(String eventType, Map<String, Object> payload) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("eventId", "EVT-" + UUID.randomUUID());
+        event.put("eventType", eventType);
+        event.put("occurredAt", LocalDateTime.now().toString());
+        event.put("sourceService", sourceService);
+        event.put("payload", payload);
+        return event;
+    }
+}
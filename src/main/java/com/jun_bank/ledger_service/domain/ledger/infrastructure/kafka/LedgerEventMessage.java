@@ -0,0 +1,47 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import java.math.BigDecimal;
+
+/**
+ * 원장 수신 이벤트 (스키마 전용 디코딩 결과)
+ * <p>
+ * IntegrationEvent의 범용 payload(Map) 대신 원장/감사 로그 기록에 필요한 필드만 담습니다.
+ * {@link LedgerEventDeserializer}가 JSON을 스트리밍으로 읽으며 바로 채웁니다.
+ * </p>
+ *
+ * @param eventId           이벤트 ID
+ * @param eventType         이벤트 타입
+ * @param occurredAt        이벤트 발생 시각 (ISO-8601 문자열, 없으면 null)
+ * @param sourceService     발행 서비스명 (감사 로그)
+ * @param transactionId     거래 ID (입출금)
+ * @param transferId        이체 ID
+ * @param paymentId         결제 ID
+ * @param accountNumber     계좌번호 (단일 계좌 거래)
+ * @param fromAccountNumber 출금 계좌번호 (이체)
+ * @param toAccountNumber   입금 계좌번호 (이체)
+ * @param amount            금액
+ * @param description       설명
+ * @param userId            사용자 ID (감사 로그)
+ * @param ipAddress         IP 주소 (감사 로그)
+ * @param userAgent         User-Agent (감사 로그)
+ * @param source            원본 레코드 바이트 (DLT 전송 시 원문 그대로 재발행, 복사 없음)
+ */
+public record LedgerEventMessage(
+        String eventId,
+        String eventType,
+        String occurredAt,
+        String sourceService,
+        String transactionId,
+        String transferId,
+        String paymentId,
+        String accountNumber,
+        String fromAccountNumber,
+        String toAccountNumber,
+        BigDecimal amount,
+        String description,
+        String userId,
+        String ipAddress,
+        String userAgent,
+        byte[] source
+) {
+}
@@ -0,0 +1,120 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 수신 이벤트 → 원장 기록 커맨드 변환기
+ * <p>
+ * 토픽으로 거래 카테고리를 결정하고, 디코더가 미리 꺼내 둔 필드로 커맨드를 만듭니다.
+ *
+ * <h3>토픽별 매핑:</h3>
+ * <table border="1">
+ *   <tr><th>토픽</th><th>엔트리</th></tr>
+ *   <tr><td>transaction.deposit.completed</td><td>DEPOSIT 1건</td></tr>
+ *   <tr><td>transaction.withdrawal.completed</td><td>WITHDRAWAL 1건</td></tr>
+ *   <tr><td>transfer.completed</td><td>TRANSFER_OUT + TRANSFER_IN 2건 (복식부기)</td></tr>
+ *   <tr><td>card.payment.completed</td><td>PAYMENT 1건</td></tr>
+ *   <tr><td>card.payment.cancelled</td><td>REFUND 1건</td></tr>
+ * </table>
+ */
+@Component
+public class LedgerEventTranslator {
+
+    static final String FIELD_TRANSACTION_ID = "transactionId";
+    static final String FIELD_TRANSFER_ID = "transferId";
+    static final String FIELD_PAYMENT_ID = "paymentId";
+    static final String FIELD_ACCOUNT_NUMBER = "accountNumber";
+    static final String FIELD_FROM_ACCOUNT_NUMBER = "fromAccountNumber";
+    static final String FIELD_TO_ACCOUNT_NUMBER = "toAccountNumber";
+    static final String FIELD_AMOUNT = "amount";
+    static final String FIELD_DESCRIPTION = "description";
+
+    static final String REFERENCE_TRANSACTION = "TRANSACTION";
+    static final String REFERENCE_TRANSFER = "TRANSFER";
+    static final String REFERENCE_CARD = "CARD";
+
+    /**
+     * 이벤트 변환
+     *
+     * @param topic   수신 토픽
+     * @param message 수신 이벤트 ({@link LedgerEventDeserializer} 디코딩 결과)
+     * @return 원장 기록 커맨드 (같은 transactionId, 1~2건)
+     * @throws LedgerException 필수 필드 누락 또는 지원하지 않는 토픽
+     */
+    public List<RecordLedgerEntryCommand> translate(String topic, LedgerEventMessage message) {
+        if (message == null) {
+            throw LedgerException.requiredFieldMissing("payload");
+        }
+
+        return switch (topic) {
+            case LedgerTopics.DEPOSIT_COMPLETED -> List.of(single(message,
+                    require(message.transactionId(), FIELD_TRANSACTION_ID),
+                    TransactionCategory.DEPOSIT, REFERENCE_TRANSACTION));
+            case LedgerTopics.WITHDRAWAL_COMPLETED -> List.of(single(message,
+                    require(message.transactionId(), FIELD_TRANSACTION_ID),
+                    TransactionCategory.WITHDRAWAL, REFERENCE_TRANSACTION));
+            case LedgerTopics.PAYMENT_COMPLETED -> List.of(single(message,
+                    require(message.paymentId(), FIELD_PAYMENT_ID),
+                    TransactionCategory.PAYMENT, REFERENCE_CARD));
+            case LedgerTopics.PAYMENT_CANCELLED -> List.of(single(message,
+                    require(message.paymentId(), FIELD_PAYMENT_ID),
+                    TransactionCategory.REFUND, REFERENCE_CARD));
+            case LedgerTopics.TRANSFER_COMPLETED -> transfer(message);
+            default -> throw LedgerException.requiredFieldMissing("topic=" + topic);
+        };
+    }
+
+    private RecordLedgerEntryCommand single(LedgerEventMessage message,
+                                            String referenceId,
+                                            TransactionCategory category,
+                                            String referenceType) {
+        return new RecordLedgerEntryCommand(
+                orDefault(message.transactionId(), referenceId),
+                require(message.accountNumber(), FIELD_ACCOUNT_NUMBER),
+                category,
+                requireAmount(message),
+                orDefault(message.description(), category.getDescription()),
+                referenceType,
+                referenceId);
+    }
+
+    private List<RecordLedgerEntryCommand> transfer(LedgerEventMessage message) {
+        String transferId = require(message.transferId(), FIELD_TRANSFER_ID);
+        String transactionId = orDefault(message.transactionId(), transferId);
+        String fromAccount = require(message.fromAccountNumber(), FIELD_FROM_ACCOUNT_NUMBER);
+        String toAccount = require(message.toAccountNumber(), FIELD_TO_ACCOUNT_NUMBER);
+        Money amount = requireAmount(message);
+
+        return List.of(
+                new RecordLedgerEntryCommand(transactionId, fromAccount, TransactionCategory.TRANSFER_OUT, amount,
+                        orDefault(message.description(), toAccount + "로 이체"),
+                        REFERENCE_TRANSFER, transferId),
+                new RecordLedgerEntryCommand(transactionId, toAccount, TransactionCategory.TRANSFER_IN, amount,
+                        orDefault(message.description(), fromAccount + "로부터 이체"),
+                        REFERENCE_TRANSFER, transferId));
+    }
+
+    private String require(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw LedgerException.requiredFieldMissing(field);
+        }
+        return value;
+    }
+
+    private String orDefault(String value, String defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private Money requireAmount(LedgerEventMessage message) {
+        if (message.amount() == null) {
+            throw LedgerException.requiredFieldMissing(FIELD_AMOUNT);
+        }
+        return Money.of(message.amount());
+    }
+}
@@ -0,0 +1,257 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.AppendLedgerEntryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerErrorCode;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.metrics.LedgerMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.BackOffExecution;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원장 기록 이벤트 Consumer (계좌 단위 병렬 모드)
+ * <p>
+ * 파티션에서 받은 레코드를 계좌번호 기준으로 병렬 처리합니다.
+ * 같은 계좌의 레코드는 수신 순서대로 처리되어 balanceAfter가 올바르게 이어지고,
+ * 서로 다른 계좌의 레코드는 파티션 수와 무관하게 워커 수만큼 동시에 처리됩니다.
+ * {@code ledger.kafka.listener.mode=parallel}일 때 활성화됩니다.
+ * </p>
+ *
+ * <h3>오프셋 커밋:</h3>
+ * <p>
+ * 컨테이너의 asyncAcks(순서 무관 ACK)를 사용합니다. 워커가 처리 완료 시점에 ACK 하면
+ * 컨테이너는 앞선 오프셋이 모두 ACK 된 구간까지만 커밋하므로,
+ * 커밋 오프셋은 항상 "완전히 처리된 가장 낮은 레코드"까지입니다.
+ * </p>
+ *
+ * <h3>실패 처리:</h3>
+ * <ul>
+ *   <li>중복 거래: 건너뛰고 ACK</li>
+ *   <li>도메인 검증 실패, 재시도해도 같은 실패: DLT 전송 후 ACK</li>
+ *   <li>DB 장애 등 일시적 실패({@link LedgerRetryPolicy#isTransient}): DLT 없이 성공할 때까지 재시도.
+ *       그동안 같은 계좌의 이후 레코드는 대기 (선행 거래 없이 기록되지 않음)</li>
+ *   <li>DLT 전송 실패: 전송될 때까지 재시도 (ACK 누락으로 커밋 오프셋이 멈추지 않도록)</li>
+ *   <li>그 밖의 작업 실패로 ACK 하지 못하면 리스너 컨테이너를 중지 → 리밸런스 후 커밋 오프셋부터 재전달</li>
+ * </ul>
+ * <p>
+ * 종료 시 재시도 중이거나 대기 중인 레코드는 ACK 하지 않고 멈추며, 재시작 후 재전달됩니다.
+ * 리스너 컨테이너보다 나중에, 그룹 커밋 Writer보다 먼저 종료합니다.
+ * </p>
+ *
+ * @see KeyOrderedTaskExecutor
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.kafka.listener.mode", havingValue = "parallel")
+public class LedgerParallelEventConsumer implements SmartLifecycle {
+
+    static final String LISTENER_ID = "ledgerParallelEventConsumer";
+
+    private static final long STOP_CHECK_MS = 100L;
+
+    private final LedgerEventTranslator ledgerEventTranslator;
+    private final AppendLedgerEntryUseCase appendLedgerEntryUseCase;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final LedgerMetrics ledgerMetrics;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final KeyOrderedTaskExecutor keyOrderedTaskExecutor;
+
+    private volatile boolean running;
+    private volatile boolean stopping;
+
+    public LedgerParallelEventConsumer(LedgerEventTranslator ledgerEventTranslator,
+                                       AppendLedgerEntryUseCase appendLedgerEntryUseCase,
+                                       DeadLetterPublishingRecoverer deadLetterPublishingRecoverer,
+                                       LedgerMetrics ledgerMetrics,
+                                       KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+                                       @Value("${ledger.kafka.parallel.workers:16}") int workers,
+                                       @Value("${ledger.kafka.parallel.max-in-flight:1000}") int maxInFlight) {
+        this.ledgerEventTranslator = ledgerEventTranslator;
+        this.appendLedgerEntryUseCase = appendLedgerEntryUseCase;
+        this.deadLetterPublishingRecoverer = deadLetterPublishingRecoverer;
+        this.ledgerMetrics = ledgerMetrics;
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.keyOrderedTaskExecutor = new KeyOrderedTaskExecutor("ledger-parallel-", workers, maxInFlight);
+    }
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = {
+                    LedgerTopics.DEPOSIT_COMPLETED,
+                    LedgerTopics.WITHDRAWAL_COMPLETED,
+                    LedgerTopics.TRANSFER_COMPLETED,
+                    LedgerTopics.PAYMENT_COMPLETED,
+                    LedgerTopics.PAYMENT_CANCELLED
+            },
+            containerFactory = "parallelKafkaListenerContainerFactory")
+    public void consume(ConsumerRecord<String, LedgerEventMessage> record,
+                        Acknowledgment acknowledgment) throws InterruptedException {
+        List<RecordLedgerEntryCommand> commands;
+        try {
+            commands = ledgerEventTranslator.translate(record.topic(), record.value());
+        } catch (RuntimeException e) {
+            // DLT 전송 재시도가 리스너 스레드를 막지 않도록 워커에서 전송 (순서를 지킬 계좌 없음)
+            submit(record, List.of(), () -> {
+                if (deadLetter(record, e)) {
+                    acknowledgment.acknowledge();
+                }
+            });
+            return;
+        }
+
+        // 이체는 출금/입금 두 계좌 모두의 순서를 따름
+        Set<String> accountNumbers = new LinkedHashSet<>();
+        commands.forEach(command -> accountNumbers.add(command.accountNumber()));
+
+        submit(record, accountNumbers, () -> process(record, commands, acknowledgment));
+    }
+
+    private void submit(ConsumerRecord<String, LedgerEventMessage> record, Collection<String> accountNumbers,
+                        Runnable task) throws InterruptedException {
+        keyOrderedTaskExecutor.submit(accountNumbers, task).whenComplete((ignored, failure) -> {
+            if (failure != null && !stopping) {
+                log.error("원장 기록 작업 실패, ACK 누락 - topic: {}, partition: {}, offset: {}",
+                        record.topic(), record.partition(), record.offset(), failure);
+                stopContainer();
+            }
+        });
+    }
+
+    private void process(ConsumerRecord<String, LedgerEventMessage> record,
+                         List<RecordLedgerEntryCommand> commands,
+                         Acknowledgment acknowledgment) {
+        BackOffExecution backOff = LedgerRetryPolicy.transientBackOff().start();
+        for (int attempt = 1; ; attempt++) {
+            if (stopping) {
+                // 종료 중: ACK 하지 않음 → 재시작 후 재전달 (같은 계좌의 이후 레코드도 기록하지 않음)
+                return;
+            }
+            try {
+                appendLedgerEntryUseCase.appendAndWait(commands);
+                ledgerMetrics.recordCommitted(record);
+                break;
+            } catch (LedgerException e) {
+                if (e.getErrorCode() != LedgerErrorCode.DUPLICATE_TRANSACTION && !deadLetter(record, e)) {
+                    return;
+                }
+                break;
+            } catch (RuntimeException e) {
+                if (!LedgerRetryPolicy.isTransient(e)) {
+                    if (!deadLetter(record, e)) {
+                        return;
+                    }
+                    break;
+                }
+                long interval = backOff.nextBackOff();
+                log.warn("원장 기록 재시도 - topic: {}, offset: {}, attempt: {}, 다음 시도까지: {}ms, 원인: {}",
+                        record.topic(), record.offset(), attempt, interval, e.getMessage());
+                if (!sleep(interval)) {
+                    return;
+                }
+            }
+        }
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * DLT 전송 (전송될 때까지 재시도)
+     *
+     * @return 전송되면 true, 종료 중이라 전송하지 못하면 false (ACK 하지 않음)
+     */
+    private boolean deadLetter(ConsumerRecord<String, LedgerEventMessage> record, RuntimeException cause) {
+        log.error("원장 기록 실패, DLT 전송 - topic: {}, partition: {}, offset: {}, 원인: {}",
+                record.topic(), record.partition(), record.offset(), cause.getMessage());
+        BackOffExecution backOff = LedgerRetryPolicy.transientBackOff().start();
+        while (true) {
+            try {
+                deadLetterPublishingRecoverer.accept(record, cause);
+                return true;
+            } catch (RuntimeException e) {
+                long interval = backOff.nextBackOff();
+                log.error("DLT 전송 실패, 재시도 - topic: {}, offset: {}, 다음 시도까지: {}ms, 원인: {}",
+                        record.topic(), record.offset(), interval, e.getMessage());
+                if (!sleep(interval)) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * ACK 하지 못한 레코드가 커밋 오프셋을 영구히 막지 않도록 컨테이너 중지 (리밸런스 후 커밋 오프셋부터 재전달)
+     */
+    private void stopContainer() {
+        MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(LISTENER_ID);
+        if (container != null && container.isRunning()) {
+            container.stop(() -> log.error("원장 병렬 리스너 컨테이너 중지 - 원인 확인 후 재시작 필요"));
+        }
+    }
+
+    /**
+     * 재시도 대기 (종료 요청 시 즉시 중단)
+     *
+     * @return 대기를 마치면 true, 종료 중이거나 인터럽트되면 false
+     */
+    private boolean sleep(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        try {
+            while (!stopping) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return true;
+                }
+                Thread.sleep(Math.min(remaining, STOP_CHECK_MS));
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ========================================
+    // SmartLifecycle
+    // ========================================
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        stopping = true;
+        running = false;
+        keyOrderedTaskExecutor.close();
+        log.info("원장 병렬 Consumer 종료 - 미처리 계좌 수: {}", keyOrderedTaskExecutor.activeKeyCount());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 리스너 컨테이너(DEFAULT_PHASE)보다 나중에, 그룹 커밋 Writer(DEFAULT_PHASE - 4096)보다 먼저 종료
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+}
@@ -0,0 +1,66 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 원장 이벤트 처리 실패 재시도 정책
+ * <p>
+ * DB 연결 실패, 잠금 대기 초과처럼 다시 시도하면 성공할 수 있는 실패는 DLT로 보내지 않고
+ * 성공할 때까지 재시도합니다. 원장 이벤트를 DLT로 보내면 같은 계좌의 이후 이벤트가 빠진 선행 거래 없이 기록되어
+ * balanceAfter/sequence가 어긋나기 때문입니다.
+ * </p>
+ *
+ * <h3>일시적 실패 (원인 체인 중 하나라도 해당):</h3>
+ * <ul>
+ *   <li>{@link TransientDataAccessException}: 잠금 대기 초과, 교착 상태, 쿼리 타임아웃 등</li>
+ *   <li>{@link RecoverableDataAccessException}: 연결 재수립 후 재시도 가능</li>
+ *   <li>{@link DataAccessResourceFailureException}: 커넥션 획득 실패 등 DB 접속 불가</li>
+ *   <li>{@link CannotCreateTransactionException}: 트랜잭션 시작 시 커넥션 획득 실패</li>
+ *   <li>{@link TimeoutException}: 그룹 커밋 대기 시간 초과 (재시도 시 이미 커밋됐으면 중복 거래로 판정)</li>
+ * </ul>
+ * <p>
+ * 그 밖의 실패(도메인 검증 실패, 디코딩 실패 등)는 재시도해도 결과가 같으므로 정해진 횟수 후 DLT로 보냅니다.
+ * </p>
+ */
+public final class LedgerRetryPolicy {
+
+    private static final long TRANSIENT_INITIAL_INTERVAL_MS = 1_000L;
+    private static final double TRANSIENT_MULTIPLIER = 2.0;
+    private static final long TRANSIENT_MAX_INTERVAL_MS = 30_000L;
+
+    private LedgerRetryPolicy() {
+    }
+
+    /**
+     * 일시적 실패 여부 (원인 체인 전체 확인, 리스너 예외 래핑 무관)
+     */
+    public static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 일시적 실패 재시도 간격 (1초부터 2배씩, 최대 30초, 횟수 제한 없음)
+     */
+    public static BackOff transientBackOff() {
+        ExponentialBackOff backOff = new ExponentialBackOff(TRANSIENT_INITIAL_INTERVAL_MS, TRANSIENT_MULTIPLIER);
+        backOff.setMaxInterval(TRANSIENT_MAX_INTERVAL_MS);
+        backOff.setMaxElapsedTime(Long.MAX_VALUE);
+        return backOff;
+    }
+}
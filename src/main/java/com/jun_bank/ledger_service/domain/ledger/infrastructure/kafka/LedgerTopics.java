@@ -0,0 +1,63 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import java.util.Set;
+
+/**
+ * 원장 서비스 Kafka 토픽
+ *
+ * <h3>수신 (원장 기록):</h3>
+ * <ul>
+ *   <li>transaction.deposit.completed / transaction.withdrawal.completed</li>
+ *   <li>transfer.completed</li>
+ *   <li>card.payment.completed / card.payment.cancelled</li>
+ * </ul>
+ *
+ * <h3>수신 (감사 로그):</h3>
+ * <ul>
+ *   <li>auth.login.success / auth.login.failed</li>
+ *   <li>account.balance.changed / transfer.failed</li>
+ * </ul>
+ *
+ * <h3>발행:</h3>
+ * <ul>
+ *   <li>ledger.entry.created / ledger.balance.mismatch / ledger.integrity.violation</li>
+ * </ul>
+ */
+public final class LedgerTopics {
+
+    // ========================================
+    // 수신 - 원장 기록 대상
+    // ========================================
+
+    public static final String DEPOSIT_COMPLETED = "transaction.deposit.completed";
+    public static final String WITHDRAWAL_COMPLETED = "transaction.withdrawal.completed";
+    public static final String TRANSFER_COMPLETED = "transfer.completed";
+    public static final String PAYMENT_COMPLETED = "card.payment.completed";
+    public static final String PAYMENT_CANCELLED = "card.payment.cancelled";
+
+    // ========================================
+    // 수신 - 감사 로그 대상
+    // ========================================
+
+    public static final String BALANCE_CHANGED = "account.balance.changed";
+    public static final String TRANSFER_FAILED = "transfer.failed";
+    public static final String LOGIN_SUCCESS = "auth.login.success";
+    public static final String LOGIN_FAILED = "auth.login.failed";
+
+    public static final Set<String> LEDGER_TOPICS = Set.of(
+            DEPOSIT_COMPLETED, WITHDRAWAL_COMPLETED, TRANSFER_COMPLETED, PAYMENT_COMPLETED, PAYMENT_CANCELLED);
+
+    public static final Set<String> AUDIT_TOPICS = Set.of(
+            BALANCE_CHANGED, TRANSFER_FAILED, LOGIN_SUCCESS, LOGIN_FAILED);
+
+    // ========================================
+    // 발행
+    // ========================================
+
+    public static final String ENTRY_CREATED = "ledger.entry.created";
+    public static final String BALANCE_MISMATCH = "ledger.balance.mismatch";
+    public static final String INTEGRITY_VIOLATION = "ledger.integrity.violation";
+
+    private LedgerTopics() {
+    }
+}
@@ -0,0 +1,152 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.metrics;
+
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerMetricsPort;
+import com.jun_bank.ledger_service.domain.ledger.application.service.AccountHeadCache;
+import com.jun_bank.ledger_service.domain.ledger.application.service.DuplicateTransactionFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 원장 기록 경로 Micrometer 메트릭 (Prometheus 레지스트리로 노출)
+ *
+ * <h3>메트릭:</h3>
+ * <ul>
+ *   <li>{@code ledger.ingest.lag} (topic): 이벤트 시각(레코드 timestamp) → 커밋 완료 지연</li>
+ *   <li>{@code ledger.ingest.poll.records}: 배치 모드 poll 1회 레코드 수
+ *       (단건/병렬 모드는 Kafka 클라이언트 메트릭 {@code kafka.consumer.fetch.manager.records.per.request.avg})</li>
+ *   <li>{@code ledger.append.transaction} (outcome): 기록 트랜잭션 소요 시간</li>
+ *   <li>{@code ledger.append.commit.entries}: 커밋 1회 엔트리 수</li>
+ *   <li>{@code ledger.append.group.requests}: 그룹 커밋 1회 기록 요청 수</li>
+ *   <li>{@code ledger.dedup.lookups} (result): 중복 판정 결과별 거래 수 (bloom_negative/cache_hit/db_hit/db_miss)</li>
+ *   <li>{@code ledger.head.cache.requests} (result): 계좌 최신 상태 캐시 hit/miss, {@code ledger.head.cache.size}</li>
+ * </ul>
+ * <p>
+ * 태그 값은 토픽(고정 5개)과 결과 구분뿐입니다. DB 커넥션 대기 시간은 Spring Boot가 등록하는
+ * {@code hikaricp.connections.acquire}를 사용합니다 (히스토그램: {@link com.jun_bank.ledger_service.global.config.MetricsConfig}).
+ * </p>
+ */
+@Component
+public class LedgerMetrics implements LedgerMetricsPort {
+
+    private static final Duration MAX_EXPECTED_LAG = Duration.ofMinutes(10);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> lagByTopic = new ConcurrentHashMap<>();
+    private final DistributionSummary pollRecords;
+    private final Timer committedTransactions;
+    private final Timer rolledBackTransactions;
+    private final DistributionSummary commitEntries;
+    private final DistributionSummary groupRequests;
+
+    public LedgerMetrics(MeterRegistry meterRegistry,
+                         DuplicateTransactionFilter duplicateTransactionFilter,
+                         AccountHeadCache accountHeadCache) {
+        this.meterRegistry = meterRegistry;
+        this.pollRecords = DistributionSummary.builder("ledger.ingest.poll.records")
+                .description("배치 모드 poll 1회 레코드 수")
+                .baseUnit("records")
+                .register(meterRegistry);
+        this.committedTransactions = appendTransactionTimer("committed");
+        this.rolledBackTransactions = appendTransactionTimer("rolled_back");
+        this.commitEntries = DistributionSummary.builder("ledger.append.commit.entries")
+                .description("커밋 1회 엔트리 수")
+                .baseUnit("entries")
+                .register(meterRegistry);
+        this.groupRequests = DistributionSummary.builder("ledger.append.group.requests")
+                .description("그룹 커밋 1회 기록 요청 수")
+                .baseUnit("requests")
+                .register(meterRegistry);
+
+        dedupCounter(duplicateTransactionFilter, "bloom_negative", DuplicateTransactionFilter::bloomNegativeCount);
+        dedupCounter(duplicateTransactionFilter, "cache_hit", DuplicateTransactionFilter::cacheHitCount);
+        dedupCounter(duplicateTransactionFilter, "db_hit", DuplicateTransactionFilter::dbHitCount);
+        dedupCounter(duplicateTransactionFilter, "db_miss", DuplicateTransactionFilter::dbMissCount);
+
+        headCacheCounter(accountHeadCache, "hit", AccountHeadCache::hitCount);
+        headCacheCounter(accountHeadCache, "miss", AccountHeadCache::missCount);
+        Gauge.builder("ledger.head.cache.size", accountHeadCache, AccountHeadCache::size)
+                .description("계좌 최신 상태 캐시 계좌 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordAppendTransaction(long durationNanos, int entries, boolean committed) {
+        if (committed) {
+            committedTransactions.record(durationNanos, TimeUnit.NANOSECONDS);
+            commitEntries.record(entries);
+        } else {
+            rolledBackTransactions.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordGroupCommit(int requests) {
+        groupRequests.record(requests);
+    }
+
+    /**
+     * 배치 모드 poll 1회 레코드 수
+     */
+    public void recordPoll(int records) {
+        pollRecords.record(records);
+    }
+
+    /**
+     * 레코드 기록(커밋) 완료 시점의 이벤트 지연 (레코드 timestamp 기준)
+     */
+    public void recordCommitted(ConsumerRecord<?, ?> record) {
+        recordCommitted(record, System.currentTimeMillis());
+    }
+
+    /**
+     * 레코드 기록(커밋) 완료 시점의 이벤트 지연 (같은 시점에 커밋된 여러 레코드용)
+     */
+    public void recordCommitted(ConsumerRecord<?, ?> record, long committedAtMillis) {
+        if (record.timestamp() <= 0) {
+            return;
+        }
+        long lagMillis = Math.max(0, committedAtMillis - record.timestamp());
+        lagByTopic.computeIfAbsent(record.topic(), this::lagTimer).record(lagMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private Timer lagTimer(String topic) {
+        return Timer.builder("ledger.ingest.lag")
+                .description("이벤트 시각 → 원장 커밋 지연")
+                .tag("topic", topic)
+                .maximumExpectedValue(MAX_EXPECTED_LAG)
+                .register(meterRegistry);
+    }
+
+    private Timer appendTransactionTimer(String outcome) {
+        return Timer.builder("ledger.append.transaction")
+                .description("원장 기록 트랜잭션 소요 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void dedupCounter(DuplicateTransactionFilter filter, String result,
+                              ToDoubleFunction<DuplicateTransactionFilter> count) {
+        FunctionCounter.builder("ledger.dedup.lookups", filter, count)
+                .description("중복 거래 판정 결과별 거래 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void headCacheCounter(AccountHeadCache cache, String result, ToDoubleFunction<AccountHeadCache> count) {
+        FunctionCounter.builder("ledger.head.cache.requests", cache, count)
+                .description("계좌 최신 상태 캐시 조회 결과별 계좌 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,75 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountSummary;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AccountSummaryPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.AccountSummaryJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 계좌 요약 영속성 어댑터
+ * <p>
+ * {@link AccountSummaryPort} 구현체. 배치 안의 같은 계좌 엔트리는 변경분 1행으로 합칩니다
+ * (엔트리 수, 순번이 가장 큰 엔트리의 잔액/거래 ID, 가장 이른/늦은 기록 시각).
+ * </p>
+ * <p>
+ * 요약은 항상 기록하지만, 조회는 {@code ledger.summary.read-enabled=true}일 때만 사용합니다.
+ * 요약 도입 전 기록이 있는 계좌는 원장 재생(ACCOUNT_SUMMARIES)으로 재구축한 뒤 켜야 합니다.
+ * </p>
+ */
+@Component
+public class AccountSummaryPersistenceAdapter implements AccountSummaryPort {
+
+    private final AccountSummaryJdbcRepository accountSummaryJdbcRepository;
+    private final boolean readEnabled;
+
+    public AccountSummaryPersistenceAdapter(AccountSummaryJdbcRepository accountSummaryJdbcRepository,
+                                            @Value("${ledger.summary.read-enabled:false}") boolean readEnabled) {
+        this.accountSummaryJdbcRepository = accountSummaryJdbcRepository;
+        this.readEnabled = readEnabled;
+    }
+
+    @Override
+    public void apply(Collection<LedgerEntry> entries) {
+        TreeMap<String, AccountSummary> deltas = new TreeMap<>();
+        for (LedgerEntry entry : entries) {
+            deltas.merge(entry.getAccountNumber(), deltaOf(entry), AccountSummaryPersistenceAdapter::combine);
+        }
+        accountSummaryJdbcRepository.mergeAll(deltas.values());
+    }
+
+    @Override
+    public Optional<AccountSummary> find(String accountNumber) {
+        if (!readEnabled) {
+            return Optional.empty();
+        }
+        return accountSummaryJdbcRepository.findById(accountNumber);
+    }
+
+    @Override
+    public AccountSummary summarizeFromLedger(String accountNumber) {
+        return accountSummaryJdbcRepository.summarizeFromLedger(accountNumber);
+    }
+
+    private static AccountSummary deltaOf(LedgerEntry entry) {
+        return new AccountSummary(entry.getAccountNumber(), entry.getBalanceAfter().toLong(), 1L,
+                entry.getSequence(), entry.getCreatedAt(), entry.getCreatedAt(), entry.getTransactionId());
+    }
+
+    private static AccountSummary combine(AccountSummary left, AccountSummary right) {
+        AccountSummary latest = right.lastSequence() > left.lastSequence() ? right : left;
+        return new AccountSummary(
+                left.accountNumber(),
+                latest.balance(),
+                left.entryCount() + right.entryCount(),
+                latest.lastSequence(),
+                left.firstEntryAt().isBefore(right.firstEntryAt()) ? left.firstEntryAt() : right.firstEntryAt(),
+                left.lastEntryAt().isAfter(right.lastEntryAt()) ? left.lastEntryAt() : right.lastEntryAt(),
+                latest.lastTransactionId());
+    }
+}
@@ -0,0 +1,52 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AuditLogRecord;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AuditLogPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.AuditLog;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.AuditLogId;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.AuditLogJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 감사 로그 영속성 어댑터
+ * <p>
+ * {@link AuditLogPort} 구현체. 새 감사 로그에는 여기서 ID를 할당합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditLogPersistenceAdapter implements AuditLogPort {
+
+    private final AuditLogJdbcRepository auditLogJdbcRepository;
+
+    @Override
+    public int insertAll(List<AuditLogRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        return auditLogJdbcRepository.insertAll(toRows(records));
+    }
+
+    @Override
+    public int copyAll(List<AuditLogRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        return auditLogJdbcRepository.copyAll(toRows(records));
+    }
+
+    private List<AuditLogJdbcRepository.Row> toRows(List<AuditLogRecord> records) {
+        List<AuditLogJdbcRepository.Row> rows = new ArrayList<>(records.size());
+        for (AuditLogRecord record : records) {
+            AuditLog auditLog = record.auditLog();
+            UUID auditLogId = auditLog.isNew() ? AuditLogId.generate().uuid() : auditLog.getAuditLogId().uuid();
+            rows.add(new AuditLogJdbcRepository.Row(auditLogId, record.eventId(), auditLog));
+        }
+        return rows;
+    }
+}
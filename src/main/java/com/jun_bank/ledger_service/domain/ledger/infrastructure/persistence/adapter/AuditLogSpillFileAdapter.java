@@ -0,0 +1,275 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AuditLogRecord;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AuditLogSpillPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.AuditLog;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.AuditLogId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 감사 로그 로컬 spill 파일 어댑터
+ * <p>
+ * {@link AuditLogSpillPort} 구현체. 감사 로그를 한 줄에 하나씩 JSON(NDJSON)으로 append 하고,
+ * 쓸 때마다 {@link FileChannel#force}로 디스크에 동기화합니다.
+ * </p>
+ *
+ * <h3>세그먼트:</h3>
+ * <ul>
+ *   <li>쓰는 중인 파일: {@code audit-<시각>-<순번>.active} (segment-max-bytes를 넘으면 봉인)</li>
+ *   <li>봉인된 파일: {@code audit-<시각>-<순번>.ndjson} (재적재 대상, 성공 시 삭제)</li>
+ *   <li>기동 시 남아 있는 .active 파일은 이전 프로세스가 쓰던 것이므로 바로 봉인</li>
+ * </ul>
+ * <p>
+ * 재적재 중 실패하면 파일을 처음부터 다시 읽지만, DB 저장이 event_id 기준으로 멱등이므로 중복 기록되지 않습니다.
+ * 비정상 종료로 마지막 줄이 잘린 경우 그 줄은 건너뜁니다 (fsync 전이므로 호출자에게 완료를 알리지 않은 건).
+ * </p>
+ */
+@Slf4j
+@Component
+public class AuditLogSpillFileAdapter implements AuditLogSpillPort {
+
+    private static final String FILE_PREFIX = "audit-";
+    private static final String ACTIVE_SUFFIX = ".active";
+    private static final String SEALED_SUFFIX = ".ndjson";
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final AtomicLong segmentSequence = new AtomicLong();
+    private final Path directory;
+    private final long segmentMaxBytes;
+
+    private FileChannel activeChannel;
+    private Path activePath;
+
+    public AuditLogSpillFileAdapter(@Value("${ledger.audit.writer.spill-dir:./data/audit-spill}") String directory,
+                                    @Value("${ledger.audit.writer.segment-max-bytes:67108864}") long segmentMaxBytes) {
+        this.directory = Path.of(directory);
+        this.segmentMaxBytes = segmentMaxBytes;
+        sealLeftoverSegments();
+    }
+
+    @Override
+    public synchronized void spill(List<AuditLogRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder(records.size() * 256);
+        for (AuditLogRecord record : records) {
+            lines.append(jsonMapper.writeValueAsString(toLine(record))).append('\n');
+        }
+
+        try {
+            FileChannel channel = activeChannel();
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            if (channel.size() >= segmentMaxBytes) {
+                sealActiveSegment();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 spill 파일 기록 실패: " + activePath, e);
+        }
+    }
+
+    @Override
+    public int replay(int batchSize, Consumer<List<AuditLogRecord>> sink) {
+        synchronized (this) {
+            sealActiveSegment();
+        }
+
+        int replayed = 0;
+        for (Path segment : sealedSegments()) {
+            List<AuditLogRecord> batch = new ArrayList<>(batchSize);
+            try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    AuditLogRecord record = fromLine(segment, line);
+                    if (record == null) {
+                        continue;
+                    }
+                    batch.add(record);
+                    if (batch.size() >= batchSize) {
+                        sink.accept(batch);
+                        replayed += batch.size();
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("감사 로그 spill 파일 읽기 실패: " + segment, e);
+            }
+            if (!batch.isEmpty()) {
+                sink.accept(batch);
+                replayed += batch.size();
+            }
+            delete(segment);
+        }
+        return replayed;
+    }
+
+    @Override
+    public boolean hasPending() {
+        synchronized (this) {
+            if (activePath != null) {
+                return true;
+            }
+        }
+        return !sealedSegments().isEmpty();
+    }
+
+    // ========================================
+    // 세그먼트 관리
+    // ========================================
+
+    private FileChannel activeChannel() throws IOException {
+        if (activeChannel == null) {
+            Files.createDirectories(directory);
+            activePath = directory.resolve(FILE_PREFIX + segmentName() + ACTIVE_SUFFIX);
+            activeChannel = FileChannel.open(activePath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return activeChannel;
+    }
+
+    private void sealActiveSegment() {
+        if (activeChannel == null) {
+            return;
+        }
+        try {
+            activeChannel.close();
+            seal(activePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 spill 파일 봉인 실패: " + activePath, e);
+        } finally {
+            activeChannel = null;
+            activePath = null;
+        }
+    }
+
+    private void sealLeftoverSegments() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path leftover : files.filter(path -> path.getFileName().toString().endsWith(ACTIVE_SUFFIX)).toList()) {
+                seal(leftover);
+                log.warn("이전 프로세스의 감사 로그 spill 파일 봉인: {}", leftover);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 spill 디렉터리 확인 실패: " + directory, e);
+        }
+    }
+
+    private void seal(Path active) throws IOException {
+        String name = active.getFileName().toString();
+        Path sealed = active.resolveSibling(name.substring(0, name.length() - ACTIVE_SUFFIX.length()) + SEALED_SUFFIX);
+        Files.move(active, sealed, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 봉인된 세그먼트 (이름 = 생성 순)
+     */
+    private List<Path> sealedSegments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEALED_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 spill 디렉터리 조회 실패: " + directory, e);
+        }
+    }
+
+    private void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 spill 파일 삭제 실패: " + segment, e);
+        }
+    }
+
+    private String segmentName() {
+        return String.format("%013d-%06d", System.currentTimeMillis(), segmentSequence.incrementAndGet() % 1_000_000);
+    }
+
+    // ========================================
+    // 직렬화
+    // ========================================
+
+    private Map<String, String> toLine(AuditLogRecord record) {
+        AuditLog auditLog = record.auditLog();
+        Map<String, String> line = new LinkedHashMap<>();
+        line.put("eventId", record.eventId());
+        line.put("auditLogId", auditLog.isNew() ? null : auditLog.getAuditLogId().value());
+        line.put("eventType", auditLog.getEventType());
+        line.put("serviceName", auditLog.getServiceName());
+        line.put("userId", auditLog.getUserId());
+        line.put("resourceType", auditLog.getResourceType());
+        line.put("resourceId", auditLog.getResourceId());
+        line.put("action", auditLog.getAction());
+        line.put("previousValue", auditLog.getPreviousValue());
+        line.put("newValue", auditLog.getNewValue());
+        line.put("ipAddress", auditLog.getIpAddress());
+        line.put("userAgent", auditLog.getUserAgent());
+        line.put("metadata", auditLog.getMetadata());
+        line.put("timestamp", auditLog.getTimestamp().toString());
+        return line;
+    }
+
+    @SuppressWarnings("unchecked")
+    private AuditLogRecord fromLine(Path segment, String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        Map<String, String> values;
+        try {
+            values = jsonMapper.readValue(line, Map.class);
+        } catch (JacksonException e) {
+            log.warn("감사 로그 spill 파일의 잘린 줄 건너뜀 - 파일: {}, 원인: {}", segment, e.getOriginalMessage());
+            return null;
+        }
+
+        String auditLogId = values.get("auditLogId");
+        AuditLog auditLog = AuditLog.restoreBuilder()
+                .auditLogId(auditLogId != null ? AuditLogId.of(auditLogId) : null)
+                .eventType(values.get("eventType"))
+                .serviceName(values.get("serviceName"))
+                .userId(values.get("userId"))
+                .resourceType(values.get("resourceType"))
+                .resourceId(values.get("resourceId"))
+                .action(values.get("action"))
+                .previousValue(values.get("previousValue"))
+                .newValue(values.get("newValue"))
+                .ipAddress(values.get("ipAddress"))
+                .userAgent(values.get("userAgent"))
+                .metadata(values.get("metadata"))
+                .timestamp(LocalDateTime.parse(values.get("timestamp")))
+                .build();
+        return new AuditLogRecord(values.get("eventId"), auditLog);
+    }
+}
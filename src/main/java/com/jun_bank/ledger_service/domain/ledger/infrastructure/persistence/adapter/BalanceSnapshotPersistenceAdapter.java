@@ -0,0 +1,48 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BalanceSnapshot;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.BalanceSnapshotPort;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity.BalanceSnapshotEntity;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.BalanceSnapshotJdbcRepository;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.BalanceSnapshotJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 잔액 스냅샷 영속성 어댑터
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceSnapshotPersistenceAdapter implements BalanceSnapshotPort {
+
+    private final BalanceSnapshotJpaRepository balanceSnapshotJpaRepository;
+    private final BalanceSnapshotJdbcRepository balanceSnapshotJdbcRepository;
+
+    @Override
+    public void save(BalanceSnapshot snapshot) {
+        balanceSnapshotJdbcRepository.insertIgnoringDuplicate(snapshot);
+    }
+
+    @Override
+    public Optional<BalanceSnapshot> findLatest(String accountNumber) {
+        return balanceSnapshotJpaRepository.findFirstByAccountNumberOrderBySequenceDesc(accountNumber)
+                .map(BalanceSnapshotEntity::toDto);
+    }
+
+    @Override
+    public Optional<BalanceSnapshot> findLatestAtOrBefore(String accountNumber, LocalDateTime asOf) {
+        return balanceSnapshotJpaRepository
+                .findFirstByAccountNumberAndLastEntryCreatedAtLessThanEqualOrderBySequenceDesc(accountNumber, asOf)
+                .map(BalanceSnapshotEntity::toDto);
+    }
+
+    @Override
+    public Optional<BalanceSnapshot> findEarliestAfter(String accountNumber, LocalDateTime asOf) {
+        return balanceSnapshotJpaRepository
+                .findFirstByAccountNumberAndLastEntryCreatedAtGreaterThanOrderBySequenceAsc(accountNumber, asOf)
+                .map(BalanceSnapshotEntity::toDto);
+    }
+}
@@ -0,0 +1,99 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryDailyRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RollupGranularity;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.CategoryRollupPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.CategoryRollupJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 카테고리 집계 영속성 어댑터
+ * <p>
+ * {@link CategoryRollupPort} 구현체. 배치 안의 같은 (계좌, 카테고리, 일) 엔트리는 일 집계 변경분 1행으로,
+ * 같은 (카테고리, 월) 엔트리는 월 집계 변경분 1행으로 합칩니다.
+ * </p>
+ * <p>
+ * 월 집계 행은 모든 기록 트랜잭션이 함께 갱신하므로, 트랜잭션마다 임의로 고른 분할(stripe) 행에 더해
+ * 병렬 기록(파티션 Worker, 대량 적재, 여러 Pod)이 같은 행 잠금을 기다리지 않게 합니다.
+ * </p>
+ * <p>
+ * 집계는 항상 기록하지만, 조회는 {@code ledger.rollup.read-enabled=true}일 때만 사용합니다.
+ * 집계 도입 전 기록이 있으면 원장 재생(CATEGORY_ROLLUPS)으로 재구축한 뒤 켜야 합니다.
+ * </p>
+ */
+@Component
+public class CategoryRollupPersistenceAdapter implements CategoryRollupPort {
+
+    private static final Comparator<CategoryRollup> MONTHLY_KEY_ORDER = Comparator
+            .comparing(CategoryRollup::period)
+            .thenComparing(CategoryRollup::category);
+
+    private final CategoryRollupJdbcRepository categoryRollupJdbcRepository;
+    private final boolean readEnabled;
+    private final int monthlyStripes;
+
+    public CategoryRollupPersistenceAdapter(CategoryRollupJdbcRepository categoryRollupJdbcRepository,
+                                            @Value("${ledger.rollup.read-enabled:false}") boolean readEnabled,
+                                            @Value("${ledger.rollup.monthly-stripes:16}") int monthlyStripes) {
+        this.categoryRollupJdbcRepository = categoryRollupJdbcRepository;
+        this.readEnabled = readEnabled;
+        this.monthlyStripes = Math.max(1, monthlyStripes);
+    }
+
+    @Override
+    public void apply(Collection<LedgerEntry> entries) {
+        TreeMap<CategoryDailyRollup, CategoryDailyRollup> daily = new TreeMap<>(CategoryDailyRollup.KEY_ORDER);
+        TreeMap<CategoryRollup, CategoryRollup> monthly = new TreeMap<>(MONTHLY_KEY_ORDER);
+        for (LedgerEntry entry : entries) {
+            CategoryDailyRollup delta = CategoryDailyRollup.of(entry);
+            daily.merge(delta, delta, CategoryDailyRollup::plus);
+            CategoryRollup monthDelta = new CategoryRollup(delta.day().withDayOfMonth(1), delta.category(),
+                    1L, delta.totalAmount());
+            monthly.merge(monthDelta, monthDelta, CategoryRollup::plus);
+        }
+        categoryRollupJdbcRepository.mergeDaily(daily.values());
+        categoryRollupJdbcRepository.mergeMonthly(stripe(), monthly.values());
+    }
+
+    @Override
+    public boolean isReadEnabled() {
+        return readEnabled;
+    }
+
+    @Override
+    public List<CategoryRollup> sumDaily(String accountNumber, LocalDate from, LocalDate to,
+                                         RollupGranularity granularity) {
+        return categoryRollupJdbcRepository.sumDaily(accountNumber, from, to, granularity);
+    }
+
+    @Override
+    public List<CategoryRollup> sumMonthly(LocalDate fromMonth, LocalDate toMonthUntil) {
+        return categoryRollupJdbcRepository.sumMonthly(fromMonth, toMonthUntil);
+    }
+
+    @Override
+    public List<CategoryRollup> sumFromLedger(String accountNumber, LocalDate from, LocalDate to,
+                                              RollupGranularity granularity) {
+        return categoryRollupJdbcRepository.sumFromLedger(accountNumber, from, to, granularity);
+    }
+
+    /**
+     * 트랜잭션의 분할 번호 (한 트랜잭션의 월 집계 변경분은 모두 같은 분할 행에 씀)
+     * <p>
+     * 스레드 ID는 Pod마다 같은 순서로 매겨지므로, 스레드 ID로 고르면 여러 Pod의 같은 번호 스레드가 같은 행을 다툽니다.
+     * </p>
+     */
+    private int stripe() {
+        return ThreadLocalRandom.current().nextInt(monthlyStripes);
+    }
+}
@@ -0,0 +1,38 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ChainCheckpoint;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.ChainCheckpointPort;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.ChainCheckpointJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시 체인 검증 위치 영속성 어댑터
+ * <p>
+ * {@link ChainCheckpointPort} 구현체. 동시 UPSERT 간 행 잠금 순서가 엇갈리지 않도록 계좌번호 순으로 씁니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChainCheckpointPersistenceAdapter implements ChainCheckpointPort {
+
+    private final ChainCheckpointJdbcRepository chainCheckpointJdbcRepository;
+
+    @Override
+    public Map<String, ChainCheckpoint> findAll(Collection<String> accountNumbers) {
+        return chainCheckpointJdbcRepository.findAll(accountNumbers);
+    }
+
+    @Override
+    public void saveAll(Collection<ChainCheckpoint> checkpoints) {
+        List<ChainCheckpoint> sorted = checkpoints.stream()
+                .sorted(Comparator.comparing(ChainCheckpoint::accountNumber))
+                .toList();
+        chainCheckpointJdbcRepository.upsertAll(sorted);
+    }
+}
@@ -0,0 +1,47 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.DirtyAccountPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.DirtyAccountJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 최근 기록 계좌 영속성 어댑터
+ * <p>
+ * {@link DirtyAccountPort} 구현체. 배치 안의 같은 계좌는 가장 늦은 기록 시각 1행으로 합칩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DirtyAccountPersistenceAdapter implements DirtyAccountPort {
+
+    private final DirtyAccountJdbcRepository dirtyAccountJdbcRepository;
+
+    @Override
+    public void markDirty(Collection<LedgerEntry> entries) {
+        TreeMap<String, LocalDateTime> lastEntryAts = new TreeMap<>();
+        for (LedgerEntry entry : entries) {
+            lastEntryAts.merge(entry.getAccountNumber(), entry.getCreatedAt(),
+                    (a, b) -> a.isAfter(b) ? a : b);
+        }
+        dirtyAccountJdbcRepository.upsertAll(lastEntryAts);
+    }
+
+    @Override
+    public void markDirty(Collection<LedgerEntry> entries, LocalDateTime markedAt) {
+        TreeMap<String, LocalDateTime> lastEntryAts = new TreeMap<>();
+        entries.forEach(entry -> lastEntryAts.put(entry.getAccountNumber(), markedAt));
+        dirtyAccountJdbcRepository.upsertAll(lastEntryAts);
+    }
+
+    @Override
+    public List<String> findDirtySince(LocalDateTime since, String afterAccountNumber, int limit) {
+        return dirtyAccountJdbcRepository.findSince(since, afterAccountNumber, limit);
+    }
+}
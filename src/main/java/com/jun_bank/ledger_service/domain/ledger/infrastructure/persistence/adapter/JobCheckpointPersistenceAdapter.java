@@ -0,0 +1,37 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.JobCheckpoint;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.JobCheckpointPort;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity.JobCheckpointEntity;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.JobCheckpointJpaRepository;
+import com.jun_bank.ledger_service.global.datasource.ReadRoutingContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 배치 작업 체크포인트 영속성 어댑터
+ * <p>
+ * 체크포인트는 저장 직후 다시 읽어 이어서 실행하므로 항상 Primary에서 조회합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JobCheckpointPersistenceAdapter implements JobCheckpointPort {
+
+    private final JobCheckpointJpaRepository jobCheckpointJpaRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public JobCheckpoint load(String jobName) {
+        return ReadRoutingContext.onPrimary(() -> jobCheckpointJpaRepository.findById(jobName)
+                .map(JobCheckpointEntity::toDto)
+                .orElseGet(() -> JobCheckpoint.initial(jobName)));
+    }
+
+    @Override
+    @Transactional
+    public void save(JobCheckpoint checkpoint) {
+        jobCheckpointJpaRepository.save(JobCheckpointEntity.of(checkpoint));
+    }
+}
@@ -0,0 +1,250 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountActivity;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryCursor;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryRangeSummary;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.LedgerEntryId;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity.LedgerEntryEntity;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.LedgerEntryBulkInsertRepository;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.LedgerEntryCopyRepository;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.LedgerEntryJdbcQueryRepository;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.LedgerEntryJpaRepository;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.LedgerEntryKey;
+import com.jun_bank.ledger_service.global.datasource.ReadRoutingContext;
+import com.jun_bank.ledger_service.global.datasource.RecentWriteRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 원장 엔트리 영속성 어댑터
+ * <p>
+ * {@link LedgerEntryPort} 구현체. 저장은 다중 행 INSERT(대량 적재는 COPY), 조회는 JPA를 사용합니다.
+ * </p>
+ * <p>
+ * 월별 파티션 모드({@code ledger.partition.enabled=true})에서는 순번/거래 ID 조회를 ledger_entry_keys로 먼저 풀어
+ * 기록 시각을 얻은 뒤, 기록 시각 조건으로 해당 파티션만 읽습니다.
+ * </p>
+ * <p>
+ * 저장한 엔트리의 계좌는 {@link RecentWriteRegistry}에 표시하여, Replica 분리 시 커밋 직후 조회가 Primary에서 실행되도록 합니다.
+ * </p>
+ */
+@Component
+public class LedgerEntryPersistenceAdapter implements LedgerEntryPort {
+
+    private final LedgerEntryJpaRepository ledgerEntryJpaRepository;
+    private final LedgerEntryBulkInsertRepository ledgerEntryBulkInsertRepository;
+    private final LedgerEntryCopyRepository ledgerEntryCopyRepository;
+    private final LedgerEntryJdbcQueryRepository ledgerEntryJdbcQueryRepository;
+    private final RecentWriteRegistry recentWriteRegistry;
+    private final boolean partitioned;
+
+    public LedgerEntryPersistenceAdapter(LedgerEntryJpaRepository ledgerEntryJpaRepository,
+                                         LedgerEntryBulkInsertRepository ledgerEntryBulkInsertRepository,
+                                         LedgerEntryCopyRepository ledgerEntryCopyRepository,
+                                         LedgerEntryJdbcQueryRepository ledgerEntryJdbcQueryRepository,
+                                         RecentWriteRegistry recentWriteRegistry,
+                                         @Value("${ledger.partition.enabled:false}") boolean partitioned) {
+        this.ledgerEntryJpaRepository = ledgerEntryJpaRepository;
+        this.ledgerEntryBulkInsertRepository = ledgerEntryBulkInsertRepository;
+        this.ledgerEntryCopyRepository = ledgerEntryCopyRepository;
+        this.ledgerEntryJdbcQueryRepository = ledgerEntryJdbcQueryRepository;
+        this.recentWriteRegistry = recentWriteRegistry;
+        this.partitioned = partitioned;
+    }
+
+    @Override
+    public List<LedgerEntry> saveAll(List<LedgerEntry> entries) {
+        List<LedgerEntryEntity> entities = new ArrayList<>(entries.size());
+        for (LedgerEntry entry : entries) {
+            entities.add(LedgerEntryEntity.of(entry, LedgerEntryId.generate().uuid()));
+        }
+        ledgerEntryBulkInsertRepository.insertAll(entities);
+        markWritten(entries);
+
+        List<LedgerEntry> saved = new ArrayList<>(entities.size());
+        for (LedgerEntryEntity entity : entities) {
+            saved.add(entity.toDomain());
+        }
+        return saved;
+    }
+
+    @Override
+    public int copyAll(List<LedgerEntry> entries) {
+        List<LedgerEntryEntity> entities = new ArrayList<>(entries.size());
+        for (LedgerEntry entry : entries) {
+            entities.add(LedgerEntryEntity.of(entry, LedgerEntryId.generate().uuid()));
+        }
+        int copied = ledgerEntryCopyRepository.copyAll(entities);
+        markWritten(entries);
+        return copied;
+    }
+
+    @Override
+    public Set<String> findExistingTransactionIds(Collection<String> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return Set.of();
+        }
+        if (partitioned) {
+            return new HashSet<>(ledgerEntryJdbcQueryRepository.findExistingTransactionIdsFromKeys(transactionIds));
+        }
+        return new HashSet<>(ledgerEntryJpaRepository.findExistingTransactionIds(transactionIds));
+    }
+
+    @Override
+    public Optional<LedgerEntry> findLatestByAccountNumber(String accountNumber) {
+        if (partitioned) {
+            return findLatestByAccountNumbers(List.of(accountNumber)).values().stream().findFirst();
+        }
+        return ledgerEntryJpaRepository.findFirstByAccountNumberOrderBySequenceDesc(accountNumber)
+                .map(LedgerEntryEntity::toDomain);
+    }
+
+    @Override
+    public Map<String, LedgerEntry> findLatestByAccountNumbers(Collection<String> accountNumbers) {
+        Map<String, LedgerEntry> latest = new HashMap<>();
+        if (partitioned) {
+            findByKeys(ledgerEntryJdbcQueryRepository.findHeadKeys(accountNumbers))
+                    .forEach(entity -> latest.put(entity.getAccountNumber(), entity.toDomain()));
+            return latest;
+        }
+        for (LedgerEntryEntity entity : ledgerEntryJpaRepository.findLatestByAccountNumbers(accountNumbers)) {
+            latest.put(entity.getAccountNumber(), entity.toDomain());
+        }
+        return latest;
+    }
+
+    /**
+     * 키(계좌, 순번, 기록 시각) 목록의 엔티티 조회: 기록 시각 IN 조건으로 해당 파티션만 읽음
+     */
+    private List<LedgerEntryEntity> findByKeys(List<LedgerEntryKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Long> sequences = new HashMap<>();
+        Set<LocalDateTime> createdAts = new HashSet<>();
+        for (LedgerEntryKey key : keys) {
+            sequences.put(key.accountNumber(), key.sequence());
+            createdAts.add(key.createdAt());
+        }
+
+        List<LedgerEntryEntity> found = new ArrayList<>(keys.size());
+        for (LedgerEntryEntity entity : ledgerEntryJpaRepository.findByAccountNumberInAndCreatedAtIn(
+                sequences.keySet(), createdAts)) {
+            if (entity.getSequence().equals(sequences.get(entity.getAccountNumber()))) {
+                found.add(entity);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void forEachTransactionIdSince(LocalDateTime since, Consumer<String> action) {
+        // 중복 판정 기준이므로 복제 지연 없이 Primary에서 읽음
+        ReadRoutingContext.runOnPrimary(() -> ledgerEntryJdbcQueryRepository.forEachTransactionIdSince(since, action));
+    }
+
+    @Override
+    public void forEachEntryOfAccount(String accountNumber, Consumer<LedgerEntry> action) {
+        ledgerEntryJdbcQueryRepository.forEachEntryOfAccount(accountNumber, action);
+    }
+
+    @Override
+    public void forEachEntryOfAccountInRange(String accountNumber, long afterSequence, long toSequence,
+                                             Consumer<LedgerEntry> action) {
+        ledgerEntryJdbcQueryRepository.forEachEntryOfAccountInRange(accountNumber, afterSequence, toSequence, action);
+    }
+
+    @Override
+    public void forEachEntryInAccountRange(String fromAccountNumber, String toAccountNumber,
+                                           Consumer<LedgerEntry> action) {
+        ledgerEntryJdbcQueryRepository.forEachEntryInAccountRange(fromAccountNumber, toAccountNumber, action);
+    }
+
+    @Override
+    public List<String> findRecentTransactionIds(int limit) {
+        return ledgerEntryJdbcQueryRepository.findRecentTransactionIds(limit);
+    }
+
+    @Override
+    public Optional<LedgerEntry> findByAccountNumberAndSequence(String accountNumber, long sequence) {
+        if (partitioned) {
+            return ledgerEntryJdbcQueryRepository.findKey(accountNumber, sequence)
+                    .flatMap(key -> ledgerEntryJpaRepository.findByAccountNumberAndSequenceAndCreatedAt(
+                            accountNumber, sequence, key.createdAt()))
+                    .map(LedgerEntryEntity::toDomain);
+        }
+        return ledgerEntryJpaRepository.findByAccountNumberAndSequence(accountNumber, sequence)
+                .map(LedgerEntryEntity::toDomain);
+    }
+
+    @Override
+    public EntryRangeSummary summarizeRange(String accountNumber, long afterSequence, long toSequence,
+                                            LocalDateTime createdAtUpTo) {
+        return ledgerEntryJdbcQueryRepository.summarizeRange(accountNumber, afterSequence, toSequence, createdAtUpTo);
+    }
+
+    @Override
+    public List<AccountActivity> findActiveAccounts(LocalDateTime since, String afterAccountNumber, int limit) {
+        return ledgerEntryJdbcQueryRepository.findActiveAccounts(since, afterAccountNumber, limit);
+    }
+
+    @Override
+    public List<LedgerEntry> findPage(String accountNumber, long offset, int limit) {
+        return toDomain(ledgerEntryJpaRepository.findPage(accountNumber, offset, limit));
+    }
+
+    @Override
+    public List<LedgerEntry> findPageAfter(String accountNumber, EntryCursor after, int limit) {
+        if (after == null) {
+            return findPage(accountNumber, 0, limit);
+        }
+        return toDomain(ledgerEntryJpaRepository.findPageAfter(
+                accountNumber, after.createdAt(), after.entryId().uuid(), Limit.of(limit)));
+    }
+
+    @Override
+    public long countByAccountNumber(String accountNumber) {
+        return ledgerEntryJpaRepository.countByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public Map<String, Long> sumBalancesByAccountRange(String fromAccountNumber, String toAccountNumber) {
+        return ledgerEntryJdbcQueryRepository.sumBalancesByAccountRange(fromAccountNumber, toAccountNumber);
+    }
+
+    @Override
+    public Map<String, Long> sumBalancesByAccounts(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return Map.of();
+        }
+        return ledgerEntryJdbcQueryRepository.sumBalancesByAccounts(accountNumbers);
+    }
+
+    private static List<LedgerEntry> toDomain(List<LedgerEntryEntity> entities) {
+        List<LedgerEntry> entries = new ArrayList<>(entities.size());
+        for (LedgerEntryEntity entity : entities) {
+            entries.add(entity.toDomain());
+        }
+        return entries;
+    }
+
+    private void markWritten(List<LedgerEntry> entries) {
+        Set<String> accountNumbers = new HashSet<>();
+        entries.forEach(entry -> accountNumbers.add(entry.getAccountNumber()));
+        recentWriteRegistry.markWritten(accountNumbers);
+    }
+}
@@ -0,0 +1,30 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerPartitionPort;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.LedgerPartitionJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * 원장 엔트리 월별 파티션 어댑터
+ * <p>
+ * {@link LedgerPartitionPort} 구현체.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerPartitionPersistenceAdapter implements LedgerPartitionPort {
+
+    private final LedgerPartitionJdbcRepository ledgerPartitionJdbcRepository;
+
+    @Override
+    public boolean createMonthlyPartitionIfAbsent(YearMonth month) {
+        if (ledgerPartitionJdbcRepository.exists(month)) {
+            return false;
+        }
+        ledgerPartitionJdbcRepository.create(month);
+        return true;
+    }
+}
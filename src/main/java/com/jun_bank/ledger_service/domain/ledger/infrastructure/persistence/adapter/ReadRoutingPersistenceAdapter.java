@@ -0,0 +1,30 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.ReadRoutingPort;
+import com.jun_bank.ledger_service.global.datasource.ReadRoutingContext;
+import com.jun_bank.ledger_service.global.datasource.RecentWriteRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 조회 DB 선택 Adapter
+ * <p>
+ * Replica 분리를 사용하지 않으면 모든 조회가 그대로 기본 DataSource(Primary)에서 실행됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadRoutingPersistenceAdapter implements ReadRoutingPort {
+
+    private final RecentWriteRegistry recentWriteRegistry;
+
+    @Override
+    public <T> T readAccount(String accountNumber, Supplier<T> query) {
+        if (recentWriteRegistry.isRecentlyWritten(accountNumber)) {
+            return ReadRoutingContext.onPrimary(query);
+        }
+        return query.get();
+    }
+}
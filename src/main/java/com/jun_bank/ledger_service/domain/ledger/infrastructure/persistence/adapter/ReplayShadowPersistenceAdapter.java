@@ -0,0 +1,184 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.adapter;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountSummary;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BalanceSnapshot;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryDailyRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayProjection;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.ReplayShadowPort;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.AccountSummaryJdbcRepository;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.BalanceSnapshotJdbcRepository;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.CategoryRollupJdbcRepository;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.DirtyAccountJdbcRepository;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.ProjectionShadowJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository.ProjectionShadowJdbcRepository.shadowOf;
+
+/**
+ * 프로젝션 섀도 테이블 영속성 어댑터
+ * <p>
+ * {@link ReplayShadowPort} 구현체. 프로젝션별 운영 테이블과 교체 직전 합치기 규칙을 정합니다.
+ * </p>
+ *
+ * <h3>재생 중 운영 테이블 기록 합치기:</h3>
+ * <ul>
+ *   <li>BALANCE_SNAPSHOTS: 재생 시작 후 생성된 스냅샷 중 섀도에 없는 (계좌, 순번)만 추가 (재생 결과 우선)</li>
+ *   <li>DIRTY_ACCOUNTS: 재생 시작 후 기록된 계좌의 시각을 더 늦은 쪽으로 합침</li>
+ *   <li>ACCOUNT_SUMMARIES: 재생 시작 후 갱신된 계좌마다 섀도 요약의 마지막 순번 이후 엔트리를 원장에서 집계해 더함
+ *       (운영 요약은 재구축 전 값일 수 있으므로 변경분은 원장에서 다시 계산)</li>
+ *   <li>CATEGORY_ROLLUPS: 일 집계는 요약과 같은 방식으로 계좌별 섀도 마지막 순번 이후 엔트리를 원장에서 집계해 더하고,
+ *       월 집계는 교체된 일 집계 전체에서 다시 만듦 (분할 0, 교체 시간이 일 집계 행 수에 비례)</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class ReplayShadowPersistenceAdapter implements ReplayShadowPort {
+
+    private static final String SNAPSHOT_COLUMNS =
+            "account_number, snapshot_sequence, balance, entry_count, last_entry_id, last_entry_created_at, created_at";
+
+    private static final String SNAPSHOT_CATCH_UP_SQL = """
+            INSERT INTO %1$s (%3$s)
+            SELECT %3$s FROM %2$s WHERE created_at >= ?
+            ON CONFLICT (account_number, snapshot_sequence) DO NOTHING
+            """.formatted(shadowOf(BalanceSnapshotJdbcRepository.TABLE), BalanceSnapshotJdbcRepository.TABLE,
+            SNAPSHOT_COLUMNS);
+
+    private static final String DIRTY_ACCOUNT_CATCH_UP_SQL = """
+            INSERT INTO %1$s (account_number, last_entry_at)
+            SELECT account_number, last_entry_at FROM %2$s WHERE last_entry_at >= ?
+            ON CONFLICT (account_number) DO UPDATE
+            SET last_entry_at = GREATEST(%1$s.last_entry_at, EXCLUDED.last_entry_at)
+            """.formatted(shadowOf(DirtyAccountJdbcRepository.TABLE), DirtyAccountJdbcRepository.TABLE);
+
+    private static final String ACCOUNT_SUMMARY_CATCH_UP_SQL = """
+            WITH touched AS (
+                SELECT l.account_number, COALESCE(s.last_sequence, 0) AS after_sequence
+                FROM %2$s l
+                LEFT JOIN %1$s s ON s.account_number = l.account_number
+                WHERE l.updated_at >= ?
+            ), delta AS (
+                SELECT t.account_number, COUNT(*) AS entry_count, MAX(e.account_sequence) AS last_sequence,
+                       MIN(e.created_at) AS first_entry_at, MAX(e.created_at) AS last_entry_at
+                FROM touched t
+                JOIN ledger_entries e ON e.account_number = t.account_number AND e.account_sequence > t.after_sequence
+                GROUP BY t.account_number
+            )
+            INSERT INTO %1$s (%3$s)
+            SELECT d.account_number, e.balance_after, d.entry_count, d.last_sequence, d.first_entry_at,
+                   d.last_entry_at, e.transaction_id, LOCALTIMESTAMP
+            FROM delta d
+            JOIN ledger_entries e ON e.account_number = d.account_number AND e.account_sequence = d.last_sequence
+            ORDER BY d.account_number
+            """.formatted(shadowOf(AccountSummaryJdbcRepository.TABLE), AccountSummaryJdbcRepository.TABLE,
+            AccountSummaryJdbcRepository.COLUMNS)
+            + AccountSummaryJdbcRepository.MERGE_DELTA.formatted(shadowOf(AccountSummaryJdbcRepository.TABLE));
+
+    private static final String CATEGORY_DAILY_CATCH_UP_SQL = """
+            WITH touched AS (
+                SELECT l.account_number, COALESCE(MAX(s.last_sequence), 0) AS after_sequence
+                FROM (SELECT DISTINCT account_number FROM %2$s WHERE updated_at >= ?) l
+                LEFT JOIN %1$s s ON s.account_number = l.account_number
+                GROUP BY l.account_number
+            )
+            INSERT INTO %1$s (%3$s)
+            SELECT e.account_number, e.category, CAST(e.created_at AS date), COUNT(*), SUM(e.amount),
+                   MAX(e.account_sequence), LOCALTIMESTAMP
+            FROM touched t
+            JOIN ledger_entries e ON e.account_number = t.account_number AND e.account_sequence > t.after_sequence
+            GROUP BY 1, 2, 3
+            ORDER BY 1, 2, 3
+            """.formatted(shadowOf(CategoryRollupJdbcRepository.DAILY_TABLE), CategoryRollupJdbcRepository.DAILY_TABLE,
+            CategoryRollupJdbcRepository.DAILY_COLUMNS)
+            + CategoryRollupJdbcRepository.DAILY_MERGE_DELTA.formatted(
+                    shadowOf(CategoryRollupJdbcRepository.DAILY_TABLE));
+
+    /**
+     * 일 집계 교체 후 실행 (운영 이름의 일 집계 = 재생 결과 + 재생 중 기록)
+     */
+    private static final String CATEGORY_MONTHLY_REBUILD_SQL = """
+            INSERT INTO %1$s (%3$s)
+            SELECT category, CAST(date_trunc('month', rollup_date) AS date), 0, SUM(entry_count), SUM(total_amount),
+                   LOCALTIMESTAMP
+            FROM %2$s
+            GROUP BY 1, 2
+            ON CONFLICT (category, rollup_month, stripe) DO UPDATE SET
+                entry_count = EXCLUDED.entry_count,
+                total_amount = EXCLUDED.total_amount,
+                updated_at = EXCLUDED.updated_at
+            """.formatted(shadowOf(CategoryRollupJdbcRepository.MONTHLY_TABLE),
+            CategoryRollupJdbcRepository.DAILY_TABLE, CategoryRollupJdbcRepository.MONTHLY_COLUMNS);
+
+    private final ProjectionShadowJdbcRepository projectionShadowJdbcRepository;
+    private final BalanceSnapshotJdbcRepository balanceSnapshotJdbcRepository;
+    private final DirtyAccountJdbcRepository dirtyAccountJdbcRepository;
+    private final AccountSummaryJdbcRepository accountSummaryJdbcRepository;
+    private final CategoryRollupJdbcRepository categoryRollupJdbcRepository;
+
+    @Override
+    public void prepare(ReplayProjection projection, boolean resume) {
+        for (String table : tablesOf(projection)) {
+            projectionShadowJdbcRepository.prepare(table, resume);
+        }
+    }
+
+    @Override
+    public void writeBalanceSnapshots(List<BalanceSnapshot> snapshots) {
+        balanceSnapshotJdbcRepository.insertAllIgnoringDuplicates(
+                shadowOf(BalanceSnapshotJdbcRepository.TABLE), snapshots);
+    }
+
+    @Override
+    public void writeAccountLastEntries(Map<String, LocalDateTime> lastEntryAts) {
+        dirtyAccountJdbcRepository.upsertAll(shadowOf(DirtyAccountJdbcRepository.TABLE), lastEntryAts);
+    }
+
+    @Override
+    public void writeAccountSummaries(List<AccountSummary> summaries) {
+        accountSummaryJdbcRepository.replaceAll(shadowOf(AccountSummaryJdbcRepository.TABLE), summaries);
+    }
+
+    @Override
+    public void writeCategoryDailyRollups(List<CategoryDailyRollup> rollups) {
+        categoryRollupJdbcRepository.replaceDaily(shadowOf(CategoryRollupJdbcRepository.DAILY_TABLE), rollups);
+    }
+
+    @Override
+    @Transactional
+    public void swap(Set<ReplayProjection> projections, LocalDateTime since) {
+        // 기록 트랜잭션과 같은 순서(요약 → 일 집계 → 월 집계)로 운영 테이블을 잠금
+        for (ReplayProjection projection : projections) {
+            switch (projection) {
+                case BALANCE_SNAPSHOTS -> projectionShadowJdbcRepository.swap(
+                        BalanceSnapshotJdbcRepository.TABLE, SNAPSHOT_CATCH_UP_SQL, since);
+                case DIRTY_ACCOUNTS -> projectionShadowJdbcRepository.swap(
+                        DirtyAccountJdbcRepository.TABLE, DIRTY_ACCOUNT_CATCH_UP_SQL, since);
+                case ACCOUNT_SUMMARIES -> projectionShadowJdbcRepository.swap(
+                        AccountSummaryJdbcRepository.TABLE, ACCOUNT_SUMMARY_CATCH_UP_SQL, since);
+                case CATEGORY_ROLLUPS -> {
+                    projectionShadowJdbcRepository.swap(
+                            CategoryRollupJdbcRepository.DAILY_TABLE, CATEGORY_DAILY_CATCH_UP_SQL, since);
+                    projectionShadowJdbcRepository.swap(
+                            CategoryRollupJdbcRepository.MONTHLY_TABLE, CATEGORY_MONTHLY_REBUILD_SQL);
+                }
+            }
+        }
+    }
+
+    private static List<String> tablesOf(ReplayProjection projection) {
+        return switch (projection) {
+            case BALANCE_SNAPSHOTS -> List.of(BalanceSnapshotJdbcRepository.TABLE);
+            case DIRTY_ACCOUNTS -> List.of(DirtyAccountJdbcRepository.TABLE);
+            case ACCOUNT_SUMMARIES -> List.of(AccountSummaryJdbcRepository.TABLE);
+            case CATEGORY_ROLLUPS -> List.of(CategoryRollupJdbcRepository.DAILY_TABLE,
+                    CategoryRollupJdbcRepository.MONTHLY_TABLE);
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 요약 JPA 엔티티 (현재 잔액, 엔트리 수, 첫/마지막 기록 시각, 마지막 거래 ID)
+ * <p>
+ * 원장 데이터가 아닌 파생 상태이므로 수정 가능한 테이블입니다 (계좌당 1행, 원장 재생으로 재구축).
+ * 기록은 {@code AccountSummaryJdbcRepository}의 UPSERT로만 하며, 이 엔티티는 스키마 정의용입니다.
+ * </p>
+ */
+@Getter
+@Entity
+@Table(name = "ledger_account_summaries")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountSummaryEntity {
+
+    @Id
+    @Column(name = "account_number", length = 32)
+    private String accountNumber;
+
+    @Column(name = "balance", nullable = false)
+    private Long balance;
+
+    @Column(name = "entry_count", nullable = false)
+    private Long entryCount;
+
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+
+    @Column(name = "first_entry_at", nullable = false)
+    private LocalDateTime firstEntryAt;
+
+    @Column(name = "last_entry_at", nullable = false)
+    private LocalDateTime lastEntryAt;
+
+    @Column(name = "last_transaction_id", length = 64, nullable = false)
+    private String lastTransactionId;
+
+    /**
+     * 마지막 반영 시각 (원장 재생 교체 시 재생 중 갱신된 계좌 선별)
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,86 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 감사 로그 JPA 엔티티
+ * <p>
+ * INSERT만 가능한 테이블이므로 모든 컬럼은 updatable = false 입니다.
+ * 기록은 {@code AuditLogJdbcRepository}의 다중 행 INSERT로만 하며, 이 엔티티는 스키마 정의/조회용입니다.
+ * </p>
+ *
+ * <h3>제약 조건:</h3>
+ * <ul>
+ *   <li>event_id 유일: Kafka 재전달/spill 재적재 시 같은 이벤트 중복 기록 방지</li>
+ * </ul>
+ */
+@Getter
+@Entity
+@Table(name = "audit_logs",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_audit_logs_event_id", columnNames = "event_id")
+        },
+        indexes = {
+                @Index(name = "idx_audit_logs_user_created", columnList = "user_id, created_at"),
+                @Index(name = "idx_audit_logs_resource", columnList = "resource_type, resource_id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuditLogEntity {
+
+    /**
+     * 감사 로그 ID (시간 순 UUID, PostgreSQL uuid 16바이트; 외부 형식 AUD-uuid는 도메인 VO가 담당)
+     */
+    @Id
+    @Column(name = "audit_log_id", updatable = false)
+    private UUID auditLogId;
+
+    @Column(name = "event_id", length = 64, nullable = false, updatable = false)
+    private String eventId;
+
+    @Column(name = "event_type", length = 50, nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(name = "service_name", length = 50, nullable = false, updatable = false)
+    private String serviceName;
+
+    @Column(name = "user_id", length = 40, updatable = false)
+    private String userId;
+
+    @Column(name = "resource_type", length = 50, updatable = false)
+    private String resourceType;
+
+    @Column(name = "resource_id", length = 64, updatable = false)
+    private String resourceId;
+
+    @Column(name = "action", length = 30, updatable = false)
+    private String action;
+
+    @Column(name = "previous_value", columnDefinition = "TEXT", updatable = false)
+    private String previousValue;
+
+    @Column(name = "new_value", columnDefinition = "TEXT", updatable = false)
+    private String newValue;
+
+    @Column(name = "ip_address", length = 45, updatable = false)
+    private String ipAddress;
+
+    @Column(name = "user_agent", length = 500, updatable = false)
+    private String userAgent;
+
+    @Column(name = "metadata", columnDefinition = "TEXT", updatable = false)
+    private String metadata;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
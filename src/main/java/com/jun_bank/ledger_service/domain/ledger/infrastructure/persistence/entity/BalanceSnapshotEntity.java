@@ -0,0 +1,73 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BalanceSnapshot;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 스냅샷 JPA 엔티티
+ * <p>
+ * 원장 엔트리에서 파생된 체크포인트이며 INSERT만 합니다 (원장에서 언제든 다시 만들 수 있음).
+ *
+ * <h3>제약 조건:</h3>
+ * <ul>
+ *   <li>(account_number, snapshot_sequence) 유일: 같은 위치의 스냅샷 중복 생성 방지</li>
+ *   <li>(account_number, last_entry_created_at) 인덱스: 시점 잔액 조회 시 가장 가까운 스냅샷 탐색</li>
+ * </ul>
+ */
+@Getter
+@Entity
+@Table(name = "ledger_balance_snapshots",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_ledger_balance_snapshots_account_sequence",
+                        columnNames = {"account_number", "snapshot_sequence"})
+        },
+        indexes = {
+                @Index(name = "idx_ledger_balance_snapshots_account_entry_time",
+                        columnList = "account_number, last_entry_created_at")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceSnapshotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id", updatable = false)
+    private Long snapshotId;
+
+    @Column(name = "account_number", length = 32, nullable = false, updatable = false)
+    private String accountNumber;
+
+    @Column(name = "snapshot_sequence", nullable = false, updatable = false)
+    private Long sequence;
+
+    @Column(name = "balance", nullable = false, updatable = false)
+    private Long balance;
+
+    @Column(name = "entry_count", nullable = false, updatable = false)
+    private Long entryCount;
+
+    @Column(name = "last_entry_id", length = 40, nullable = false, updatable = false)
+    private String lastEntryId;
+
+    @Column(name = "last_entry_created_at", nullable = false, updatable = false)
+    private LocalDateTime lastEntryCreatedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public BalanceSnapshot toDto() {
+        return new BalanceSnapshot(accountNumber, sequence, balance, entryCount,
+                lastEntryId, lastEntryCreatedAt, createdAt);
+    }
+}
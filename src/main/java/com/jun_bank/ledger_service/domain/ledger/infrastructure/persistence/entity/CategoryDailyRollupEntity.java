@@ -0,0 +1,84 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 카테고리별 일 집계 JPA 엔티티 ((계좌, 카테고리, 일)당 1행: 엔트리 수, 금액 합계)
+ * <p>
+ * 원장 데이터가 아닌 파생 상태이므로 수정 가능한 테이블입니다 (원장 재생으로 재구축).
+ * 기록은 {@code CategoryRollupJdbcRepository}의 UPSERT로만 하며, 이 엔티티는 스키마 정의용입니다.
+ * </p>
+ *
+ * <h3>인덱스:</h3>
+ * <ul>
+ *   <li>PK (account_number, category, rollup_date): 계좌 기간 조회</li>
+ *   <li>(rollup_date): 전체 계좌 기간 조회 (월 집계가 덮지 않는 앞뒤 걸친 달)</li>
+ * </ul>
+ */
+@Getter
+@Entity
+@Table(name = "ledger_category_daily_rollups",
+        indexes = {
+                @Index(name = "idx_ledger_category_daily_rollups_date", columnList = "rollup_date")
+        })
+@IdClass(CategoryDailyRollupEntity.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryDailyRollupEntity {
+
+    @Id
+    @Column(name = "account_number", length = 32)
+    private String accountNumber;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", length = 20)
+    private TransactionCategory category;
+
+    @Id
+    @Column(name = "rollup_date")
+    private LocalDate rollupDate;
+
+    @Column(name = "entry_count", nullable = false)
+    private Long entryCount;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    /**
+     * 집계에 포함된 가장 큰 계좌 순번 (원장 재생 교체 시 이후 엔트리 선별)
+     */
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+
+    /**
+     * 마지막 반영 시각 (원장 재생 교체 시 재생 중 갱신된 계좌 선별)
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+
+        private String accountNumber;
+        private TransactionCategory category;
+        private LocalDate rollupDate;
+    }
+}
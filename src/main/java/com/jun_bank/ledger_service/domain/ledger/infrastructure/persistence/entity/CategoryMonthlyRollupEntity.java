@@ -0,0 +1,69 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 전체 계좌 카테고리별 월 집계 JPA 엔티티 ((카테고리, 월, 분할 번호)당 1행: 엔트리 수, 금액 합계)
+ * <p>
+ * 모든 기록이 같은 (카테고리, 월) 행을 갱신하므로, 행 잠금 경합을 줄이기 위해 기록 스레드별 분할(stripe) 행에 나눠 더하고
+ * 조회 시 분할 행을 합칩니다. 원장 재생 교체 시에는 일 집계에서 분할 0으로 다시 만듭니다.
+ * 기록은 {@code CategoryRollupJdbcRepository}의 UPSERT로만 하며, 이 엔티티는 스키마 정의용입니다.
+ * </p>
+ */
+@Getter
+@Entity
+@Table(name = "ledger_category_monthly_rollups")
+@IdClass(CategoryMonthlyRollupEntity.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryMonthlyRollupEntity {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", length = 20)
+    private TransactionCategory category;
+
+    /**
+     * 월 1일
+     */
+    @Id
+    @Column(name = "rollup_month")
+    private LocalDate rollupMonth;
+
+    @Id
+    @Column(name = "stripe")
+    private Integer stripe;
+
+    @Column(name = "entry_count", nullable = false)
+    private Long entryCount;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+
+        private TransactionCategory category;
+        private LocalDate rollupMonth;
+        private Integer stripe;
+    }
+}
@@ -0,0 +1,38 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 해시 체인 검증 위치 JPA 엔티티
+ * <p>
+ * 원장 데이터가 아닌 검증 상태이므로 수정 가능한 테이블입니다 (계좌당 1행).
+ * 기록은 {@code ChainCheckpointJdbcRepository}의 UPSERT로만 하며, 이 엔티티는 스키마 정의용입니다.
+ * </p>
+ */
+@Getter
+@Entity
+@Table(name = "ledger_chain_checkpoints")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChainCheckpointEntity {
+
+    @Id
+    @Column(name = "account_number", length = 32)
+    private String accountNumber;
+
+    @Column(name = "verified_sequence", nullable = false)
+    private Long verifiedSequence;
+
+    @Column(name = "verified_hash", length = 64)
+    private String verifiedHash;
+
+    @Column(name = "verified_at", nullable = false)
+    private LocalDateTime verifiedAt;
+}
@@ -0,0 +1,36 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 최근 기록 시각 JPA 엔티티 (증분 잔액 검증 대상 추적)
+ * <p>
+ * 원장 데이터가 아닌 파생 상태이므로 수정 가능한 테이블입니다 (계좌당 1행).
+ * 기록은 {@code DirtyAccountJdbcRepository}의 UPSERT로만 하며, 이 엔티티는 스키마 정의/조회용입니다.
+ * </p>
+ */
+@Getter
+@Entity
+@Table(name = "ledger_dirty_accounts",
+        indexes = {
+                @Index(name = "idx_ledger_dirty_accounts_last_entry", columnList = "last_entry_at, account_number")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DirtyAccountEntity {
+
+    @Id
+    @Column(name = "account_number", length = 32)
+    private String accountNumber;
+
+    @Column(name = "last_entry_at", nullable = false)
+    private LocalDateTime lastEntryAt;
+}
@@ -0,0 +1,55 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.JobCheckpoint;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 체크포인트 JPA 엔티티
+ * <p>
+ * 원장 데이터가 아닌 작업 진행 상태이므로 수정 가능한 테이블입니다 (작업당 1행).
+ * </p>
+ */
+@Getter
+@Entity
+@Table(name = "ledger_job_checkpoints")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobCheckpointEntity {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Column(name = "watermark")
+    private LocalDateTime watermark;
+
+    @Column(name = "cursor_value", length = 255)
+    private String cursor;
+
+    @Column(name = "run_started_at")
+    private LocalDateTime runStartedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static JobCheckpointEntity of(JobCheckpoint checkpoint) {
+        JobCheckpointEntity entity = new JobCheckpointEntity();
+        entity.jobName = checkpoint.jobName();
+        entity.watermark = checkpoint.watermark();
+        entity.cursor = checkpoint.cursor();
+        entity.runStartedAt = checkpoint.runStartedAt();
+        entity.updatedAt = LocalDateTime.now();
+        return entity;
+    }
+
+    public JobCheckpoint toDto() {
+        return new JobCheckpoint(jobName, watermark, cursor, runStartedAt);
+    }
+}
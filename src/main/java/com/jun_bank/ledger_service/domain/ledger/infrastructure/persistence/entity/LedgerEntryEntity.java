@@ -0,0 +1,150 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.EntryType;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.LedgerEntryId;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 원장 엔트리 JPA 엔티티
+ * <p>
+ * Append-only 테이블이므로 BaseEntity(수정/삭제 컬럼)를 상속하지 않고,
+ * 모든 컬럼은 updatable = false 입니다.
+ *
+ * <h3>제약 조건:</h3>
+ * <ul>
+ *   <li>(account_number, account_sequence) 유일: 동시 기록 시 잔액 분기 방지</li>
+ *   <li>(transaction_id, account_number) 유일: 중복 거래 기록 방지</li>
+ * </ul>
+ * <p>
+ * 월별 파티션 모드에서는 스키마를 {@code db/ledger-entries-partitioned.sql}로 생성하며,
+ * 위 두 유일 제약은 파티션하지 않은 ledger_entry_keys 테이블이 담당합니다.
+ * </p>
+ */
+@Getter
+@Entity
+@Table(name = "ledger_entries",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_ledger_entries_account_sequence",
+                        columnNames = {"account_number", "account_sequence"}),
+                @UniqueConstraint(name = "uk_ledger_entries_transaction_account",
+                        columnNames = {"transaction_id", "account_number"})
+        },
+        indexes = {
+                @Index(name = "idx_ledger_entries_account_created", columnList = "account_number, created_at, entry_id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LedgerEntryEntity {
+
+    /**
+     * 엔트리 ID (시간 순 UUID, PostgreSQL uuid 16바이트; 외부 형식 LDG-uuid는 도메인 VO가 담당)
+     */
+    @Id
+    @Column(name = "entry_id", updatable = false)
+    private UUID entryId;
+
+    @Column(name = "transaction_id", length = 64, nullable = false, updatable = false)
+    private String transactionId;
+
+    @Column(name = "account_number", length = 32, nullable = false, updatable = false)
+    private String accountNumber;
+
+    @Column(name = "account_sequence", nullable = false, updatable = false)
+    private Long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", length = 10, nullable = false, updatable = false)
+    private EntryType entryType;
+
+    @Column(name = "amount", precision = 19, scale = 0, nullable = false, updatable = false)
+    private BigDecimal amount;
+
+    @Column(name = "balance_after", precision = 19, scale = 0, nullable = false, updatable = false)
+    private BigDecimal balanceAfter;
+
+    @Column(name = "description", length = 255, updatable = false)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", length = 20, nullable = false, updatable = false)
+    private TransactionCategory category;
+
+    @Column(name = "reference_type", length = 30, updatable = false)
+    private String referenceType;
+
+    @Column(name = "reference_id", length = 64, updatable = false)
+    private String referenceId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 해시 체인 다이제스트 (해시 도입 전 엔트리는 null)
+     */
+    @Column(name = "entry_hash", length = 64, updatable = false)
+    private String entryHash;
+
+    /**
+     * 도메인 모델 → 엔티티 변환
+     *
+     * @param entry   원장 엔트리
+     * @param entryId 할당할 엔트리 ID
+     * @return 엔티티
+     */
+    public static LedgerEntryEntity of(LedgerEntry entry, UUID entryId) {
+        LedgerEntryEntity entity = new LedgerEntryEntity();
+        entity.entryId = entryId;
+        entity.transactionId = entry.getTransactionId();
+        entity.accountNumber = entry.getAccountNumber();
+        entity.sequence = entry.getSequence();
+        entity.entryType = entry.getEntryType();
+        entity.amount = entry.getAmount().amount();
+        entity.balanceAfter = entry.getBalanceAfter().amount();
+        entity.description = entry.getDescription();
+        entity.category = entry.getCategory();
+        entity.referenceType = entry.getReferenceType();
+        entity.referenceId = entry.getReferenceId();
+        entity.createdAt = entry.getCreatedAt();
+        entity.entryHash = entry.getEntryHash();
+        return entity;
+    }
+
+    /**
+     * 엔티티 → 도메인 모델 변환
+     *
+     * @return 원장 엔트리
+     */
+    public LedgerEntry toDomain() {
+        return LedgerEntry.restoreBuilder()
+                .entryId(LedgerEntryId.of(entryId))
+                .transactionId(transactionId)
+                .accountNumber(accountNumber)
+                .sequence(sequence)
+                .entryType(entryType)
+                .amount(Money.of(amount))
+                .balanceAfter(Money.of(balanceAfter))
+                .description(description)
+                .category(category)
+                .referenceType(referenceType)
+                .referenceId(referenceId)
+                .createdAt(createdAt)
+                .entryHash(entryHash)
+                .build();
+    }
+}
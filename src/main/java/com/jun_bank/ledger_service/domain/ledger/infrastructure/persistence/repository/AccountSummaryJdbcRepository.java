@@ -0,0 +1,140 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계좌 요약 JDBC Repository
+ * <p>
+ * 기록 트랜잭션 안에서 배치의 계좌별 변경분을 다중 행 UPSERT로 반영합니다 (PostgreSQL ON CONFLICT).
+ * 엔트리 수는 더하고, 잔액/마지막 거래는 순번이 더 큰 쪽을 남기며, 첫/마지막 기록 시각은 각각 더 이른/늦은 쪽을 남깁니다.
+ * 행은 계좌번호 순으로 씁니다 ({@link MultiRowUpsert} 행 잠금 순서).
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountSummaryJdbcRepository {
+
+    public static final String TABLE = "ledger_account_summaries";
+
+    public static final String COLUMNS = """
+            account_number, balance, entry_count, last_sequence, first_entry_at, last_entry_at,
+            last_transaction_id, updated_at""";
+
+    /**
+     * 변경분 합치기 (%1$s: 대상 테이블)
+     */
+    public static final String MERGE_DELTA = """
+             ON CONFLICT (account_number) DO UPDATE SET
+                entry_count = %1$s.entry_count + EXCLUDED.entry_count,
+                balance = CASE WHEN EXCLUDED.last_sequence > %1$s.last_sequence
+                               THEN EXCLUDED.balance ELSE %1$s.balance END,
+                last_transaction_id = CASE WHEN EXCLUDED.last_sequence > %1$s.last_sequence
+                                           THEN EXCLUDED.last_transaction_id ELSE %1$s.last_transaction_id END,
+                last_sequence = GREATEST(%1$s.last_sequence, EXCLUDED.last_sequence),
+                first_entry_at = LEAST(%1$s.first_entry_at, EXCLUDED.first_entry_at),
+                last_entry_at = GREATEST(%1$s.last_entry_at, EXCLUDED.last_entry_at),
+                updated_at = EXCLUDED.updated_at""";
+
+    /**
+     * 전체 값으로 교체 (원장 재생 결과, 같은 청크를 다시 재생해도 결과가 같음)
+     */
+    private static final String REPLACE = """
+             ON CONFLICT (account_number) DO UPDATE SET
+                balance = EXCLUDED.balance,
+                entry_count = EXCLUDED.entry_count,
+                last_sequence = EXCLUDED.last_sequence,
+                first_entry_at = EXCLUDED.first_entry_at,
+                last_entry_at = EXCLUDED.last_entry_at,
+                last_transaction_id = EXCLUDED.last_transaction_id,
+                updated_at = EXCLUDED.updated_at""";
+
+    private static final int COLUMN_COUNT = 8;
+
+    private static final RowMapper<AccountSummary> ROW_MAPPER = (rs, rowNum) -> new AccountSummary(
+            rs.getString("account_number"),
+            rs.getLong("balance"),
+            rs.getLong("entry_count"),
+            rs.getLong("last_sequence"),
+            toLocalDateTime(rs.getTimestamp("first_entry_at")),
+            toLocalDateTime(rs.getTimestamp("last_entry_at")),
+            rs.getString("last_transaction_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배치 변경분 반영
+     *
+     * @param deltas 계좌번호 순으로 정렬된 계좌별 변경분 (entryCount = 배치 안의 엔트리 수)
+     */
+    public void mergeAll(Collection<AccountSummary> deltas) {
+        writeAll(TABLE, deltas, MERGE_DELTA.formatted(TABLE));
+    }
+
+    /**
+     * 지정한 테이블(운영 또는 재생용 섀도 테이블)에 전체 값으로 UPSERT
+     *
+     * @param table     대상 테이블 (서버에서 정한 이름만 사용)
+     * @param summaries 계좌번호 순으로 정렬된 계좌 요약
+     */
+    public void replaceAll(String table, Collection<AccountSummary> summaries) {
+        writeAll(table, summaries, REPLACE);
+    }
+
+    public Optional<AccountSummary> findById(String accountNumber) {
+        List<AccountSummary> rows = jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM ledger_account_summaries WHERE account_number = ?",
+                ROW_MAPPER, accountNumber);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 원장 엔트리 집계로 계좌 요약 계산 (엔트리 수 집계 1회 + 계좌 순번 인덱스의 마지막 엔트리 1건)
+     */
+    public AccountSummary summarizeFromLedger(String accountNumber) {
+        return jdbcTemplate.queryForObject("""
+                        SELECT ? AS account_number,
+                               COALESCE(l.balance_after, 0) AS balance,
+                               c.entry_count,
+                               COALESCE(l.account_sequence, 0) AS last_sequence,
+                               c.first_entry_at,
+                               c.last_entry_at,
+                               l.transaction_id AS last_transaction_id
+                        FROM (SELECT COUNT(*) AS entry_count, MIN(created_at) AS first_entry_at,
+                                     MAX(created_at) AS last_entry_at
+                              FROM ledger_entries WHERE account_number = ?) c
+                        LEFT JOIN LATERAL (SELECT balance_after, account_sequence, transaction_id
+                                           FROM ledger_entries WHERE account_number = ?
+                                           ORDER BY account_sequence DESC LIMIT 1) l ON TRUE
+                        """,
+                ROW_MAPPER, accountNumber, accountNumber, accountNumber);
+    }
+
+    private void writeAll(String table, Collection<AccountSummary> summaries, String conflictClause) {
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        MultiRowUpsert.execute(jdbcTemplate, table, COLUMNS, COLUMN_COUNT, summaries, conflictClause,
+                (summary, args) -> {
+                    args.add(summary.accountNumber());
+                    args.add(summary.balance());
+                    args.add(summary.entryCount());
+                    args.add(summary.lastSequence());
+                    args.add(Timestamp.valueOf(summary.firstEntryAt()));
+                    args.add(Timestamp.valueOf(summary.lastEntryAt()));
+                    args.add(summary.lastTransactionId());
+                    args.add(updatedAt);
+                });
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
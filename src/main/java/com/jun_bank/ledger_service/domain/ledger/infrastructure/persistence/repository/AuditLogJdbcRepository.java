@@ -0,0 +1,203 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.AuditLog;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 감사 로그 다중 행 INSERT Repository (전용 커넥션 풀)
+ * <p>
+ * 원장 기록 트랜잭션과 커넥션을 나눠 쓰지 않도록 작은 전용 Hikari 풀(ledger-audit)을 사용합니다.
+ * 이 풀은 DataSource 빈으로 등록하지 않으므로 기본 DataSource 자동 구성/JPA에는 영향이 없습니다.
+ * 문장마다 auto-commit 되며, 반환 시점에 커밋이 완료됩니다.
+ * </p>
+ * <p>
+ * 대량 적재({@link #copyAll})는 같은 풀에서 임시 테이블 COPY 후 {@code INSERT ... SELECT}를 한 트랜잭션으로 실행합니다.
+ * </p>
+ */
+@Repository
+public class AuditLogJdbcRepository {
+
+    /**
+     * 문장당 최대 행 수 (14컬럼 × 100행 = 바인드 변수 1,400개)
+     */
+    static final int ROWS_PER_STATEMENT = 100;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO audit_logs (audit_log_id, event_id, event_type, service_name, user_id,
+                                    resource_type, resource_id, action, previous_value, new_value,
+                                    ip_address, user_agent, metadata, created_at)
+            VALUES\s""";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SUFFIX = " ON CONFLICT (event_id) DO NOTHING";
+    private static final String FULL_CHUNK_SQL = buildSql(ROWS_PER_STATEMENT);
+
+    private static final String CREATE_STAGE_SQL =
+            "CREATE TEMP TABLE audit_logs_load (LIKE audit_logs INCLUDING DEFAULTS) ON COMMIT DROP";
+    private static final String COLUMNS = """
+            audit_log_id, event_id, event_type, service_name, user_id, resource_type, resource_id, action,
+            previous_value, new_value, ip_address, user_agent, metadata, created_at""";
+    private static final String COPY_SQL = "COPY audit_logs_load (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+    private static final String MERGE_SQL = "INSERT INTO audit_logs (" + COLUMNS + ") SELECT " + COLUMNS
+            + " FROM audit_logs_load ON CONFLICT (event_id) DO NOTHING";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogJdbcRepository(@Value("${spring.datasource.url}") String url,
+                                  @Value("${spring.datasource.username:}") String username,
+                                  @Value("${spring.datasource.password:}") String password,
+                                  @Value("${ledger.audit.datasource.maximum-pool-size:2}") int maximumPoolSize,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        // 기본 생성자 + 설정: 첫 getConnection() 시점에 풀 초기화 (DB 없이도 기동 가능)
+        HikariDataSource auditDataSource = new HikariDataSource();
+        auditDataSource.setPoolName("ledger-audit");
+        auditDataSource.setJdbcUrl(url);
+        auditDataSource.setUsername(username);
+        auditDataSource.setPassword(password);
+        auditDataSource.setMaximumPoolSize(maximumPoolSize);
+        auditDataSource.setMinimumIdle(1);
+        auditDataSource.setAutoCommit(true);
+        meterRegistry.ifAvailable(registry ->
+                auditDataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        this.dataSource = auditDataSource;
+        this.jdbcTemplate = new JdbcTemplate(auditDataSource);
+    }
+
+    /**
+     * 감사 로그 일괄 INSERT (이미 있는 event_id는 건너뜀)
+     *
+     * @param rows 저장할 행 (auditLogId 할당 완료)
+     * @return 새로 저장된 행 수
+     */
+    public int insertAll(List<Row> rows) {
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<Row> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            String sql = chunk.size() == ROWS_PER_STATEMENT ? FULL_CHUNK_SQL : buildSql(chunk.size());
+            inserted += jdbcTemplate.update(sql, ps -> bindChunk(ps, chunk));
+        }
+        return inserted;
+    }
+
+    /**
+     * 감사 로그 대량 적재 (임시 테이블 COPY 후 INSERT ... SELECT, 한 트랜잭션)
+     *
+     * @param rows 적재할 행 (auditLogId 할당 완료)
+     * @return 새로 저장된 행 수 (이미 있는 event_id 제외)
+     */
+    public int copyAll(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                int inserted = copyAndMerge(connection, rows);
+                connection.commit();
+                return inserted;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("감사 로그 COPY 적재 실패", e);
+        }
+    }
+
+    private int copyAndMerge(Connection connection, List<Row> rows) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGE_SQL);
+        }
+        try (PgCsvCopyWriter writer = new PgCsvCopyWriter(connection, COPY_SQL)) {
+            for (Row row : rows) {
+                AuditLog auditLog = row.auditLog();
+                writer.uuid(row.auditLogId())
+                        .text(row.eventId())
+                        .text(auditLog.getEventType())
+                        .text(auditLog.getServiceName())
+                        .text(auditLog.getUserId())
+                        .text(auditLog.getResourceType())
+                        .text(auditLog.getResourceId())
+                        .text(auditLog.getAction())
+                        .text(auditLog.getPreviousValue())
+                        .text(auditLog.getNewValue())
+                        .text(auditLog.getIpAddress())
+                        .text(auditLog.getUserAgent())
+                        .text(auditLog.getMetadata())
+                        .timestamp(auditLog.getTimestamp())
+                        .endRow();
+            }
+            writer.finish();
+        }
+        try (Statement statement = connection.createStatement()) {
+            return statement.executeUpdate(MERGE_SQL);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        dataSource.close();
+    }
+
+    private void bindChunk(PreparedStatement ps, List<Row> chunk) throws SQLException {
+        int index = 1;
+        for (Row row : chunk) {
+            AuditLog auditLog = row.auditLog();
+            ps.setObject(index++, row.auditLogId());
+            ps.setString(index++, row.eventId());
+            ps.setString(index++, auditLog.getEventType());
+            ps.setString(index++, auditLog.getServiceName());
+            ps.setString(index++, auditLog.getUserId());
+            ps.setString(index++, auditLog.getResourceType());
+            ps.setString(index++, auditLog.getResourceId());
+            ps.setString(index++, auditLog.getAction());
+            ps.setString(index++, auditLog.getPreviousValue());
+            ps.setString(index++, auditLog.getNewValue());
+            ps.setString(index++, auditLog.getIpAddress());
+            ps.setString(index++, auditLog.getUserAgent());
+            ps.setString(index++, auditLog.getMetadata());
+            ps.setTimestamp(index++, Timestamp.valueOf(auditLog.getTimestamp()));
+        }
+    }
+
+    private static String buildSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2)
+                + INSERT_SUFFIX.length());
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.append(INSERT_SUFFIX).toString();
+    }
+
+    /**
+     * INSERT 대상 행
+     *
+     * @param auditLogId 감사 로그 ID
+     * @param eventId    멱등 키
+     * @param auditLog   감사 로그
+     */
+    public record Row(UUID auditLogId, String eventId, AuditLog auditLog) {
+    }
+}
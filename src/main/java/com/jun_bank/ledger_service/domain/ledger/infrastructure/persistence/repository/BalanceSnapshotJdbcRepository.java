@@ -0,0 +1,76 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BalanceSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 잔액 스냅샷 JDBC 저장 Repository
+ * <p>
+ * 같은 (계좌, 순번) 스냅샷이 이미 있으면 무시하여 중복/재실행에 안전하게 저장합니다 (PostgreSQL ON CONFLICT).
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class BalanceSnapshotJdbcRepository {
+
+    public static final String TABLE = "ledger_balance_snapshots";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO ledger_balance_snapshots
+                (account_number, snapshot_sequence, balance, entry_count, last_entry_id, last_entry_created_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (account_number, snapshot_sequence) DO NOTHING
+            """;
+    private static final String MULTI_INSERT_PREFIX = """
+            INSERT INTO %s
+                (account_number, snapshot_sequence, balance, entry_count, last_entry_id, last_entry_created_at, created_at)
+            VALUES\s""";
+    private static final String MULTI_INSERT_SUFFIX = " ON CONFLICT (account_number, snapshot_sequence) DO NOTHING";
+    private static final int ROWS_PER_STATEMENT = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertIgnoringDuplicate(BalanceSnapshot snapshot) {
+        jdbcTemplate.update(INSERT_SQL,
+                snapshot.accountNumber(),
+                snapshot.sequence(),
+                snapshot.balance(),
+                snapshot.entryCount(),
+                snapshot.lastEntryId(),
+                Timestamp.valueOf(snapshot.lastEntryCreatedAt()),
+                Timestamp.valueOf(snapshot.createdAt()));
+    }
+
+    /**
+     * 지정한 테이블(운영 또는 재생용 섀도 테이블)에 다중 행 INSERT (문장당 최대 1,000행)
+     *
+     * @param table     대상 테이블 (서버에서 정한 이름만 사용)
+     * @param snapshots 스냅샷
+     */
+    public void insertAllIgnoringDuplicates(String table, List<BalanceSnapshot> snapshots) {
+        for (int from = 0; from < snapshots.size(); from += ROWS_PER_STATEMENT) {
+            List<BalanceSnapshot> rows = snapshots.subList(from, Math.min(from + ROWS_PER_STATEMENT, snapshots.size()));
+            String sql = MULTI_INSERT_PREFIX.formatted(table)
+                    + String.join(", ", Collections.nCopies(rows.size(), "(?, ?, ?, ?, ?, ?, ?)"))
+                    + MULTI_INSERT_SUFFIX;
+            List<Object> args = new ArrayList<>(rows.size() * 7);
+            for (BalanceSnapshot snapshot : rows) {
+                args.add(snapshot.accountNumber());
+                args.add(snapshot.sequence());
+                args.add(snapshot.balance());
+                args.add(snapshot.entryCount());
+                args.add(snapshot.lastEntryId());
+                args.add(Timestamp.valueOf(snapshot.lastEntryCreatedAt()));
+                args.add(Timestamp.valueOf(snapshot.createdAt()));
+            }
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity.BalanceSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 잔액 스냅샷 JPA Repository (조회 전용, 저장은 {@link BalanceSnapshotJdbcRepository})
+ */
+public interface BalanceSnapshotJpaRepository extends JpaRepository<BalanceSnapshotEntity, Long> {
+
+    Optional<BalanceSnapshotEntity> findFirstByAccountNumberOrderBySequenceDesc(String accountNumber);
+
+    Optional<BalanceSnapshotEntity> findFirstByAccountNumberAndLastEntryCreatedAtLessThanEqualOrderBySequenceDesc(
+            String accountNumber, LocalDateTime asOf);
+
+    Optional<BalanceSnapshotEntity> findFirstByAccountNumberAndLastEntryCreatedAtGreaterThanOrderBySequenceAsc(
+            String accountNumber, LocalDateTime asOf);
+}
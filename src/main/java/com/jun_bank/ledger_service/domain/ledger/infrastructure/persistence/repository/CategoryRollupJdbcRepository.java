@@ -0,0 +1,205 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryDailyRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RollupGranularity;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 카테고리 집계 JDBC Repository
+ * <p>
+ * 기록 트랜잭션 안에서 배치의 (계좌, 카테고리, 일) / (카테고리, 월) 변경분을 다중 행 UPSERT로 더합니다 (PostgreSQL ON CONFLICT).
+ * 행은 키 순으로 씁니다 ({@link MultiRowUpsert} 행 잠금 순서).
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryRollupJdbcRepository {
+
+    public static final String DAILY_TABLE = "ledger_category_daily_rollups";
+    public static final String MONTHLY_TABLE = "ledger_category_monthly_rollups";
+
+    public static final String DAILY_COLUMNS =
+            "account_number, category, rollup_date, entry_count, total_amount, last_sequence, updated_at";
+
+    public static final String MONTHLY_COLUMNS =
+            "category, rollup_month, stripe, entry_count, total_amount, updated_at";
+
+    /**
+     * 일 집계 변경분 더하기 (%1$s: 대상 테이블)
+     */
+    public static final String DAILY_MERGE_DELTA = """
+             ON CONFLICT (account_number, category, rollup_date) DO UPDATE SET
+                entry_count = %1$s.entry_count + EXCLUDED.entry_count,
+                total_amount = %1$s.total_amount + EXCLUDED.total_amount,
+                last_sequence = GREATEST(%1$s.last_sequence, EXCLUDED.last_sequence),
+                updated_at = EXCLUDED.updated_at""";
+
+    /**
+     * 일 집계 전체 값으로 교체 (원장 재생 결과, 같은 청크를 다시 재생해도 결과가 같음)
+     */
+    private static final String DAILY_REPLACE = """
+             ON CONFLICT (account_number, category, rollup_date) DO UPDATE SET
+                entry_count = EXCLUDED.entry_count,
+                total_amount = EXCLUDED.total_amount,
+                last_sequence = EXCLUDED.last_sequence,
+                updated_at = EXCLUDED.updated_at""";
+
+    /**
+     * 월 집계 변경분 더하기 (%1$s: 대상 테이블)
+     */
+    public static final String MONTHLY_MERGE_DELTA = """
+             ON CONFLICT (category, rollup_month, stripe) DO UPDATE SET
+                entry_count = %1$s.entry_count + EXCLUDED.entry_count,
+                total_amount = %1$s.total_amount + EXCLUDED.total_amount,
+                updated_at = EXCLUDED.updated_at""";
+
+    private static final int DAILY_COLUMN_COUNT = 7;
+    private static final int MONTHLY_COLUMN_COUNT = 6;
+
+    private static final RowMapper<CategoryRollup> ROW_MAPPER = (rs, rowNum) -> new CategoryRollup(
+            rs.getDate("period").toLocalDate(),
+            TransactionCategory.valueOf(rs.getString("category")),
+            rs.getLong("entry_count"),
+            rs.getLong("total_amount"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배치 일 집계 변경분 반영
+     *
+     * @param deltas 키 순으로 정렬된 변경분 ({@link CategoryDailyRollup#KEY_ORDER})
+     */
+    public void mergeDaily(Collection<CategoryDailyRollup> deltas) {
+        writeDaily(DAILY_TABLE, deltas, DAILY_MERGE_DELTA.formatted(DAILY_TABLE));
+    }
+
+    /**
+     * 지정한 테이블(운영 또는 재생용 섀도 테이블)에 일 집계를 전체 값으로 UPSERT
+     *
+     * @param table   대상 테이블 (서버에서 정한 이름만 사용)
+     * @param rollups 키 순으로 정렬된 일 집계
+     */
+    public void replaceDaily(String table, Collection<CategoryDailyRollup> rollups) {
+        writeDaily(table, rollups, DAILY_REPLACE);
+    }
+
+    /**
+     * 배치 월 집계 변경분 반영
+     *
+     * @param stripe 분할 번호 (트랜잭션마다 임의 선택)
+     * @param deltas (월 1일, 카테고리) 순으로 정렬된 변경분
+     */
+    public void mergeMonthly(int stripe, Collection<CategoryRollup> deltas) {
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        MultiRowUpsert.execute(jdbcTemplate, MONTHLY_TABLE, MONTHLY_COLUMNS, MONTHLY_COLUMN_COUNT, deltas,
+                MONTHLY_MERGE_DELTA.formatted(MONTHLY_TABLE), (delta, args) -> {
+                    args.add(delta.category().name());
+                    args.add(Date.valueOf(delta.period()));
+                    args.add(stripe);
+                    args.add(delta.entryCount());
+                    args.add(delta.totalAmount());
+                    args.add(updatedAt);
+                });
+    }
+
+    /**
+     * 일 집계 기간 합계
+     *
+     * @param accountNumber 계좌번호 (null이면 전체 계좌, rollup_date 인덱스)
+     */
+    public List<CategoryRollup> sumDaily(String accountNumber, LocalDate from, LocalDate to,
+                                         RollupGranularity granularity) {
+        String period = periodOf("rollup_date", granularity);
+        List<Object> args = new ArrayList<>(3);
+        StringBuilder where = new StringBuilder("rollup_date BETWEEN ? AND ?");
+        if (accountNumber != null) {
+            where.insert(0, "account_number = ? AND ");
+            args.add(accountNumber);
+        }
+        args.add(Date.valueOf(from));
+        args.add(Date.valueOf(to));
+        return jdbcTemplate.query("""
+                        SELECT %s AS period, category, SUM(entry_count) AS entry_count, SUM(total_amount) AS total_amount
+                        FROM %s WHERE %s
+                        GROUP BY 1, 2 ORDER BY 1, 2
+                        """.formatted(period, DAILY_TABLE, where),
+                ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 월 집계 합계 (분할 행 합침)
+     *
+     * @param fromMonth    시작 월 1일 (포함)
+     * @param toMonthUntil 끝 월 1일 (제외)
+     */
+    public List<CategoryRollup> sumMonthly(LocalDate fromMonth, LocalDate toMonthUntil) {
+        return jdbcTemplate.query("""
+                        SELECT rollup_month AS period, category, SUM(entry_count) AS entry_count,
+                               SUM(total_amount) AS total_amount
+                        FROM %s WHERE rollup_month >= ? AND rollup_month < ?
+                        GROUP BY 1, 2 ORDER BY 1, 2
+                        """.formatted(MONTHLY_TABLE),
+                ROW_MAPPER, Date.valueOf(fromMonth), Date.valueOf(toMonthUntil));
+    }
+
+    /**
+     * 원장 엔트리 직접 집계 (기록 시각 구간 조건이므로 파티션 스키마에서는 해당 월 파티션만 읽음)
+     *
+     * @param accountNumber 계좌번호 (null이면 전체 계좌)
+     */
+    public List<CategoryRollup> sumFromLedger(String accountNumber, LocalDate from, LocalDate to,
+                                              RollupGranularity granularity) {
+        String period = periodOf("created_at", granularity);
+        List<Object> args = new ArrayList<>(3);
+        StringBuilder where = new StringBuilder("created_at >= ? AND created_at < ?");
+        if (accountNumber != null) {
+            where.insert(0, "account_number = ? AND ");
+            args.add(accountNumber);
+        }
+        args.add(Timestamp.valueOf(from.atStartOfDay()));
+        args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        return jdbcTemplate.query("""
+                        SELECT %s AS period, category, COUNT(*) AS entry_count, SUM(amount) AS total_amount
+                        FROM ledger_entries WHERE %s
+                        GROUP BY 1, 2 ORDER BY 1, 2
+                        """.formatted(period, where),
+                ROW_MAPPER, args.toArray());
+    }
+
+    private void writeDaily(String table, Collection<CategoryDailyRollup> rollups, String conflictClause) {
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        MultiRowUpsert.execute(jdbcTemplate, table, DAILY_COLUMNS, DAILY_COLUMN_COUNT, rollups, conflictClause,
+                (rollup, args) -> {
+                    args.add(rollup.accountNumber());
+                    args.add(rollup.category().name());
+                    args.add(Date.valueOf(rollup.day()));
+                    args.add(rollup.entryCount());
+                    args.add(rollup.totalAmount());
+                    args.add(rollup.lastSequence());
+                    args.add(updatedAt);
+                });
+    }
+
+    /**
+     * 집계 기간 식 (TOTAL은 호출자가 MONTH 결과를 다시 합침)
+     */
+    private static String periodOf(String column, RollupGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> "CAST(" + column + " AS date)";
+            case MONTH, TOTAL -> "CAST(date_trunc('month', " + column + ") AS date)";
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ChainCheckpoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시 체인 검증 위치 JDBC Repository
+ * <p>
+ * 청크 단위로 계좌 목록의 검증 위치를 한 번에 읽고, 다중 행 UPSERT로 한 번에 씁니다 (PostgreSQL ON CONFLICT).
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChainCheckpointJdbcRepository {
+
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO ledger_chain_checkpoints (account_number, verified_sequence, verified_hash, verified_at) VALUES ";
+    private static final String UPSERT_SUFFIX = """
+             ON CONFLICT (account_number) DO UPDATE
+            SET verified_sequence = EXCLUDED.verified_sequence,
+                verified_hash = EXCLUDED.verified_hash,
+                verified_at = EXCLUDED.verified_at""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, ChainCheckpoint> findAll(Collection<String> accountNumbers) {
+        Map<String, ChainCheckpoint> checkpoints = new HashMap<>();
+        if (accountNumbers.isEmpty()) {
+            return checkpoints;
+        }
+        jdbcTemplate.query("""
+                        SELECT account_number, verified_sequence, verified_hash, verified_at
+                        FROM ledger_chain_checkpoints
+                        WHERE account_number IN (%s)
+                        """.formatted(String.join(", ", Collections.nCopies(accountNumbers.size(), "?"))),
+                (RowCallbackHandler) rs -> checkpoints.put(rs.getString(1), new ChainCheckpoint(
+                        rs.getString(1), rs.getLong(2), rs.getString(3), rs.getTimestamp(4).toLocalDateTime())),
+                accountNumbers.toArray());
+        return checkpoints;
+    }
+
+    public void upsertAll(Collection<ChainCheckpoint> checkpoints) {
+        if (checkpoints.isEmpty()) {
+            return;
+        }
+        String sql = UPSERT_PREFIX
+                + String.join(", ", Collections.nCopies(checkpoints.size(), "(?, ?, ?, ?)"))
+                + UPSERT_SUFFIX;
+        List<Object> args = new ArrayList<>(checkpoints.size() * 4);
+        for (ChainCheckpoint checkpoint : checkpoints) {
+            args.add(checkpoint.accountNumber());
+            args.add(checkpoint.sequence());
+            args.add(checkpoint.hash());
+            args.add(Timestamp.valueOf(checkpoint.verifiedAt()));
+        }
+        jdbcTemplate.update(sql, args.toArray());
+    }
+}
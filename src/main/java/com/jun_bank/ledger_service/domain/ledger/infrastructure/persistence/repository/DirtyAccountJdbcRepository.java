@@ -0,0 +1,67 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계좌 최근 기록 시각 JDBC Repository
+ * <p>
+ * 기록 트랜잭션 안에서 계좌별 마지막 기록 시각을 다중 행 UPSERT로 갱신합니다 (PostgreSQL ON CONFLICT).
+ * 행은 계좌번호 순으로 씁니다 ({@link MultiRowUpsert} 행 잠금 순서).
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class DirtyAccountJdbcRepository {
+
+    public static final String TABLE = "ledger_dirty_accounts";
+
+    private static final String COLUMNS = "account_number, last_entry_at";
+    private static final int COLUMN_COUNT = 2;
+    private static final String UPSERT_SUFFIX = """
+             ON CONFLICT (account_number) DO UPDATE
+            SET last_entry_at = GREATEST(%s.last_entry_at, EXCLUDED.last_entry_at)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param lastEntryAts 계좌번호 순으로 정렬된 계좌 → 마지막 기록 시각
+     */
+    public void upsertAll(Map<String, LocalDateTime> lastEntryAts) {
+        upsertAll(TABLE, lastEntryAts);
+    }
+
+    /**
+     * 지정한 테이블(운영 또는 재생용 섀도 테이블)에 UPSERT
+     *
+     * @param table        대상 테이블 (서버에서 정한 이름만 사용)
+     * @param lastEntryAts 계좌번호 순으로 정렬된 계좌 → 마지막 기록 시각
+     */
+    public void upsertAll(String table, Map<String, LocalDateTime> lastEntryAts) {
+        MultiRowUpsert.execute(jdbcTemplate, table, COLUMNS, COLUMN_COUNT, lastEntryAts.entrySet(),
+                UPSERT_SUFFIX.formatted(table), (lastEntryAt, args) -> {
+                    args.add(lastEntryAt.getKey());
+                    args.add(Timestamp.valueOf(lastEntryAt.getValue()));
+                });
+    }
+
+    /**
+     * 기준 시각 이후 기록된 계좌 (계좌번호 순 keyset 페이지)
+     */
+    public List<String> findSince(LocalDateTime since, String afterAccountNumber, int limit) {
+        return jdbcTemplate.queryForList("""
+                        SELECT account_number FROM ledger_dirty_accounts
+                        WHERE last_entry_at > ? AND account_number > ?
+                        ORDER BY account_number
+                        LIMIT ?
+                        """,
+                String.class,
+                Timestamp.valueOf(since), afterAccountNumber != null ? afterAccountNumber : "", limit);
+    }
+}
@@ -0,0 +1,10 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity.JobCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 배치 작업 체크포인트 JPA Repository
+ */
+public interface JobCheckpointJpaRepository extends JpaRepository<JobCheckpointEntity, String> {
+}
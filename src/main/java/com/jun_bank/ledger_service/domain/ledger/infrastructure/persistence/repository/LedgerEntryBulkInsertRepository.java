@@ -0,0 +1,117 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity.LedgerEntryEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 원장 엔트리 다중 행 INSERT Repository
+ * <p>
+ * JPA의 건별 INSERT 대신 {@code INSERT ... VALUES (...), (...), ...} 한 문장으로
+ * 최대 {@value #ROWS_PER_STATEMENT}건씩 저장합니다.
+ * 호출자의 트랜잭션(JpaTransactionManager)과 같은 커넥션을 사용합니다.
+ * </p>
+ * <p>
+ * 월별 파티션 모드({@code ledger.partition.enabled=true})에서는 유일 제약을 담당하는
+ * ledger_entry_keys에 먼저 INSERT 하므로, 순번 충돌/중복 거래는 엔트리 행을 쓰기 전에 실패합니다.
+ * </p>
+ */
+@Repository
+public class LedgerEntryBulkInsertRepository {
+
+    /**
+     * 문장당 최대 행 수 (13컬럼 × 100행 = 바인드 변수 1,300개)
+     */
+    static final int ROWS_PER_STATEMENT = 100;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO ledger_entries (entry_id, transaction_id, account_number, account_sequence,
+                                        entry_type, amount, balance_after, description, category,
+                                        reference_type, reference_id, created_at, entry_hash)
+            VALUES\s""";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String FULL_CHUNK_SQL = buildSql(INSERT_PREFIX, ROW_PLACEHOLDER, ROWS_PER_STATEMENT);
+
+    private static final String KEY_INSERT_PREFIX = """
+            INSERT INTO ledger_entry_keys (account_number, account_sequence, transaction_id, created_at)
+            VALUES\s""";
+    private static final String KEY_ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+    private static final String FULL_KEY_CHUNK_SQL = buildSql(KEY_INSERT_PREFIX, KEY_ROW_PLACEHOLDER, ROWS_PER_STATEMENT);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean partitioned;
+
+    public LedgerEntryBulkInsertRepository(JdbcTemplate jdbcTemplate,
+                                           @Value("${ledger.partition.enabled:false}") boolean partitioned) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitioned = partitioned;
+    }
+
+    /**
+     * 엔티티 일괄 INSERT
+     *
+     * @param entities 저장할 엔티티 (entryId 할당 완료)
+     */
+    public void insertAll(List<LedgerEntryEntity> entities) {
+        for (int from = 0; from < entities.size(); from += ROWS_PER_STATEMENT) {
+            List<LedgerEntryEntity> chunk = entities.subList(from, Math.min(from + ROWS_PER_STATEMENT, entities.size()));
+            if (partitioned) {
+                String keySql = chunk.size() == ROWS_PER_STATEMENT
+                        ? FULL_KEY_CHUNK_SQL
+                        : buildSql(KEY_INSERT_PREFIX, KEY_ROW_PLACEHOLDER, chunk.size());
+                jdbcTemplate.update(keySql, ps -> bindKeyChunk(ps, chunk));
+            }
+            String sql = chunk.size() == ROWS_PER_STATEMENT
+                    ? FULL_CHUNK_SQL
+                    : buildSql(INSERT_PREFIX, ROW_PLACEHOLDER, chunk.size());
+            jdbcTemplate.update(sql, ps -> bindChunk(ps, chunk));
+        }
+    }
+
+    private void bindKeyChunk(PreparedStatement ps, List<LedgerEntryEntity> chunk) throws SQLException {
+        int index = 1;
+        for (LedgerEntryEntity entity : chunk) {
+            ps.setString(index++, entity.getAccountNumber());
+            ps.setLong(index++, entity.getSequence());
+            ps.setString(index++, entity.getTransactionId());
+            ps.setTimestamp(index++, Timestamp.valueOf(entity.getCreatedAt()));
+        }
+    }
+
+    private void bindChunk(PreparedStatement ps, List<LedgerEntryEntity> chunk) throws SQLException {
+        int index = 1;
+        for (LedgerEntryEntity entity : chunk) {
+            ps.setObject(index++, entity.getEntryId());
+            ps.setString(index++, entity.getTransactionId());
+            ps.setString(index++, entity.getAccountNumber());
+            ps.setLong(index++, entity.getSequence());
+            ps.setString(index++, entity.getEntryType().name());
+            ps.setBigDecimal(index++, entity.getAmount());
+            ps.setBigDecimal(index++, entity.getBalanceAfter());
+            ps.setString(index++, entity.getDescription());
+            ps.setString(index++, entity.getCategory().name());
+            ps.setString(index++, entity.getReferenceType());
+            ps.setString(index++, entity.getReferenceId());
+            ps.setTimestamp(index++, Timestamp.valueOf(entity.getCreatedAt()));
+            ps.setString(index++, entity.getEntryHash());
+        }
+    }
+
+    private static String buildSql(String prefix, String rowPlaceholder, int rows) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (rowPlaceholder.length() + 2));
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholder);
+        }
+        return sql.toString();
+    }
+}
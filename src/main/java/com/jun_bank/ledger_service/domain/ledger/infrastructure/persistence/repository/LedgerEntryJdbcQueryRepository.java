@@ -0,0 +1,304 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountActivity;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryRangeSummary;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.EntryType;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 원장 엔트리 JDBC 조회 Repository
+ * <p>
+ * 엔티티 변환 없이 대량 행을 읽는 조회에 사용합니다.
+ * 서버 측 커서(PostgreSQL)는 autocommit이 꺼진 트랜잭션 안에서만 동작하므로
+ * 순회 메서드는 읽기 전용 트랜잭션으로 실행합니다.
+ * </p>
+ * <p>
+ * 월별 파티션 모드({@code ledger.partition.enabled=true})에서는 계좌 순번 조건만으로는 파티션을 고를 수 없으므로,
+ * ledger_entry_keys에서 순번 구간의 기록 시각 범위를 먼저 구해 created_at 조건을 함께 겁니다 (파티션 프루닝).
+ * </p>
+ */
+@Repository
+public class LedgerEntryJdbcQueryRepository {
+
+    private static final int STREAM_FETCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final boolean partitioned;
+
+    public LedgerEntryJdbcQueryRepository(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                          @Value("${ledger.partition.enabled:false}") boolean partitioned) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitioned = partitioned;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachTransactionIdSince(LocalDateTime since, Consumer<String> action) {
+        streamingJdbcTemplate.query(
+                "SELECT transaction_id FROM ledger_entries WHERE created_at >= ?",
+                (RowCallbackHandler) rs -> action.accept(rs.getString(1)),
+                Timestamp.valueOf(since));
+    }
+
+    /**
+     * 계좌 전체 엔트리 순회 (순번 오름차순, 서버 측 커서)
+     * <p>
+     * 한 번에 fetch size만큼만 메모리에 두므로 이력 길이와 무관하게 사용 메모리가 일정합니다.
+     * action이 블로킹되면(느린 클라이언트) 다음 fetch도 그만큼 늦춰집니다.
+     * </p>
+     */
+    @Transactional(readOnly = true)
+    public void forEachEntryOfAccount(String accountNumber, Consumer<LedgerEntry> action) {
+        streamingJdbcTemplate.query(
+                "SELECT " + LedgerEntryRowMapper.COLUMNS
+                        + " FROM ledger_entries WHERE account_number = ? ORDER BY account_sequence",
+                (RowCallbackHandler) rs -> action.accept(LedgerEntryRowMapper.INSTANCE.mapRow(rs, 0)),
+                accountNumber);
+    }
+
+    /**
+     * 계좌 순번 구간의 엔트리 순회 (순번 오름차순, 서버 측 커서)
+     * <p>
+     * 월별 파티션 모드에서는 키 테이블에서 구한 기록 시각 범위로 읽을 파티션을 좁힙니다.
+     * </p>
+     */
+    @Transactional(readOnly = true)
+    public void forEachEntryOfAccountInRange(String accountNumber, long afterSequence, long toSequence,
+                                             Consumer<LedgerEntry> action) {
+        StringBuilder sql = new StringBuilder("SELECT " + LedgerEntryRowMapper.COLUMNS + """
+                 FROM ledger_entries
+                WHERE account_number = ? AND account_sequence > ? AND account_sequence <= ?""");
+        List<Object> args = new ArrayList<>(List.of(accountNumber, afterSequence, toSequence));
+        if (partitioned) {
+            CreatedAtBounds bounds = findCreatedAtBounds(accountNumber, afterSequence, toSequence);
+            if (bounds == null) {
+                return;
+            }
+            sql.append(" AND created_at >= ? AND created_at <= ?");
+            args.add(Timestamp.valueOf(bounds.from()));
+            args.add(Timestamp.valueOf(bounds.to()));
+        }
+        sql.append(" ORDER BY account_sequence");
+
+        streamingJdbcTemplate.query(sql.toString(),
+                (RowCallbackHandler) rs -> action.accept(LedgerEntryRowMapper.INSTANCE.mapRow(rs, 0)),
+                args.toArray());
+    }
+
+    /**
+     * 계좌번호 구간의 전체 엔트리 순회 ((계좌번호, 순번) 오름차순, 서버 측 커서)
+     * <p>
+     * (account_number, account_sequence) 유일 인덱스 범위 스캔으로 정렬 없이 읽습니다.
+     * 파티션 모드에서는 파티션별 인덱스 스캔을 병합(Merge Append)합니다.
+     * </p>
+     */
+    @Transactional(readOnly = true)
+    public void forEachEntryInAccountRange(String fromAccountNumber, String toAccountNumber,
+                                           Consumer<LedgerEntry> action) {
+        streamingJdbcTemplate.query(
+                "SELECT " + LedgerEntryRowMapper.COLUMNS
+                        + " FROM ledger_entries WHERE account_number >= ? AND account_number <= ?"
+                        + " ORDER BY account_number, account_sequence",
+                (RowCallbackHandler) rs -> action.accept(LedgerEntryRowMapper.INSTANCE.mapRow(rs, 0)),
+                fromAccountNumber, toAccountNumber);
+    }
+
+    public List<String> findRecentTransactionIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT transaction_id FROM ledger_entries ORDER BY created_at DESC LIMIT ?",
+                String.class,
+                limit);
+    }
+
+    /**
+     * 계좌 순번 구간 합계 ((account_number, account_sequence) 인덱스 범위 스캔)
+     */
+    public EntryRangeSummary summarizeRange(String accountNumber, long afterSequence, long toSequence,
+                                            LocalDateTime createdAtUpTo) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT COUNT(*),
+                       COALESCE(SUM(CASE WHEN entry_type = ? THEN amount ELSE -amount END), 0)
+                FROM ledger_entries
+                WHERE account_number = ? AND account_sequence > ? AND account_sequence <= ?
+                """);
+        List<Object> args = new ArrayList<>(List.of(EntryType.DEBIT.name(), accountNumber, afterSequence, toSequence));
+
+        LocalDateTime upperBound = createdAtUpTo;
+        if (partitioned) {
+            CreatedAtBounds bounds = findCreatedAtBounds(accountNumber, afterSequence, toSequence);
+            if (bounds == null) {
+                return new EntryRangeSummary(0, 0);
+            }
+            sql.append(" AND created_at >= ?");
+            args.add(Timestamp.valueOf(bounds.from()));
+            if (upperBound == null || bounds.to().isBefore(upperBound)) {
+                upperBound = bounds.to();
+            }
+        }
+        if (upperBound != null) {
+            sql.append(" AND created_at <= ?");
+            args.add(Timestamp.valueOf(upperBound));
+        }
+
+        return jdbcTemplate.queryForObject(sql.toString(),
+                (rs, rowNum) -> new EntryRangeSummary(rs.getLong(1), rs.getBigDecimal(2).longValueExact()),
+                args.toArray());
+    }
+
+    /**
+     * 순번 구간 엔트리의 기록 시각 범위 (파티션 모드, 키 테이블 PK 범위 스캔)
+     *
+     * @return 최소/최대 기록 시각, 구간에 엔트리가 없으면 null
+     */
+    private CreatedAtBounds findCreatedAtBounds(String accountNumber, long afterSequence, long toSequence) {
+        return jdbcTemplate.queryForObject("""
+                        SELECT MIN(created_at), MAX(created_at)
+                        FROM ledger_entry_keys
+                        WHERE account_number = ? AND account_sequence > ? AND account_sequence <= ?
+                        """,
+                (rs, rowNum) -> {
+                    Timestamp min = rs.getTimestamp(1);
+                    return min == null
+                            ? null
+                            : new CreatedAtBounds(min.toLocalDateTime(), rs.getTimestamp(2).toLocalDateTime());
+                },
+                accountNumber, afterSequence, toSequence);
+    }
+
+    /**
+     * 계좌 순번의 키 조회 (파티션 모드)
+     */
+    public Optional<LedgerEntryKey> findKey(String accountNumber, long sequence) {
+        return jdbcTemplate.query("""
+                        SELECT account_number, account_sequence, created_at
+                        FROM ledger_entry_keys
+                        WHERE account_number = ? AND account_sequence = ?
+                        """,
+                (rs, rowNum) -> toKey(rs.getString(1), rs.getLong(2), rs.getTimestamp(3)),
+                accountNumber, sequence).stream().findFirst();
+    }
+
+    /**
+     * 계좌별 최신 순번의 키 조회 (파티션 모드)
+     *
+     * @return 계좌별 최신 키 (기록이 없는 계좌는 포함되지 않음)
+     */
+    public List<LedgerEntryKey> findHeadKeys(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return List.of();
+        }
+        String sql = """
+                SELECT DISTINCT ON (account_number) account_number, account_sequence, created_at
+                FROM ledger_entry_keys
+                WHERE account_number IN (%s)
+                ORDER BY account_number, account_sequence DESC
+                """.formatted(placeholders(accountNumbers.size()));
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> toKey(rs.getString(1), rs.getLong(2), rs.getTimestamp(3)),
+                accountNumbers.toArray());
+    }
+
+    /**
+     * 이미 기록된 거래 ID 조회 (파티션 모드, 키 테이블 유일 인덱스만 사용)
+     */
+    public List<String> findExistingTransactionIdsFromKeys(Collection<String> transactionIds) {
+        String sql = "SELECT DISTINCT transaction_id FROM ledger_entry_keys WHERE transaction_id IN (%s)"
+                .formatted(placeholders(transactionIds.size()));
+        return jdbcTemplate.queryForList(sql, String.class, transactionIds.toArray());
+    }
+
+    /**
+     * 계좌번호 구간의 계좌별 잔액 합계 (계좌 인덱스 범위 스캔 + GROUP BY 1회)
+     */
+    public Map<String, Long> sumBalancesByAccountRange(String fromAccountNumber, String toAccountNumber) {
+        Map<String, Long> balances = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT account_number,
+                               SUM(CASE WHEN entry_type = ? THEN amount ELSE -amount END)
+                        FROM ledger_entries
+                        WHERE account_number >= ? AND account_number <= ?
+                        GROUP BY account_number
+                        """,
+                (RowCallbackHandler) rs -> balances.put(rs.getString(1), rs.getBigDecimal(2).longValueExact()),
+                EntryType.DEBIT.name(), fromAccountNumber, toAccountNumber);
+        return balances;
+    }
+
+    /**
+     * 지정한 계좌들의 잔액 합계 (계좌 인덱스 + GROUP BY 1회)
+     */
+    public Map<String, Long> sumBalancesByAccounts(Collection<String> accountNumbers) {
+        List<Object> args = new ArrayList<>(accountNumbers.size() + 1);
+        args.add(EntryType.DEBIT.name());
+        args.addAll(accountNumbers);
+
+        Map<String, Long> balances = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT account_number,
+                               SUM(CASE WHEN entry_type = ? THEN amount ELSE -amount END)
+                        FROM ledger_entries
+                        WHERE account_number IN (%s)
+                        GROUP BY account_number
+                        """.formatted(placeholders(accountNumbers.size())),
+                (RowCallbackHandler) rs -> balances.put(rs.getString(1), rs.getBigDecimal(2).longValueExact()),
+                args.toArray());
+        return balances;
+    }
+
+    /**
+     * 기준 시각 이후 기록이 있는 계좌 (계좌번호 순 keyset 페이지)
+     */
+    public List<AccountActivity> findActiveAccounts(LocalDateTime since, String afterAccountNumber, int limit) {
+        List<String> conditions = new ArrayList<>(2);
+        List<Object> args = new ArrayList<>(3);
+        if (since != null) {
+            conditions.add("created_at > ?");
+            args.add(Timestamp.valueOf(since));
+        }
+        if (afterAccountNumber != null) {
+            conditions.add("account_number > ?");
+            args.add(afterAccountNumber);
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT account_number, MAX(account_sequence) FROM ledger_entries");
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" GROUP BY account_number ORDER BY account_number LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new AccountActivity(rs.getString(1), rs.getLong(2)),
+                args.toArray());
+    }
+
+    private record CreatedAtBounds(LocalDateTime from, LocalDateTime to) {
+    }
+
+    private static LedgerEntryKey toKey(String accountNumber, long sequence, Timestamp createdAt) {
+        return new LedgerEntryKey(accountNumber, sequence, createdAt.toLocalDateTime());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
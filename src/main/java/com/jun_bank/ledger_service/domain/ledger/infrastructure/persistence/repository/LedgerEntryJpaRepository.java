@@ -0,0 +1,75 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.entity.LedgerEntryEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 원장 엔트리 JPA Repository
+ * <p>
+ * 조회 전용으로 사용합니다. 저장은 {@link LedgerEntryBulkInsertRepository}의 다중 행 INSERT를 사용합니다.
+ * </p>
+ */
+public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryEntity, UUID> {
+
+    @Query("select distinct e.transactionId from LedgerEntryEntity e where e.transactionId in :transactionIds")
+    List<String> findExistingTransactionIds(@Param("transactionIds") Collection<String> transactionIds);
+
+    Optional<LedgerEntryEntity> findFirstByAccountNumberOrderBySequenceDesc(String accountNumber);
+
+    Optional<LedgerEntryEntity> findByAccountNumberAndSequence(String accountNumber, Long sequence);
+
+    /**
+     * 파티션 모드 순번 조회: 기록 시각(파티션 키) 조건으로 한 파티션만 읽음
+     */
+    Optional<LedgerEntryEntity> findByAccountNumberAndSequenceAndCreatedAt(String accountNumber, Long sequence,
+                                                                           LocalDateTime createdAt);
+
+    List<LedgerEntryEntity> findByAccountNumberInAndCreatedAtIn(Collection<String> accountNumbers,
+                                                                Collection<LocalDateTime> createdAts);
+
+    @Query("""
+            select e from LedgerEntryEntity e
+            where e.accountNumber in :accountNumbers
+              and e.sequence = (select max(l.sequence) from LedgerEntryEntity l
+                                where l.accountNumber = e.accountNumber)
+            """)
+    List<LedgerEntryEntity> findLatestByAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    /**
+     * offset 페이지 (건수 쿼리 없이 목록만 조회, offset만큼 인덱스를 건너뜀)
+     */
+    @Query(value = """
+            SELECT * FROM ledger_entries
+            WHERE account_number = :accountNumber
+            ORDER BY created_at DESC, entry_id DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<LedgerEntryEntity> findPage(@Param("accountNumber") String accountNumber,
+                                     @Param("offset") long offset,
+                                     @Param("limit") int limit);
+
+    /**
+     * keyset 페이지: (account_number, created_at, entry_id) 인덱스에서 커서 위치로 바로 탐색
+     */
+    @Query("""
+            select e from LedgerEntryEntity e
+            where e.accountNumber = :accountNumber
+              and (e.createdAt < :createdAt or (e.createdAt = :createdAt and e.entryId < :entryId))
+            order by e.createdAt desc, e.entryId desc
+            """)
+    List<LedgerEntryEntity> findPageAfter(@Param("accountNumber") String accountNumber,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("entryId") UUID entryId,
+                                          Limit limit);
+
+    long countByAccountNumber(String accountNumber);
+}
@@ -0,0 +1,16 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원장 엔트리 키 (ledger_entry_keys 행)
+ * <p>
+ * 월별 파티션 모드에서 계좌 순번으로 엔트리의 기록 시각(파티션 키)을 찾을 때 사용합니다.
+ * </p>
+ *
+ * @param accountNumber 계좌번호
+ * @param sequence      계좌 내 순번
+ * @param createdAt     기록 시각
+ */
+public record LedgerEntryKey(String accountNumber, long sequence, LocalDateTime createdAt) {
+}
@@ -0,0 +1,49 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.EntryType;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.LedgerEntryId;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * ledger_entries 행 → 도메인 모델 변환 (JDBC 순회 조회용)
+ * <p>
+ * {@link #COLUMNS} 순서로 조회한 결과에 사용합니다. 엔티티를 거치지 않으므로 영속성 컨텍스트에 쌓이지 않습니다.
+ * </p>
+ */
+public final class LedgerEntryRowMapper implements RowMapper<LedgerEntry> {
+
+    public static final LedgerEntryRowMapper INSTANCE = new LedgerEntryRowMapper();
+
+    public static final String COLUMNS = """
+            entry_id, transaction_id, account_number, account_sequence, entry_type, amount, balance_after,
+            description, category, reference_type, reference_id, created_at, entry_hash""";
+
+    private LedgerEntryRowMapper() {
+    }
+
+    @Override
+    public LedgerEntry mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return LedgerEntry.restoreBuilder()
+                .entryId(LedgerEntryId.of(rs.getObject(1, UUID.class)))
+                .transactionId(rs.getString(2))
+                .accountNumber(rs.getString(3))
+                .sequence(rs.getLong(4))
+                .entryType(EntryType.valueOf(rs.getString(5)))
+                .amount(Money.of(rs.getLong(6)))
+                .balanceAfter(Money.of(rs.getLong(7)))
+                .description(rs.getString(8))
+                .category(TransactionCategory.valueOf(rs.getString(9)))
+                .referenceType(rs.getString(10))
+                .referenceId(rs.getString(11))
+                .createdAt(rs.getTimestamp(12).toLocalDateTime())
+                .entryHash(rs.getString(13))
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 원장 엔트리 월별 파티션 DDL Repository
+ * <p>
+ * ledger_entries(PARTITION BY RANGE (created_at))의 월 파티션 ledger_entries_pYYYY_MM을 생성합니다.
+ * 파티션 인덱스는 부모 테이블의 인덱스 정의로 자동 생성됩니다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class LedgerPartitionJdbcRepository {
+
+    private static final String PARENT_TABLE = "ledger_entries";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean exists(YearMonth month) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partitionName(month));
+    }
+
+    /**
+     * 월 파티션 생성 (DDL은 바인드 파라미터를 쓸 수 없으므로 서버에서 만든 이름/경계만 사용)
+     */
+    public void create(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(partitionName(month), PARENT_TABLE,
+                        month.atDay(1).format(BOUND_FORMAT),
+                        month.plusMonths(1).atDay(1).format(BOUND_FORMAT)));
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_p" + month.format(SUFFIX_FORMAT);
+    }
+}
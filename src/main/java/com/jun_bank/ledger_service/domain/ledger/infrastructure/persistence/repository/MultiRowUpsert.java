@@ -0,0 +1,56 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 다중 행 UPSERT ({@code INSERT ... VALUES (...), (...) ON CONFLICT ...}, PostgreSQL)
+ * <p>
+ * 기록 트랜잭션 안에서 파생 테이블(계좌 요약, 카테고리 집계, 최근 기록 계좌)을 갱신할 때 사용합니다.
+ * 바인드 파라미터 수 상한(65535)을 넘지 않도록 {@value #ROWS_PER_STATEMENT}행씩 나눠 실행합니다.
+ * </p>
+ *
+ * <h3>행 잠금 순서:</h3>
+ * <p>
+ * 호출자는 행을 충돌 키 순으로 정렬해 넘겨야 합니다. 같은 행을 갱신하는 동시 트랜잭션이 항상 같은 순서로 행을 잠그므로
+ * 서로의 잠금을 기다리는 교착 상태가 생기지 않습니다.
+ * </p>
+ */
+final class MultiRowUpsert {
+
+    static final int ROWS_PER_STATEMENT = 1_000;
+
+    private MultiRowUpsert() {
+    }
+
+    /**
+     * @param table          대상 테이블 (서버에서 정한 이름만 사용)
+     * @param columns        컬럼 목록 (콤마 구분)
+     * @param columnCount    컬럼 수 (행마다 binder가 추가하는 값 수)
+     * @param rows           충돌 키 순으로 정렬된 행
+     * @param conflictClause {@code ON CONFLICT ...} 절
+     * @param binder         행의 값을 컬럼 순서대로 추가
+     */
+    static <T> void execute(JdbcTemplate jdbcTemplate, String table, String columns, int columnCount,
+                            Collection<T> rows, String conflictClause, BiConsumer<T, List<Object>> binder) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String rowPlaceholder = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        List<T> ordered = List.copyOf(rows);
+        for (int from = 0; from < ordered.size(); from += ROWS_PER_STATEMENT) {
+            List<T> chunk = ordered.subList(from, Math.min(from + ROWS_PER_STATEMENT, ordered.size()));
+            String sql = "INSERT INTO " + table + " (" + columns + ") VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), rowPlaceholder))
+                    + conflictClause;
+            List<Object> args = new ArrayList<>(chunk.size() * columnCount);
+            chunk.forEach(row -> binder.accept(row, args));
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * PostgreSQL {@code COPY ... FROM STDIN (FORMAT csv)} 행 스트리밍 Writer
+ * <p>
+ * 행을 CSV로 인코딩해 버퍼에 모으고, 버퍼가 차면 드라이버의 COPY 스트림으로 바로 보냅니다.
+ * 문자열은 항상 따옴표로 감싸므로 빈 문자열과 NULL(따옴표 없는 빈 값)이 구분됩니다.
+ * </p>
+ */
+final class PgCsvCopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_CHARS = 64 * 1024;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 1024);
+    private boolean firstColumn = true;
+
+    /**
+     * @param connection PostgreSQL 커넥션 (풀 프록시 허용)
+     * @param copySql    {@code COPY 테이블 (컬럼...) FROM STDIN WITH (FORMAT csv)}
+     */
+    PgCsvCopyWriter(Connection connection, String copySql) throws SQLException {
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql);
+    }
+
+    PgCsvCopyWriter text(String value) {
+        separator();
+        if (value != null) {
+            buffer.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        }
+        return this;
+    }
+
+    PgCsvCopyWriter number(long value) {
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    PgCsvCopyWriter number(BigDecimal value) {
+        separator();
+        if (value != null) {
+            buffer.append(value.toPlainString());
+        }
+        return this;
+    }
+
+    PgCsvCopyWriter uuid(UUID value) {
+        separator();
+        if (value != null) {
+            buffer.append(value);
+        }
+        return this;
+    }
+
+    PgCsvCopyWriter timestamp(LocalDateTime value) {
+        separator();
+        if (value != null) {
+            buffer.append(value);
+        }
+        return this;
+    }
+
+    void endRow() throws SQLException {
+        buffer.append('\n');
+        firstColumn = true;
+        if (buffer.length() >= FLUSH_CHARS) {
+            flush();
+        }
+    }
+
+    /**
+     * 남은 행을 보내고 COPY 종료
+     *
+     * @return COPY된 행 수
+     */
+    long finish() throws SQLException {
+        flush();
+        return copyIn.endCopy();
+    }
+
+    /**
+     * finish() 없이 닫히면(예외) COPY 취소
+     */
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    private void separator() {
+        if (!firstColumn) {
+            buffer.append(',');
+        }
+        firstColumn = false;
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
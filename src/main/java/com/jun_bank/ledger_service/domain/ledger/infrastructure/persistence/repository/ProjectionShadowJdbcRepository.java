@@ -0,0 +1,153 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝션 섀도 테이블 DDL Repository (원장 재생용)
+ * <p>
+ * 운영 테이블 {@code <table>}과 같은 구조(기본값, 제약, 인덱스 포함)의 {@code <table>_shadow}를 만들고,
+ * 재생이 끝나면 한 트랜잭션에서 운영 테이블을 지우고 섀도 테이블의 이름을 바꿉니다 (PostgreSQL DDL은 트랜잭션 안에서 원자적).
+ * </p>
+ * <p>
+ * 섀도 테이블의 인덱스/제약은 자동 생성된 이름을 가지므로, 교체 시 정의가 같은 운영 테이블 인덱스의 이름으로 바꿉니다.
+ * {@code LIKE}는 권한과 소유자를 복사하지 않으므로, 교체 트랜잭션 안에서 운영 테이블의 GRANT와 소유자를 다시 적용합니다.
+ * DDL은 바인드 파라미터를 쓸 수 없으므로 서버에서 정한 테이블 이름만 사용합니다.
+ * </p>
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProjectionShadowJdbcRepository {
+
+    public static final String SHADOW_SUFFIX = "_shadow";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static String shadowOf(String table) {
+        return table + SHADOW_SUFFIX;
+    }
+
+    /**
+     * 섀도 테이블 준비
+     *
+     * @param table  운영 테이블
+     * @param resume true면 기존 섀도 테이블 유지, false면 지우고 새로 생성
+     */
+    public void prepare(String table, boolean resume) {
+        String shadow = shadowOf(table);
+        if (!resume) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + shadow);
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s (LIKE %s INCLUDING ALL)".formatted(shadow, table));
+    }
+
+    /**
+     * 섀도 테이블을 운영 테이블로 교체 (한 트랜잭션)
+     * <ol>
+     *   <li>운영 테이블 잠금 (교체가 끝날 때까지 기록/조회 대기)</li>
+     *   <li>재생 중 운영 테이블에 기록된 행을 섀도 테이블에 합침 (catchUpSql, 파라미터: since)</li>
+     *   <li>운영 테이블 삭제, 섀도 테이블 이름 변경, 인덱스/제약 이름 복원</li>
+     *   <li>운영 테이블의 GRANT(information_schema.role_table_grants)와 소유자 복원</li>
+     * </ol>
+     *
+     * @param table      운영 테이블
+     * @param catchUpSql 운영 → 섀도 합치기 SQL (멱등)
+     * @param since      이 시각 이후 운영 테이블에 기록된 행을 합침
+     */
+    @Transactional
+    public void swap(String table, String catchUpSql, LocalDateTime since) {
+        swap(table, catchUpSql, new Object[]{Timestamp.valueOf(since)});
+    }
+
+    /**
+     * 섀도 테이블을 운영 테이블로 교체 (합치기 SQL 파라미터 직접 지정)
+     *
+     * @param table       운영 테이블
+     * @param catchUpSql  운영 → 섀도 합치기 SQL (멱등)
+     * @param catchUpArgs 합치기 SQL 파라미터
+     */
+    @Transactional
+    public void swap(String table, String catchUpSql, Object... catchUpArgs) {
+        String shadow = shadowOf(table);
+        Map<String, String> liveIndexes = indexNamesByDefinition(table);
+        Map<String, String> shadowIndexes = indexNamesByDefinition(shadow);
+
+        jdbcTemplate.execute("LOCK TABLE %s IN ACCESS EXCLUSIVE MODE".formatted(table));
+        int merged = jdbcTemplate.update(catchUpSql, catchUpArgs);
+        List<String> grants = grantStatements(table);
+        String owner = ownerToRestore(table);
+
+        jdbcTemplate.execute("DROP TABLE " + table);
+        jdbcTemplate.execute("ALTER TABLE %s RENAME TO %s".formatted(shadow, table));
+        shadowIndexes.forEach((definition, shadowIndex) -> {
+            String liveIndex = liveIndexes.get(definition);
+            if (liveIndex != null && !liveIndex.equals(shadowIndex)) {
+                // 제약(PK, UNIQUE)이 사용하는 인덱스의 이름을 바꾸면 제약 이름도 함께 바뀜
+                jdbcTemplate.execute("ALTER INDEX %s RENAME TO %s".formatted(shadowIndex, liveIndex));
+            }
+        });
+        grants.forEach(jdbcTemplate::execute);
+        if (owner != null) {
+            // 소유자 변경은 GRANT 이후: 현재 사용자가 소유권을 잃으면 더 이상 GRANT 할 수 없음
+            jdbcTemplate.execute("ALTER TABLE %s OWNER TO %s".formatted(table, owner));
+        }
+        log.info("섀도 테이블 교체 - table: {}, 재생 중 기록 합침: {}행, 권한 복원: {}건",
+                table, merged, grants.size());
+    }
+
+    /**
+     * 운영 테이블 GRANT 재현 SQL (소유자의 암묵적 권한 제외)
+     */
+    private List<String> grantStatements(String table) {
+        return jdbcTemplate.query("""
+                        SELECT g.privilege_type,
+                               CASE WHEN g.grantee = 'PUBLIC' THEN 'PUBLIC' ELSE quote_ident(g.grantee) END,
+                               g.is_grantable
+                        FROM information_schema.role_table_grants g
+                        JOIN pg_tables t ON t.schemaname = g.table_schema AND t.tablename = g.table_name
+                        WHERE g.table_schema = current_schema() AND g.table_name = ? AND g.grantee <> t.tableowner
+                        """,
+                (rs, rowNum) -> "GRANT %s ON %s TO %s%s".formatted(rs.getString(1), table, rs.getString(2),
+                        "YES".equals(rs.getString(3)) ? " WITH GRANT OPTION" : ""),
+                table);
+    }
+
+    /**
+     * 복원할 운영 테이블 소유자 (현재 사용자와 같으면 null, 섀도 테이블은 현재 사용자 소유)
+     */
+    private String ownerToRestore(String table) {
+        return jdbcTemplate.queryForObject("""
+                        SELECT CASE WHEN tableowner <> current_user THEN quote_ident(tableowner) END
+                        FROM pg_tables
+                        WHERE schemaname = current_schema() AND tablename = ?
+                        """,
+                String.class, table);
+    }
+
+    /**
+     * 인덱스 정의(이름/테이블 제외) → 인덱스 이름
+     */
+    private Map<String, String> indexNamesByDefinition(String table) {
+        Map<String, String> indexes = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT indexname, indexdef FROM pg_indexes
+                        WHERE schemaname = current_schema() AND tablename = ?
+                        """,
+                (RowCallbackHandler) rs -> indexes.put(
+                        rs.getString(2).replaceFirst(" INDEX \\S+ ON \\S+ ", " INDEX ON "),
+                        rs.getString(1)),
+                table);
+        return indexes;
+    }
+}
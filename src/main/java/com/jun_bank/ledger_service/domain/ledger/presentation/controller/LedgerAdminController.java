@@ -0,0 +1,86 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.controller;
+
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.BulkLoadUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.ReplayUseCase;
+import com.jun_bank.ledger_service.domain.ledger.presentation.dto.BulkLoadProgressResponse;
+import com.jun_bank.ledger_service.domain.ledger.presentation.dto.BulkLoadStartRequest;
+import com.jun_bank.ledger_service.domain.ledger.presentation.dto.ReplayProgressResponse;
+import com.jun_bank.ledger_service.domain.ledger.presentation.dto.ReplayStartRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 원장 관리자 API (대량 적재, 원장 재생 등 운영 작업)
+ * <p>
+ * 작업은 백그라운드에서 실행되며, 요청은 시작 시점의 진행 상황을 바로 반환합니다.
+ * </p>
+ */
+@Tag(name = "Ledger Admin", description = "원장 관리자 API")
+@RestController
+@RequestMapping("/internal/v1/ledger/admin")
+@RequiredArgsConstructor
+public class LedgerAdminController {
+
+    private final BulkLoadUseCase bulkLoadUseCase;
+    private final ReplayUseCase replayUseCase;
+
+    @Operation(summary = "대량 적재 시작",
+            description = "파일 또는 Kafka 토픽의 과거 이벤트를 COPY로 적재합니다. 같은 작업 이름은 마지막 체크포인트부터 재개합니다.")
+    @PostMapping("/bulk-loads")
+    public ResponseEntity<BulkLoadProgressResponse> startBulkLoad(@Valid @RequestBody BulkLoadStartRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(BulkLoadProgressResponse.from(bulkLoadUseCase.start(request.toRequest())));
+    }
+
+    @Operation(summary = "대량 적재 진행 상황 목록")
+    @GetMapping("/bulk-loads")
+    public ResponseEntity<List<BulkLoadProgressResponse>> getBulkLoads() {
+        return ResponseEntity.ok(bulkLoadUseCase.getAllProgress().stream()
+                .map(BulkLoadProgressResponse::from)
+                .toList());
+    }
+
+    @Operation(summary = "대량 적재 진행 상황")
+    @GetMapping("/bulk-loads/{jobName}")
+    public ResponseEntity<BulkLoadProgressResponse> getBulkLoad(@PathVariable String jobName) {
+        return bulkLoadUseCase.getProgress(jobName)
+                .map(progress -> ResponseEntity.ok(BulkLoadProgressResponse.from(progress)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "원장 재생 시작",
+            description = "원장 엔트리를 재생해 파생 상태를 섀도 테이블에 재구축한 뒤 운영 테이블과 교체합니다. 같은 프로젝션 조합은 마지막 체크포인트부터 재개합니다.")
+    @PostMapping("/replays")
+    public ResponseEntity<ReplayProgressResponse> startReplay(@Valid @RequestBody ReplayStartRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ReplayProgressResponse.from(replayUseCase.start(request.toRequest())));
+    }
+
+    @Operation(summary = "원장 재생 진행 상황 목록")
+    @GetMapping("/replays")
+    public ResponseEntity<List<ReplayProgressResponse>> getReplays() {
+        return ResponseEntity.ok(replayUseCase.getAllProgress().stream()
+                .map(ReplayProgressResponse::from)
+                .toList());
+    }
+
+    @Operation(summary = "원장 재생 진행 상황")
+    @GetMapping("/replays/{jobName}")
+    public ResponseEntity<ReplayProgressResponse> getReplay(@PathVariable String jobName) {
+        return replayUseCase.getProgress(jobName)
+                .map(progress -> ResponseEntity.ok(ReplayProgressResponse.from(progress)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,43 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.controller;
+
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.AppendLedgerEntryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.presentation.dto.LedgerEntryResponse;
+import com.jun_bank.ledger_service.domain.ledger.presentation.dto.RecordLedgerEntryRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 원장 내부 API (서비스 간 통신)
+ * <p>
+ * Kafka와 같은 그룹 커밋 Writer를 사용합니다.
+ * 응답은 커밋 완료 후 비동기로 반환되며, 대기 중 서블릿 스레드를 점유하지 않습니다.
+ * </p>
+ */
+@Tag(name = "Ledger Internal", description = "원장 내부 API")
+@RestController
+@RequestMapping("/internal/v1/ledger")
+@RequiredArgsConstructor
+public class LedgerInternalController {
+
+    private final AppendLedgerEntryUseCase appendLedgerEntryUseCase;
+
+    @Operation(summary = "원장 기록", description = "거래 1건(이체는 엔트리 2건)을 기록합니다.")
+    @PostMapping("/entries")
+    public CompletableFuture<ResponseEntity<List<LedgerEntryResponse>>> recordEntries(
+            @Valid @RequestBody RecordLedgerEntryRequest request) {
+        return appendLedgerEntryUseCase.append(request.toCommands())
+                .thenApply(entries -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(entries.stream().map(LedgerEntryResponse::from).toList()));
+    }
+}
@@ -0,0 +1,118 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.controller;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountBalance;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryCursor;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerEntryPage;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerExportFormat;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RollupGranularity;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.ExportAccountLedgerUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.GetAccountBalanceUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.GetAccountEntriesUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.GetAccountSummaryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.GetCategoryRollupUseCase;
+import com.jun_bank.ledger_service.domain.ledger.presentation.dto.AccountBalanceResponse;
+import com.jun_bank.ledger_service.domain.ledger.presentation.dto.AccountSummaryResponse;
+import com.jun_bank.ledger_service.domain.ledger.presentation.dto.CategoryRollupResponse;
+import com.jun_bank.ledger_service.domain.ledger.presentation.dto.LedgerEntryPageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 원장 조회 API
+ */
+@Tag(name = "Ledger", description = "원장 조회 API")
+@RestController
+@RequestMapping("/api/v1/ledger")
+@RequiredArgsConstructor
+public class LedgerQueryController {
+
+    private final GetAccountBalanceUseCase getAccountBalanceUseCase;
+    private final GetAccountEntriesUseCase getAccountEntriesUseCase;
+    private final GetAccountSummaryUseCase getAccountSummaryUseCase;
+    private final GetCategoryRollupUseCase getCategoryRollupUseCase;
+    private final ExportAccountLedgerUseCase exportAccountLedgerUseCase;
+
+    @Operation(summary = "계좌 원장 기록 조회",
+            description = "최신순 조회. page를 지정하면 offset 페이지(기본 totalElements 포함), "
+                    + "생략하면 cursor 페이지(응답의 nextCursor를 다음 요청의 cursor로 전달, 깊이와 무관하게 일정한 비용)입니다.")
+    @GetMapping("/entries")
+    public ResponseEntity<LedgerEntryPageResponse> getEntries(
+            @RequestParam String accountNumber,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Boolean includeTotal) {
+        LedgerEntryPage result = page != null
+                ? getAccountEntriesUseCase.getEntries(accountNumber, page, size,
+                        includeTotal == null || includeTotal)
+                : getAccountEntriesUseCase.getEntriesAfter(accountNumber,
+                        cursor != null ? EntryCursor.decode(cursor) : null, size,
+                        includeTotal != null && includeTotal);
+        return ResponseEntity.ok(LedgerEntryPageResponse.from(result));
+    }
+
+    @Operation(summary = "특정 시점 잔액 조회", description = "asOf 시점까지의 원장 이력으로 잔액을 계산합니다. 생략 시 계좌 요약의 현재 잔액.")
+    @GetMapping("/balance")
+    public ResponseEntity<AccountBalanceResponse> getBalance(
+            @RequestParam String accountNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        AccountBalance balance = asOf != null
+                ? getAccountBalanceUseCase.getBalanceAsOf(accountNumber, asOf)
+                : getAccountBalanceUseCase.getCurrentBalance(accountNumber);
+        return ResponseEntity.ok(AccountBalanceResponse.from(balance));
+    }
+
+    @Operation(summary = "계좌 요약 조회",
+            description = "현재 잔액, 엔트리 수, 첫/마지막 기록 시각, 마지막 거래 ID를 계좌 요약 1행으로 조회합니다.")
+    @GetMapping("/summary")
+    public ResponseEntity<AccountSummaryResponse> getSummary(@RequestParam String accountNumber) {
+        return ResponseEntity.ok(AccountSummaryResponse.from(getAccountSummaryUseCase.getSummary(accountNumber)));
+    }
+
+    @Operation(summary = "카테고리별 기간 집계 조회",
+            description = "from~to(포함) 기간의 카테고리별 엔트리 수/금액 합계를 일/월 집계를 조합해 조회합니다. "
+                    + "accountNumber를 생략하면 전체 계좌, granularity는 DAY/MONTH/TOTAL(기본)입니다.")
+    @GetMapping("/rollups")
+    public ResponseEntity<CategoryRollupResponse> getRollups(
+            @RequestParam(required = false) String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "TOTAL") RollupGranularity granularity) {
+        return ResponseEntity.ok(CategoryRollupResponse.of(accountNumber, from, to, granularity,
+                getCategoryRollupUseCase.getRollups(accountNumber, from, to, granularity)));
+    }
+
+    /**
+     * 응답 스트림에 직접 기록합니다. 비동기 응답(StreamingResponseBody)의 요청 타임아웃을 받지 않고,
+     * 출력이 막히면 요청 스레드가 기다리므로 서버에 쌓이는 데이터가 없습니다.
+     */
+    @Operation(summary = "계좌 원장 전체 내보내기",
+            description = "계좌의 모든 엔트리를 순번 순으로 스트리밍합니다 (NDJSON 또는 CSV).")
+    @GetMapping("/entries/export")
+    public void exportEntries(
+            @RequestParam String accountNumber,
+            @RequestParam(defaultValue = "NDJSON") LedgerExportFormat format,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("ledger-" + accountNumber + "." + format.getFileExtension())
+                .build()
+                .toString());
+        exportAccountLedgerUseCase.export(accountNumber, format, response.getOutputStream());
+    }
+}
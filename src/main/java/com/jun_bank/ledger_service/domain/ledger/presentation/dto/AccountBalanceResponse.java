@@ -0,0 +1,24 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountBalance;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특정 시점 잔액 응답
+ */
+public record AccountBalanceResponse(
+        String accountNumber,
+        long balance,
+        LocalDateTime asOf,
+        long entryCount
+) {
+
+    public static AccountBalanceResponse from(AccountBalance balance) {
+        return new AccountBalanceResponse(
+                balance.accountNumber(),
+                balance.balance(),
+                balance.asOf(),
+                balance.entryCount());
+    }
+}
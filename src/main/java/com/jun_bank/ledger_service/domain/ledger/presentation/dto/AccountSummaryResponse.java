@@ -0,0 +1,28 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountSummary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 요약 응답
+ */
+public record AccountSummaryResponse(
+        String accountNumber,
+        long balance,
+        long entryCount,
+        LocalDateTime firstEntryAt,
+        LocalDateTime lastEntryAt,
+        String lastTransactionId
+) {
+
+    public static AccountSummaryResponse from(AccountSummary summary) {
+        return new AccountSummaryResponse(
+                summary.accountNumber(),
+                summary.balance(),
+                summary.entryCount(),
+                summary.firstEntryAt(),
+                summary.lastEntryAt(),
+                summary.lastTransactionId());
+    }
+}
@@ -0,0 +1,46 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadProgress;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadSource;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 적재 진행 상황 응답
+ */
+public record BulkLoadProgressResponse(
+        String jobName,
+        BulkLoadStatus status,
+        BulkLoadSource source,
+        String topic,
+        long read,
+        long loadedEntries,
+        long loadedAuditLogs,
+        long skippedDuplicates,
+        long rejected,
+        String cursor,
+        long recordsPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+
+    public static BulkLoadProgressResponse from(BulkLoadProgress progress) {
+        return new BulkLoadProgressResponse(
+                progress.jobName(),
+                progress.status(),
+                progress.source(),
+                progress.topic(),
+                progress.read(),
+                progress.loadedEntries(),
+                progress.loadedAuditLogs(),
+                progress.skippedDuplicates(),
+                progress.rejected(),
+                progress.cursor(),
+                progress.recordsPerSecond(),
+                progress.startedAt(),
+                progress.finishedAt(),
+                progress.error());
+    }
+}
@@ -0,0 +1,33 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadRequest;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadSource;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 대량 적재 시작 요청 (관리자 API)
+ *
+ * @param jobName   작업 이름 (같은 이름으로 다시 요청하면 마지막 체크포인트부터 재개)
+ * @param source    입력 소스 (FILE / KAFKA)
+ * @param topic     이벤트 토픽
+ * @param filePath  입력 파일 경로 (FILE, 서버 로컬 경로)
+ * @param chunkSize 한 트랜잭션에 적재할 최대 레코드 수 (기본 50,000)
+ */
+public record BulkLoadStartRequest(
+        @NotBlank String jobName,
+        @NotNull BulkLoadSource source,
+        @NotBlank String topic,
+        String filePath,
+        @Positive @Max(500_000) Integer chunkSize
+) {
+
+    private static final int DEFAULT_CHUNK_SIZE = 50_000;
+
+    public BulkLoadRequest toRequest() {
+        return new BulkLoadRequest(jobName, source, topic, filePath,
+                chunkSize != null ? chunkSize : DEFAULT_CHUNK_SIZE);
+    }
+}
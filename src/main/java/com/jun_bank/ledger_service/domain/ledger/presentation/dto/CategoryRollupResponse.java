@@ -0,0 +1,41 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RollupGranularity;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 카테고리별 기간 집계 응답
+ */
+public record CategoryRollupResponse(
+        String accountNumber,
+        LocalDate from,
+        LocalDate to,
+        RollupGranularity granularity,
+        List<Item> rollups
+) {
+
+    public static CategoryRollupResponse of(String accountNumber, LocalDate from, LocalDate to,
+                                            RollupGranularity granularity, List<CategoryRollup> rollups) {
+        return new CategoryRollupResponse(accountNumber, from, to, granularity,
+                rollups.stream().map(Item::from).toList());
+    }
+
+    /**
+     * 기간/카테고리 1행
+     */
+    public record Item(
+            LocalDate period,
+            TransactionCategory category,
+            long entryCount,
+            long totalAmount
+    ) {
+
+        static Item from(CategoryRollup rollup) {
+            return new Item(rollup.period(), rollup.category(), rollup.entryCount(), rollup.totalAmount());
+        }
+    }
+}
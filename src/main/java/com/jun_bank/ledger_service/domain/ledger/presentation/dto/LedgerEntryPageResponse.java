@@ -0,0 +1,33 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerEntryPage;
+
+import java.util.List;
+
+/**
+ * 계좌 원장 엔트리 페이지 응답
+ * <p>
+ * page는 offset 모드, totalElements는 요청한 경우, nextCursor는 다음 페이지가 있는 경우에만 포함됩니다.
+ * </p>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LedgerEntryPageResponse(
+        String accountNumber,
+        List<LedgerEntryResponse> entries,
+        Integer page,
+        int size,
+        Long totalElements,
+        String nextCursor
+) {
+
+    public static LedgerEntryPageResponse from(LedgerEntryPage page) {
+        return new LedgerEntryPageResponse(
+                page.accountNumber(),
+                page.entries().stream().map(LedgerEntryResponse::from).toList(),
+                page.page(),
+                page.size(),
+                page.totalElements(),
+                page.nextCursor() != null ? page.nextCursor().encode() : null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.EntryType;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 원장 엔트리 응답
+ */
+public record LedgerEntryResponse(
+        String entryId,
+        String transactionId,
+        String accountNumber,
+        EntryType entryType,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        String description,
+        TransactionCategory category,
+        LocalDateTime createdAt
+) {
+
+    public static LedgerEntryResponse from(LedgerEntry entry) {
+        return new LedgerEntryResponse(
+                entry.getEntryId().value(),
+                entry.getTransactionId(),
+                entry.getAccountNumber(),
+                entry.getEntryType(),
+                entry.getAmount().amount(),
+                entry.getBalanceAfter().amount(),
+                entry.getDescription(),
+                entry.getCategory(),
+                entry.getCreatedAt());
+    }
+}
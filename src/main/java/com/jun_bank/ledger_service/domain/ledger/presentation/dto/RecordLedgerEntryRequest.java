@@ -0,0 +1,59 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 원장 기록 요청 (내부 API)
+ *
+ * @param transactionId 원본 거래 ID
+ * @param referenceType 참조 서비스 타입
+ * @param referenceId   참조 ID
+ * @param entries       엔트리 (1건, 이체는 출금/입금 2건)
+ */
+public record RecordLedgerEntryRequest(
+        @NotBlank String transactionId,
+        String referenceType,
+        String referenceId,
+        @NotEmpty @Size(max = 2) List<@Valid EntryLine> entries
+) {
+
+    /**
+     * 엔트리 1건
+     *
+     * @param accountNumber 계좌번호
+     * @param category      거래 카테고리
+     * @param amount        거래 금액
+     * @param description   거래 설명
+     */
+    public record EntryLine(
+            @NotBlank String accountNumber,
+            @NotNull TransactionCategory category,
+            @NotNull @Positive BigDecimal amount,
+            String description
+    ) {
+    }
+
+    public List<RecordLedgerEntryCommand> toCommands() {
+        return entries.stream()
+                .map(line -> new RecordLedgerEntryCommand(
+                        transactionId,
+                        line.accountNumber(),
+                        line.category(),
+                        Money.of(line.amount()),
+                        line.description(),
+                        referenceType,
+                        referenceId))
+                .toList();
+    }
+}
@@ -0,0 +1,43 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayProgress;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayProjection;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 원장 재생 진행 상황 응답
+ */
+public record ReplayProgressResponse(
+        String jobName,
+        ReplayStatus status,
+        Set<ReplayProjection> projections,
+        int parallelism,
+        long accounts,
+        long entries,
+        long balanceBreaks,
+        String cursor,
+        long entriesPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+
+    public static ReplayProgressResponse from(ReplayProgress progress) {
+        return new ReplayProgressResponse(
+                progress.jobName(),
+                progress.status(),
+                progress.projections(),
+                progress.parallelism(),
+                progress.accounts(),
+                progress.entries(),
+                progress.balanceBreaks(),
+                progress.cursor(),
+                progress.entriesPerSecond(),
+                progress.startedAt(),
+                progress.finishedAt(),
+                progress.error());
+    }
+}
@@ -0,0 +1,32 @@
+package com.jun_bank.ledger_service.domain.ledger.presentation.dto;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayProjection;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.ReplayRequest;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+
+import java.util.Set;
+
+/**
+ * 원장 재생 시작 요청 (관리자 API)
+ *
+ * @param projections 재구축할 프로젝션 (같은 조합으로 다시 요청하면 마지막 체크포인트부터 재개)
+ * @param parallelism Worker 스레드 수 (기본 4, 스레드마다 DB 커넥션 1개 사용)
+ * @param chunkSize   Worker 하나가 한 번에 맡는 계좌 수 (기본 1,000)
+ */
+public record ReplayStartRequest(
+        @NotEmpty Set<ReplayProjection> projections,
+        @Positive @Max(32) Integer parallelism,
+        @Positive @Max(10_000) Integer chunkSize
+) {
+
+    private static final int DEFAULT_PARALLELISM = 4;
+    private static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    public ReplayRequest toRequest() {
+        return new ReplayRequest(projections,
+                parallelism != null ? parallelism : DEFAULT_PARALLELISM,
+                chunkSize != null ? chunkSize : DEFAULT_CHUNK_SIZE);
+    }
+}
@@ -1,24 +1,56 @@
 package com.jun_bank.ledger_service.global.aop;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
- * 요청/응답 로깅 AOP
- * - Controller: INFO 레벨 로깅
- * - Service: DEBUG 레벨 로깅
- * - 실행 시간 측정
+ * Controller/Service 호출 시간 측정 AOP
+ * <p>
+ * 호출마다 로그를 남기지 않고, 느린 호출과 표본 호출만 기록합니다.
+ * 일반 호출의 비용은 System.nanoTime() 2회와 호출 지점 캐시 조회뿐입니다 (StopWatch/문자열/로그 이벤트 할당 없음).
+ *
+ * <h3>기록 방식:</h3>
+ * <ul>
+ *   <li>slow-threshold-ms 이상 걸린 호출: WARN (실패 여부 포함)</li>
+ *   <li>실패한 호출: Controller WARN, Service DEBUG (예외 자체는 예외 처리기가 기록)</li>
+ *   <li>sample-rate 비율의 호출: Observation {@code ledger.call} (layer, method 태그 → 타이머 메트릭 + 트레이스 span)</li>
+ *   <li>그 외 호출: DEBUG 레벨이 켜진 경우에만 소요 시간 기록</li>
+ * </ul>
  */
 @Slf4j
 @Aspect
 @Component
 public class LoggingAspect {
 
+    static final String OBSERVATION_NAME = "ledger.call";
+
+    private final ObservationRegistry observationRegistry;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final Map<Method, CallSite> callSites = new ConcurrentHashMap<>();
+
+    public LoggingAspect(ObservationRegistry observationRegistry,
+                         @Value("${ledger.call-timing.slow-threshold-ms:500}") long slowThresholdMs,
+                         @Value("${ledger.call-timing.sample-rate:0.01}") double sampleRate) {
+        this.observationRegistry = observationRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.sampleRate = observationRegistry.isNoop() ? 0.0 : sampleRate;
+    }
+
     /**
      * Controller 패키지 내 모든 public 메서드
      */
@@ -32,60 +64,126 @@ public class LoggingAspect {
     public void servicePointcut() {}
 
     /**
-     * Controller 메서드 로깅
+     * Controller 메서드 시간 측정
      */
     @Around("controllerPointcut()")
     public Object logController(ProceedingJoinPoint joinPoint) throws Throwable {
-        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-
-        log.info("[Controller] {}.{} 호출 시작", className, methodName);
+        return time(callSite(joinPoint, Layer.CONTROLLER), joinPoint::proceed);
+    }
 
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
+    /**
+     * Service 메서드 시간 측정
+     */
+    @Around("servicePointcut()")
+    public Object logService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(callSite(joinPoint, Layer.SERVICE), joinPoint::proceed);
+    }
 
+    Object time(CallSite site, Invocation invocation) throws Throwable {
+        long startedAt = System.nanoTime();
         try {
-            Object result = joinPoint.proceed();
-            stopWatch.stop();
-
-            log.info("[Controller] {}.{} 완료 - 소요시간: {}ms",
-                    className, methodName, stopWatch.getTotalTimeMillis());
-
+            Object result = sampled() ? observe(site, invocation) : invocation.proceed();
+            logCompleted(site, System.nanoTime() - startedAt);
             return result;
-        } catch (Exception e) {
-            stopWatch.stop();
-            log.error("[Controller] {}.{} 실패 - 소요시간: {}ms, 에러: {}",
-                    className, methodName, stopWatch.getTotalTimeMillis(), e.getMessage());
+        } catch (Throwable e) {
+            logFailed(site, System.nanoTime() - startedAt, e);
             throw e;
         }
     }
 
+    private boolean sampled() {
+        return sampleRate > 0.0 && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private Object observe(CallSite site, Invocation invocation) throws Throwable {
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName(site.name())
+                .lowCardinalityKeyValue("layer", site.layer().tag())
+                .lowCardinalityKeyValue("method", site.name())
+                .observeChecked(invocation::proceed);
+    }
+
+    private void logCompleted(CallSite site, long elapsedNanos) {
+        if (elapsedNanos >= slowThresholdNanos) {
+            if (log.isWarnEnabled()) {
+                log.warn("[{}] {} 느린 호출 - 소요시간: {}ms",
+                        site.layer().label(), site.name(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            }
+        } else if (log.isDebugEnabled()) {
+            log.debug("[{}] {} 완료 - 소요시간: {}ms",
+                    site.layer().label(), site.name(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    private void logFailed(CallSite site, long elapsedNanos, Throwable e) {
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        if (slow || site.layer() == Layer.CONTROLLER) {
+            if (log.isWarnEnabled()) {
+                log.warn("[{}] {} 실패 - 소요시간: {}ms, 에러: {}",
+                        site.layer().label(), site.name(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), e.getMessage());
+            }
+        } else if (log.isDebugEnabled()) {
+            log.debug("[{}] {} 실패 - 소요시간: {}ms, 에러: {}",
+                    site.layer().label(), site.name(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), e.getMessage());
+        }
+    }
+
+    private CallSite callSite(ProceedingJoinPoint joinPoint, Layer layer) {
+        return callSite(((MethodSignature) joinPoint.getSignature()).getMethod(), layer);
+    }
+
     /**
-     * Service 메서드 로깅 (DEBUG 레벨)
+     * 호출 지점 정보 (대상 메서드 단위로 1회만 생성)
+     * <p>
+     * Spring AOP는 호출마다 조인 포인트와 StaticPart를 새로 만들므로 Method를 키로 사용합니다 (캐시 크기 = 메서드 수).
+     * </p>
      */
-    @Around("servicePointcut()")
-    public Object logService(ProceedingJoinPoint joinPoint) throws Throwable {
-        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
+    CallSite callSite(Method method, Layer layer) {
+        CallSite site = callSites.get(method);
+        if (site == null) {
+            site = callSites.computeIfAbsent(method, key -> new CallSite(layer,
+                    key.getDeclaringClass().getSimpleName() + "." + key.getName()));
+        }
+        return site;
+    }
 
-        log.debug("[Service] {}.{} 호출 시작", className, methodName);
+    int callSiteCount() {
+        return callSites.size();
+    }
 
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
+    enum Layer {
+        CONTROLLER("Controller", "controller"),
+        SERVICE("Service", "service");
 
-        try {
-            Object result = joinPoint.proceed();
-            stopWatch.stop();
+        private final String label;
+        private final String tag;
 
-            log.debug("[Service] {}.{} 완료 - 소요시간: {}ms",
-                    className, methodName, stopWatch.getTotalTimeMillis());
+        Layer(String label, String tag) {
+            this.label = label;
+            this.tag = tag;
+        }
 
-            return result;
-        } catch (Exception e) {
-            stopWatch.stop();
-            log.warn("[Service] {}.{} 실패 - 소요시간: {}ms, 에러: {}",
-                    className, methodName, stopWatch.getTotalTimeMillis(), e.getMessage());
-            throw e;
+        String label() {
+            return label;
+        }
+
+        String tag() {
+            return tag;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * @param layer 계층
+     * @param name  클래스.메서드 (Observation method 태그 값, 코드에 정의된 메서드 수만큼만 존재)
+     */
+    record CallSite(Layer layer, String name) {
+    }
+
+    /**
+     * 대상 메서드 실행
+     */
+    @FunctionalInterface
+    interface Invocation {
+        Object proceed() throws Throwable;
+    }
+}
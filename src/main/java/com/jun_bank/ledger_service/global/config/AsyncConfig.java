@@ -1,7 +1,9 @@
 package com.jun_bank.ledger_service.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -9,14 +11,31 @@ import java.util.concurrent.Executor;
 
 /**
  * 비동기 처리 설정
- * - ThreadPoolTaskExecutor (core=5, max=10, queue=25)
+ * - 기본: ThreadPoolTaskExecutor (core=5, max=10, queue=25)
+ * - spring.threads.virtual.enabled=true: 작업마다 가상 스레드 (풀/큐 없음, 블로킹 I/O 동안 캐리어 스레드 반환)
+ *   동시 실행 상한은 ledger.async.virtual.concurrency-limit (기본 무제한, DB/Feign 커넥션 풀이 실제 상한)
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${ledger.async.virtual.concurrency-limit:-1}")
+    private int virtualConcurrencyLimit;
+
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ledger-async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            // 종료 시 진행 중인 작업 대기 (플랫폼 스레드 모드의 awaitTermination과 동일)
+            executor.setTaskTerminationTimeout(30_000L);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
@@ -27,4 +46,4 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.jun_bank.ledger_service.global.config;
+
+import com.jun_bank.ledger_service.global.datasource.ReadWriteRoutingDataSource;
+import com.jun_bank.ledger_service.global.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 ({@code ledger.datasource.replica.enabled=true})
+ * - Primary 풀(ledger-primary): spring.datasource.* / spring.datasource.hikari.* 그대로 사용
+ * - Replica 풀(ledger-replica-N): Replica마다 별도 풀이므로 조회 부하가 Primary 풀(기록 경로)의 커넥션을 차지하지 않음
+ * - 기본 DataSource는 LazyConnectionDataSourceProxy(라우팅): JPA/JdbcTemplate/트랜잭션 매니저가 모두 이 빈을 사용
+ * - 메트릭: ledger.datasource.replica.lag(ms), ledger.datasource.replica.healthy(0/1), replica 태그
+ */
+@Configuration
+@ConditionalOnProperty(name = "ledger.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(@Value("${spring.datasource.url}") String url,
+                                              @Value("${spring.datasource.username:}") String username,
+                                              @Value("${spring.datasource.password:}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("ledger-primary");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            @Value("${ledger.datasource.replica.urls}") List<String> urls,
+            @Value("${ledger.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${ledger.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${ledger.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        List<ReplicaDataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            // 기본 생성자 + 설정: 첫 getConnection() 시점에 풀 초기화 (Replica 없이도 기동 가능, 헬스 체크 전까지 Primary 사용)
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("ledger-replica-" + (i + 1));
+            dataSource.setJdbcUrl(urls.get(i).trim());
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setMaximumPoolSize(maximumPoolSize);
+            dataSource.setReadOnly(true);
+            meterRegistry.ifAvailable(registry ->
+                    dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(new ReplicaDataSource(dataSource.getPoolName(), dataSource));
+        }
+        meterRegistry.ifAvailable(registry -> replicas.forEach(replica -> registerGauges(registry, replica)));
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        // 트랜잭션 시작 시점이 아닌 첫 SQL 시점에 커넥션을 얻어야 readOnly 여부로 라우팅 가능
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(readWriteRoutingDataSource);
+        // 커넥션 기본값을 기동 시 DB 연결로 확인하지 않도록 Primary 풀 설정과 PostgreSQL 기본 격리 수준으로 지정
+        proxy.setDefaultAutoCommit(primaryDataSource.isAutoCommit());
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+        return proxy;
+    }
+
+    private static void registerGauges(MeterRegistry registry, ReplicaDataSource replica) {
+        Gauge.builder("ledger.datasource.replica.lag", replica, ReplicaDataSource::lagMillis)
+                .tag("replica", replica.name())
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("ledger.datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                .tag("replica", replica.name())
+                .register(registry);
+    }
+}
@@ -1,64 +1,298 @@
 package com.jun_bank.ledger_service.global.config;
 
-import com.jun_bank.common_lib.event.IntegrationEvent;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka.LedgerDeadLetterSerializer;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka.LedgerEventDeserializer;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka.LedgerEventMessage;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka.LedgerRetryPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Kafka Consumer 설정
- * - 수동 ACK 모드 (MANUAL_IMMEDIATE)
- * - Spring Kafka 4.0: JacksonJsonDeserializer 사용 (Jackson 3 기반)
+ * - 수동 ACK 모드 (단건: MANUAL_IMMEDIATE, 배치: MANUAL)
+ * - 값 디코딩: LedgerEventDeserializer (원장 필드만 스트리밍 디코딩, Jackson 3 streaming API)
+ *   + ErrorHandlingDeserializer (디코딩 실패 레코드는 원문 그대로 DLT)
+ * - 배치 모드: ledger.kafka.listener.mode=batch (poll 단위 일괄 기록/ACK)
+ * - 병렬 모드: ledger.kafka.listener.mode=parallel (계좌 단위 병렬 처리, 순서 무관 ACK)
+ * - 감사 로그: 원장 기록과 별도 배치 컨테이너 (auditKafkaListenerContainerFactory)
+ * - 처리 실패: 재시도 후 DLT (원본 토픽 + ".DLT"), DB 장애 등 일시적 실패는 DLT 없이 성공할 때까지 재시도
+ * - Kafka 클라이언트 메트릭(poll당 레코드 수, consumer lag 등)을 Micrometer 레지스트리에 등록
+ * - spring.threads.virtual.enabled=true: 리스너 컨테이너 consumer 스레드를 가상 스레드로 실행
  */
 @Configuration
 @EnableKafka
 public class KafkaConsumerConfig {
 
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public KafkaConsumerConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id:ledger-service-group}")
     private String groupId;
 
+    /**
+     * 배치 모드 poll 1회 최대 레코드 수 (= 한 트랜잭션 최대 거래 수)
+     */
+    @Value("${ledger.kafka.batch.max-records:500}")
+    private int batchMaxRecords;
+
+    /**
+     * 배치 모드 최대 대기 시간 (fetch.min.bytes가 찰 때까지 브로커가 기다리는 시간)
+     */
+    @Value("${ledger.kafka.batch.max-wait-ms:200}")
+    private int batchMaxWaitMs;
+
+    /**
+     * 배치 모드 최소 fetch 크기 (작을수록 지연↓, 클수록 배치 크기↑)
+     */
+    @Value("${ledger.kafka.batch.min-bytes:65536}")
+    private int batchMinBytes;
+
+    /**
+     * 감사 로그 poll 1회 최대 레코드 수 (감사 Writer가 다시 묶으므로 원장 배치보다 크게)
+     */
+    @Value("${ledger.audit.kafka.max-records:2000}")
+    private int auditMaxRecords;
+
+    /**
+     * 가상 스레드 모드 (Tomcat/taskExecutor와 같은 스위치)
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
-    public ConsumerFactory<String, IntegrationEvent> consumerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JacksonJsonDeserializer.class);
+    public ConsumerFactory<String, LedgerEventMessage> consumerFactory() {
+        return withMetrics(new DefaultKafkaConsumerFactory<>(consumerConfigs()));
+    }
 
-        // 자동 오프셋 커밋 비활성화 (수동 커밋으로 멱등성 보장)
-        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
-        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    @Bean
+    public ConsumerFactory<String, LedgerEventMessage> batchConsumerFactory() {
+        Map<String, Object> configProps = consumerConfigs();
+
+        // 배치 크기/대기 시간: 브로커가 min-bytes 또는 max-wait 중 먼저 도달한 시점에 응답
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxRecords);
+        configProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, batchMaxWaitMs);
+        configProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, batchMinBytes);
+
+        return withMetrics(new DefaultKafkaConsumerFactory<>(configProps));
+    }
 
-        // trusted packages 설정
-        configProps.put(JacksonJsonDeserializer.TRUSTED_PACKAGES, "com.jun_bank.*");
-        configProps.put(JacksonJsonDeserializer.VALUE_DEFAULT_TYPE, IntegrationEvent.class.getName());
+    @Bean
+    public ConsumerFactory<String, LedgerEventMessage> auditConsumerFactory() {
+        Map<String, Object> configProps = consumerConfigs();
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, auditMaxRecords);
+        configProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, batchMaxWaitMs);
+        configProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, batchMinBytes);
 
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        return withMetrics(new DefaultKafkaConsumerFactory<>(configProps));
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, IntegrationEvent> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, IntegrationEvent> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, LedgerEventMessage> kafkaListenerContainerFactory(
+            DefaultErrorHandler kafkaErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<String, LedgerEventMessage> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        applyListenerTaskExecutor(factory);
 
         // 수동 ACK 모드 설정
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
 
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * 배치 모드 컨테이너 팩토리
+     * <p>
+     * 리스너가 레코드 단위 실패(변환/검증)를 직접 DLT로 보내므로, 리스너 밖으로 나온 예외(DB 장애, DLT 전송 실패)는
+     * poll 전체를 DLT로 보내지 않고 같은 poll을 성공할 때까지 다시 처리합니다 (중복 거래는 기록 시 건너뜀).
+     * </p>
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, LedgerEventMessage> batchKafkaListenerContainerFactory(
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+        ConcurrentKafkaListenerContainerFactory<String, LedgerEventMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(batchConsumerFactory());
+        factory.setCommonErrorHandler(
+                new DefaultErrorHandler(deadLetterPublishingRecoverer, LedgerRetryPolicy.transientBackOff()));
+        applyListenerTaskExecutor(factory);
+        factory.setBatchListener(true);
+
+        // 배치 단위 ACK: acknowledge() 호출 시 poll 전체 오프셋을 한 번에 커밋
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        return factory;
+    }
+
+    /**
+     * 감사 로그 컨테이너 팩토리 (배치 리스너, 감사 Writer의 영구 저장 후 배치 단위 ACK)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, LedgerEventMessage> auditKafkaListenerContainerFactory(
+            DefaultErrorHandler kafkaErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<String, LedgerEventMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(auditConsumerFactory());
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        applyListenerTaskExecutor(factory);
+        factory.setBatchListener(true);
+
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        return factory;
+    }
+
+    /**
+     * 계좌 단위 병렬 처리용 컨테이너 팩토리
+     * <p>
+     * asyncAcks: 워커 스레드가 순서와 무관하게 ACK 하면, 컨테이너가 빈 구간이 채워질 때까지
+     * 커밋을 미루고 앞선 오프셋이 모두 ACK 된 지점까지만 커밋합니다.
+     * 이전 poll의 ACK가 모두 도착할 때까지 다음 레코드를 전달하지 않습니다.
+     * </p>
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, LedgerEventMessage> parallelKafkaListenerContainerFactory(
+            DefaultErrorHandler kafkaErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<String, LedgerEventMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        applyListenerTaskExecutor(factory);
+
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+
+        return factory;
+    }
+
+    /**
+     * DLT 전송기 (원본 토픽 + ".DLT", 파티션은 Kafka가 결정)
+     * <p>
+     * 디코딩된 메시지가 아닌 수신 원문을 그대로 재발행합니다.
+     * </p>
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer() {
+        return new DeadLetterPublishingRecoverer(deadLetterKafkaTemplate(),
+                (record, exception) -> new TopicPartition(record.topic() + ".DLT", -1));
+    }
+
+    /**
+     * 공통 에러 핸들러
+     * <ul>
+     *   <li>일시적 실패({@link LedgerRetryPolicy#isTransient}): DLT 없이 1초부터 최대 30초 간격으로 계속 재시도</li>
+     *   <li>그 밖의 실패(검증/디코딩 실패 등): 1초 간격 3회 재시도 후 DLT</li>
+     * </ul>
+     */
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+        return ledgerErrorHandler(deadLetterPublishingRecoverer, new FixedBackOff(1000L, 3L),
+                LedgerRetryPolicy.transientBackOff());
+    }
+
+    /**
+     * 실패 종류별 재시도 간격을 쓰는 에러 핸들러 (재시도가 끝난 레코드만 recoverer로 전달)
+     */
+    static DefaultErrorHandler ledgerErrorHandler(ConsumerRecordRecoverer recoverer, BackOff failureBackOff,
+                                                  BackOff transientBackOff) {
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, failureBackOff);
+        errorHandler.setBackOffFunction((record, exception) ->
+                LedgerRetryPolicy.isTransient(exception) ? transientBackOff : null);
+        return errorHandler;
+    }
+
+    /**
+     * DLT 전용 Producer (수신 원문 바이트 그대로 전송)
+     */
+    @Bean
+    public ProducerFactory<String, Object> deadLetterProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, LedgerDeadLetterSerializer.class);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, Object> deadLetterKafkaTemplate() {
+        return new KafkaTemplate<>(deadLetterProducerFactory());
+    }
+
+    /**
+     * consumer 생성/종료 시 Kafka 클라이언트 메트릭(kafka.consumer.*)을 레지스트리에 등록/해제
+     */
+    private ConsumerFactory<String, LedgerEventMessage> withMetrics(
+            DefaultKafkaConsumerFactory<String, LedgerEventMessage> factory) {
+        meterRegistry.ifAvailable(registry -> factory.addListener(new MicrometerConsumerListener<>(registry)));
+        return factory;
+    }
+
+    /**
+     * 가상 스레드 모드면 consumer 스레드(poll → 리스너 호출)를 가상 스레드로 생성
+     * <p>
+     * 리스너는 DB 기록 동안 블로킹되므로, 블로킹 동안 캐리어 스레드를 다른 컨테이너에 양보합니다.
+     * </p>
+     */
+    private void applyListenerTaskExecutor(ConcurrentKafkaListenerContainerFactory<?, ?> factory) {
+        if (!virtualThreads) {
+            return;
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ledger-kafka-");
+        executor.setVirtualThreads(true);
+        factory.getContainerProperties().setListenerTaskExecutor(executor);
+    }
+
+    private Map<String, Object> consumerConfigs() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+
+        // 원장 필드만 스트리밍 디코딩 (payload Map 생성 없음), 디코딩 실패는 에러 핸들러로 전달
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, LedgerEventDeserializer.class);
+
+        // 자동 오프셋 커밋 비활성화 (수동 커밋으로 멱등성 보장)
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        return configProps;
+    }
+}
@@ -44,4 +44,24 @@ public class KafkaProducerConfig {
     public KafkaTemplate<String, IntegrationEvent> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    /**
+     * 원장 발행 이벤트 전용 Producer (IntegrationEvent 형태의 Map/record를 JSON으로 전송)
+     */
+    @Bean
+    public ProducerFactory<String, Object> ledgerEventProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JacksonJsonSerializer.class);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, Object> ledgerEventKafkaTemplate() {
+        return new KafkaTemplate<>(ledgerEventProducerFactory());
+    }
 }
\ No newline at end of file
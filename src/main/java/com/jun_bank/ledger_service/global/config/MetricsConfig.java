@@ -0,0 +1,40 @@
+package com.jun_bank.ledger_service.global.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ * - 원장 기록 경로 메트릭(ledger.*)과 DB 커넥션 대기(hikaricp.connections.acquire)의 히스토그램 버킷 발행
+ *   (Prometheus에서 histogram_quantile로 p99 계산, 인스턴스 간 합산 가능)
+ * - ledger.ingest.lag topic 태그 상한 (구독 토픽 외 값이 들어와도 시계열이 늘지 않도록)
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final int MAX_TOPIC_TAGS = 20;
+
+    @Bean
+    public MeterFilter ledgerHistogramMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().startsWith("ledger.") || id.getName().equals("hikaricp.connections.acquire")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    @Bean
+    public MeterFilter ledgerLagTopicLimitMeterFilter() {
+        return MeterFilter.maximumAllowableTags("ledger.ingest.lag", "topic", MAX_TOPIC_TAGS, MeterFilter.deny());
+    }
+}
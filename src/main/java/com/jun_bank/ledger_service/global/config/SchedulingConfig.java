@@ -0,0 +1,13 @@
+package com.jun_bank.ledger_service.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - @Scheduled 작업 활성화 (application/scheduler 패키지)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
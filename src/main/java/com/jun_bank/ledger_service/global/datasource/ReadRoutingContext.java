@@ -0,0 +1,47 @@
+package com.jun_bank.ledger_service.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 조회 DB 강제 지정 (스레드 단위)
+ * <p>
+ * 읽기 전용 트랜잭션은 기본적으로 Replica에서 실행되지만, 복제 지연이 허용되지 않는 조회는
+ * {@link #onPrimary}로 감싸 Primary에서 읽습니다. 커넥션은 트랜잭션의 첫 SQL 시점에 정해지므로
+ * ({@code LazyConnectionDataSourceProxy}) 트랜잭션 메서드 안에서 감싸도 적용됩니다.
+ * </p>
+ */
+public final class ReadRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    /**
+     * Primary에서 조회 실행 (중첩 호출 시 바깥 설정 복원)
+     */
+    public static <T> T onPrimary(Supplier<T> query) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        }
+    }
+
+    public static void runOnPrimary(Runnable query) {
+        onPrimary(() -> {
+            query.run();
+            return null;
+        });
+    }
+}
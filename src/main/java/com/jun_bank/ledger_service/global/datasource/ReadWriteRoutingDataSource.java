@@ -0,0 +1,128 @@
+package com.jun_bank.ledger_service.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 분리 DataSource (Primary + Replica N개)
+ * <p>
+ * 커넥션을 얻는 시점의 트랜잭션이 읽기 전용이면 정상 상태의 Replica를 돌아가며 고르고,
+ * 그 밖의 경우(쓰기 트랜잭션, 트랜잭션 밖, {@link ReadRoutingContext#onPrimary}, 정상 Replica 없음)는 Primary를 사용합니다.
+ * 트랜잭션 속성이 정해진 뒤 첫 SQL에서 커넥션을 얻도록 {@code LazyConnectionDataSourceProxy}로 감싸서 사용합니다.
+ * </p>
+ *
+ * <h3>장애 시 Primary로 전환:</h3>
+ * <ul>
+ *   <li>Replica 커넥션 획득 실패: 해당 Replica를 즉시 내리고 이번 요청은 Primary로</li>
+ *   <li>헬스 체크({@link #checkReplicas}): 연결 실패 또는 복제 지연이 max-lag 초과면 내림, 회복되면 다시 사용</li>
+ * </ul>
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /**
+     * 복제 지연 (ms). WAL 수신분을 모두 적용했으면 0 (쓰기가 없는 동안 마지막 적용 시각이 멀어져도 지연으로 보지 않음)
+     */
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END""";
+
+    private final DataSource primary;
+    private final List<ReplicaDataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<ReplicaDataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    public List<ReplicaDataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ReplicaDataSource replica = selectReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource().getConnection();
+        } catch (SQLException e) {
+            if (replica.update(false, -1)) {
+                log.warn("Replica 커넥션 실패, Primary로 전환 - replica: {}", replica.name(), e);
+            }
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 이번 커넥션에 사용할 Replica (Primary를 써야 하면 null)
+     */
+    ReplicaDataSource selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadRoutingContext.isPrimaryForced()) {
+            return null;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaDataSource candidate = replicas.get((start + i) % size);
+            if (candidate.isHealthy()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Replica 상태 확인 (연결 + 복제 지연)
+     *
+     * @param maxLagMillis 허용 복제 지연 (초과하면 조회 대상에서 제외)
+     */
+    public void checkReplicas(long maxLagMillis) {
+        for (ReplicaDataSource replica : replicas) {
+            long lag;
+            try (Connection connection = replica.dataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                rs.next();
+                lag = Math.round(rs.getDouble(1));
+            } catch (SQLException | RuntimeException e) {
+                if (replica.update(false, -1)) {
+                    log.warn("Replica 헬스 체크 실패, 조회 대상에서 제외 - replica: {}", replica.name(), e);
+                }
+                continue;
+            }
+            boolean healthy = lag <= maxLagMillis;
+            if (replica.update(healthy, lag)) {
+                if (healthy) {
+                    log.info("Replica 조회 대상 복귀 - replica: {}, lag: {}ms", replica.name(), lag);
+                } else {
+                    log.warn("Replica 복제 지연 초과, 조회 대상에서 제외 - replica: {}, lag: {}ms, max: {}ms",
+                            replica.name(), lag, maxLagMillis);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+}
@@ -0,0 +1,81 @@
+package com.jun_bank.ledger_service.global.datasource;
+
+import com.jun_bank.ledger_service.global.util.BoundedLruMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 최근 기록 계좌 (read-your-writes)
+ * <p>
+ * 계좌에 기록이 커밋된 뒤 read-your-writes-ms 동안은 그 계좌 조회를 Primary에서 실행하도록 표시합니다.
+ * Replica가 허용 지연(max-lag-ms) 안에 있더라도 방금 기록한 엔트리가 아직 적용되지 않았을 수 있기 때문입니다.
+ * 커밋 이후에만 등록하므로 롤백된 기록은 표시되지 않습니다.
+ * </p>
+ * <p>
+ * 인스턴스 로컬 기록만 알 수 있으므로, 다른 인스턴스가 기록한 계좌의 최신성은 max-lag-ms 상한으로 보장합니다.
+ * Replica 분리를 사용하지 않으면 아무것도 하지 않습니다.
+ * </p>
+ */
+@Component
+public class RecentWriteRegistry {
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final BoundedLruMap<String, Long> lastWrites;
+
+    public RecentWriteRegistry(@Value("${ledger.datasource.replica.enabled:false}") boolean enabled,
+                               @Value("${ledger.datasource.replica.read-your-writes-ms:10000}") long windowMillis,
+                               @Value("${ledger.datasource.replica.recent-write-capacity:100000}") int capacity) {
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.lastWrites = new BoundedLruMap<>(capacity);
+    }
+
+    /**
+     * 계좌 기록 표시 (트랜잭션 중이면 커밋 후 등록)
+     */
+    public void markWritten(Collection<String> accountNumbers) {
+        if (!enabled || accountNumbers.isEmpty()) {
+            return;
+        }
+        Set<String> accounts = Set.copyOf(accountNumbers);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(accounts);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(accounts);
+            }
+        });
+    }
+
+    /**
+     * 계좌를 Primary에서 조회해야 하는지 (최근 커밋 후 read-your-writes-ms 이내)
+     */
+    public boolean isRecentlyWritten(String accountNumber) {
+        if (!enabled || accountNumber == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(accountNumber);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt > windowMillis) {
+            lastWrites.remove(accountNumber);
+            return false;
+        }
+        return true;
+    }
+
+    private void register(Set<String> accounts) {
+        long now = System.currentTimeMillis();
+        accounts.forEach(account -> lastWrites.merge(account, now, Math::max));
+    }
+}
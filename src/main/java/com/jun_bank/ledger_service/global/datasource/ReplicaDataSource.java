@@ -0,0 +1,52 @@
+package com.jun_bank.ledger_service.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Replica 커넥션 풀과 상태
+ * <p>
+ * 상태는 헬스 체크 스레드가 갱신하고 요청 스레드가 읽으므로 volatile로 둡니다.
+ * 기동 직후에는 확인 전이므로 내려간 상태로 시작합니다 (첫 헬스 체크 전까지 Primary 사용).
+ * </p>
+ */
+public final class ReplicaDataSource {
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    private volatile boolean healthy;
+    private volatile long lagMillis = -1;
+
+    public ReplicaDataSource(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * 마지막으로 측정한 복제 지연 (측정 실패 시 -1)
+     */
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * @return 상태가 바뀌었으면 true
+     */
+    boolean update(boolean healthy, long lagMillis) {
+        this.lagMillis = lagMillis;
+        boolean changed = this.healthy != healthy;
+        this.healthy = healthy;
+        return changed;
+    }
+}
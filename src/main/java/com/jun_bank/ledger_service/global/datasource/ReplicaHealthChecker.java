@@ -0,0 +1,81 @@
+package com.jun_bank.ledger_service.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replica 헬스 체크 스케줄러
+ * <p>
+ * health-check-interval-ms마다 각 Replica의 연결과 복제 지연을 확인해 조회 대상 여부를 갱신합니다.
+ * 기동 직후 바로 한 번 실행하여 첫 확인 전 Primary만 사용하는 시간을 줄입니다.
+ * </p>
+ * <p>
+ * 공용 {@code @Scheduled} 스레드는 오래 걸리는 배치 작업(검증, 스냅샷, 재생 등)에 막힐 수 있고,
+ * 그동안 내려간 Replica가 조회 대상에 남으므로 전용 스레드 하나에서 실행합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.datasource.replica.enabled", havingValue = "true")
+public class ReplicaHealthChecker implements SmartLifecycle {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final long maxLagMillis;
+    private final long intervalMillis;
+
+    private volatile ScheduledExecutorService executor;
+
+    public ReplicaHealthChecker(ReadWriteRoutingDataSource routingDataSource,
+                                @Value("${ledger.datasource.replica.max-lag-ms:5000}") long maxLagMillis,
+                                @Value("${ledger.datasource.replica.health-check-interval-ms:5000}") long intervalMillis) {
+        this.routingDataSource = routingDataSource;
+        this.maxLagMillis = maxLagMillis;
+        this.intervalMillis = intervalMillis;
+    }
+
+    void checkReplicas() {
+        try {
+            routingDataSource.checkReplicas(maxLagMillis);
+        } catch (RuntimeException e) {
+            // 상태는 바뀌지 않은 채 다음 주기에 다시 확인 (예외가 나가면 이후 실행이 취소됨)
+            log.error("Replica 헬스 체크 실행 실패", e);
+        }
+    }
+
+    // ========================================
+    // SmartLifecycle
+    // ========================================
+
+    @Override
+    public void start() {
+        ScheduledExecutorService started = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        started.scheduleWithFixedDelay(this::checkReplicas, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        executor = started;
+        log.info("Replica 헬스 체크 시작 - intervalMs: {}, maxLagMs: {}", intervalMillis, maxLagMillis);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService running = executor;
+        if (running != null) {
+            running.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+}
@@ -0,0 +1,119 @@
+package com.jun_bank.ledger_service.global.diagnostics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 진단
+ * <p>
+ * 가상 스레드가 synchronized 블록/네이티브 프레임 안에서 블로킹되면 캐리어(플랫폼) 스레드를 반환하지 못합니다.
+ * JFR {@code jdk.VirtualThreadPinned} 이벤트를 스트리밍으로 구독하여 threshold 이상 고정된 호출 지점을 기록합니다.
+ * </p>
+ *
+ * <h3>기록 방식:</h3>
+ * <ul>
+ *   <li>호출 지점(스택 상위 프레임)별 첫 발생: WARN + 스택</li>
+ *   <li>이후 발생: 횟수만 집계 (종료 시 지점별 횟수 요약)</li>
+ * </ul>
+ * <p>
+ * JDBC 경로의 대표 원인은 드라이버/커넥션 풀 내부 synchronized 블록입니다.
+ * 발견된 지점은 ReentrantLock 기반 버전으로 올리거나 해당 구간을 플랫폼 스레드에서 실행합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int SITE_FRAMES = 8;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${ledger.virtual-threads.pinning-monitor.enabled:true}") boolean enabled,
+            @Value("${ledger.virtual-threads.pinning-monitor.threshold-ms:20}") long thresholdMs) {
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 진단 시작 - threshold: {}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream == null) {
+            return;
+        }
+        stream.close();
+        pinnedSites.forEach((site, count) ->
+                log.info("가상 스레드 pinning 요약 - {}회, 지점: {}", count.sum(), site));
+    }
+
+    /**
+     * 호출 지점별 pinning 발생 횟수
+     */
+    public Map<String, Long> pinnedCounts() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        pinnedSites.forEach((site, count) -> counts.put(site, count.sum()));
+        return counts;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = siteOf(event.getStackTrace());
+        LongAdder count = pinnedSites.computeIfAbsent(site, ignored -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            log.warn("가상 스레드 캐리어 고정 감지 - {}ms, thread: {}\n{}",
+                    event.getDuration().toMillis(),
+                    event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                    site);
+        }
+    }
+
+    private static String siteOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "(stack trace 없음)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder site = new StringBuilder();
+        for (int i = 0; i < Math.min(SITE_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            site.append("\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return site.toString();
+    }
+}
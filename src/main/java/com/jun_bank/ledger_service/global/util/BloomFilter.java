@@ -0,0 +1,141 @@
+package com.jun_bank.ledger_service.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열 Bloom Filter (스레드 안전, lock-free)
+ * <p>
+ * "확실히 없음" 또는 "있을 수도 있음"을 판정합니다.
+ * {@link #mightContain}이 false이면 해당 값은 한 번도 추가되지 않은 것이 확실합니다.
+ *
+ * <h3>크기 계산:</h3>
+ * <pre>
+ * m (비트 수)   = -n × ln(p) / (ln 2)²
+ * k (해시 수)   = m / n × ln 2
+ * 예: n = 5,000,000, p = 0.001 → 약 8.6MB, k = 10
+ * </pre>
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final LongAdder insertions = new LongAdder();
+
+    private BloomFilter(long expectedInsertions, long bitCount, int hashCount) {
+        this.expectedInsertions = expectedInsertions;
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.words = new AtomicLongArray(Math.toIntExact(bitCount / Long.SIZE));
+    }
+
+    /**
+     * 생성
+     *
+     * @param expectedInsertions 예상 삽입 수
+     * @param falsePositiveRate  목표 오탐률 (0 &lt; p &lt; 1)
+     * @return Bloom Filter
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < falsePositiveRate < 1");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long bitCount = Math.max(Long.SIZE, (bits + Long.SIZE - 1) / Long.SIZE * Long.SIZE);
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        return new BloomFilter(expectedInsertions, bitCount, hashCount);
+    }
+
+    /**
+     * 값 추가
+     *
+     * @param value 추가할 값
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        long h1 = hash;
+        long h2 = mix64(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Long.remainderUnsigned(h1 + i * h2, bitCount));
+        }
+        insertions.increment();
+    }
+
+    /**
+     * 포함 가능성 확인
+     *
+     * @param value 확인할 값
+     * @return false이면 확실히 없음, true이면 있을 수도 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        long h1 = hash;
+        long h2 = mix64(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(Long.remainderUnsigned(h1 + i * h2, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 예상 삽입 수 도달 여부 (도달 시 오탐률이 목표를 넘기 시작)
+     */
+    public boolean isSaturated() {
+        return insertions.sum() >= expectedInsertions;
+    }
+
+    public long approximateInsertions() {
+        return insertions.sum();
+    }
+
+    public long bitSize() {
+        return bitCount;
+    }
+
+    private void setBit(long index) {
+        int wordIndex = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = words.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    /**
+     * FNV-1a 64 + 최종 혼합
+     */
+    private static long hash64(String value) {
+        long hash = 0xCBF29CE484222325L;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            hash ^= (b & 0xFF);
+            hash *= 0x100000001B3L;
+        }
+        return mix64(hash);
+    }
+
+    /**
+     * MurmurHash3 fmix64
+     */
+    private static long mix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jun_bank.ledger_service.global.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+
+/**
+ * 크기 제한 LRU Map (스레드 안전)
+ * <p>
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * </p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class BoundedLruMap<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, V> entries;
+
+    public BoundedLruMap(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > BoundedLruMap.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 조회 (있으면 최근 사용으로 갱신)
+     */
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 병합 저장 (기존 값이 있으면 remapping 결과로 교체)
+     */
+    public synchronized void merge(K key, V value, BinaryOperator<V> remapping) {
+        entries.merge(key, value, remapping);
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,43 @@
+package com.jun_bank.ledger_service.global.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한 LRU Set (스레드 안전)
+ * <p>
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 값부터 제거합니다.
+ * </p>
+ *
+ * @param <T> 값 타입
+ */
+public class BoundedLruSet<T> {
+
+    private final int maxSize;
+    private final LinkedHashMap<T, Boolean> entries;
+
+    public BoundedLruSet(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<T, Boolean> eldest) {
+                return size() > BoundedLruSet.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 포함 여부 확인 (포함 시 최근 사용으로 갱신)
+     */
+    public synchronized boolean contains(T value) {
+        return entries.get(value) != null;
+    }
+
+    public synchronized void add(T value) {
+        entries.put(value, Boolean.TRUE);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
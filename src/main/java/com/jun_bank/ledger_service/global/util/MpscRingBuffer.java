@@ -0,0 +1,123 @@
+package com.jun_bank.ledger_service.global.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 크기 제한 lock-free 링 버퍼 (다중 생산자 / 단일 소비자)
+ * <p>
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 CAS 한 번으로 슬롯을 확보하고, 소비자는 락 없이 읽습니다.
+ * 가득 차면 {@link #offer}가 false를 반환하며 (대기/대체 처리는 호출자가 결정), 값은 절대 버려지지 않습니다.
+ * </p>
+ *
+ * <h3>슬롯 시퀀스:</h3>
+ * <ul>
+ *   <li>seq == pos: 생산자가 쓸 수 있음</li>
+ *   <li>seq == pos + 1: 값이 채워짐, 소비자가 읽을 수 있음</li>
+ *   <li>소비 후 seq = pos + capacity (다음 바퀴의 생산자용)</li>
+ * </ul>
+ *
+ * @param <T> 값 타입
+ */
+public class MpscRingBuffer<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 소비자 위치 (소비자 스레드만 쓰고, size() 조회용으로 volatile)
+     */
+    private volatile long head;
+
+    /**
+     * @param requestedCapacity 최소 용량 (2의 거듭제곱으로 올림)
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 2 and 2^30: " + requestedCapacity);
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 값 추가 (생산자, 스레드 안전)
+     *
+     * @return 추가되면 true, 가득 차면 false
+     */
+    public boolean offer(T value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, value);
+                    // 시퀀스 갱신(volatile)이 값 쓰기를 소비자에게 공개
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 채워진 값을 순서대로 꺼냄 (소비자 스레드 1개만 호출)
+     *
+     * @param sink     꺼낸 값 처리
+     * @param maxItems 최대 개수
+     * @return 꺼낸 개수
+     */
+    public int drain(Consumer<? super T> sink, int maxItems) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxItems) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            T value = elements.get(index);
+            elements.lazySet(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+            sink.accept(value);
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * 대략적인 저장 개수 (동시 변경 중에는 근사값)
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,20 @@
+-- ========================================
+-- 도메인 ID 컬럼 전환: VARCHAR(40) 'LDG-<uuid>' / 'AUD-<uuid>' → UUID (16바이트)
+-- ========================================
+-- 외부 형식(LDG-/AUD- 접두 문자열)은 그대로이며, 접두는 도메인 VO가 붙이고 뗍니다.
+-- 기존 랜덤(v4) ID는 값 그대로 UUID로 옮겨지고, 새 ID부터 시간 순(v7)으로 생성됩니다.
+--
+-- ALTER COLUMN TYPE은 테이블과 인덱스를 다시 쓰므로 점검 시간에 실행합니다 (ACCESS EXCLUSIVE 잠금).
+-- 파티션 테이블은 부모에 실행하면 모든 파티션에 적용됩니다.
+-- 잔액 스냅샷의 last_entry_id는 참조용 외부 형식 문자열로 유지합니다.
+-- ========================================
+
+ALTER TABLE ledger_entries
+    ALTER COLUMN entry_id TYPE UUID USING substr(entry_id, 5)::uuid;
+
+ALTER TABLE audit_logs
+    ALTER COLUMN audit_log_id TYPE UUID USING substr(audit_log_id, 5)::uuid;
+
+-- 전환 후 인덱스 크기 확인
+-- SELECT indexrelname, pg_size_pretty(pg_relation_size(indexrelid))
+-- FROM pg_stat_user_indexes WHERE relname IN ('ledger_entries', 'audit_logs');
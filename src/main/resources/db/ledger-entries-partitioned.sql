@@ -0,0 +1,57 @@
+-- ========================================
+-- 원장 엔트리 월별 파티션 스키마 (PostgreSQL 13+)
+-- ========================================
+-- ledger.partition.enabled=true 로 실행할 때 사용하는 스키마입니다.
+-- 월별 파티션(ledger_entries_pYYYY_MM)은 LedgerPartitionScheduler가 미리 생성합니다.
+--
+-- 파티션 테이블의 유일 제약은 파티션 키(created_at)를 포함해야 하므로
+-- 계좌 순번/거래 중복 방지는 파티션하지 않은 키 테이블(ledger_entry_keys)이 담당합니다.
+-- 키 테이블은 계좌 순번 → 기록 시각 조회에도 사용되어, 순번으로 찾는 조회도 한 파티션만 읽습니다.
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS ledger_entries (
+    entry_id         UUID           NOT NULL,
+    transaction_id   VARCHAR(64)    NOT NULL,
+    account_number   VARCHAR(32)    NOT NULL,
+    account_sequence BIGINT         NOT NULL,
+    entry_type       VARCHAR(10)    NOT NULL,
+    amount           NUMERIC(19, 0) NOT NULL,
+    balance_after    NUMERIC(19, 0) NOT NULL,
+    description      VARCHAR(255),
+    category         VARCHAR(20)    NOT NULL,
+    reference_type   VARCHAR(30),
+    reference_id     VARCHAR(64),
+    created_at       TIMESTAMP      NOT NULL,
+    entry_hash       VARCHAR(64),
+    PRIMARY KEY (entry_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 파티션별 로컬 인덱스 (새 파티션에 자동 생성)
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_account_created ON ledger_entries (account_number, created_at, entry_id);
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_account_sequence ON ledger_entries (account_number, account_sequence);
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_created ON ledger_entries (created_at);
+
+-- 전역 유일성 + 순번 → 기록 시각 조회
+CREATE TABLE IF NOT EXISTS ledger_entry_keys (
+    account_number   VARCHAR(32) NOT NULL,
+    account_sequence BIGINT      NOT NULL,
+    transaction_id   VARCHAR(64) NOT NULL,
+    created_at       TIMESTAMP   NOT NULL,
+    CONSTRAINT pk_ledger_entry_keys PRIMARY KEY (account_number, account_sequence),
+    CONSTRAINT uk_ledger_entry_keys_transaction_account UNIQUE (transaction_id, account_number)
+);
+
+-- 해시 체인 도입 전에 만든 테이블 (기존 엔트리는 NULL로 남고, 새 엔트리부터 체인 시작)
+ALTER TABLE ledger_entries ADD COLUMN IF NOT EXISTS entry_hash VARCHAR(64);
+
+-- ========================================
+-- 기존 단일 테이블에서 전환 (점검 시간에 실행)
+-- ========================================
+-- 1. ALTER TABLE ledger_entries RENAME TO ledger_entries_legacy;
+-- 2. 이 스크립트 실행 후 애플리케이션을 ledger.partition.enabled=true 로 한 번 기동하거나
+--    기존 데이터 기간의 월별 파티션을 같은 이름 규칙으로 생성
+-- 3. INSERT INTO ledger_entries SELECT * FROM ledger_entries_legacy;
+--    INSERT INTO ledger_entry_keys (account_number, account_sequence, transaction_id, created_at)
+--        SELECT account_number, account_sequence, transaction_id, created_at FROM ledger_entries_legacy;
+-- 4. Append-only 트리거(README 참고)를 ledger_entries, ledger_entry_keys에 다시 생성
+-- 5. 검증 후 DROP TABLE ledger_entries_legacy;
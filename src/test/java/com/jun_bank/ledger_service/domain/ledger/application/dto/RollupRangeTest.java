@@ -0,0 +1,43 @@
+package com.jun_bank.ledger_service.domain.ledger.application.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RollupRangeTest {
+
+    @Test
+    void 앞뒤로_걸친_달을_제외한_온전한_달만_월_집계_구간이다() {
+        RollupRange range = new RollupRange(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 4, 10));
+
+        assertThat(range.firstWholeMonth()).isEqualTo(LocalDate.of(2024, 2, 1));
+        assertThat(range.endOfWholeMonths()).isEqualTo(LocalDate.of(2024, 4, 1));
+        assertThat(range.hasWholeMonths()).isTrue();
+    }
+
+    @Test
+    void 월초부터_월말까지면_전체가_월_집계_구간이다() {
+        RollupRange range = new RollupRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29));
+
+        assertThat(range.firstWholeMonth()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(range.endOfWholeMonths()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(range.hasWholeMonths()).isTrue();
+    }
+
+    @Test
+    void 한_달_안의_일부_기간이나_두_달에_걸친_기간은_온전한_달이_없다() {
+        assertThat(new RollupRange(LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 30)).hasWholeMonths()).isFalse();
+        assertThat(new RollupRange(LocalDate.of(2024, 3, 20), LocalDate.of(2024, 4, 10)).hasWholeMonths()).isFalse();
+    }
+
+    @Test
+    void 연말을_넘는_기간도_월_경계로_나눈다() {
+        RollupRange range = new RollupRange(LocalDate.of(2023, 12, 31), LocalDate.of(2024, 1, 31));
+
+        assertThat(range.firstWholeMonth()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(range.endOfWholeMonths()).isEqualTo(LocalDate.of(2024, 2, 1));
+        assertThat(range.hasWholeMonths()).isTrue();
+    }
+}
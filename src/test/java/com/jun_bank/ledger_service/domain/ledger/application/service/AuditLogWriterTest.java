@@ -0,0 +1,119 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AuditLogRecord;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AuditLogPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AuditLogSpillPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.AuditLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditLogWriterTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final RecordingAuditLogPort auditLogPort = new RecordingAuditLogPort();
+    private AuditLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        auditLogPort.released.countDown();
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void 종료_전에_들어온_요청은_저장하고_종료_후_요청은_즉시_실패한다() {
+        writer = startWriter(30_000L);
+
+        CompletableFuture<Void> before = writer.append(List.of(audit("EVT-1"), audit("EVT-2")));
+        auditLogPort.released.countDown();
+        writer.stop();
+
+        assertThat(before).succeedsWithin(WAIT);
+        assertThat(auditLogPort.inserted).extracting(AuditLogRecord::eventId).containsExactly("EVT-1", "EVT-2");
+        assertThat(writer.append(List.of(audit("EVT-3"))))
+                .failsWithin(WAIT)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 저장_대기는_설정된_시간이_지나면_예외를_던진다() {
+        writer = startWriter(100L);
+
+        assertThatThrownBy(() -> writer.appendAndWait(List.of(audit("EVT-1"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    private AuditLogWriter startWriter(long waitTimeoutMs) {
+        AuditLogWriter started = new AuditLogWriter(auditLogPort, new NoOpSpillPort(), 16, 10, 1L, 1,
+                AuditLogWriter.OverflowPolicy.BLOCK, 60_000L, waitTimeoutMs);
+        started.start();
+        return started;
+    }
+
+    private static AuditLogRecord audit(String eventId) {
+        return new AuditLogRecord(eventId, AuditLog.createBuilder()
+                .eventType("LOGIN_SUCCESS")
+                .serviceName("auth-service")
+                .build());
+    }
+
+    /**
+     * released 전까지 저장을 막는 감사 로그 포트
+     */
+    private static class RecordingAuditLogPort implements AuditLogPort {
+
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final List<AuditLogRecord> inserted = new CopyOnWriteArrayList<>();
+
+        @Override
+        public int insertAll(List<AuditLogRecord> records) {
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            inserted.addAll(records);
+            return records.size();
+        }
+
+        @Override
+        public int copyAll(List<AuditLogRecord> records) {
+            return insertAll(records);
+        }
+    }
+
+    private static class NoOpSpillPort implements AuditLogSpillPort {
+
+        @Override
+        public void spill(List<AuditLogRecord> records) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int replay(int batchSize, Consumer<List<AuditLogRecord>> sink) {
+            return 0;
+        }
+
+        @Override
+        public boolean hasPending() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountHead;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerErrorCode;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.jun_bank.ledger_service.domain.ledger.application.service.LedgerEntryRecordServiceTest.deposit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerEntryAssemblerTest {
+
+    private static final LocalDateTime LAST_ENTRY_AT = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    private final Map<String, AccountHead> heads = new HashMap<>(Map.of("110-1",
+            new AccountHead(Money.of(10_000), 3L, null, LAST_ENTRY_AT)));
+
+    @Test
+    void 계좌의_마지막_기록보다_이른_시각은_거부한다() {
+        assertThatThrownBy(() -> LedgerEntryAssembler.assemble("TXN-1", List.of(deposit("TXN-1", "110-1")),
+                heads, new HashMap<>(), LAST_ENTRY_AT.minusSeconds(1)))
+                .isInstanceOf(LedgerException.class)
+                .extracting(e -> ((LedgerException) e).getErrorCode())
+                .isEqualTo(LedgerErrorCode.ENTRY_TIME_OUT_OF_ORDER);
+    }
+
+    @Test
+    void 마지막_기록_이후_시각은_순번을_이어_기록한다() {
+        Map<String, AccountHead> staged = new HashMap<>();
+
+        List<LedgerEntry> entries = LedgerEntryAssembler.assemble("TXN-1", List.of(deposit("TXN-1", "110-1")),
+                heads, staged, LAST_ENTRY_AT.plusDays(1));
+
+        assertThat(entries).extracting(LedgerEntry::getSequence).containsExactly(4L);
+        assertThat(staged.get("110-1").lastEntryAt()).isEqualTo(LAST_ENTRY_AT.plusDays(1));
+    }
+}
@@ -0,0 +1,185 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountSummary;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.CategoryRollup;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerBatchResult;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RollupGranularity;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.AccountSummaryPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.CategoryRollupPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.DirtyAccountPort;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerMetricsPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerEntryRecordServiceTest {
+
+    private final StubLedgerEntryPort ledgerEntryPort = new StubLedgerEntryPort();
+    private final LedgerEntryRecordService service = newService(ledgerEntryPort);
+
+    @Test
+    void 일시적_DB_오류는_거래_실패로_분리하지_않고_호출자에게_던진다() {
+        ledgerEntryPort.onSave(entries -> {
+            throw new CannotGetJdbcConnectionException("connection refused");
+        });
+
+        assertThatThrownBy(() -> service.recordBatch(List.of(deposit("TXN-1", "110-1"), deposit("TXN-2", "110-2"))))
+                .isInstanceOf(CannotGetJdbcConnectionException.class);
+        assertThat(ledgerEntryPort.saves()).isEmpty();
+    }
+
+    @Test
+    void 개별_재시도_중_일시적_DB_오류도_호출자에게_던진다() {
+        ledgerEntryPort.onSave(entries -> {
+            if (entries.size() > 1) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            throw new CannotGetJdbcConnectionException("connection refused");
+        });
+
+        assertThatThrownBy(() -> service.recordBatch(List.of(deposit("TXN-1", "110-1"), deposit("TXN-2", "110-2"))))
+                .isInstanceOf(CannotGetJdbcConnectionException.class);
+    }
+
+    @Test
+    void 무결성_위반은_원인_거래만_실패로_분리하고_나머지는_기록한다() {
+        ledgerEntryPort.onSave(entries -> {
+            if (entries.stream().anyMatch(entry -> entry.getTransactionId().equals("TXN-BAD"))) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return entries;
+        });
+
+        LedgerBatchResult result = service.recordBatch(List.of(deposit("TXN-1", "110-1"), deposit("TXN-BAD", "110-2")));
+
+        assertThat(result.recorded()).extracting(LedgerEntry::getTransactionId).containsExactly("TXN-1");
+        assertThat(result.failures()).containsOnlyKeys("TXN-BAD");
+        assertThat(result.failures().get("TXN-BAD")).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    static LedgerEntryRecordService newService(StubLedgerEntryPort ledgerEntryPort) {
+        return new LedgerEntryRecordService(
+                ledgerEntryPort,
+                new DuplicateTransactionFilter(ledgerEntryPort, 1_000, 0.01, 100, 1),
+                new AccountHeadCache(ledgerEntryPort, 100),
+                new NoOpDirtyAccountPort(),
+                new NoOpAccountSummaryPort(),
+                new NoOpCategoryRollupPort(),
+                new NoOpLedgerMetricsPort(),
+                new NoOpTransactionManager());
+    }
+
+    static RecordLedgerEntryCommand deposit(String transactionId, String accountNumber) {
+        return new RecordLedgerEntryCommand(transactionId, accountNumber, TransactionCategory.DEPOSIT,
+                Money.of(10_000), "입금", null, null);
+    }
+
+    private static class NoOpDirtyAccountPort implements DirtyAccountPort {
+
+        @Override
+        public void markDirty(Collection<LedgerEntry> entries) {
+        }
+
+        @Override
+        public void markDirty(Collection<LedgerEntry> entries, LocalDateTime markedAt) {
+        }
+
+        @Override
+        public List<String> findDirtySince(LocalDateTime since, String afterAccountNumber, int limit) {
+            return List.of();
+        }
+    }
+
+    private static class NoOpAccountSummaryPort implements AccountSummaryPort {
+
+        @Override
+        public void apply(Collection<LedgerEntry> entries) {
+        }
+
+        @Override
+        public Optional<AccountSummary> find(String accountNumber) {
+            return Optional.empty();
+        }
+
+        @Override
+        public AccountSummary summarizeFromLedger(String accountNumber) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class NoOpCategoryRollupPort implements CategoryRollupPort {
+
+        @Override
+        public void apply(Collection<LedgerEntry> entries) {
+        }
+
+        @Override
+        public boolean isReadEnabled() {
+            return false;
+        }
+
+        @Override
+        public List<CategoryRollup> sumDaily(String accountNumber, LocalDate from, LocalDate to,
+                                             RollupGranularity granularity) {
+            return List.of();
+        }
+
+        @Override
+        public List<CategoryRollup> sumMonthly(LocalDate fromMonth, LocalDate toMonthUntil) {
+            return List.of();
+        }
+
+        @Override
+        public List<CategoryRollup> sumFromLedger(String accountNumber, LocalDate from, LocalDate to,
+                                                  RollupGranularity granularity) {
+            return List.of();
+        }
+    }
+
+    private static class NoOpLedgerMetricsPort implements LedgerMetricsPort {
+
+        @Override
+        public void recordAppendTransaction(long durationNanos, int entries, boolean committed) {
+        }
+
+        @Override
+        public void recordGroupCommit(int requests) {
+        }
+    }
+
+    /**
+     * 트랜잭션 없이 콜백만 실행 (동기화 비활성, 캐시는 즉시 반영)
+     */
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
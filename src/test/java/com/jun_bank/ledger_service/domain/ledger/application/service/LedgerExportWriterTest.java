@@ -0,0 +1,67 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerExportFormat;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.EntryType;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.TransactionCategory;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.LedgerEntryId;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LedgerExportWriterTest {
+
+    private static final String ENTRY_ID = LedgerEntryId.generateId();
+
+    @Test
+    void NDJSON은_엔트리마다_한_줄을_쓰고_문자열을_이스케이프한다() throws IOException {
+        String output = write(LedgerExportFormat.NDJSON, entry("월세 \"3월\"\n분", null));
+
+        assertThat(output).isEqualTo("{\"entryId\":\"" + ENTRY_ID + "\",\"transactionId\":\"TXN-1\","
+                + "\"accountNumber\":\"110-1\",\"sequence\":7,\"entryType\":\"DEBIT\",\"amount\":50000,"
+                + "\"balanceAfter\":150000,\"description\":\"월세 \\\"3월\\\"\\n분\",\"category\":\"DEPOSIT\","
+                + "\"referenceType\":null,\"referenceId\":null,\"createdAt\":\"2026-01-01T10:00\"}\n");
+    }
+
+    @Test
+    void CSV는_헤더를_쓰고_특수문자가_있는_값만_따옴표로_감싼다() throws IOException {
+        String output = write(LedgerExportFormat.CSV, entry("월세, \"3월\"", "TRANSFER"));
+
+        String[] lines = output.split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("entryId,transactionId,accountNumber,sequence");
+        assertThat(lines[1]).isEqualTo(ENTRY_ID + ",TXN-1,110-1,7,DEBIT,50000,150000,"
+                + "\"월세, \"\"3월\"\"\",DEPOSIT,TRANSFER,,2026-01-01T10:00");
+    }
+
+    private static String write(LedgerExportFormat format, LedgerEntry entry) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LedgerExportWriter writer = LedgerExportWriter.of(format, out);
+        writer.writeHeader();
+        writer.write(entry);
+        writer.flush();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static LedgerEntry entry(String description, String referenceType) {
+        return LedgerEntry.restoreBuilder()
+                .entryId(LedgerEntryId.of(ENTRY_ID))
+                .transactionId("TXN-1")
+                .accountNumber("110-1")
+                .sequence(7L)
+                .entryType(EntryType.DEBIT)
+                .amount(Money.of(50_000))
+                .balanceAfter(Money.of(150_000))
+                .description(description)
+                .category(TransactionCategory.DEPOSIT)
+                .referenceType(referenceType)
+                .createdAt(LocalDateTime.of(2026, 1, 1, 10, 0))
+                .build();
+    }
+}
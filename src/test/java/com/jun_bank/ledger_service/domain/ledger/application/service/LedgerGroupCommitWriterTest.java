@@ -0,0 +1,153 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerBatchResult;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.RecordLedgerEntryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerMetricsPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerErrorCode;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.jun_bank.ledger_service.domain.ledger.application.service.LedgerEntryRecordServiceTest.deposit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerGroupCommitWriterTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final BlockingUseCase blockingUseCase = new BlockingUseCase();
+    private LedgerGroupCommitWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        blockingUseCase.released.countDown();
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void 한_그룹의_같은_거래_재요청은_먼저_온_요청만_기록한다() {
+        StubLedgerEntryPort ledgerEntryPort = new StubLedgerEntryPort();
+        writer = startWriter(LedgerEntryRecordServiceTest.newService(ledgerEntryPort), 2);
+
+        CompletableFuture<List<LedgerEntry>> first = writer.append(List.of(deposit("TXN-1", "110-1")));
+        CompletableFuture<List<LedgerEntry>> second = writer.append(List.of(deposit("TXN-1", "110-1")));
+
+        assertThat(first).succeedsWithin(WAIT);
+        assertThat(first.join()).hasSize(1);
+        assertThatThrownBy(second::join)
+                .hasCauseInstanceOf(LedgerException.class)
+                .extracting(e -> ((LedgerException) e.getCause()).getErrorCode())
+                .isEqualTo(LedgerErrorCode.DUPLICATE_TRANSACTION);
+        assertThat(ledgerEntryPort.saves()).hasSize(1);
+    }
+
+    @Test
+    void 한_그룹의_같은_계좌_거래는_순번을_이어서_한_번에_기록한다() {
+        StubLedgerEntryPort ledgerEntryPort = new StubLedgerEntryPort();
+        writer = startWriter(LedgerEntryRecordServiceTest.newService(ledgerEntryPort), 2);
+
+        CompletableFuture<List<LedgerEntry>> first = writer.append(List.of(deposit("TXN-1", "110-1")));
+        CompletableFuture<List<LedgerEntry>> second = writer.append(List.of(deposit("TXN-2", "110-1")));
+
+        assertThat(first).succeedsWithin(WAIT);
+        assertThat(second).succeedsWithin(WAIT);
+        assertThat(ledgerEntryPort.saves()).hasSize(1);
+        assertThat(ledgerEntryPort.saves().get(0)).extracting(LedgerEntry::getSequence).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 종료_시_큐에_남은_요청을_커밋하고_이후_요청은_즉시_실패한다() throws InterruptedException {
+        writer = startWriter(blockingUseCase, 1);
+        CompletableFuture<List<LedgerEntry>> inFlight = writer.append(List.of(deposit("TXN-1", "110-1")));
+        assertThat(blockingUseCase.entered.await(WAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        CompletableFuture<List<LedgerEntry>> queued = writer.append(List.of(deposit("TXN-2", "110-2")));
+
+        Thread stopper = new Thread(writer::stop);
+        stopper.start();
+        while (writer.isRunning()) {
+            Thread.onSpinWait();
+        }
+        blockingUseCase.released.countDown();
+        stopper.join(WAIT.toMillis());
+
+        assertThat(inFlight).succeedsWithin(WAIT);
+        assertThat(queued).succeedsWithin(WAIT);
+        assertThat(writer.append(List.of(deposit("TXN-3", "110-3"))))
+                .failsWithin(WAIT)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 커밋_대기는_제한_시간을_넘기면_예외를_던진다() {
+        writer = startWriter(blockingUseCase, 1);
+
+        assertThatThrownBy(() -> writer.appendAndWait(List.of(deposit("TXN-1", "110-1")), Duration.ofMillis(50)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("시간 초과");
+    }
+
+    private static LedgerGroupCommitWriter startWriter(RecordLedgerEntryUseCase useCase, int maxEntries) {
+        LedgerGroupCommitWriter writer = new LedgerGroupCommitWriter(useCase, new NoOpLedgerMetricsPort(),
+                maxEntries, 1_000, 16, 30_000);
+        writer.start();
+        return writer;
+    }
+
+    /**
+     * 해제될 때까지 기록을 멈추는 유스케이스 (인터럽트 무시)
+     */
+    private static class BlockingUseCase implements RecordLedgerEntryUseCase {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public List<LedgerEntry> record(List<RecordLedgerEntryCommand> commands) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LedgerBatchResult recordBatch(List<RecordLedgerEntryCommand> commands) {
+            entered.countDown();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    released.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return new LedgerBatchResult(List.of(), Set.of(), Map.of());
+        }
+    }
+
+    private static class NoOpLedgerMetricsPort implements LedgerMetricsPort {
+
+        @Override
+        public void recordAppendTransaction(long durationNanos, int entries, boolean committed) {
+        }
+
+        @Override
+        public void recordGroupCommit(int requests) {
+        }
+    }
+}
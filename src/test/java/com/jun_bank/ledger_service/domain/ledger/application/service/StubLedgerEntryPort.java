@@ -0,0 +1,136 @@
+package com.jun_bank.ledger_service.domain.ledger.application.service;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.AccountActivity;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryCursor;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.EntryRangeSummary;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.LedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * 테스트용 원장 엔트리 포트 (저장 동작만 교체 가능, 나머지 조회는 빈 결과)
+ */
+public class StubLedgerEntryPort implements LedgerEntryPort {
+
+    private final Set<String> recordedTransactionIds = new HashSet<>();
+    private final List<List<LedgerEntry>> saves = new ArrayList<>();
+    private UnaryOperator<List<LedgerEntry>> onSave = UnaryOperator.identity();
+
+    /**
+     * saveAll 동작 지정 (예외를 던지면 저장 실패)
+     */
+    public void onSave(UnaryOperator<List<LedgerEntry>> onSave) {
+        this.onSave = onSave;
+    }
+
+    /**
+     * 성공한 saveAll 호출별 저장 엔트리
+     */
+    public List<List<LedgerEntry>> saves() {
+        return saves;
+    }
+
+    @Override
+    public synchronized List<LedgerEntry> saveAll(List<LedgerEntry> entries) {
+        List<LedgerEntry> saved = onSave.apply(entries);
+        saves.add(saved);
+        saved.forEach(entry -> recordedTransactionIds.add(entry.getTransactionId()));
+        return saved;
+    }
+
+    @Override
+    public int copyAll(List<LedgerEntry> entries) {
+        return saveAll(entries).size();
+    }
+
+    @Override
+    public synchronized Set<String> findExistingTransactionIds(Collection<String> transactionIds) {
+        Set<String> existing = new HashSet<>(transactionIds);
+        existing.retainAll(recordedTransactionIds);
+        return existing;
+    }
+
+    @Override
+    public Optional<LedgerEntry> findLatestByAccountNumber(String accountNumber) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Map<String, LedgerEntry> findLatestByAccountNumbers(Collection<String> accountNumbers) {
+        return Map.of();
+    }
+
+    @Override
+    public void forEachTransactionIdSince(LocalDateTime since, Consumer<String> action) {
+    }
+
+    @Override
+    public void forEachEntryOfAccount(String accountNumber, Consumer<LedgerEntry> action) {
+    }
+
+    @Override
+    public void forEachEntryOfAccountInRange(String accountNumber, long afterSequence, long toSequence,
+                                             Consumer<LedgerEntry> action) {
+    }
+
+    @Override
+    public void forEachEntryInAccountRange(String fromAccountNumber, String toAccountNumber,
+                                           Consumer<LedgerEntry> action) {
+    }
+
+    @Override
+    public List<String> findRecentTransactionIds(int limit) {
+        return List.of();
+    }
+
+    @Override
+    public Optional<LedgerEntry> findByAccountNumberAndSequence(String accountNumber, long sequence) {
+        return Optional.empty();
+    }
+
+    @Override
+    public EntryRangeSummary summarizeRange(String accountNumber, long afterSequence, long toSequence,
+                                            LocalDateTime createdAtUpTo) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<AccountActivity> findActiveAccounts(LocalDateTime since, String afterAccountNumber, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public List<LedgerEntry> findPage(String accountNumber, long offset, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public List<LedgerEntry> findPageAfter(String accountNumber, EntryCursor after, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public long countByAccountNumber(String accountNumber) {
+        return 0;
+    }
+
+    @Override
+    public Map<String, Long> sumBalancesByAccountRange(String fromAccountNumber, String toAccountNumber) {
+        return Map.of();
+    }
+
+    @Override
+    public Map<String, Long> sumBalancesByAccounts(Collection<String> accountNumbers) {
+        return Map.of();
+    }
+}
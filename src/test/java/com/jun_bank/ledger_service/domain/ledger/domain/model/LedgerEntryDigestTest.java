@@ -0,0 +1,69 @@
+package com.jun_bank.ledger_service.domain.ledger.domain.model;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.model.vo.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LedgerEntryDigestTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 5, 1, 9, 30, 15, 123_456_789);
+
+    private static LedgerEntry entry(long sequence, long amount, long balanceAfter, String previousHash) {
+        return LedgerEntry.createBuilder()
+                .transactionId("TX-" + sequence)
+                .accountNumber("110-123-456789")
+                .sequence(sequence)
+                .entryType(EntryType.DEBIT)
+                .amount(Money.of(amount))
+                .balanceAfter(Money.of(balanceAfter))
+                .category(TransactionCategory.DEPOSIT)
+                .description("입금")
+                .createdAt(AT.plusSeconds(sequence))
+                .previousHash(previousHash)
+                .build();
+    }
+
+    private static LedgerEntry restore(LedgerEntry source, long balanceAfter) {
+        return LedgerEntry.restoreBuilder()
+                .transactionId(source.getTransactionId())
+                .accountNumber(source.getAccountNumber())
+                .sequence(source.getSequence())
+                .entryType(source.getEntryType())
+                .amount(source.getAmount())
+                .balanceAfter(Money.of(balanceAfter))
+                .category(source.getCategory())
+                .description(source.getDescription())
+                .createdAt(source.getCreatedAt())
+                .entryHash(source.getEntryHash())
+                .build();
+    }
+
+    @Test
+    void 기록_시각은_마이크로초로_잘리고_다시_읽어도_같은_다이제스트() {
+        LedgerEntry first = entry(1, 1000, 1000, null);
+
+        assertThat(first.getCreatedAt().getNano()).isEqualTo(123_456_000);
+        assertThat(first.getEntryHash()).hasSize(64);
+        assertThat(LedgerEntryDigest.matches(restore(first, 1000), LedgerEntryDigest.GENESIS)).isTrue();
+    }
+
+    @Test
+    void 직전_다이제스트가_다르면_같은_필드라도_다이제스트가_다르다() {
+        LedgerEntry first = entry(1, 1000, 1000, null);
+        LedgerEntry second = entry(2, 500, 1500, first.getEntryHash());
+
+        assertThat(LedgerEntryDigest.matches(second, first.getEntryHash())).isTrue();
+        assertThat(LedgerEntryDigest.matches(second, LedgerEntryDigest.GENESIS)).isFalse();
+        assertThat(entry(2, 500, 1500, null).getEntryHash()).isNotEqualTo(second.getEntryHash());
+    }
+
+    @Test
+    void 저장된_필드를_고치면_재계산_결과가_달라진다() {
+        LedgerEntry first = entry(1, 1000, 1000, null);
+
+        assertThat(LedgerEntryDigest.matches(restore(first, 9000), LedgerEntryDigest.GENESIS)).isFalse();
+    }
+}
@@ -0,0 +1,66 @@
+package com.jun_bank.ledger_service.domain.ledger.domain.model.vo;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DomainIdsTest {
+
+    @Test
+    void 생성한_UUID는_버전7이고_생성_순서대로_정렬된다() {
+        UUID previous = DomainIds.generate();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = DomainIds.generate();
+            assertThat(next.version()).isEqualTo(7);
+            assertThat(next.variant()).isEqualTo(2);
+            assertThat(next.toString()).isGreaterThan(previous.toString());
+            previous = next;
+        }
+    }
+
+    @Test
+    void 외부_문자열과_UUID가_왕복된다() {
+        LedgerEntryId id = LedgerEntryId.generate();
+
+        assertThat(id.value()).startsWith("LDG-").hasSize(40);
+        assertThat(LedgerEntryId.of(id.value())).isEqualTo(id);
+        assertThat(AuditLogId.of(AuditLogId.generateId()).value()).startsWith("AUD-");
+    }
+
+    @Test
+    void 기존_랜덤_UUID_ID도_해석한다() {
+        UUID legacy = UUID.randomUUID();
+
+        assertThat(LedgerEntryId.of("LDG-" + legacy).uuid()).isEqualTo(legacy);
+    }
+
+    @Test
+    void ASCII_소문자_16진수가_아니면_형식_오류() {
+        String valid = LedgerEntryId.generateId();
+        String head = valid.substring(0, 39);
+
+        assertThat(DomainIds.parse(LedgerEntryId.PREFIX, "LDG-" + valid.substring(4).toUpperCase())).isNull();
+        assertThat(DomainIds.parse(LedgerEntryId.PREFIX, head + "A")).isNull();
+        assertThat(DomainIds.parse(LedgerEntryId.PREFIX, head + "\uFF11")).isNull(); // 전각 1
+        assertThat(DomainIds.parse(LedgerEntryId.PREFIX, head + "\uFF41")).isNull(); // 전각 a
+        assertThat(DomainIds.parse(LedgerEntryId.PREFIX, head + "\u0663")).isNull(); // 아랍 숫자 3
+        assertThat(DomainIds.parse(LedgerEntryId.PREFIX, head + "0")).isNotNull();
+        assertThat(DomainIds.parse(LedgerEntryId.PREFIX, head + "f")).isNotNull();
+    }
+
+    @Test
+    void 접두_길이_구분자_16진수가_틀리면_형식_오류() {
+        String valid = LedgerEntryId.generateId();
+
+        assertThat(DomainIds.parse(LedgerEntryId.PREFIX, valid.replace("LDG-", "AUD-"))).isNull();
+        assertThat(DomainIds.parse(LedgerEntryId.PREFIX, valid.substring(0, 39))).isNull();
+        assertThat(DomainIds.parse(LedgerEntryId.PREFIX, valid.substring(0, 12) + "_" + valid.substring(13))).isNull();
+        assertThat(DomainIds.parse(LedgerEntryId.PREFIX, valid.substring(0, 39) + "g")).isNull();
+        assertThatThrownBy(() -> LedgerEntryId.of((String) null)).isInstanceOf(LedgerException.class);
+        assertThatThrownBy(() -> AuditLogId.of("AUD-a1b2c3d4")).isInstanceOf(LedgerException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package com.jun_bank.ledger_service.domain.ledger.domain.model.vo;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void BigDecimal_생성은_원_단위로_반올림되고_기존_API와_같은_값을_돌려준다() {
+        Money money = Money.of(new BigDecimal("1000.5"));
+
+        assertThat(money.toLong()).isEqualTo(1001L);
+        assertThat(money.amount()).isEqualByComparingTo("1001");
+        assertThat(money).isEqualTo(Money.of(1001)).hasSameHashCodeAs(Money.of(1001));
+    }
+
+    @Test
+    void 덧셈이_long_범위를_넘으면_INVALID_AMOUNT() {
+        Money max = Money.of(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.add(Money.of(1)))
+                .isInstanceOf(LedgerException.class);
+        assertThatThrownBy(() -> Money.addExact(Long.MAX_VALUE, 1))
+                .isInstanceOf(LedgerException.class);
+    }
+
+    @Test
+    void long_범위를_넘는_BigDecimal은_INVALID_AMOUNT() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("9223372036854775808")))
+                .isInstanceOf(LedgerException.class);
+    }
+
+    @Test
+    void 음수_결과_빼기는_예외_음수_허용_빼기는_값을_돌려준다() {
+        Money small = Money.of(1000);
+        Money large = Money.of(3000);
+
+        assertThatThrownBy(() -> small.subtract(large)).isInstanceOf(LedgerException.class);
+        assertThat(small.subtractRawLong(large)).isEqualTo(-2000L);
+        assertThat(small.subtractRaw(large)).isEqualByComparingTo("-2000");
+    }
+}
@@ -0,0 +1,101 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadChunk;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadRequest;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.BulkLoadSource;
+import com.jun_bank.ledger_service.domain.ledger.application.port.out.BulkLoadSourcePort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkLoadSourceAdapterTest {
+
+    private final BulkLoadSourceAdapter adapter = new BulkLoadSourceAdapter(
+            new LedgerEventTranslator(), new AuditEventTranslator(), "localhost:9092", 1000L);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 파일을_묶음으로_읽고_커서로_이어서_읽는다() throws IOException {
+        Path file = write("""
+                {"eventId":"E1","occurredAt":"2024-03-01T09:00:00","payload":{"transactionId":"TXN-1","accountNumber":"110-1","amount":1000}}
+                {"eventId":"E2","occurredAt":"2024-03-01T09:05:00","payload":{"transactionId":"TXN-2","accountNumber":"110-1","amount":2000}}
+                {"eventId":"E3","payload":{"transactionId":"TXN-3","accountNumber":"110-2","amount":3000}}
+                """);
+        BulkLoadRequest request = request(file, 2);
+
+        BulkLoadChunk first;
+        try (BulkLoadSourcePort.Reader reader = adapter.open(request, null)) {
+            first = reader.read(2);
+        }
+        assertThat(first.transactions()).extracting("transactionId").containsExactly("TXN-1", "TXN-2");
+        assertThat(first.transactions().get(0).occurredAt()).isEqualTo(LocalDateTime.of(2024, 3, 1, 9, 0));
+        assertThat(first.endOfSource()).isFalse();
+
+        try (BulkLoadSourcePort.Reader reader = adapter.open(request, first.cursor())) {
+            BulkLoadChunk second = reader.read(2);
+
+            assertThat(second.transactions()).extracting("transactionId").containsExactly("TXN-3");
+            assertThat(second.transactions().get(0).occurredAt()).isNull();
+            assertThat(second.endOfSource()).isTrue();
+        }
+    }
+
+    @Test
+    void 디코딩_변환_실패_줄은_제외하고_센다() throws IOException {
+        Path file = write("""
+                {"eventId":"E1","payload":{"transactionId":"TXN-1","accountNumber":"110-1","amount":1000}}
+                {"payload":{"amount":
+                {"eventId":"E3","payload":{"transactionId":"TXN-3","amount":1000}}
+
+                {"eventId":"E4","payload":{"transactionId":"TXN-4","accountNumber":"110-1","amount":1000}}
+                """);
+
+        try (BulkLoadSourcePort.Reader reader = adapter.open(request(file, 100), null)) {
+            BulkLoadChunk chunk = reader.read(100);
+
+            assertThat(chunk.read()).isEqualTo(4);
+            assertThat(chunk.rejected()).isEqualTo(2);
+            assertThat(chunk.transactions()).extracting("transactionId").containsExactly("TXN-1", "TXN-4");
+            assertThat(chunk.endOfSource()).isTrue();
+        }
+    }
+
+    @Test
+    void 감사_토픽은_감사_로그로_변환하고_발생_시각을_유지한다() throws IOException {
+        Path file = write("""
+                {"eventId":"E1","occurredAt":"2024-03-01T09:00:00Z","sourceService":"auth-server","payload":{"userId":"USR-1"}}
+                """);
+        BulkLoadRequest request = new BulkLoadRequest("audit", BulkLoadSource.FILE,
+                LedgerTopics.LOGIN_SUCCESS, file.toString(), 10);
+
+        try (BulkLoadSourcePort.Reader reader = adapter.open(request, null)) {
+            BulkLoadChunk chunk = reader.read(10);
+
+            assertThat(chunk.transactions()).isEmpty();
+            assertThat(chunk.auditLogs()).hasSize(1);
+            assertThat(chunk.auditLogs().get(0).eventId()).isEqualTo("E1");
+            assertThat(chunk.auditLogs().get(0).auditLog().getResourceId()).isEqualTo("USR-1");
+            assertThat(chunk.auditLogs().get(0).auditLog().getTimestamp().getYear()).isEqualTo(2024);
+        }
+    }
+
+    private BulkLoadRequest request(Path file, int chunkSize) {
+        return new BulkLoadRequest("history", BulkLoadSource.FILE,
+                LedgerTopics.DEPOSIT_COMPLETED, file.toString(), chunkSize);
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = directory.resolve("events.ndjson");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,89 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyOrderedTaskExecutorTest {
+
+    private final KeyOrderedTaskExecutor executor = new KeyOrderedTaskExecutor("test-", 8, 100);
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void 같은_키의_작업은_제출_순서대로_실행된다() throws Exception {
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CompletableFuture<?>[] futures = new CompletableFuture[200];
+
+        for (int i = 0; i < futures.length; i++) {
+            int order = i;
+            futures[i] = executor.submit(Set.of("110-1234"), () -> executed.add(order));
+        }
+        CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+
+        assertThat(executed).isSorted().hasSize(200);
+    }
+
+    @Test
+    void 다른_키의_작업은_앞선_작업을_기다리지_않는다() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        CompletableFuture<Void> blocked = executor.submit(Set.of("A"), () -> await(blocker));
+
+        CompletableFuture<Void> other = executor.submit(Set.of("B"), () -> {});
+        other.get(5, TimeUnit.SECONDS);
+
+        assertThat(blocked).isNotDone();
+        blocker.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void 여러_키의_작업은_모든_키의_선행_작업_이후에_실행된다() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        List<String> executed = new CopyOnWriteArrayList<>();
+
+        executor.submit(Set.of("A"), () -> {
+            await(blocker);
+            executed.add("A");
+        });
+        executor.submit(Set.of("B"), () -> executed.add("B"));
+        CompletableFuture<Void> transfer = executor.submit(Set.of("A", "B"), () -> executed.add("A+B"));
+
+        assertThat(transfer).isNotDone();
+        blocker.countDown();
+        transfer.get(5, TimeUnit.SECONDS);
+
+        assertThat(executed.indexOf("A+B")).isGreaterThan(executed.indexOf("A"));
+        assertThat(executed.indexOf("A+B")).isGreaterThan(executed.indexOf("B"));
+    }
+
+    @Test
+    void 선행_작업이_실패해도_후속_작업은_실행된다() throws Exception {
+        CompletableFuture<Void> failed = executor.submit(Set.of("A"), () -> {
+            throw new IllegalStateException("failure");
+        });
+        CompletableFuture<Void> next = executor.submit(Set.of("A"), () -> {});
+
+        next.get(5, TimeUnit.SECONDS);
+        assertThat(failed).isCompletedExceptionally();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.LedgerBatchResult;
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.RecordLedgerEntryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.service.AccountHeadCache;
+import com.jun_bank.ledger_service.domain.ledger.application.service.DuplicateTransactionFilter;
+import com.jun_bank.ledger_service.domain.ledger.application.service.StubLedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.metrics.LedgerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerBatchEventConsumerTest {
+
+    private final List<List<RecordLedgerEntryCommand>> batches = new ArrayList<>();
+    private final List<ConsumerRecord<?, ?>> deadLettered = new ArrayList<>();
+    private Function<List<RecordLedgerEntryCommand>, LedgerBatchResult> onRecordBatch =
+            commands -> new LedgerBatchResult(List.of(), Set.of(), Map.of());
+    private boolean acknowledged;
+
+    private final LedgerBatchEventConsumer consumer = new LedgerBatchEventConsumer(
+            new LedgerEventTranslator(), new RecordingUseCase(), new RecordingRecoverer(), newMetrics());
+
+    @Test
+    void 같은_poll의_중복_거래는_첫_레코드만_기록한다() {
+        consumer.consume(List.of(
+                record(0, deposit("TXN-1", "110-1")),
+                record(1, deposit("TXN-1", "110-1")),
+                record(2, deposit("TXN-2", "110-2"))), () -> acknowledged = true);
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(RecordLedgerEntryCommand::transactionId)
+                .containsExactly("TXN-1", "TXN-2");
+        assertThat(deadLettered).isEmpty();
+        assertThat(acknowledged).isTrue();
+    }
+
+    @Test
+    void 거래_실패는_해당_레코드만_DLT로_보내고_ACK한다() {
+        onRecordBatch = commands -> new LedgerBatchResult(List.of(), Set.of(),
+                Map.of("TXN-2", LedgerException.requiredFieldMissing("amount")));
+
+        consumer.consume(List.of(
+                record(0, deposit("TXN-1", "110-1")),
+                record(1, deposit("TXN-2", "110-2"))), () -> acknowledged = true);
+
+        assertThat(deadLettered).extracting(ConsumerRecord::offset).containsExactly(1L);
+        assertThat(acknowledged).isTrue();
+    }
+
+    @Test
+    void 일시적_DB_오류는_DLT_전송과_ACK_없이_다시_던진다() {
+        onRecordBatch = commands -> {
+            throw new CannotGetJdbcConnectionException("connection refused");
+        };
+
+        assertThatThrownBy(() -> consumer.consume(List.of(
+                record(0, deposit("TXN-1", "110-1")),
+                record(1, deposit("TXN-2", null))), () -> acknowledged = true))
+                .isInstanceOf(CannotGetJdbcConnectionException.class);
+        assertThat(deadLettered).isEmpty();
+        assertThat(acknowledged).isFalse();
+    }
+
+    private static ConsumerRecord<String, LedgerEventMessage> record(long offset, LedgerEventMessage message) {
+        return new ConsumerRecord<>(LedgerTopics.DEPOSIT_COMPLETED, 0, offset, message.transactionId(), message);
+    }
+
+    private static LedgerEventMessage deposit(String transactionId, String accountNumber) {
+        return new LedgerEventMessage(null, "DEPOSIT_COMPLETED", null, "account-service", transactionId,
+                null, null, accountNumber, null, null, BigDecimal.valueOf(10_000), "입금",
+                null, null, null, null);
+    }
+
+    private static LedgerMetrics newMetrics() {
+        StubLedgerEntryPort ledgerEntryPort = new StubLedgerEntryPort();
+        return new LedgerMetrics(new SimpleMeterRegistry(),
+                new DuplicateTransactionFilter(ledgerEntryPort, 1_000, 0.01, 100, 1),
+                new AccountHeadCache(ledgerEntryPort, 100));
+    }
+
+    private class RecordingUseCase implements RecordLedgerEntryUseCase {
+
+        @Override
+        public List<LedgerEntry> record(List<RecordLedgerEntryCommand> commands) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LedgerBatchResult recordBatch(List<RecordLedgerEntryCommand> commands) {
+            batches.add(commands);
+            return onRecordBatch.apply(commands);
+        }
+    }
+
+    private class RecordingRecoverer extends DeadLetterPublishingRecoverer {
+
+        RecordingRecoverer() {
+            super(new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(Map.of())));
+        }
+
+        @Override
+        public void accept(ConsumerRecord<?, ?> record, Exception exception) {
+            deadLettered.add(record);
+        }
+    }
+}
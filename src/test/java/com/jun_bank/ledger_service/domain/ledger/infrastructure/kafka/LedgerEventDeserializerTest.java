@@ -0,0 +1,60 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerEventDeserializerTest {
+
+    private final LedgerEventDeserializer deserializer = new LedgerEventDeserializer();
+
+    @Test
+    void 이체_이벤트의_원장_필드를_디코딩한다() {
+        byte[] json = """
+                {"eventId":"EVT-1","eventType":"TRANSFER_COMPLETED","occurredAt":"2026-01-01T10:00:00",
+                 "payload":{"transferId":"TRF-1","fromAccountNumber":"110-1","toAccountNumber":"110-2",
+                            "amount":50000,"description":"월세"}}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        LedgerEventMessage message = deserializer.deserialize(LedgerTopics.TRANSFER_COMPLETED, json);
+
+        assertThat(message.eventId()).isEqualTo("EVT-1");
+        assertThat(message.occurredAt()).isEqualTo("2026-01-01T10:00:00");
+        assertThat(message.transferId()).isEqualTo("TRF-1");
+        assertThat(message.fromAccountNumber()).isEqualTo("110-1");
+        assertThat(message.toAccountNumber()).isEqualTo("110-2");
+        assertThat(message.amount()).isEqualByComparingTo(BigDecimal.valueOf(50000));
+        assertThat(message.description()).isEqualTo("월세");
+        assertThat(message.source()).isSameAs(json);
+    }
+
+    @Test
+    void 모르는_필드와_중첩_구조는_건너뛴다() {
+        byte[] json = """
+                {"metadata":{"trace":{"id":"abc"},"tags":["a","b"]},"eventId":"EVT-2",
+                 "payload":{"extra":{"nested":[1,2,{"x":1}]},"transactionId":"TXN-1",
+                            "accountNumber":"110-1","amount":"1000","accountNumber2":null},
+                 "version":3}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        LedgerEventMessage message = deserializer.deserialize(LedgerTopics.DEPOSIT_COMPLETED, json);
+
+        assertThat(message.eventId()).isEqualTo("EVT-2");
+        assertThat(message.transactionId()).isEqualTo("TXN-1");
+        assertThat(message.accountNumber()).isEqualTo("110-1");
+        assertThat(message.amount()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+    }
+
+    @Test
+    void 잘못된_JSON은_SerializationException을_던진다() {
+        byte[] json = "{\"payload\":{\"amount\":".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> deserializer.deserialize(LedgerTopics.DEPOSIT_COMPLETED, json))
+                .isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,167 @@
+package com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka;
+
+import com.jun_bank.ledger_service.domain.ledger.application.dto.RecordLedgerEntryCommand;
+import com.jun_bank.ledger_service.domain.ledger.application.port.in.AppendLedgerEntryUseCase;
+import com.jun_bank.ledger_service.domain.ledger.application.service.AccountHeadCache;
+import com.jun_bank.ledger_service.domain.ledger.application.service.DuplicateTransactionFilter;
+import com.jun_bank.ledger_service.domain.ledger.application.service.StubLedgerEntryPort;
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.domain.model.LedgerEntry;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.metrics.LedgerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LedgerParallelEventConsumerTest {
+
+    private final List<String> recorded = new CopyOnWriteArrayList<>();
+    private final List<ConsumerRecord<?, ?>> deadLettered = new CopyOnWriteArrayList<>();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final AtomicInteger deadLetterAttempts = new AtomicInteger();
+    private volatile Function<String, RuntimeException> onAppend = transactionId -> null;
+    private volatile int deadLetterFailures;
+
+    private final LedgerParallelEventConsumer consumer = new LedgerParallelEventConsumer(
+            new LedgerEventTranslator(), new RecordingUseCase(), new RecordingRecoverer(), newMetrics(),
+            new KafkaListenerEndpointRegistry(), 4, 100);
+
+    @AfterEach
+    void tearDown() {
+        consumer.stop();
+    }
+
+    @Test
+    void 일시적_DB_오류는_DLT로_보내지_않고_성공할_때까지_재시도한다() throws Exception {
+        onAppend = transactionId -> attempts.incrementAndGet() == 1
+                ? new CannotGetJdbcConnectionException("connection refused") : null;
+        CountDownLatch acknowledged = new CountDownLatch(1);
+
+        consumer.consume(record(0, deposit("TXN-1", "110-1")), acknowledged::countDown);
+
+        assertThat(acknowledged.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(attempts).hasValue(2);
+        assertThat(recorded).containsExactly("TXN-1");
+        assertThat(deadLettered).isEmpty();
+    }
+
+    @Test
+    void 재시도_중에는_같은_계좌의_이후_레코드를_기록하지_않는다() throws Exception {
+        onAppend = transactionId -> "TXN-1".equals(transactionId) && attempts.incrementAndGet() == 1
+                ? new CannotGetJdbcConnectionException("connection refused") : null;
+        CountDownLatch acknowledged = new CountDownLatch(2);
+
+        consumer.consume(record(0, deposit("TXN-1", "110-1")), acknowledged::countDown);
+        consumer.consume(record(1, deposit("TXN-2", "110-1")), acknowledged::countDown);
+
+        assertThat(acknowledged.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(recorded).containsExactly("TXN-1", "TXN-2");
+        assertThat(deadLettered).isEmpty();
+    }
+
+    @Test
+    void 검증_실패는_DLT로_보내고_ACK한다() throws Exception {
+        onAppend = transactionId -> LedgerException.requiredFieldMissing("amount");
+        CountDownLatch acknowledged = new CountDownLatch(1);
+
+        consumer.consume(record(3, deposit("TXN-1", "110-1")), acknowledged::countDown);
+
+        assertThat(acknowledged.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(deadLettered).extracting(ConsumerRecord::offset).containsExactly(3L);
+    }
+
+    @Test
+    void DLT_전송_실패는_전송될_때까지_재시도한_뒤_ACK한다() throws Exception {
+        onAppend = transactionId -> LedgerException.requiredFieldMissing("amount");
+        deadLetterFailures = 1;
+        CountDownLatch acknowledged = new CountDownLatch(1);
+
+        consumer.consume(record(5, deposit("TXN-1", "110-1")), acknowledged::countDown);
+
+        assertThat(acknowledged.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(deadLetterAttempts).hasValue(2);
+        assertThat(deadLettered).extracting(ConsumerRecord::offset).containsExactly(5L);
+    }
+
+    @Test
+    void 종료하면_재시도_중인_레코드는_ACK하지_않는다() throws Exception {
+        onAppend = transactionId -> {
+            attempts.incrementAndGet();
+            return new CannotGetJdbcConnectionException("connection refused");
+        };
+        AtomicInteger acknowledged = new AtomicInteger();
+
+        consumer.consume(record(0, deposit("TXN-1", "110-1")), acknowledged::incrementAndGet);
+        while (attempts.get() == 0) {
+            Thread.sleep(10);
+        }
+        consumer.stop();
+
+        assertThat(acknowledged).hasValue(0);
+        assertThat(deadLettered).isEmpty();
+    }
+
+    private static ConsumerRecord<String, LedgerEventMessage> record(long offset, LedgerEventMessage message) {
+        return new ConsumerRecord<>(LedgerTopics.DEPOSIT_COMPLETED, 0, offset, message.transactionId(), message);
+    }
+
+    private static LedgerEventMessage deposit(String transactionId, String accountNumber) {
+        return new LedgerEventMessage(null, "DEPOSIT_COMPLETED", null, "account-service", transactionId,
+                null, null, accountNumber, null, null, BigDecimal.valueOf(10_000), "입금",
+                null, null, null, null);
+    }
+
+    private static LedgerMetrics newMetrics() {
+        StubLedgerEntryPort ledgerEntryPort = new StubLedgerEntryPort();
+        return new LedgerMetrics(new SimpleMeterRegistry(),
+                new DuplicateTransactionFilter(ledgerEntryPort, 1_000, 0.01, 100, 1),
+                new AccountHeadCache(ledgerEntryPort, 100));
+    }
+
+    private class RecordingUseCase implements AppendLedgerEntryUseCase {
+
+        @Override
+        public CompletableFuture<List<LedgerEntry>> append(List<RecordLedgerEntryCommand> commands) {
+            String transactionId = commands.get(0).transactionId();
+            RuntimeException failure = onAppend.apply(transactionId);
+            if (failure != null) {
+                return CompletableFuture.failedFuture(failure);
+            }
+            recorded.add(transactionId);
+            return CompletableFuture.completedFuture(List.of());
+        }
+    }
+
+    private class RecordingRecoverer extends DeadLetterPublishingRecoverer {
+
+        RecordingRecoverer() {
+            super(new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(Map.of())));
+        }
+
+        @Override
+        public void accept(ConsumerRecord<?, ?> record, Exception exception) {
+            if (deadLetterAttempts.incrementAndGet() <= deadLetterFailures) {
+                throw new IllegalStateException("DLT broker unavailable");
+            }
+            deadLettered.add(record);
+        }
+    }
+}
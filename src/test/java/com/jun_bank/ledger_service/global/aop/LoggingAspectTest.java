@@ -0,0 +1,50 @@
+package com.jun_bank.ledger_service.global.aop;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
+import org.springframework.aop.framework.ProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggingAspectTest {
+
+    private final LoggingAspect loggingAspect = new LoggingAspect(ObservationRegistry.NOOP, 500, 0.0);
+
+    @Test
+    void 같은_메서드를_여러_번_호출해도_호출_지점은_하나만_캐시한다() {
+        Greeter greeter = proxy(name -> "hello " + name);
+
+        assertThat(greeter.greet("a")).isEqualTo("hello a");
+        assertThat(greeter.greet("b")).isEqualTo("hello b");
+        assertThat(greeter.greet("c")).isEqualTo("hello c");
+
+        assertThat(loggingAspect.callSiteCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 호출_지점_이름은_클래스와_메서드_이름이다() throws NoSuchMethodException {
+        LoggingAspect.CallSite site = loggingAspect.callSite(
+                Greeter.class.getMethod("greet", String.class), LoggingAspect.Layer.SERVICE);
+
+        assertThat(site.name()).isEqualTo("Greeter.greet");
+        assertThat(site.layer()).isEqualTo(LoggingAspect.Layer.SERVICE);
+    }
+
+    /**
+     * Spring AOP와 같은 방식으로 호출마다 새 조인 포인트를 만들어 Service 어드바이스 적용
+     */
+    private Greeter proxy(Greeter target) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addInterface(Greeter.class);
+        factory.addAdvice((MethodInterceptor) invocation -> loggingAspect.logService(
+                new MethodInvocationProceedingJoinPoint((ProxyMethodInvocation) invocation)));
+        return (Greeter) factory.getProxy();
+    }
+
+    interface Greeter {
+        String greet(String name);
+    }
+}
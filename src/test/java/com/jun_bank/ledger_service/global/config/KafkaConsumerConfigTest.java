@@ -0,0 +1,82 @@
+package com.jun_bank.ledger_service.global.config;
+
+import com.jun_bank.ledger_service.domain.ledger.domain.exception.LedgerException;
+import com.jun_bank.ledger_service.domain.ledger.infrastructure.kafka.LedgerRetryPolicy;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.util.backoff.BackOffExecution;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaConsumerConfigTest {
+
+    private final List<ConsumerRecord<?, ?>> deadLettered = new ArrayList<>();
+    private final ConsumerRecord<String, String> record = new ConsumerRecord<>("transaction.deposit.completed", 0, 7L,
+            "TXN-1", "{}");
+
+    private final DefaultErrorHandler errorHandler = KafkaConsumerConfig.ledgerErrorHandler(
+            (failed, exception) -> deadLettered.add(failed),
+            new FixedBackOff(0L, 2L),
+            new FixedBackOff(0L, FixedBackOff.UNLIMITED_ATTEMPTS));
+
+    @Test
+    void 검증_실패는_재시도_후_DLT로_보낸다() {
+        Exception failure = listenerFailure(LedgerException.requiredFieldMissing("amount"));
+
+        assertThat(errorHandler.handleOne(failure, record, null, null)).isFalse();
+        assertThat(errorHandler.handleOne(failure, record, null, null)).isFalse();
+        assertThat(errorHandler.handleOne(failure, record, null, null)).isTrue();
+
+        assertThat(deadLettered).containsExactly(record);
+    }
+
+    @Test
+    void 일시적_DB_오류는_DLT로_보내지_않고_계속_재시도한다() {
+        Exception failure = listenerFailure(new CannotGetJdbcConnectionException("connection refused"));
+
+        for (int attempt = 0; attempt < 100; attempt++) {
+            assertThat(errorHandler.handleOne(failure, record, null, null)).isFalse();
+        }
+
+        assertThat(deadLettered).isEmpty();
+    }
+
+    @Test
+    void 그룹_커밋_대기_시간_초과는_일시적_실패로_재시도한다() {
+        Exception failure = listenerFailure(
+                new IllegalStateException("원장 기록 대기 시간 초과", new TimeoutException()));
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertThat(errorHandler.handleOne(failure, record, null, null)).isFalse();
+        }
+
+        assertThat(deadLettered).isEmpty();
+    }
+
+    @Test
+    void 일시적_실패_재시도_간격은_최대_30초로_제한되고_끝나지_않는다() {
+        BackOffExecution execution = LedgerRetryPolicy.transientBackOff().start();
+
+        List<Long> intervals = new ArrayList<>();
+        for (int attempt = 0; attempt < 50; attempt++) {
+            intervals.add(execution.nextBackOff());
+        }
+
+        assertThat(intervals.get(0)).isEqualTo(1_000L);
+        assertThat(intervals).doesNotContain(BackOffExecution.STOP);
+        assertThat(intervals).allSatisfy(interval -> assertThat(interval).isLessThanOrEqualTo(30_000L));
+        assertThat(intervals.get(49)).isEqualTo(30_000L);
+    }
+
+    private static Exception listenerFailure(RuntimeException cause) {
+        return new ListenerExecutionFailedException("listener failed", cause);
+    }
+}
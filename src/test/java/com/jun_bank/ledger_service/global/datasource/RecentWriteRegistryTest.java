@@ -0,0 +1,72 @@
+package com.jun_bank.ledger_service.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentWriteRegistryTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 트랜잭션_밖에서_기록한_계좌는_바로_최근_기록으로_판정된다() {
+        RecentWriteRegistry registry = new RecentWriteRegistry(true, 10_000, 100);
+
+        registry.markWritten(List.of("ACC-1"));
+
+        assertThat(registry.isRecentlyWritten("ACC-1")).isTrue();
+        assertThat(registry.isRecentlyWritten("ACC-2")).isFalse();
+    }
+
+    @Test
+    void 트랜잭션_중_기록한_계좌는_커밋_후에만_등록된다() {
+        RecentWriteRegistry registry = new RecentWriteRegistry(true, 10_000, 100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        registry.markWritten(List.of("ACC-1"));
+        assertThat(registry.isRecentlyWritten("ACC-1")).isFalse();
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        assertThat(registry.isRecentlyWritten("ACC-1")).isTrue();
+    }
+
+    @Test
+    void 롤백된_기록은_등록되지_않는다() {
+        RecentWriteRegistry registry = new RecentWriteRegistry(true, 10_000, 100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        registry.markWritten(List.of("ACC-1"));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(registry.isRecentlyWritten("ACC-1")).isFalse();
+    }
+
+    @Test
+    void read_your_writes_구간이_지나면_최근_기록이_아니다() throws InterruptedException {
+        RecentWriteRegistry registry = new RecentWriteRegistry(true, 20, 100);
+
+        registry.markWritten(List.of("ACC-1"));
+        Thread.sleep(50);
+
+        assertThat(registry.isRecentlyWritten("ACC-1")).isFalse();
+    }
+
+    @Test
+    void Replica_분리를_사용하지_않으면_기록하지_않는다() {
+        RecentWriteRegistry registry = new RecentWriteRegistry(false, 10_000, 100);
+
+        registry.markWritten(List.of("ACC-1"));
+
+        assertThat(registry.isRecentlyWritten("ACC-1")).isFalse();
+    }
+}
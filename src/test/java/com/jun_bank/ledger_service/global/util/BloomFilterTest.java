@@ -0,0 +1,49 @@
+package com.jun_bank.ledger_service.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void 추가한_값은_항상_포함될_수_있다고_판정된다() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("TXN-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("TXN-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void 오탐률은_목표치_근처로_유지된다() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("TXN-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("OTHER-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void 예상_삽입_수에_도달하면_포화_상태가_된다() {
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+        for (int i = 0; i < 99; i++) {
+            filter.put("TXN-" + i);
+        }
+        assertThat(filter.isSaturated()).isFalse();
+
+        filter.put("TXN-99");
+        assertThat(filter.isSaturated()).isTrue();
+    }
+}
@@ -0,0 +1,79 @@
+package com.jun_bank.ledger_service.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MpscRingBufferTest {
+
+    @Test
+    void 용량은_2의_거듭제곱으로_올림된다() {
+        assertThat(new MpscRingBuffer<String>(1000).capacity()).isEqualTo(1024);
+        assertThat(new MpscRingBuffer<String>(1024).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    void 가득_차면_offer가_false를_반환하고_소비_후_다시_추가할_수_있다() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isTrue();
+
+        buffer.drain(drained::add, 10);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void 여러_생산자가_동시에_추가한_값은_한_번씩만_소비된다() throws Exception {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(256);
+        int producers = 4;
+        int perProducer = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> consumed = new HashSet<>();
+        List<Integer> duplicates = new ArrayList<>();
+        while (done.getCount() > 0 || !buffer.isEmpty()) {
+            buffer.drain(value -> {
+                if (!consumed.add(value)) {
+                    duplicates.add(value);
+                }
+            }, 64);
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(duplicates).isEmpty();
+        assertThat(consumed).hasSize(producers * perProducer);
+    }
+}